@@ -29,6 +29,37 @@ public record BetweennessCentralityParameters(
     Concurrency concurrency,
     Optional<Long> samplingSize,
     Optional<Long> samplingSeed,
-    boolean hasRelationshipWeightProperty
+    boolean hasRelationshipWeightProperty,
+    Optional<Double> samplingErrorBound,
+    double samplingFailureProbability,
+    boolean multiSourceTraversal
 ) {
+
+    public BetweennessCentralityParameters(
+        Concurrency concurrency,
+        Optional<Long> samplingSize,
+        Optional<Long> samplingSeed,
+        boolean hasRelationshipWeightProperty
+    ) {
+        this(concurrency, samplingSize, samplingSeed, hasRelationshipWeightProperty, Optional.empty(), 0.1);
+    }
+
+    public BetweennessCentralityParameters(
+        Concurrency concurrency,
+        Optional<Long> samplingSize,
+        Optional<Long> samplingSeed,
+        boolean hasRelationshipWeightProperty,
+        Optional<Double> samplingErrorBound,
+        double samplingFailureProbability
+    ) {
+        this(
+            concurrency,
+            samplingSize,
+            samplingSeed,
+            hasRelationshipWeightProperty,
+            samplingErrorBound,
+            samplingFailureProbability,
+            false
+        );
+    }
 }
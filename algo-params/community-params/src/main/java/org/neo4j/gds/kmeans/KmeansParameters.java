@@ -36,9 +36,14 @@ public record KmeansParameters(
     String nodeProperty,
     SamplerType samplerType,
     List<List<Double>> seedCentroids,
-    Optional<Long> randomSeed
+    Optional<Long> randomSeed,
+    int batchSize
 ) {
     public boolean isSeeded() {
         return !seedCentroids().isEmpty();
     }
+
+    public boolean isMiniBatch() {
+        return batchSize() > 0;
+    }
 }
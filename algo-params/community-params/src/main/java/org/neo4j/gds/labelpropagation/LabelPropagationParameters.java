@@ -28,6 +28,8 @@ public record LabelPropagationParameters(
     Concurrency concurrency,
     int maxIterations,
     @Nullable String nodeWeightProperty,
-    @Nullable String seedProperty
+    @Nullable String seedProperty,
+    boolean useFrontier,
+    boolean semiSynchronous
 ) {
 }
@@ -22,6 +22,13 @@ package org.neo4j.gds.triangle;
 import org.neo4j.gds.annotation.Parameters;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
+import java.util.Optional;
+
 @Parameters
-public record TriangleCountParameters(Concurrency concurrency, long maxDegree) {
+public record TriangleCountParameters(
+    Concurrency concurrency,
+    long maxDegree,
+    double samplingRatio,
+    Optional<Long> randomSeed
+) {
 }
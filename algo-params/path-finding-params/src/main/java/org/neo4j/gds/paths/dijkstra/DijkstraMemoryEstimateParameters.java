@@ -22,5 +22,10 @@ package org.neo4j.gds.paths.dijkstra;
 import org.neo4j.gds.annotation.Parameters;
 
 @Parameters
-public record DijkstraMemoryEstimateParameters(boolean trackRelationships, boolean manyTargets) {
+public record DijkstraMemoryEstimateParameters(
+    boolean trackRelationships,
+    boolean manyTargets,
+    boolean contractionHierarchy,
+    boolean bidirectional
+) {
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.annotation.Parameters;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.Optional;
+
+/**
+ * @param m              the number of neighbours per node on the upper layers, the base layer keeps {@code 2 * m}
+ * @param efConstruction the size of the dynamic candidate list while inserting nodes
+ */
+@Parameters
+public record HnswParameters(
+    Concurrency concurrency,
+    String nodeProperty,
+    SimilarityMetric similarityMetric,
+    int m,
+    int efConstruction,
+    Optional<Long> randomSeed
+) {
+    public static final int DEFAULT_M = 16;
+    public static final int DEFAULT_EF_CONSTRUCTION = 100;
+
+    public HnswParameters {
+        if (m < 2) {
+            throw new IllegalArgumentException("m must be 2 or more");
+        }
+        if (efConstruction < m) {
+            throw new IllegalArgumentException("efConstruction must be at least m");
+        }
+    }
+}
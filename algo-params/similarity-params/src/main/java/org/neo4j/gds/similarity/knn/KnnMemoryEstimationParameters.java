@@ -20,7 +20,18 @@
 package org.neo4j.gds.similarity.knn;
 
 import org.neo4j.gds.annotation.Parameters;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
 
+import java.util.Optional;
+
+/**
+ * @param quantizedProperty the property a compressed copy is held for, present iff quantization is enabled
+ */
 @Parameters
-public record KnnMemoryEstimationParameters(K k, KnnSampler.SamplerType samplerType) {
+public record KnnMemoryEstimationParameters(
+    K k,
+    KnnSampler.SamplerType samplerType,
+    Quantization quantization,
+    Optional<String> quantizedProperty
+) {
 }
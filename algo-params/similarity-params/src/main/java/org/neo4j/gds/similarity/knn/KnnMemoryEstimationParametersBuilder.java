@@ -19,20 +19,49 @@
  */
 package org.neo4j.gds.similarity.knn;
 
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
+
+import java.util.List;
+import java.util.Optional;
+
 public class KnnMemoryEstimationParametersBuilder {
 
     private final double sampleRate;
     private final int rawK;
     private final KnnSampler.SamplerType samplerType;
+    private final Quantization quantization;
+    private final List<String> nodeProperties;
 
     public KnnMemoryEstimationParametersBuilder(double sampleRate, int rawK, KnnSampler.SamplerType samplerType) {
+        this(sampleRate, rawK, samplerType, Quantization.NONE, List.of());
+    }
+
+    public KnnMemoryEstimationParametersBuilder(
+        double sampleRate,
+        int rawK,
+        KnnSampler.SamplerType samplerType,
+        Quantization quantization,
+        List<String> nodeProperties
+    ) {
         this.sampleRate = sampleRate;
         this.rawK = rawK;
         this.samplerType = samplerType;
+        this.quantization = quantization;
+        this.nodeProperties = nodeProperties;
     }
 
     public KnnMemoryEstimationParameters build(long nodeCount) {
-        return new KnnMemoryEstimationParameters(K.create(rawK, nodeCount, sampleRate, 0.5), samplerType);
+        // quantization is only supported for a single property
+        Optional<String> quantizedProperty = quantization.isEnabled() && !nodeProperties.isEmpty()
+            ? Optional.of(nodeProperties.get(0))
+            : Optional.empty();
+
+        return new KnnMemoryEstimationParameters(
+            K.create(rawK, nodeCount, sampleRate, 0.5),
+            samplerType,
+            quantization,
+            quantizedProperty
+        );
     }
 
 }
@@ -21,6 +21,7 @@ package org.neo4j.gds.similarity.knn;
 
 import org.neo4j.gds.annotation.Parameters;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,7 +37,37 @@ public record KnnParameters(
     int minBatchSize,
     KnnSampler.SamplerType samplerType,
     Optional<Long> randomSeed,
-    List<KnnNodePropertySpec> nodePropertySpecs) {
+    List<KnnNodePropertySpec> nodePropertySpecs,
+    Quantization quantization,
+    boolean rerank) {
+
+    public KnnParameters(
+        Concurrency concurrency,
+        int maxIterations,
+        double similarityCutoff,
+        K kHolder,
+        double perturbationRate,
+        int randomJoins,
+        int minBatchSize,
+        KnnSampler.SamplerType samplerType,
+        Optional<Long> randomSeed,
+        List<KnnNodePropertySpec> nodePropertySpecs
+    ) {
+        this(
+            concurrency,
+            maxIterations,
+            similarityCutoff,
+            kHolder,
+            perturbationRate,
+            randomJoins,
+            minBatchSize,
+            samplerType,
+            randomSeed,
+            nodePropertySpecs,
+            Quantization.NONE,
+            false
+        );
+    }
 
     static KnnParameters create(
         long nodeCount,
@@ -51,7 +82,9 @@ public record KnnParameters(
         int minBatchSize,
         KnnSampler.SamplerType samplerType,
         Optional<Long> randomSeed,
-        List<KnnNodePropertySpec> nodePropertySpecs
+        List<KnnNodePropertySpec> nodePropertySpecs,
+        Quantization quantization,
+        boolean rerank
     ) {
         // concurrency -- no test atm, it probably shouldn't be here
         // maxIterations -- must be 1 or more
@@ -75,6 +108,9 @@ public record KnnParameters(
                 "perturbationRate must be more than or equal to 0.0 and less than or equal to 1.0");
         // randomJoins -- 0 or more
         if (randomJoins < 0) throw new IllegalArgumentException("randomJoins must be 0 or more");
+        // quantization -- only for a single array property
+        if (quantization.isEnabled() && nodePropertySpecs.size() != 1)
+            throw new IllegalArgumentException("quantization is only supported for a single node property");
 
         return new KnnParameters(
             concurrency,
@@ -86,7 +122,9 @@ public record KnnParameters(
             minBatchSize,
             samplerType,
             randomSeed,
-            nodePropertySpecs
+            nodePropertySpecs,
+            quantization,
+            rerank
         );
     }
 }
@@ -20,6 +20,7 @@
 package org.neo4j.gds.similarity.knn;
 
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
 
 import java.util.List;
 import java.util.Optional;
@@ -39,6 +40,40 @@ public class KnnParametersSansNodeCount {
         KnnSampler.SamplerType samplerType,
         Optional<Long> randomSeed,
         List<KnnNodePropertySpec> nodePropertySpecs
+    ) {
+        return create(
+            concurrency,
+            maxIterations,
+            similarityCutoff,
+            deltaThreshold,
+            sampleRate,
+            rawK,
+            perturbationRate,
+            randomJoins,
+            minBatchSize,
+            samplerType,
+            randomSeed,
+            nodePropertySpecs,
+            Quantization.NONE,
+            false
+        );
+    }
+
+    public static KnnParametersSansNodeCount create(
+        Concurrency concurrency,
+        int maxIterations,
+        double similarityCutoff,
+        double deltaThreshold,
+        double sampleRate,
+        int rawK,
+        double perturbationRate,
+        int randomJoins,
+        int minBatchSize,
+        KnnSampler.SamplerType samplerType,
+        Optional<Long> randomSeed,
+        List<KnnNodePropertySpec> nodePropertySpecs,
+        Quantization quantization,
+        boolean rerank
     ) {
         // concurrency -- no test atm, it probably shouldn't be here
         // maxIterations -- must be 1 or more
@@ -59,6 +94,9 @@ public class KnnParametersSansNodeCount {
             throw new IllegalArgumentException("perturbationRate must be more than or equal to 0.0 and less than or equal to 1.0");
         // randomJoins -- 0 or more
         if (randomJoins < 0) throw new IllegalArgumentException("randomJoins must be 0 or more");
+        // quantization -- only for a single array property
+        if (quantization.isEnabled() && nodePropertySpecs.size() != 1)
+            throw new IllegalArgumentException("quantization is only supported for a single node property");
 
         return new KnnParametersSansNodeCount(
             concurrency,
@@ -72,7 +110,9 @@ public class KnnParametersSansNodeCount {
             minBatchSize,
             samplerType,
             randomSeed,
-            nodePropertySpecs
+            nodePropertySpecs,
+            quantization,
+            rerank
         );
     }
 
@@ -88,6 +128,8 @@ public class KnnParametersSansNodeCount {
     private final KnnSampler.SamplerType samplerType;
     private final Optional<Long> randomSeed;
     private final List<KnnNodePropertySpec> nodePropertySpecs;
+    private final Quantization quantization;
+    private final boolean rerank;
 
     public KnnParametersSansNodeCount(
         Concurrency concurrency,
@@ -102,6 +144,40 @@ public class KnnParametersSansNodeCount {
         KnnSampler.SamplerType samplerType,
         Optional<Long> randomSeed,
         List<KnnNodePropertySpec> nodePropertySpecs
+    ) {
+        this(
+            concurrency,
+            maxIterations,
+            similarityCutoff,
+            deltaThreshold,
+            sampleRate,
+            k,
+            perturbationRate,
+            randomJoins,
+            minBatchSize,
+            samplerType,
+            randomSeed,
+            nodePropertySpecs,
+            Quantization.NONE,
+            false
+        );
+    }
+
+    public KnnParametersSansNodeCount(
+        Concurrency concurrency,
+        int maxIterations,
+        double similarityCutoff,
+        double deltaThreshold,
+        double sampleRate,
+        int k,
+        double perturbationRate,
+        int randomJoins,
+        int minBatchSize,
+        KnnSampler.SamplerType samplerType,
+        Optional<Long> randomSeed,
+        List<KnnNodePropertySpec> nodePropertySpecs,
+        Quantization quantization,
+        boolean rerank
     ) {
         this.concurrency = concurrency;
         this.maxIterations = maxIterations;
@@ -115,6 +191,8 @@ public class KnnParametersSansNodeCount {
         this.samplerType = samplerType;
         this.randomSeed = randomSeed;
         this.nodePropertySpecs = nodePropertySpecs;
+        this.quantization = quantization;
+        this.rerank = rerank;
     }
 
     public KnnParameters finalize(long nodeCount) {
@@ -131,7 +209,9 @@ public class KnnParametersSansNodeCount {
             minBatchSize,
             samplerType,
             randomSeed,
-            nodePropertySpecs
+            nodePropertySpecs,
+            quantization,
+            rerank
         );
     }
 }
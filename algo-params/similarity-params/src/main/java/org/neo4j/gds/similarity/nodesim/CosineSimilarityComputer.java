@@ -31,7 +31,12 @@ public class CosineSimilarityComputer implements MetricSimilarityComputer {
     @Override
     public double computeSimilarity(long[] vector1, long[] vector2) {
         var intersection = Intersections.intersection3(vector1, vector2);
-        var similarity = intersection / (Math.sqrt(vector1.length) * Math.sqrt(vector2.length));
+        return computeSimilarityFromIntersection(intersection, vector1.length, vector2.length);
+    }
+
+    @Override
+    public double computeSimilarityFromIntersection(long intersection, int length1, int length2) {
+        var similarity = intersection / (Math.sqrt(length1) * Math.sqrt(length2));
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
 
@@ -31,7 +31,12 @@ public class JaccardSimilarityComputer implements MetricSimilarityComputer {
     @Override
     public double computeSimilarity(long[] vector1, long[] vector2) {
         long intersection = Intersections.intersection3(vector1, vector2);
-        long union = vector1.length + vector2.length - intersection;
+        return computeSimilarityFromIntersection(intersection, vector1.length, vector2.length);
+    }
+
+    @Override
+    public double computeSimilarityFromIntersection(long intersection, int length1, int length2) {
+        long union = length1 + length2 - intersection;
         double similarity = union == 0 ? 0 : intersection / (double) union;
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
@@ -28,6 +28,12 @@ public interface MetricSimilarityComputer {
 
     double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2);
 
+    /**
+     * Computes the unweighted similarity of two vectors from their lengths and the size of their intersection,
+     * returns the same value as {@link #computeSimilarity(long[], long[])}.
+     */
+    double computeSimilarityFromIntersection(long intersection, int length1, int length2);
+
     static MetricSimilarityComputerBuilder parse(Object userInput) {
         if (userInput instanceof MetricSimilarityComputerBuilder) {
             return (MetricSimilarityComputerBuilder) userInput;
@@ -27,8 +27,19 @@ public record NodeSimilarityEstimateParameters(
     int normalizedN,
     boolean useComponents,
     boolean runWCC,
-    boolean computeToGraph
+    boolean computeToGraph,
+    int minHashBands
 ) {
+    public NodeSimilarityEstimateParameters(
+        int normalizedK,
+        int normalizedN,
+        boolean useComponents,
+        boolean runWCC,
+        boolean computeToGraph
+    ) {
+        this(normalizedK, normalizedN, useComponents, runWCC, computeToGraph, 0);
+    }
+
     boolean hasTopK() {
         return normalizedK != 0;
     }
@@ -36,4 +47,8 @@ public record NodeSimilarityEstimateParameters(
     boolean hasTopN() {
         return normalizedN != 0;
     }
+
+    boolean useMinHash() {
+        return minHashBands > 0;
+    }
 }
@@ -32,8 +32,36 @@ public record NodeSimilarityParameters(
     boolean computeToStream,
     boolean hasRelationshipWeightProperty,
     boolean useComponents,
-    @Nullable String componentProperty
+    @Nullable String componentProperty,
+    int minHashBands,
+    int minHashRows
 ) {
+    public NodeSimilarityParameters(
+        MetricSimilarityComputer similarityComputer,
+        int degreeCutoff,
+        int upperDegreeCutoff,
+        int normalizedK,
+        int normalizedN,
+        boolean computeToStream,
+        boolean hasRelationshipWeightProperty,
+        boolean useComponents,
+        @Nullable String componentProperty
+    ) {
+        this(
+            similarityComputer,
+            degreeCutoff,
+            upperDegreeCutoff,
+            normalizedK,
+            normalizedN,
+            computeToStream,
+            hasRelationshipWeightProperty,
+            useComponents,
+            componentProperty,
+            0,
+            0
+        );
+    }
+
     boolean hasTopK() {
         return normalizedK != 0;
     }
@@ -46,13 +74,21 @@ public record NodeSimilarityParameters(
         return useComponents && componentProperty == null;
     }
 
+    /**
+     * Approximate mode: only pairs sharing a MinHash/LSH bucket are compared exactly.
+     */
+    boolean useMinHash() {
+        return minHashBands > 0;
+    }
+
     public NodeSimilarityEstimateParameters memoryParameters() {
         return new NodeSimilarityEstimateParameters(
             normalizedK,
             normalizedN,
             useComponents,
             runWCC(),
-            !computeToStream
+            !computeToStream,
+            minHashBands
         );
     }
 }
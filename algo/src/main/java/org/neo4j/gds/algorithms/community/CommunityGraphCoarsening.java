@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.algorithms.community;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.relationships.ImmutableProperties;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.collections.ArrayUtil;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.collections.hsa.HugeSparseCollections;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyListBuilder;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.TwoArraysSort;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Builds the graph of communities that Louvain and Leiden continue with after each level.
+ * <p>
+ * Every community becomes a node, identified by the community id as original id. The relationships
+ * of all member nodes are collected per community as (target community, weight) pairs, sorted and merged
+ * into a single relationship per community pair with the summed weight. The merged adjacency lists are
+ * written directly into an uncompressed adjacency list, bypassing the buffering and compression of the
+ * generic relationships builder. The coarsened graph is short-lived, so compression would not pay off.
+ * <p>
+ * The orientation is kept as is: for undirected graphs every relationship is seen from both ends,
+ * which yields both directions in the coarsened graph.
+ */
+public final class CommunityGraphCoarsening {
+
+    private static final RelationshipType RELATIONSHIP_TYPE = RelationshipType.of("IGNORED");
+    private static final String PROPERTY_KEY = "property";
+    // merge the collected pairs of a community once the buffer is full and at least that large
+    private static final int MIN_MERGE_SIZE = 1 << 14;
+
+    /**
+     * Estimates the coarsening of a graph into at least one and at most one community per node.
+     * The relationships are stored uncompressed, as one target and one weight per relationship.
+     */
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(CommunityGraphCoarsening.class)
+            .perNode("community of node", HugeLongArray::memoryEstimation)
+            .perNode("community members", HugeLongArray::memoryEstimation)
+            .rangePerNode(
+                "communities",
+                nodeCount -> communitiesMemoryEstimation(Math.min(1, nodeCount), nodeCount)
+                    .union(communitiesMemoryEstimation(nodeCount, nodeCount))
+            )
+            .rangePerGraphDimension(
+                "relationships",
+                (dimensions, concurrency) -> MemoryRange.of(
+                    0,
+                    dimensions.relCountUpperBound() * (Long.BYTES + Double.BYTES)
+                )
+            )
+            .perThread("merge buffers", Estimate.sizeOfLongArray(64) + Estimate.sizeOfDoubleArray(64))
+            .build();
+    }
+
+    private static MemoryRange communitiesMemoryEstimation(long communityCount, long nodeCount) {
+        // member ends, volumes, degrees, adjacency and property offsets
+        long perCommunity = 2 * HugeAtomicLongArray.memoryEstimation(communityCount)
+            + HugeIntArray.memoryEstimation(communityCount)
+            + 2 * HugeLongArray.memoryEstimation(communityCount);
+        // the id map from community to community id and back, community ids are node ids
+        long toOriginal = HugeLongArray.memoryEstimation(communityCount);
+        var toMapped = HugeSparseCollections.estimateLong(nodeCount, communityCount);
+        return toMapped.add(perCommunity + toOriginal);
+    }
+
+    private final Graph graph;
+    private final LongUnaryOperator communities;
+    private final long maxCommunityId;
+    private final Direction direction;
+    private final boolean keepSelfLoops;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    /**
+     * @param communities   the community id of every node of the graph, at most {@code maxCommunityId}
+     * @param keepSelfLoops whether relationships within a community become a self-loop or are dropped
+     * @param progressTracker receives one unit of progress per node of the graph
+     */
+    public CommunityGraphCoarsening(
+        Graph graph,
+        LongUnaryOperator communities,
+        long maxCommunityId,
+        Direction direction,
+        boolean keepSelfLoops,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.communities = communities;
+        this.maxCommunityId = maxCommunityId;
+        this.direction = direction;
+        this.keepSelfLoops = keepSelfLoops;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+    }
+
+    public Graph run() {
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(maxCommunityId)
+            .concurrency(concurrency)
+            .build();
+
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            concurrency,
+            terminationFlag,
+            nodeId -> nodesBuilder.addNode(communities.applyAsLong(nodeId))
+        );
+
+        terminationFlag.assertRunning();
+
+        IdMap idMap = nodesBuilder.build().idMap();
+        long communityCount = idMap.nodeCount();
+
+        // group the nodes by their community, using a counting sort on the mapped community ids
+        var communityOf = HugeLongArray.newArray(graph.nodeCount());
+        var memberEnds = HugeAtomicLongArray.of(communityCount, ParalleLongPageCreator.passThrough(concurrency));
+        var volumes = HugeAtomicLongArray.of(communityCount, ParalleLongPageCreator.passThrough(concurrency));
+        ParallelUtil.parallelForEachNode(graph.nodeCount(), concurrency, terminationFlag, nodeId -> {
+            long community = idMap.toMappedNodeId(communities.applyAsLong(nodeId));
+            communityOf.set(nodeId, community);
+            memberEnds.getAndAdd(community, 1);
+            volumes.getAndAdd(community, graph.degree(nodeId));
+        });
+
+        long memberStart = 0;
+        for (long community = 0; community < communityCount; community++) {
+            long memberCount = memberEnds.get(community);
+            memberEnds.set(community, memberStart);
+            memberStart += memberCount;
+        }
+
+        // afterwards, `memberEnds` holds the exclusive end of every community
+        var members = HugeLongArray.newArray(graph.nodeCount());
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            concurrency,
+            terminationFlag,
+            nodeId -> members.set(memberEnds.getAndAdd(communityOf.get(nodeId), 1), nodeId)
+        );
+
+        terminationFlag.assertRunning();
+
+        var adjacencyBuilder = new UncompressedAdjacencyListBuilder(MemoryTracker.empty());
+        var propertiesBuilder = new UncompressedAdjacencyListBuilder(MemoryTracker.empty());
+        var degrees = HugeIntArray.newArray(communityCount);
+        var adjacencyOffsets = HugeLongArray.newArray(communityCount);
+        var propertyOffsets = HugeLongArray.newArray(communityCount);
+        var relationshipCount = new LongAdder();
+
+        var batchSize = Math.max(
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            BitUtil.ceilDiv(graph.relationshipCount(), concurrency.value())
+        );
+        var tasks = PartitionUtils.degreePartitionWithBatchSize(
+            communityCount,
+            community -> (int) Math.min(volumes.get(community), Integer.MAX_VALUE),
+            batchSize,
+            partition -> new CoarseningTask(
+                partition,
+                graph.concurrentCopy(),
+                communityOf,
+                members,
+                memberEnds,
+                adjacencyBuilder.newAllocator(),
+                propertiesBuilder.newAllocator(),
+                degrees,
+                adjacencyOffsets,
+                propertyOffsets,
+                relationshipCount
+            )
+        );
+        ParallelUtil.run(tasks, executorService);
+
+        terminationFlag.assertRunning();
+
+        var topology = ImmutableTopology.builder()
+            .adjacencyList(adjacencyBuilder.build(degrees, adjacencyOffsets, false))
+            .elementCount(relationshipCount.sum())
+            .isMultiGraph(false)
+            .build();
+
+        var properties = ImmutableProperties.builder()
+            .propertiesList(propertiesBuilder.build(degrees, propertyOffsets, false))
+            .defaultPropertyValue(DefaultValue.DOUBLE_DEFAULT_FALLBACK)
+            .elementCount(relationshipCount.sum())
+            .build();
+
+        var relationships = SingleTypeRelationships.of(
+            RELATIONSHIP_TYPE,
+            topology,
+            direction,
+            Optional.of(properties),
+            Optional.of(RelationshipPropertySchema.of(PROPERTY_KEY, ValueType.DOUBLE))
+        );
+
+        return GraphFactory.create(idMap, relationships);
+    }
+
+    private final class CoarseningTask implements Runnable {
+
+        private final Partition partition;
+        private final Graph graph;
+        private final HugeLongArray communityOf;
+        private final HugeLongArray members;
+        private final HugeAtomicLongArray memberEnds;
+        private final UncompressedAdjacencyListBuilder.Allocator adjacencyAllocator;
+        private final UncompressedAdjacencyListBuilder.Allocator propertyAllocator;
+        private final HugeIntArray degrees;
+        private final HugeLongArray adjacencyOffsets;
+        private final HugeLongArray propertyOffsets;
+        private final LongAdder relationshipCount;
+        private final ModifiableSlice<long[]> slice;
+
+        private long[] targets;
+        private double[] weights;
+        private int size;
+        private long relationshipsWritten;
+
+        CoarseningTask(
+            Partition partition,
+            Graph graph,
+            HugeLongArray communityOf,
+            HugeLongArray members,
+            HugeAtomicLongArray memberEnds,
+            UncompressedAdjacencyListBuilder.Allocator adjacencyAllocator,
+            UncompressedAdjacencyListBuilder.Allocator propertyAllocator,
+            HugeIntArray degrees,
+            HugeLongArray adjacencyOffsets,
+            HugeLongArray propertyOffsets,
+            LongAdder relationshipCount
+        ) {
+            this.partition = partition;
+            this.graph = graph;
+            this.communityOf = communityOf;
+            this.members = members;
+            this.memberEnds = memberEnds;
+            this.adjacencyAllocator = adjacencyAllocator;
+            this.propertyAllocator = propertyAllocator;
+            this.degrees = degrees;
+            this.adjacencyOffsets = adjacencyOffsets;
+            this.propertyOffsets = propertyOffsets;
+            this.relationshipCount = relationshipCount;
+            this.slice = ModifiableSlice.create();
+            this.targets = new long[64];
+            this.weights = new double[64];
+        }
+
+        @Override
+        public void run() {
+            partition.consume(community -> {
+                long memberStart = community == 0 ? 0 : memberEnds.get(community - 1);
+                long memberEnd = memberEnds.get(community);
+
+                size = 0;
+                for (long memberIndex = memberStart; memberIndex < memberEnd; memberIndex++) {
+                    graph.forEachRelationship(members.get(memberIndex), 1.0, (source, target, weight) -> {
+                        long targetCommunity = communityOf.get(target);
+                        if (keepSelfLoops || targetCommunity != community) {
+                            add(targetCommunity, weight);
+                        }
+                        return true;
+                    });
+                }
+                int degree = sortAndMerge();
+
+                if (degree > 0) {
+                    long address = adjacencyAllocator.allocate(degree, slice);
+                    System.arraycopy(targets, 0, slice.slice(), slice.offset(), degree);
+                    adjacencyOffsets.set(community, address);
+
+                    address = propertyAllocator.allocate(degree, slice);
+                    var propertyPage = slice.slice();
+                    int propertyOffset = slice.offset();
+                    for (int i = 0; i < degree; i++) {
+                        propertyPage[propertyOffset + i] = Double.doubleToLongBits(weights[i]);
+                    }
+                    propertyOffsets.set(community, address);
+
+                    degrees.set(community, degree);
+                    relationshipsWritten += degree;
+                }
+
+                progressTracker.logProgress(memberEnd - memberStart);
+            });
+
+            relationshipCount.add(relationshipsWritten);
+
+            adjacencyAllocator.close();
+            propertyAllocator.close();
+        }
+
+        private void add(long target, double weight) {
+            if (size == targets.length) {
+                // merging early bounds the buffer by the number of distinct target communities
+                if (size >= MIN_MERGE_SIZE) {
+                    size = sortAndMerge();
+                }
+                if (size > targets.length / 2) {
+                    int newLength = ArrayUtil.oversize(targets.length + 1, Long.BYTES);
+                    targets = Arrays.copyOf(targets, newLength);
+                    weights = Arrays.copyOf(weights, newLength);
+                }
+            }
+            targets[size] = target;
+            weights[size] = weight;
+            size++;
+        }
+
+        private int sortAndMerge() {
+            if (size == 0) {
+                return 0;
+            }
+            TwoArraysSort.sortDoubleArrayByLongValues(targets, weights, size);
+            int write = 0;
+            for (int read = 1; read < size; read++) {
+                if (targets[read] == targets[write]) {
+                    weights[write] += weights[read];
+                } else {
+                    write++;
+                    targets[write] = targets[read];
+                    weights[write] = weights[read];
+                }
+            }
+            return write + 1;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.algorithms.community;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryRange;
+
+/**
+ * Accumulates weights per community in a dense array, together with the list of touched communities.
+ * <p>
+ * This replaces a per-node hash map in local move phases: adding is a plain array access,
+ * and {@link #clear()} only resets the touched entries, so one instance can be reused by a thread
+ * for all of its nodes, including hub nodes. A community is recorded as touched whenever it is added
+ * to while its accumulated weight is zero. Zero weights can therefore show up more than once in the touched list.
+ * <p>
+ * Not thread-safe.
+ */
+public final class CommunityWeightAccumulator {
+
+    private final HugeDoubleArray weights;
+    private final LongArrayList touched;
+
+    public static MemoryRange memoryEstimation(long communityCount) {
+        long fixed = Estimate.sizeOfInstance(CommunityWeightAccumulator.class)
+                     + HugeDoubleArray.memoryEstimation(communityCount);
+        return MemoryRange.of(
+            fixed + Estimate.sizeOfLongArrayList(0),
+            fixed + Estimate.sizeOfLongArrayList(communityCount)
+        );
+    }
+
+    public CommunityWeightAccumulator(long communityCount) {
+        this.weights = HugeDoubleArray.newArray(communityCount);
+        this.touched = new LongArrayList();
+    }
+
+    public void add(long communityId, double weight) {
+        double current = weights.get(communityId);
+        if (current == 0D) {
+            touched.add(communityId);
+        }
+        weights.set(communityId, current + weight);
+    }
+
+    public double get(long communityId) {
+        return weights.get(communityId);
+    }
+
+    /**
+     * The number of touched entries, see {@link #communityAt(int)}.
+     */
+    public int size() {
+        return touched.size();
+    }
+
+    public long communityAt(int index) {
+        return touched.get(index);
+    }
+
+    public void clear() {
+        var buffer = touched.buffer;
+        for (int i = 0; i < touched.size(); i++) {
+            weights.set(buffer[i], 0D);
+        }
+        touched.clear();
+    }
+}
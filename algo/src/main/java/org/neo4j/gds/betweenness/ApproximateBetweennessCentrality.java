@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Approximates betweenness centrality by sampling shortest paths until a requested error bound is met.
+ * <p>
+ * Every sample picks a random pair of distinct nodes, runs a traversal from the first node that stops once the
+ * second one is settled, and follows a uniformly random shortest path back to the first node. The inner nodes of
+ * the path get their counter incremented. The relative frequency of a node is an unbiased estimate of its
+ * betweenness, normalized by the number of node pairs.
+ * <p>
+ * Sampling happens in rounds of doubling size. After each round, an empirical Bernstein bound, taken over all
+ * nodes and rounds, tells whether every normalized estimate is within {@code errorBound} of the true value with
+ * probability at least {@code 1 - failureProbability}. The last round reaches the sample size of Riondato and
+ * Kornaropoulos, which guarantees the bound regardless of the estimates, using the node count as the bound of
+ * the vertex diameter. Both guarantees use half of the failure probability.
+ * <p>
+ * The returned scores are scaled to the range of the exact algorithm and come with the achieved error bound.
+ */
+public final class ApproximateBetweennessCentrality extends Algorithm<BetwennessCentralityResult> {
+
+    // the constant of the sample size bound of Riondato and Kornaropoulos
+    private static final double SAMPLE_SIZE_CONSTANT = 0.5;
+    private static final int ROUNDS = 7;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final double divisor;
+    private final double errorBound;
+    private final double failureProbability;
+    private final long seed;
+    private final boolean weighted;
+    private final ExecutorService executorService;
+    private final Concurrency concurrency;
+
+    public ApproximateBetweennessCentrality(
+        Graph graph,
+        double errorBound,
+        double failureProbability,
+        Optional<Long> samplingSeed,
+        boolean weighted,
+        ExecutorService executorService,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.divisor = graph.schema().isUndirected() ? 2.0 : 1.0;
+        this.errorBound = errorBound;
+        this.failureProbability = failureProbability;
+        this.seed = samplingSeed.orElseGet(() -> new SplittableRandom().nextLong());
+        this.weighted = weighted;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.terminationFlag = terminationFlag;
+    }
+
+    /**
+     * The number of samples after which the error bound is guaranteed.
+     */
+    public static long maximumSampleSize(long nodeCount, double errorBound, double failureProbability) {
+        // no shortest path has more nodes than the graph
+        long vertexDiameter = Math.max(nodeCount, 3);
+        double log2 = Math.floor(Math.log(vertexDiameter - 2) / Math.log(2));
+        return (long) Math.ceil(
+            SAMPLE_SIZE_CONSTANT / (errorBound * errorBound) * (log2 + 1 + Math.log(2 / failureProbability))
+        );
+    }
+
+    @Override
+    public BetwennessCentralityResult compute() {
+        progressTracker.beginSubTask();
+
+        if (nodeCount < 2) {
+            progressTracker.endSubTask();
+            return new BetwennessCentralityResult(
+                HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency)),
+                Optional.of(0L),
+                Optional.of(0.0)
+            );
+        }
+
+        var pathCounts = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        var maxPathCount = new AtomicLong();
+        var nextSample = new AtomicLong();
+        var predecessorOffsets = Predecessors.offsets(graph, concurrency, executorService);
+
+        List<Sampler> samplers = new ArrayList<>(concurrency.value());
+        for (int i = 0; i < concurrency.value(); i++) {
+            samplers.add(new Sampler(predecessorOffsets, pathCounts, maxPathCount, nextSample, seed + i));
+        }
+
+        long maximumSampleSize = maximumSampleSize(nodeCount, errorBound, failureProbability);
+        long sampleSize = 0;
+        double achievedErrorBound = errorBound;
+        for (int round = 0; round < ROUNDS; round++) {
+            sampleSize = Math.max(1, maximumSampleSize >> (ROUNDS - 1 - round));
+            for (var sampler : samplers) {
+                sampler.sampleSize = sampleSize;
+            }
+            ParallelUtil.run(samplers, executorService);
+            terminationFlag.assertRunning();
+            nextSample.set(sampleSize);
+
+            double empiricalErrorBound = empiricalErrorBound(maxPathCount.get(), sampleSize);
+            if (empiricalErrorBound <= errorBound) {
+                achievedErrorBound = empiricalErrorBound;
+                break;
+            }
+        }
+
+        progressTracker.logInfo(formatWithLocale(
+            "Stopped after %d of at most %d samples with an error bound of %.6f",
+            sampleSize,
+            maximumSampleSize,
+            achievedErrorBound
+        ));
+
+        double scale = (double) nodeCount * (nodeCount - 1) / divisor / sampleSize;
+        var centrality = HugeAtomicDoubleArray.of(
+            nodeCount,
+            ParallelDoublePageCreator.of(concurrency, nodeId -> pathCounts.get(nodeId) * scale)
+        );
+
+        progressTracker.endSubTask();
+        return new BetwennessCentralityResult(centrality, Optional.of(sampleSize), Optional.of(achievedErrorBound));
+    }
+
+    /**
+     * Bound on the deviation of all normalized estimates, union bound over all nodes and rounds.
+     * The variance of a node's estimate is largest for the most frequent node, capped at one half.
+     */
+    private double empiricalErrorBound(long maxPathCount, long sampleSize) {
+        if (sampleSize < 2) {
+            return Double.MAX_VALUE;
+        }
+        double frequency = Math.min((double) maxPathCount / sampleSize, 0.5);
+        double variance = frequency * (1 - frequency) * sampleSize / (sampleSize - 1);
+        double log = Math.log(4.0 * nodeCount * ROUNDS / failureProbability);
+        return Math.sqrt(2 * variance * log / sampleSize) + 7 * log / (3.0 * (sampleSize - 1));
+    }
+
+    final class Sampler implements Runnable {
+
+        private final Graph localGraph;
+        private final Predecessors predecessors;
+        private final HugeDoubleArray sigma;
+        private final HugeAtomicLongArray pathCounts;
+        private final AtomicLong maxPathCount;
+        private final AtomicLong nextSample;
+        private final SplittableRandom random;
+
+        // unweighted traversal, nodes in order of discovery and their distance from the source
+        private final HugeLongArray discoveredNodes;
+        private final HugeIntArray distances;
+        private long discoveredNodeCount;
+
+        // weighted traversal, touched nodes are remembered for resetting the visited set
+        private final HugeLongPriorityQueue queue;
+        private final BitSet visited;
+        private final LongArrayList touchedNodes;
+
+        private long sampleSize;
+
+        Sampler(
+            HugeLongArray predecessorOffsets,
+            HugeAtomicLongArray pathCounts,
+            AtomicLong maxPathCount,
+            AtomicLong nextSample,
+            long seed
+        ) {
+            this.localGraph = graph.concurrentCopy();
+            this.predecessors = Predecessors.create(predecessorOffsets);
+            this.sigma = HugeDoubleArray.newArray(nodeCount);
+            this.pathCounts = pathCounts;
+            this.maxPathCount = maxPathCount;
+            this.nextSample = nextSample;
+            this.random = new SplittableRandom(seed);
+            if (weighted) {
+                this.discoveredNodes = null;
+                this.distances = null;
+                this.queue = HugeLongPriorityQueue.min(nodeCount);
+                this.visited = new BitSet(nodeCount);
+                this.touchedNodes = new LongArrayList();
+            } else {
+                this.discoveredNodes = HugeLongArray.newArray(nodeCount);
+                this.distances = HugeIntArray.newArray(nodeCount);
+                this.distances.fill(-1);
+                this.queue = null;
+                this.visited = null;
+                this.touchedNodes = null;
+            }
+        }
+
+        @Override
+        public void run() {
+            while (nextSample.getAndIncrement() < sampleSize && terminationFlag.running()) {
+                long source = random.nextLong(nodeCount);
+                long target = random.nextLong(nodeCount - 1);
+                if (target >= source) {
+                    target++;
+                }
+
+                boolean reached = weighted ? dijkstra(source, target) : bfs(source, target);
+                if (reached) {
+                    samplePath(source, target);
+                }
+                reset();
+
+                progressTracker.logProgress();
+            }
+        }
+
+        private boolean bfs(long source, long target) {
+            distances.set(source, 0);
+            sigma.set(source, 1);
+            discoveredNodes.set(0, source);
+            discoveredNodeCount = 1;
+
+            for (long index = 0; index < discoveredNodeCount; index++) {
+                long node = discoveredNodes.get(index);
+                if (node == target) {
+                    return true;
+                }
+                int nextDistance = distances.get(node) + 1;
+                double sigmaNode = sigma.get(node);
+                localGraph.forEachRelationship(node, (s, next) -> {
+                    int distance = distances.get(next);
+                    if (distance < 0) {
+                        distances.set(next, nextDistance);
+                        sigma.set(next, sigmaNode);
+                        predecessors.set(next, node);
+                        discoveredNodes.set(discoveredNodeCount++, next);
+                    } else if (distance == nextDistance) {
+                        sigma.addTo(next, sigmaNode);
+                        predecessors.add(next, node);
+                    }
+                    return true;
+                });
+            }
+            return false;
+        }
+
+        private boolean dijkstra(long source, long target) {
+            queue.add(source, 0.0);
+            sigma.set(source, 1);
+            touchedNodes.add(source);
+
+            while (!queue.isEmpty()) {
+                long node = queue.pop();
+                if (node == target) {
+                    return true;
+                }
+                double cost = queue.cost(node);
+                double sigmaNode = sigma.get(node);
+                visited.set(node);
+                localGraph.forEachRelationship(node, 1.0D, (s, next, weight) -> {
+                    if (visited.get(next)) {
+                        return true;
+                    }
+                    double nextCost = cost + weight;
+                    if (!queue.containsElement(next)) {
+                        queue.add(next, nextCost);
+                        sigma.set(next, sigmaNode);
+                        predecessors.set(next, node);
+                        touchedNodes.add(next);
+                    } else {
+                        int comparison = Double.compare(nextCost, queue.cost(next));
+                        if (comparison == 0) {
+                            sigma.addTo(next, sigmaNode);
+                            predecessors.add(next, node);
+                        } else if (comparison < 0) {
+                            queue.set(next, nextCost);
+                            sigma.set(next, sigmaNode);
+                            predecessors.set(next, node);
+                        }
+                    }
+                    return true;
+                });
+            }
+            return false;
+        }
+
+        /**
+         * Walks back from the target, picking each predecessor with a probability proportional
+         * to the number of shortest paths through it.
+         */
+        private void samplePath(long source, long target) {
+            long node = target;
+            while (true) {
+                double remaining = random.nextDouble() * sigma.get(node);
+                int count = predecessors.count(node);
+                long predecessor = predecessors.get(node, count - 1);
+                for (int i = 0; i < count - 1; i++) {
+                    long candidate = predecessors.get(node, i);
+                    remaining -= sigma.get(candidate);
+                    if (remaining < 0) {
+                        predecessor = candidate;
+                        break;
+                    }
+                }
+
+                if (predecessor == source) {
+                    return;
+                }
+                long pathCount = pathCounts.getAndAdd(predecessor, 1) + 1;
+                if (pathCount > maxPathCount.get()) {
+                    maxPathCount.accumulateAndGet(pathCount, Math::max);
+                }
+                node = predecessor;
+            }
+        }
+
+        // predecessors and sigma are overwritten when a node is discovered
+        private void reset() {
+            if (weighted) {
+                queue.clear();
+                var buffer = touchedNodes.buffer;
+                for (int i = 0; i < touchedNodes.size(); i++) {
+                    visited.clear(buffer[i]);
+                }
+                touchedNodes.elementsCount = 0;
+            } else {
+                for (long index = 0; index < discoveredNodeCount; index++) {
+                    distances.set(discoveredNodes.get(index), -1);
+                }
+            }
+        }
+    }
+}
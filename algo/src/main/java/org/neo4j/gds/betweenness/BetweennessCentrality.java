@@ -19,14 +19,10 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
-import com.carrotsearch.hppc.cursors.LongCursor;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
@@ -36,7 +32,6 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.concurrent.ExecutorService;
-import java.util.function.Consumer;
 
 public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult> {
 
@@ -51,6 +46,8 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
     private final ExecutorService executorService;
     private final Concurrency concurrency;
 
+    // slices of the per task predecessor arrays, shared by all tasks
+    private HugeLongArray predecessorOffsets;
 
     public BetweennessCentrality(
         Graph graph,
@@ -77,21 +74,20 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
     @Override
     public BetwennessCentralityResult compute() {
         progressTracker.beginSubTask();
+        predecessorOffsets = Predecessors.offsets(graph, concurrency, executorService);
         ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
         progressTracker.endSubTask();
         return new BetwennessCentralityResult(centrality);
     }
 
     final class BCTask implements Runnable {
-        private final HugeObjectArray<LongArrayList> predecessors;
-        private final HugeCursor<LongArrayList[]> predecessorsCursor;
+        private final Predecessors predecessors;
         private final HugeLongArrayStack backwardNodes;
         private final HugeDoubleArray delta;
         private final HugeLongArray sigma;
 
         private BCTask() {
-            this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-            this.predecessorsCursor = predecessors.newCursor();
+            this.predecessors = Predecessors.create(predecessorOffsets);
             this.backwardNodes = HugeLongArrayStack.newStack(nodeCount);
             this.sigma = HugeLongArray.newArray(nodeCount);
             this.delta = HugeDoubleArray.newArray(nodeCount);
@@ -126,18 +122,15 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
 
                 while (!backwardNodes.isEmpty()) {
                     long node = backwardNodes.pop();
-                    LongArrayList predecessors = this.predecessors.get(node);
 
                     double dependencyNode = delta.get(node);
                     double sigmaNode = sigma.get(node);
 
-                    if (null != predecessors) {
-                        predecessors.forEach((Consumer<? super LongCursor>) predecessor -> {
-                            double sigmaPredecessor = sigma.get(predecessor.value);
-                            double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
-                            delta.addTo(predecessor.value, dependency);
-                        });
-                    }
+                    predecessors.forEach(node, predecessor -> {
+                        double sigmaPredecessor = sigma.get(predecessor);
+                        double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
+                        delta.addTo(predecessor, dependency);
+                    });
                     if (node != startNodeId) {
                         double current;
                         do {
@@ -151,19 +144,7 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
         private void clear() {
             sigma.fill(0);
             delta.fill(0);
-
-            predecessors.initCursor(predecessorsCursor);
-
-            while (predecessorsCursor.next()) {
-                for (int i = predecessorsCursor.offset; i < predecessorsCursor.limit; i++) {
-                    if (predecessorsCursor.array[i] != null) {
-                        // We avoid using LongArrayList#clear since it would
-                        // fill the inner array with zeros. We don't need that
-                        // so we just reset the index which is cheaper
-                        predecessorsCursor.array[i].elementsCount = 0;
-                    }
-                }
-            }
+            predecessors.clear();
         }
     }
 }
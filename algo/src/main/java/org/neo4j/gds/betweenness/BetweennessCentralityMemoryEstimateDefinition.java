@@ -24,28 +24,52 @@ import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryRange;
 
-import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
+import static org.neo4j.gds.msbfs.MSBFSConstants.OMEGA;
 
 public class BetweennessCentralityMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
     private final boolean hasRelationshipWeightProperty;
+    private final boolean approximate;
+    private final boolean multiSourceTraversal;
 
     public BetweennessCentralityMemoryEstimateDefinition(boolean hasRelationshipWeightProperty) {
+        this(hasRelationshipWeightProperty, false);
+    }
+
+    public BetweennessCentralityMemoryEstimateDefinition(boolean hasRelationshipWeightProperty, boolean approximate) {
+        this(hasRelationshipWeightProperty, approximate, false);
+    }
+
+    public BetweennessCentralityMemoryEstimateDefinition(
+        boolean hasRelationshipWeightProperty,
+        boolean approximate,
+        boolean multiSourceTraversal
+    ) {
         this.hasRelationshipWeightProperty = hasRelationshipWeightProperty;
+        this.approximate = approximate;
+        this.multiSourceTraversal = multiSourceTraversal;
     }
 
 
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (approximate) {
+            return approximateMemoryEstimation(hasRelationshipWeightProperty);
+        }
+        if (multiSourceTraversal && !hasRelationshipWeightProperty) {
+            return multiSourceMemoryEstimation();
+        }
         return MemoryEstimations.builder(BetweennessCentrality.class)
             .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("predecessor offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
             .perThread(
                 "compute task",
                 bcTaskMemoryEstimationBuilder(hasRelationshipWeightProperty).build()
@@ -53,16 +77,51 @@ public class BetweennessCentralityMemoryEstimateDefinition implements MemoryEsti
     }
 
 
+    private static MemoryEstimation approximateMemoryEstimation(boolean weighted) {
+        var sampler = MemoryEstimations.builder(ApproximateBetweennessCentrality.Sampler.class)
+            .add("predecessors", Predecessors.memoryEstimation())
+            .perNode("sigmas", HugeDoubleArray::memoryEstimation);
+        if (weighted) {
+            sampler
+                .add("nodeQueue", HugeLongPriorityQueue.memoryEstimation())
+                .perNode("visited", Estimate::sizeOfBitset);
+        } else {
+            sampler
+                .perNode("distances", HugeIntArray::memoryEstimation)
+                .perNode("discoveredNodes", HugeLongArray::memoryEstimation);
+        }
+
+        return MemoryEstimations.builder(ApproximateBetweennessCentrality.class)
+            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("path counts", HugeAtomicLongArray::memoryEstimation)
+            .perNode("predecessor offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perThread("sampler", sampler.build())
+            .build();
+    }
+
+    private static MemoryEstimation multiSourceMemoryEstimation() {
+        var task = MemoryEstimations.builder(MultiSourceBetweennessCentrality.MSBCTask.class)
+            .perNode("seen", HugeLongArray::memoryEstimation)
+            .perNode("visitNext", HugeLongArray::memoryEstimation)
+            .perNode("sigmas", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * OMEGA))
+            .perNode("deltas", nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount * OMEGA))
+            // every node is reached once per source, but mostly on few distinct levels
+            .rangePerNode("levels", nodeCount -> MemoryRange.of(
+                2 * HugeLongArray.memoryEstimation(nodeCount),
+                2 * HugeLongArray.memoryEstimation(nodeCount * OMEGA)
+            ))
+            .fixed("sources", Estimate.sizeOfLongArray(OMEGA));
+
+        return MemoryEstimations.builder(MultiSourceBetweennessCentrality.class)
+            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
+            .perThread("compute task", task.build())
+            .build();
+    }
+
     @NotNull
     private static MemoryEstimations.Builder bcTaskMemoryEstimationBuilder(boolean weighted) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
-            .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                // Predecessors are represented by LongArrayList which wrap a long[]
-                long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
-                return MemoryEstimations.builder(HugeObjectArray.class)
-                    .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
-                    .build();
-            }))
+            .add("predecessors", Predecessors.memoryEstimation())
             .perNode("backwardNodes", HugeLongArray::memoryEstimation)
             .perNode("deltas", HugeDoubleArray::memoryEstimation)
             .perNode("sigmas", HugeLongArray::memoryEstimation);
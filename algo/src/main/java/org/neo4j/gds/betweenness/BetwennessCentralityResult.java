@@ -24,10 +24,22 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 
+import java.util.Optional;
 import java.util.function.LongToDoubleFunction;
 
-public record BetwennessCentralityResult(HugeAtomicDoubleArray centralities) implements CentralityAlgorithmResult{
+/**
+ * @param sampleCount the number of sampled node pairs, if the scores have been approximated
+ * @param errorBound  the bound on the error of the normalized scores, if they have been approximated
+ */
+public record BetwennessCentralityResult(
+    HugeAtomicDoubleArray centralities,
+    Optional<Long> sampleCount,
+    Optional<Double> errorBound
+) implements CentralityAlgorithmResult {
 
+    public BetwennessCentralityResult(HugeAtomicDoubleArray centralities) {
+        this(centralities, Optional.empty(), Optional.empty());
+    }
 
     @Override
     public NodePropertyValues nodePropertyValues() {
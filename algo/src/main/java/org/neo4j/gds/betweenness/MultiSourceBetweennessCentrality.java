@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.msbfs.MSBFSConstants.OMEGA;
+
+/**
+ * Brandes' algorithm for unweighted graphs that traverses from {@link org.neo4j.gds.msbfs.MSBFSConstants#OMEGA}
+ * source nodes at once, following the multi-source BFS of
+ * <a href="http://www.vldb.org/pvldb/vol8/p449-then.pdf">The More the Merrier: Efficient Multi-Source Graph Traversal</a>.
+ * <p>
+ * Every node keeps one bit per source in packed longs, telling which of the traversals have reached it.
+ * Both the forward sweep and the dependency accumulation scan the relationships of a node only once per level
+ * for all traversals that are at this node on that level. Only the shortest path counts and the dependencies
+ * are kept per node and source. The dependencies are pulled from the successors of a node on the next level,
+ * so the traversal only needs the outgoing relationships.
+ * <p>
+ * In exchange, each task needs about {@code 16 * OMEGA} bytes per node.
+ */
+public final class MultiSourceBetweennessCentrality extends Algorithm<BetwennessCentralityResult> {
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final double divisor;
+
+    private final HugeAtomicDoubleArray centrality;
+    private final SelectionStrategy selectionStrategy;
+
+    private final ExecutorService executorService;
+    private final Concurrency concurrency;
+
+    public MultiSourceBetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        ExecutorService executorService,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.nodeCount = graph.nodeCount();
+        this.centrality = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        this.selectionStrategy = selectionStrategy;
+        this.selectionStrategy.init(graph, executorService, concurrency);
+        this.divisor = graph.schema().isUndirected() ? 2.0 : 1.0;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public BetwennessCentralityResult compute() {
+        progressTracker.beginSubTask();
+        ParallelUtil.run(ParallelUtil.tasks(concurrency, MSBCTask::new), executorService);
+        progressTracker.endSubTask();
+        return new BetwennessCentralityResult(centrality);
+    }
+
+    final class MSBCTask implements Runnable {
+        private final Graph localGraph;
+
+        // one bit per source: reached so far, and reached on the next level
+        private final HugeLongArray seen;
+        private final HugeLongArray visitNext;
+
+        // per node and source, indexed by node * OMEGA + source index
+        private final HugeLongArray sigma;
+        private final HugeDoubleArray delta;
+
+        // every node with the sources that reached it, in order of levels
+        private HugeLongArray levelNodes;
+        private HugeLongArray levelMasks;
+        private long levelSize;
+        private long[] levelOffsets;
+        private int levelCount;
+
+        private final long[] sources;
+
+        private MSBCTask() {
+            this.localGraph = graph.concurrentCopy();
+            this.seen = HugeLongArray.newArray(nodeCount);
+            this.visitNext = HugeLongArray.newArray(nodeCount);
+            this.sigma = HugeLongArray.newArray(nodeCount * OMEGA);
+            this.delta = HugeDoubleArray.newArray(nodeCount * OMEGA);
+            this.levelNodes = HugeLongArray.newArray(nodeCount);
+            this.levelMasks = HugeLongArray.newArray(nodeCount);
+            this.levelOffsets = new long[16];
+            this.sources = new long[OMEGA];
+        }
+
+        @Override
+        public void run() {
+            while (terminationFlag.running()) {
+                int sourceCount = nextSources();
+                if (sourceCount == 0) {
+                    return;
+                }
+
+                forward(sourceCount);
+                backward();
+                reset();
+
+                getProgressTracker().logProgress(sourceCount);
+            }
+        }
+
+        private int nextSources() {
+            int sourceCount = 0;
+            while (sourceCount < OMEGA) {
+                long source = selectionStrategy.next();
+                if (source == SelectionStrategy.NONE_SELECTED) {
+                    break;
+                }
+                sources[sourceCount++] = source;
+            }
+            return sourceCount;
+        }
+
+        private void forward(int sourceCount) {
+            levelSize = 0;
+            levelCount = 0;
+            startLevel();
+            for (int i = 0; i < sourceCount; i++) {
+                long source = sources[i];
+                long bit = 1L << i;
+                seen.set(source, bit);
+                sigma.set(source * OMEGA + i, 1);
+                append(source, bit);
+            }
+
+            long levelStart = 0;
+            while (levelStart < levelSize) {
+                long levelEnd = levelSize;
+                startLevel();
+
+                for (long index = levelStart; index < levelEnd; index++) {
+                    long node = levelNodes.get(index);
+                    long mask = levelMasks.get(index);
+                    localGraph.forEachRelationship(node, (s, next) -> {
+                        long discovered = mask & ~seen.get(next);
+                        if (discovered != 0L) {
+                            if (visitNext.get(next) == 0L) {
+                                // the mask is complete once the level has been expanded
+                                append(next, 0L);
+                            }
+                            visitNext.or(next, discovered);
+                            long nodeBase = node * OMEGA;
+                            long nextBase = next * OMEGA;
+                            for (long bits = discovered; bits != 0L; bits &= bits - 1) {
+                                int lane = Long.numberOfTrailingZeros(bits);
+                                sigma.addTo(nextBase + lane, sigma.get(nodeBase + lane));
+                            }
+                        }
+                        return true;
+                    });
+                }
+
+                for (long index = levelEnd; index < levelSize; index++) {
+                    long next = levelNodes.get(index);
+                    long mask = visitNext.get(next);
+                    levelMasks.set(index, mask);
+                    seen.or(next, mask);
+                    visitNext.set(next, 0L);
+                }
+
+                levelStart = levelEnd;
+            }
+            // the last level did not discover any node
+            levelCount--;
+        }
+
+        private void backward() {
+            // the last level has no successors, the first level only contains the sources
+            for (int level = levelCount - 2; level > 0; level--) {
+                long successorStart = levelOffsets[level + 1];
+                long successorEnd = level + 2 < levelCount ? levelOffsets[level + 2] : levelSize;
+                for (long index = successorStart; index < successorEnd; index++) {
+                    visitNext.set(levelNodes.get(index), levelMasks.get(index));
+                }
+
+                for (long index = levelOffsets[level]; index < successorStart; index++) {
+                    long node = levelNodes.get(index);
+                    long mask = levelMasks.get(index);
+                    long nodeBase = node * OMEGA;
+                    localGraph.forEachRelationship(node, (s, next) -> {
+                        long successors = mask & visitNext.get(next);
+                        long nextBase = next * OMEGA;
+                        for (long bits = successors; bits != 0L; bits &= bits - 1) {
+                            int lane = Long.numberOfTrailingZeros(bits);
+                            double sigmaNext = sigma.get(nextBase + lane);
+                            double dependency = sigma.get(nodeBase + lane) / sigmaNext * (1.0 + delta.get(nextBase + lane));
+                            delta.addTo(nodeBase + lane, dependency);
+                        }
+                        return true;
+                    });
+
+                    double dependencySum = 0;
+                    for (long bits = mask; bits != 0L; bits &= bits - 1) {
+                        dependencySum += delta.get(nodeBase + Long.numberOfTrailingZeros(bits));
+                    }
+                    if (dependencySum != 0) {
+                        double current;
+                        do {
+                            current = centrality.get(node);
+                        } while (!centrality.compareAndSet(node, current, current + dependencySum / divisor));
+                    }
+                }
+
+                for (long index = successorStart; index < successorEnd; index++) {
+                    visitNext.set(levelNodes.get(index), 0L);
+                }
+            }
+        }
+
+        // only the nodes and sources of this batch have been written to
+        private void reset() {
+            for (long index = 0; index < levelSize; index++) {
+                long node = levelNodes.get(index);
+                long nodeBase = node * OMEGA;
+                for (long bits = levelMasks.get(index); bits != 0L; bits &= bits - 1) {
+                    int lane = Long.numberOfTrailingZeros(bits);
+                    sigma.set(nodeBase + lane, 0);
+                    delta.set(nodeBase + lane, 0);
+                }
+                seen.set(node, 0L);
+            }
+        }
+
+        private void startLevel() {
+            if (levelCount == levelOffsets.length) {
+                levelOffsets = Arrays.copyOf(levelOffsets, levelCount * 2);
+            }
+            levelOffsets[levelCount++] = levelSize;
+        }
+
+        private void append(long node, long mask) {
+            if (levelSize == levelNodes.size()) {
+                // a node appears at most once per source
+                long newSize = Math.min(levelSize * 2, nodeCount * OMEGA);
+                levelNodes = levelNodes.copyOf(newSize);
+                levelMasks = levelMasks.copyOf(newSize);
+            }
+            levelNodes.set(levelSize, node);
+            levelMasks.set(levelSize, mask);
+            levelSize++;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongConsumer;
+
+/**
+ * The shortest path predecessors of all nodes for a single traversal, stored in compressed sparse row format.
+ * <p>
+ * A node has at most one predecessor per incoming relationship, so every node owns a slice of a single
+ * flat array that is as long as its in-degree. The slice offsets only depend on the graph and are shared
+ * by all traversals; each traversal owns the flat array and the number of predecessors per node.
+ */
+final class Predecessors {
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray predecessors;
+    private final HugeIntArray counts;
+
+    static Predecessors create(HugeLongArray offsets) {
+        long nodeCount = offsets.size() - 1;
+        return new Predecessors(
+            offsets,
+            HugeLongArray.newArray(offsets.get(nodeCount)),
+            HugeIntArray.newArray(nodeCount)
+        );
+    }
+
+    /**
+     * Computes the slice offsets from the in-degrees of the nodes.
+     * Without an inverse index, the in-degrees of a directed graph are counted in parallel.
+     */
+    static HugeLongArray offsets(Graph graph, Concurrency concurrency, ExecutorService executorService) {
+        long nodeCount = graph.nodeCount();
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+
+        if (graph.characteristics().isUndirected()) {
+            offsets.setAll(nodeId -> nodeId < nodeCount ? graph.degree(nodeId) : 0);
+        } else if (graph.characteristics().isInverseIndexed()) {
+            offsets.setAll(nodeId -> nodeId < nodeCount ? graph.degreeInverse(nodeId) : 0);
+        } else {
+            var inDegrees = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+            var tasks = PartitionUtils.rangePartition(
+                concurrency,
+                nodeCount,
+                partition -> (Runnable) () -> {
+                    var localGraph = graph.concurrentCopy();
+                    partition.consume(nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+                        inDegrees.getAndAdd(target, 1);
+                        return true;
+                    }));
+                },
+                Optional.empty()
+            );
+            ParallelUtil.run(tasks, executorService);
+            offsets.setAll(nodeId -> nodeId < nodeCount ? inDegrees.get(nodeId) : 0);
+        }
+
+        // exclusive prefix sum, the last entry holds the total number of slots
+        long sum = 0;
+        for (long nodeId = 0; nodeId <= nodeCount; nodeId++) {
+            long degree = offsets.get(nodeId);
+            offsets.set(nodeId, sum);
+            sum += degree;
+        }
+
+        return offsets;
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Predecessors.class)
+            .perNode("counts", HugeIntArray::memoryEstimation)
+            .rangePerGraphDimension(
+                "predecessors",
+                (dimensions, concurrency) -> MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .build();
+    }
+
+    private Predecessors(HugeLongArray offsets, HugeLongArray predecessors, HugeIntArray counts) {
+        this.offsets = offsets;
+        this.predecessors = predecessors;
+        this.counts = counts;
+    }
+
+    void add(long node, long predecessor) {
+        int count = counts.get(node);
+        predecessors.set(offsets.get(node) + count, predecessor);
+        counts.set(node, count + 1);
+    }
+
+    /**
+     * Replaces all predecessors of the node with the given one.
+     */
+    void set(long node, long predecessor) {
+        predecessors.set(offsets.get(node), predecessor);
+        counts.set(node, 1);
+    }
+
+    int count(long node) {
+        return counts.get(node);
+    }
+
+    long get(long node, int index) {
+        return predecessors.get(offsets.get(node) + index);
+    }
+
+    void forEach(long node, LongConsumer consumer) {
+        long offset = offsets.get(node);
+        int count = counts.get(node);
+        for (int i = 0; i < count; i++) {
+            consumer.accept(predecessors.get(offset + i));
+        }
+    }
+
+    void clear(long node) {
+        counts.set(node, 0);
+    }
+
+    void clear() {
+        counts.fill(0);
+    }
+}
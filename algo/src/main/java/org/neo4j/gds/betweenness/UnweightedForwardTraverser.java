@@ -19,20 +19,18 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayQueue;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 
 class UnweightedForwardTraverser implements ForwardTraverser {
 
     static UnweightedForwardTraverser create(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
+        Predecessors predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
         TerminationFlag terminationFlag
@@ -53,7 +51,7 @@ class UnweightedForwardTraverser implements ForwardTraverser {
     }
 
     private final Graph graph;
-    private final HugeObjectArray<LongArrayList> predecessors;
+    private final Predecessors predecessors;
     private final HugeLongArrayStack backwardNodes;
     private final HugeLongArray sigma;
     private final HugeLongArrayQueue nodeQueue;
@@ -62,7 +60,7 @@ class UnweightedForwardTraverser implements ForwardTraverser {
 
     UnweightedForwardTraverser(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
+        Predecessors predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
         HugeLongArrayQueue nodeQueue,
@@ -98,7 +96,7 @@ class UnweightedForwardTraverser implements ForwardTraverser {
 
                 if (distances.get(target) == targetDistance) {
                     sigma.addTo(target, sigma.get(source));
-                    appendPredecessor(target, source);
+                    predecessors.add(target, source);
                 }
                 return true;
             });
@@ -110,14 +108,4 @@ class UnweightedForwardTraverser implements ForwardTraverser {
         distances.fill(-1);
     }
 
-    // append node to the path at target
-    private void appendPredecessor(long target, long node) {
-        LongArrayList targetPredecessors = predecessors.get(target);
-        if (null == targetPredecessors) {
-            targetPredecessors = new LongArrayList();
-            predecessors.set(target, targetPredecessors);
-        }
-        targetPredecessors.add(node);
-    }
-
 }
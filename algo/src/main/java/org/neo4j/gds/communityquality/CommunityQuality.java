@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import com.carrotsearch.hppc.cursors.LongLongCursor;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Scores several partitions of the same graph in one pass over the adjacency list.
+ * <p>
+ * Per community, the number of nodes, the weight of relationships inside the community and the total weight
+ * of relationships starting in the community (its volume) are aggregated. Modularity, coverage and conductance
+ * of every partition are derived from these sums.
+ * Undirected relationships are counted from both ends, as in {@link org.neo4j.gds.modularity.ModularityCalculator}.
+ * Without relationship weights, every relationship has a weight of {@code 1.0}.
+ * <p>
+ * The {@link org.neo4j.gds.modularity.ModularityCalculator} and {@link org.neo4j.gds.conductance.Conductance}
+ * algorithms keep their own passes and are not computed by this class. For a partition with non-negative
+ * community ids the scores agree; {@code Conductance} ignores nodes with a negative community id,
+ * while here every id is a community.
+ */
+public final class CommunityQuality extends Algorithm<CommunityQualityResult> {
+
+    private final Graph graph;
+    private final List<String> communityProperties;
+    private final Concurrency concurrency;
+
+    public CommunityQuality(
+        Graph graph,
+        List<String> communityProperties,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.communityProperties = communityProperties;
+        this.concurrency = concurrency;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public CommunityQualityResult compute() {
+        progressTracker.beginSubTask();
+
+        var partitions = mapCommunities();
+        terminationFlag.assertRunning();
+
+        var totalWeight = aggregateWeights(partitions);
+        terminationFlag.assertRunning();
+
+        var result = computeScores(partitions, totalWeight);
+
+        progressTracker.endSubTask();
+
+        return result;
+    }
+
+    /**
+     * Maps the community ids of each partition to a dense range, one partition after the other.
+     */
+    private List<Communities> mapCommunities() {
+        progressTracker.beginSubTask();
+
+        var nodeRanges = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            Function.identity(),
+            Optional.empty()
+        );
+        var partitions = new ArrayList<Communities>(communityProperties.size());
+        for (String communityProperty : communityProperties) {
+            var communities = new Communities(communityProperty, graph.nodeProperties(communityProperty));
+            communities.map(nodeRanges);
+            partitions.add(communities);
+        }
+
+        progressTracker.endSubTask();
+
+        return partitions;
+    }
+
+    private void runPerRange(List<Partition> nodeRanges, ObjIntConsumer<Partition> task) {
+        var tasks = new ArrayList<Runnable>(nodeRanges.size());
+        for (int i = 0; i < nodeRanges.size(); i++) {
+            var nodeRange = nodeRanges.get(i);
+            int rangeIndex = i;
+            tasks.add(() -> task.accept(nodeRange, rangeIndex));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    private double aggregateWeights(List<Communities> partitions) {
+        progressTracker.beginSubTask();
+
+        var totalWeight = new DoubleAdder();
+        // using degreePartitioning did not show an improvement -- assuming as tasks are too small
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> new WeightAggregator(partition, partitions, totalWeight),
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        progressTracker.endSubTask();
+
+        return totalWeight.doubleValue();
+    }
+
+    private CommunityQualityResult computeScores(List<Communities> partitions, double totalWeight) {
+        progressTracker.beginSubTask();
+
+        var partitionQualities = new PartitionQuality[partitions.size()];
+        var tasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            int partitionIndex = i;
+            tasks.add(() -> {
+                partitionQualities[partitionIndex] = partitions.get(partitionIndex).score(totalWeight);
+                progressTracker.logProgress();
+            });
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        progressTracker.endSubTask();
+
+        return new CommunityQualityResult(List.of(partitionQualities));
+    }
+
+    /**
+     * The communities of a single partition, with the aggregates per dense community id.
+     */
+    private final class Communities {
+
+        private final String communityProperty;
+        private final NodePropertyValues communityValues;
+        private final HugeLongArray denseCommunities;
+        private HugeLongArray communityIds;
+        private HugeAtomicLongArray nodeCounts;
+        private HugeAtomicDoubleArray internalWeights;
+        private HugeAtomicDoubleArray volumes;
+
+        Communities(String communityProperty, NodePropertyValues communityValues) {
+            this.communityProperty = communityProperty;
+            this.communityValues = communityValues;
+            this.denseCommunities = HugeLongArray.newArray(graph.nodeCount());
+        }
+
+        /**
+         * Every node range collects its distinct community ids in parallel. Only these ids are merged
+         * sequentially into dense ids, which every range then assigns to its nodes in parallel.
+         */
+        void map(List<Partition> nodeRanges) {
+            var rangeMappers = new HugeLongLongMap[nodeRanges.size()];
+            runPerRange(nodeRanges, (nodeRange, rangeIndex) -> {
+                var rangeMapper = new HugeLongLongMap();
+                long endNode = nodeRange.startNode() + nodeRange.nodeCount();
+                for (long nodeId = nodeRange.startNode(); nodeId < endNode; nodeId++) {
+                    rangeMapper.put(communityValues.longValue(nodeId), -1);
+                }
+                rangeMappers[rangeIndex] = rangeMapper;
+                progressTracker.logProgress(nodeRange.nodeCount());
+            });
+            terminationFlag.assertRunning();
+
+            long distinctPerRange = 0;
+            for (HugeLongLongMap rangeMapper : rangeMappers) {
+                distinctPerRange += rangeMapper.size();
+            }
+            var communityMapper = new HugeLongLongMap(distinctPerRange);
+            long nextCommunity = 0;
+            for (HugeLongLongMap rangeMapper : rangeMappers) {
+                for (LongLongCursor cursor : rangeMapper) {
+                    long denseCommunity = communityMapper.getOrDefault(cursor.key, -1);
+                    if (denseCommunity == -1) {
+                        denseCommunity = nextCommunity++;
+                        communityMapper.put(cursor.key, denseCommunity);
+                    }
+                    // the key exists, so the put only overwrites the value in place
+                    rangeMapper.put(cursor.key, denseCommunity);
+                }
+            }
+
+            communityIds = HugeLongArray.newArray(nextCommunity);
+            for (LongLongCursor cursor : communityMapper) {
+                communityIds.set(cursor.value, cursor.key);
+            }
+            communityMapper.release();
+
+            runPerRange(nodeRanges, (nodeRange, rangeIndex) -> {
+                var rangeMapper = rangeMappers[rangeIndex];
+                long endNode = nodeRange.startNode() + nodeRange.nodeCount();
+                for (long nodeId = nodeRange.startNode(); nodeId < endNode; nodeId++) {
+                    denseCommunities.set(nodeId, rangeMapper.getOrDefault(communityValues.longValue(nodeId), -1));
+                }
+                rangeMapper.release();
+            });
+
+            nodeCounts = HugeAtomicLongArray.of(nextCommunity, ParalleLongPageCreator.passThrough(concurrency));
+            internalWeights = HugeAtomicDoubleArray.of(nextCommunity, ParallelDoublePageCreator.passThrough(concurrency));
+            volumes = HugeAtomicDoubleArray.of(nextCommunity, ParallelDoublePageCreator.passThrough(concurrency));
+        }
+
+        PartitionQuality score(double totalWeight) {
+            var communityCount = communityIds.size();
+            double modularity = 0;
+            double internalWeight = 0;
+            double conductanceSum = 0;
+            long communitiesWithRelationships = 0;
+
+            for (long community = 0; community < communityCount; community++) {
+                double communityInternalWeight = internalWeights.get(community);
+                double volume = volumes.get(community);
+                modularity += PartitionQuality.modularity(communityInternalWeight, volume, totalWeight);
+                internalWeight += communityInternalWeight;
+                if (volume > 0) {
+                    conductanceSum += PartitionQuality.conductance(communityInternalWeight, volume);
+                    communitiesWithRelationships++;
+                }
+            }
+
+            return new PartitionQuality(
+                communityProperty,
+                communityCount,
+                totalWeight > 0 ? modularity : Double.NaN,
+                totalWeight > 0 ? internalWeight / totalWeight : Double.NaN,
+                communitiesWithRelationships > 0 ? conductanceSum / communitiesWithRelationships : Double.NaN,
+                totalWeight,
+                communityIds,
+                nodeCounts,
+                internalWeights,
+                volumes
+            );
+        }
+    }
+
+    /**
+     * Visits every relationship once and adds its weight to the communities of all partitions.
+     * The weights are summed per node first, so that the shared arrays are only updated once per node and partition.
+     */
+    private final class WeightAggregator implements Runnable {
+
+        private final Partition partition;
+        private final Graph localGraph;
+        private final List<Communities> partitions;
+        private final DoubleAdder totalWeight;
+        private final long[] sourceCommunities;
+        private final double[] internalWeights;
+
+        WeightAggregator(Partition partition, List<Communities> partitions, DoubleAdder totalWeight) {
+            this.partition = partition;
+            this.localGraph = graph.concurrentCopy();
+            this.partitions = partitions;
+            this.totalWeight = totalWeight;
+            this.sourceCommunities = new long[partitions.size()];
+            this.internalWeights = new double[partitions.size()];
+        }
+
+        @Override
+        public void run() {
+            var partitionCount = partitions.size();
+            double localTotalWeight = 0;
+            var nodeWeight = new double[1];
+
+            long startNode = partition.startNode();
+            long endNode = startNode + partition.nodeCount();
+            for (long nodeId = startNode; nodeId < endNode; ++nodeId) {
+                for (int p = 0; p < partitionCount; p++) {
+                    sourceCommunities[p] = partitions.get(p).denseCommunities.get(nodeId);
+                    internalWeights[p] = 0;
+                }
+                nodeWeight[0] = 0;
+
+                localGraph.forEachRelationship(nodeId, 1.0, (s, t, w) -> {
+                    nodeWeight[0] += w;
+                    for (int p = 0; p < partitionCount; p++) {
+                        if (partitions.get(p).denseCommunities.get(t) == sourceCommunities[p]) {
+                            internalWeights[p] += w;
+                        }
+                    }
+                    return true;
+                });
+
+                for (int p = 0; p < partitionCount; p++) {
+                    var communities = partitions.get(p);
+                    var community = sourceCommunities[p];
+                    communities.nodeCounts.getAndAdd(community, 1);
+                    if (nodeWeight[0] != 0) {
+                        communities.internalWeights.getAndAdd(community, internalWeights[p]);
+                        communities.volumes.getAndAdd(community, nodeWeight[0]);
+                    }
+                }
+                localTotalWeight += nodeWeight[0];
+            }
+
+            totalWeight.add(localTotalWeight);
+            progressTracker.logProgress(partition.nodeCount());
+        }
+    }
+}
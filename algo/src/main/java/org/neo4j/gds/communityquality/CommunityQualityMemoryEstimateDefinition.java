@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+public class CommunityQualityMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final int partitionCount;
+
+    public CommunityQualityMemoryEstimateDefinition(int partitionCount) {
+        this.partitionCount = partitionCount;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        // assumes the worst case of one community per node
+        var perPartition = MemoryEstimations.builder("partition")
+            .add("Community Mapper", HugeLongLongMap.memoryEstimation())
+            // the mappers of all node ranges hold at most one entry per node together
+            .add("Range Community Mappers", HugeLongLongMap.memoryEstimation())
+            .perNode("Dense Communities", HugeLongArray::memoryEstimation)
+            .perNode("Community Ids", HugeLongArray::memoryEstimation)
+            .perNode("Node Counts", HugeAtomicLongArray::memoryEstimation)
+            .perNode("Internal Relationship Weights", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("Volumes", HugeAtomicDoubleArray::memoryEstimation)
+            .build();
+
+        var builder = MemoryEstimations.builder(CommunityQuality.class);
+        for (int i = 0; i < partitionCount; i++) {
+            builder.add(perPartition);
+        }
+
+        return builder
+            .perThread(
+                "WeightAggregator",
+                Estimate.sizeOfLongArray(partitionCount) + Estimate.sizeOfDoubleArray(partitionCount)
+            )
+            .build();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+
+/**
+ * The scores of the partition given by one community property.
+ * Scores that are undefined, for example because the graph has no relationships, are {@code NaN}.
+ * <p>
+ * The per-community statistics are indexed by a dense community index in {@code [0, communityCount)};
+ * {@link #communityId(long)} returns the original community id.
+ */
+public record PartitionQuality(
+    String communityProperty,
+    long communityCount,
+    double modularity,
+    double coverage,
+    double averageConductance,
+    double totalRelationshipWeight,
+    HugeLongArray communityIds,
+    HugeAtomicLongArray nodeCounts,
+    HugeAtomicDoubleArray internalRelationshipWeights,
+    HugeAtomicDoubleArray volumes
+) {
+
+    public long communityId(long communityIndex) {
+        return communityIds.get(communityIndex);
+    }
+
+    public long nodeCount(long communityIndex) {
+        return nodeCounts.get(communityIndex);
+    }
+
+    public double internalRelationshipWeight(long communityIndex) {
+        return internalRelationshipWeights.get(communityIndex);
+    }
+
+    /**
+     * The weight of all relationships starting in the community, including the ones that stay inside.
+     */
+    public double volume(long communityIndex) {
+        return volumes.get(communityIndex);
+    }
+
+    public double communityModularity(long communityIndex) {
+        return modularity(
+            internalRelationshipWeight(communityIndex),
+            volume(communityIndex),
+            totalRelationshipWeight
+        );
+    }
+
+    public double communityConductance(long communityIndex) {
+        return conductance(internalRelationshipWeight(communityIndex), volume(communityIndex));
+    }
+
+    static double modularity(double internalWeight, double volume, double totalWeight) {
+        return (internalWeight - volume * volume * (1.0 / totalWeight)) / totalWeight;
+    }
+
+    static double conductance(double internalWeight, double volume) {
+        return (volume - internalWeight) / volume;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kcore;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Computes the core values by local h-index updates until no value changes (Montresor et al.).
+ * <p>
+ * Every node starts with its degree as an upper bound of its core value. In every round, the active nodes
+ * replace their value by the h-index of their neighbours' values, capped at their own value. The values only
+ * decrease and converge to the core values. A node whose value drops activates the neighbours whose value
+ * might drop in turn, so later rounds only revisit the frontier of changed nodes.
+ * <p>
+ * Updates become visible to other nodes within the same round. This is safe since the values never fall
+ * below the core values and every decrease notifies the affected neighbours.
+ */
+final class HIndexCoreness {
+
+    // one word of the active bit set
+    private static final int BATCH_SIZE = 64;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final HugeAtomicIntArray values;
+    private final TerminationFlag terminationFlag;
+
+    static MemoryEstimation updateTaskMemoryEstimation() {
+        return MemoryEstimations.builder("UpdateTask")
+            // grows to the largest degree, which is below the node count unless there are parallel relationships
+            .rangePerGraphDimension("valueCounts", (dimensions, concurrency) -> MemoryRange.of(
+                Estimate.sizeOfIntArray(0),
+                Estimate.sizeOfIntArray(Math.min(dimensions.nodeCount(), dimensions.relCountUpperBound()) + 1)
+            ))
+            .build();
+    }
+
+    /**
+     * @param values the degrees of the nodes, replaced by the core values
+     */
+    HIndexCoreness(Graph graph, Concurrency concurrency, HugeAtomicIntArray values, TerminationFlag terminationFlag) {
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.values = values;
+        this.terminationFlag = terminationFlag;
+    }
+
+    /**
+     * @return the number of rounds until the values converged
+     */
+    int compute() {
+        long nodeCount = graph.nodeCount();
+        var active = HugeAtomicBitSet.create(nodeCount);
+        var nextActive = HugeAtomicBitSet.create(nodeCount);
+        active.set(0, nodeCount);
+
+        int rounds = 0;
+        while (!active.isEmpty()) {
+            terminationFlag.assertRunning();
+            rounds++;
+
+            var nodeIndex = new AtomicLong();
+            var currentActive = active;
+            var currentNextActive = nextActive;
+            var tasks = ParallelUtil.tasks(
+                concurrency,
+                () -> new UpdateTask(graph.concurrentCopy(), currentActive, currentNextActive, nodeIndex)
+            );
+            RunWithConcurrency.builder().tasks(tasks).concurrency(concurrency).run();
+
+            var tmp = active;
+            active = nextActive;
+            nextActive = tmp;
+            nextActive.clear();
+        }
+        return rounds;
+    }
+
+    private final class UpdateTask implements Runnable {
+
+        private final Graph localGraph;
+        private final HugeAtomicBitSet active;
+        private final HugeAtomicBitSet nextActive;
+        private final AtomicLong nodeIndex;
+        // number of neighbours per (capped) value
+        private int[] valueCounts;
+
+        UpdateTask(Graph localGraph, HugeAtomicBitSet active, HugeAtomicBitSet nextActive, AtomicLong nodeIndex) {
+            this.localGraph = localGraph;
+            this.active = active;
+            this.nextActive = nextActive;
+            this.nodeIndex = nodeIndex;
+            this.valueCounts = new int[0];
+        }
+
+        @Override
+        public void run() {
+            long nodeCount = localGraph.nodeCount();
+            long offset;
+            while ((offset = nodeIndex.getAndAdd(BATCH_SIZE)) < nodeCount) {
+                long end = offset + BATCH_SIZE;
+                long nodeId = active.nextSetBit(offset);
+                while (nodeId != -1 && nodeId < end) {
+                    update(nodeId);
+                    nodeId = active.nextSetBit(nodeId + 1);
+                }
+                // the batches up to the next active node are empty, the active nodes do not change within a round
+                long nextBatch = nodeId == -1 ? nodeCount : nodeId - nodeId % BATCH_SIZE;
+                nodeIndex.accumulateAndGet(nextBatch, Math::max);
+            }
+        }
+
+        private void update(long nodeId) {
+            int value = values.get(nodeId);
+            if (value == 0) {
+                return;
+            }
+            int hIndex = hIndex(nodeId, value);
+            if (hIndex < value) {
+                values.set(nodeId, hIndex);
+                localGraph.forEachRelationship(nodeId, (s, t) -> {
+                    if (values.get(t) > hIndex) {
+                        nextActive.set(t);
+                    }
+                    return true;
+                });
+            }
+        }
+
+        /**
+         * The largest h such that at least h neighbours have a value of at least h, which is at most `cap`.
+         */
+        private int hIndex(long nodeId, int cap) {
+            if (valueCounts.length <= cap) {
+                valueCounts = new int[cap + 1];
+            } else {
+                Arrays.fill(valueCounts, 0, cap + 1, 0);
+            }
+            localGraph.forEachRelationship(nodeId, (s, t) -> {
+                valueCounts[Math.min(values.get(t), cap)]++;
+                return true;
+            });
+
+            int neighbours = 0;
+            for (int h = cap; h > 0; h--) {
+                neighbours += valueCounts[h];
+                if (neighbours >= h) {
+                    return h;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -35,8 +35,19 @@ import org.neo4j.gds.termination.TerminationFlag;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Computes the core values either by parallel peeling or by h-index iteration, see {@link HIndexCoreness}.
+ * <p>
+ * Peeling needs one sweep over the remaining nodes per distinct core value, which is slow for graphs
+ * with a high degeneracy. A k-core needs more than k nodes with a degree of at least k, so the number of
+ * nodes with a degree of at least {@link #H_INDEX_DEGENERACY_BOUND} tells whether the degeneracy can be that
+ * high. If so, the h-index iteration is used, whose number of rounds does not grow with the degeneracy.
+ */
 public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
 
     public static final String KCORE_DESCRIPTION = "It computes the k-core values in a network";
@@ -48,16 +59,35 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
     //To find relevant vertices  at each step we need to iterate from 0... nodeCount
     //When only 2% nodes remain in the graph, we can create a smaller array to loop over these ones only
     static double REBUILD_CONSTANT = 0.02;
+    static final int H_INDEX_DEGENERACY_BOUND = 1024;
+
+    enum Strategy {
+        AUTO, PEELING, H_INDEX
+    }
+
+    private final Strategy strategy;
 
     public KCoreDecomposition(Graph graph, Concurrency concurrency, ProgressTracker progressTracker, TerminationFlag terminationFlag) {
         this(graph, concurrency, progressTracker, CHUNK_SIZE, terminationFlag);
     }
 
     KCoreDecomposition(Graph graph, Concurrency concurrency, ProgressTracker progressTracker, int chunkSize, TerminationFlag terminationFlag) {
+        this(graph, concurrency, progressTracker, chunkSize, Strategy.AUTO, terminationFlag);
+    }
+
+    KCoreDecomposition(
+        Graph graph,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        int chunkSize,
+        Strategy strategy,
+        TerminationFlag terminationFlag
+    ) {
         super(progressTracker);
         this.graph = graph;
         this.concurrency = concurrency;
         this.chunkSize = chunkSize;
+        this.strategy = strategy;
         this.terminationFlag = terminationFlag;
     }
 
@@ -74,6 +104,7 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
         int degeneracy = 0;
 
         AtomicLong degreeZeroNodes = new AtomicLong();
+        AtomicLong highDegreeNodes = new AtomicLong();
 
         ParallelUtil.parallelForEachNode(
             graph.nodeCount(),
@@ -86,6 +117,8 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
                 if (degree == 0) {
                     degreeZeroNodes.incrementAndGet();
                     coreInitilization = 0;
+                } else if (degree >= H_INDEX_DEGENERACY_BOUND) {
+                    highDegreeNodes.incrementAndGet();
                 }
                 core.set(v, coreInitilization);
 
@@ -95,14 +128,22 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
         AtomicLong remainingNodes = new AtomicLong(graph.nodeCount() - degreeZeroNodes.get());
         progressTracker.logProgress(degreeZeroNodes.get());
 
+        boolean useHIndex = strategy == Strategy.H_INDEX
+            || (strategy == Strategy.AUTO && highDegreeNodes.get() > H_INDEX_DEGENERACY_BOUND);
+        if (useHIndex) {
+            return computeByHIndex(currentDegrees, core, remainingNodes.get());
+        }
+
         AtomicLong nodeIndex = new AtomicLong(0);
 
         int scanningDegree = 1;
 
         var tasks = createTasks(currentDegrees, core, nodeIndex, remainingNodes);
         boolean hasRebuild = false;
+        int rounds = 0;
 
         while (remainingNodes.get() > 0) {
+            rounds++;
 
             if (!hasRebuild && remainingNodes.get() < rebuildLimit) {
                 rebuild(tasks, core, remainingNodes.get());
@@ -146,7 +187,34 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
         }
         progressTracker.endSubTask("KCoreDecomposition");
 
-        return new KCoreDecompositionResult(core, degeneracy);
+        return new KCoreDecompositionResult(core, degeneracy, rounds);
+    }
+
+    private KCoreDecompositionResult computeByHIndex(
+        HugeAtomicIntArray currentDegrees,
+        HugeIntArray core,
+        long remainingNodes
+    ) {
+        int rounds = new HIndexCoreness(graph, concurrency, currentDegrees, terminationFlag).compute();
+
+        var degeneracy = new AtomicInteger();
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            v -> {
+                int coreValue = currentDegrees.get(v);
+                core.set(v, coreValue);
+                if (coreValue > degeneracy.get()) {
+                    degeneracy.accumulateAndGet(coreValue, Math::max);
+                }
+            }
+        );
+        progressTracker.logProgress(remainingNodes);
+        progressTracker.logInfo(formatWithLocale("Core values converged after %d h-index rounds", rounds));
+        progressTracker.endSubTask("KCoreDecomposition");
+
+        return new KCoreDecompositionResult(core, degeneracy.get(), rounds);
     }
 
     private List<KCoreDecompositionTask> createTasks(
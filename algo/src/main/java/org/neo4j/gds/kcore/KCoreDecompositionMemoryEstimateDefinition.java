@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.kcore;
 
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
@@ -26,6 +27,8 @@ import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
 
+import java.util.List;
+
 public class KCoreDecompositionMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
     @Override
@@ -33,10 +36,12 @@ public class KCoreDecompositionMemoryEstimateDefinition implements MemoryEstimat
         var builder = MemoryEstimations.builder(KCoreDecomposition.class);
         builder
             .perNode("currentDegrees", HugeAtomicIntArray::memoryEstimation)
-            .perNode("cores", HugeIntArray::memoryEstimation)
+            .perNode("cores", HugeIntArray::memoryEstimation);
+
+        var peeling = MemoryEstimations.builder("peeling")
             .perThread("KCoreDecompositionTask", KCoreDecompositionTask.memoryEstimation());
 
-        builder.perGraphDimension("RebuildTask", ((graphDimensions, concurrency) -> {
+        peeling.perGraphDimension("RebuildTask", ((graphDimensions, concurrency) -> {
             var resizedNodeCount = Math.max(
                 1,
                 (long) Math.ceil(graphDimensions.nodeCount() * KCoreDecomposition.REBUILD_CONSTANT)
@@ -48,6 +53,14 @@ public class KCoreDecompositionMemoryEstimateDefinition implements MemoryEstimat
 
         }));
 
+        var hIndex = MemoryEstimations.builder("h-index")
+            .perNode("frontiers", nodeCount -> 2 * HugeAtomicBitSet.memoryEstimation(nodeCount))
+            .perThread("UpdateTask", HIndexCoreness.updateTaskMemoryEstimation())
+            .build();
+
+        // only one of both strategies runs
+        builder.max("strategy", List.of(peeling.build(), hIndex));
+
         return builder.build();
     }
 
@@ -21,4 +21,7 @@ package org.neo4j.gds.kcore;
 
 import org.neo4j.gds.collections.ha.HugeIntArray;
 
-public record KCoreDecompositionResult(HugeIntArray coreValues, int degeneracy){}
+/**
+ * @param rounds the number of sweeps of the peeling, or the number of rounds of the h-index iteration
+ */
+public record KCoreDecompositionResult(HugeIntArray coreValues, int degeneracy, int rounds){}
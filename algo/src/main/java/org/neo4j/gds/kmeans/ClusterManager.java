@@ -21,11 +21,13 @@ package org.neo4j.gds.kmeans;
 
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.Intersections;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.mem.Estimate;
 
+import java.util.Arrays;
 import java.util.List;
 
 abstract class ClusterManager {
@@ -37,6 +39,14 @@ abstract class ClusterManager {
     final int dimensions;
     final int k;
 
+    // how far each centroid moved in the last update and half the distance to its closest other centroid,
+    // used to maintain the per-node Hamerly bounds in `KmeansTask`
+    private final double[] centroidShifts;
+    private final double[] halfDistanceToClosestCentroid;
+    private double largestShift;
+    private double secondLargestShift;
+    private int largestShiftCentroid;
+
     int currentlyAssigned;
 
     ClusterManager(NodePropertyValues values, int dimensions, int k) {
@@ -46,6 +56,8 @@ abstract class ClusterManager {
         this.nodesInCluster = new long[k];
         this.currentlyAssigned = 0;
         this.shouldReset = new boolean[k];
+        this.centroidShifts = new double[k];
+        this.halfDistanceToClosestCentroid = new double[k];
     }
 
     int getCurrentlyAssigned() {
@@ -83,6 +95,74 @@ abstract class ClusterManager {
 
     abstract double[][] getCentroids();
 
+    /**
+     * Moves the centroid towards the node property by the given learning rate, as used by mini-batch K-Means.
+     */
+    abstract void moveTowards(int centroidId, long nodeId, double learningRate);
+
+    double[][] copyOfCentroids() {
+        var centroids = getCentroids();
+        var copy = new double[k][];
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            copy[centroidId] = centroids[centroidId].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Computes how far every centroid moved since `previousCentroids` and the distances between the current centroids.
+     * Both are needed to update the Hamerly bounds of the nodes without computing distances to all centroids.
+     */
+    void updateCentroidDistances(double[][] previousCentroids) {
+        var centroids = getCentroids();
+        largestShift = 0;
+        secondLargestShift = 0;
+        largestShiftCentroid = -1;
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            double shift = Math.sqrt(Intersections.sumSquareDelta(
+                previousCentroids[centroidId],
+                centroids[centroidId],
+                dimensions
+            ));
+            centroidShifts[centroidId] = shift;
+            if (shift > largestShift) {
+                secondLargestShift = largestShift;
+                largestShift = shift;
+                largestShiftCentroid = centroidId;
+            } else if (shift > secondLargestShift) {
+                secondLargestShift = shift;
+            }
+        }
+
+        Arrays.fill(halfDistanceToClosestCentroid, Double.MAX_VALUE);
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            for (int otherId = centroidId + 1; otherId < k; ++otherId) {
+                double halfDistance = 0.5 * Math.sqrt(Intersections.sumSquareDelta(
+                    centroids[centroidId],
+                    centroids[otherId],
+                    dimensions
+                ));
+                halfDistanceToClosestCentroid[centroidId] = Math.min(halfDistanceToClosestCentroid[centroidId], halfDistance);
+                halfDistanceToClosestCentroid[otherId] = Math.min(halfDistanceToClosestCentroid[otherId], halfDistance);
+            }
+        }
+    }
+
+    double centroidShift(int centroidId) {
+        return centroidShifts[centroidId];
+    }
+
+    /**
+     * The largest shift among all centroids except the given one, by which the distance to the second-closest centroid may have shrunk.
+     */
+    double largestShiftExcept(int centroidId) {
+        return centroidId == largestShiftCentroid ? secondLargestShift : largestShift;
+    }
+
+    double halfDistanceToClosestCentroid(int centroidId) {
+        return halfDistanceToClosestCentroid[centroidId];
+    }
+
     public long[] getNodesInCluster() {
         return nodesInCluster;
     }
@@ -109,11 +189,36 @@ abstract class ClusterManager {
         return community;
     }
 
+    /**
+     * Like {@link #findClosestCentroid(long)}, but also writes the distances to the closest
+     * and second-closest centroid into `closestDistances`.
+     */
+    int findClosestCentroid(long nodeId, double[] closestDistances) {
+        int community = 0;
+        double smallestDistance = Double.MAX_VALUE;
+        double secondSmallestDistance = Double.MAX_VALUE;
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            double distance = euclidean(nodeId, centroidId);
+            if (Double.compare(distance, smallestDistance) < 0) {
+                secondSmallestDistance = smallestDistance;
+                smallestDistance = distance;
+                community = centroidId;
+            } else if (Double.compare(distance, secondSmallestDistance) < 0) {
+                secondSmallestDistance = distance;
+            }
+        }
+        closestDistances[0] = smallestDistance;
+        closestDistances[1] = secondSmallestDistance;
+        return community;
+    }
+
     static MemoryEstimation memoryEstimation(int k, int fakeDimensions) {
         var builder = MemoryEstimations.builder(ClusterManager.class);
         builder
             .fixed("nodesInCluster", Estimate.sizeOfLongArray(k))
             .fixed("shouldReset", Estimate.sizeOfArray(k, 1L))
+            .fixed("centroidShifts", Estimate.sizeOfDoubleArray(k))
+            .fixed("halfDistanceToClosestCentroid", Estimate.sizeOfDoubleArray(k))
             .add("centroidsSize", MemoryEstimations.of("centroidsSize", MemoryRange.of(
                 Estimate.sizeOfFloatArray(fakeDimensions),
                 Estimate.sizeOfDoubleArray(fakeDimensions)
@@ -76,6 +76,15 @@ class DoubleClusterManager extends ClusterManager {
         return centroids;
     }
 
+    @Override
+    void moveTowards(int centroidId, long nodeId, double learningRate) {
+        double[] property = nodePropertyValues.doubleArrayValue(nodeId);
+        double[] centroid = centroids[centroidId];
+        for (int dimension = 0; dimension < dimensions; ++dimension) {
+            centroid[dimension] += (learningRate * (property[dimension] - centroid[dimension]));
+        }
+    }
+
     @Override
     public void assignSeededCentroids(List<List<Double>> seededCentroids) {
 
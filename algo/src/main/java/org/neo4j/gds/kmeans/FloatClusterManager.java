@@ -81,6 +81,15 @@ class FloatClusterManager extends ClusterManager {
         return Math.sqrt(Intersections.sumSquareDelta(left, right, right.length));
     }
 
+    @Override
+    void moveTowards(int centroidId, long nodeId, double learningRate) {
+        float[] property = nodePropertyValues.floatArrayValue(nodeId);
+        float[] centroid = centroids[centroidId];
+        for (int dimension = 0; dimension < dimensions; ++dimension) {
+            centroid[dimension] += (float) (learningRate * (property[dimension] - centroid[dimension]));
+        }
+    }
+
     @Override
     public void assignSeededCentroids(List<List<Double>> seededCentroids) {
 
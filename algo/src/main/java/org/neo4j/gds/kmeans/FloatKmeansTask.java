@@ -36,6 +36,7 @@ final class FloatKmeansTask extends KmeansTask {
         NodePropertyValues nodePropertyValues,
         HugeIntArray communities,
         HugeDoubleArray distanceFromCluster,
+        HugeDoubleArray lowerBounds,
         int k,
         int dimensions,
         Partition partition
@@ -46,6 +47,7 @@ final class FloatKmeansTask extends KmeansTask {
             nodePropertyValues,
             communities,
             distanceFromCluster,
+            lowerBounds,
             k,
             dimensions,
             partition
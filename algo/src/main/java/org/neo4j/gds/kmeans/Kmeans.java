@@ -20,6 +20,7 @@
 package org.neo4j.gds.kmeans;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.nodeproperties.ValueType;
@@ -57,6 +58,9 @@ public final class Kmeans extends Algorithm<KmeansResult> {
     private double averageSilhouette;
     private double bestDistance;
     private long[] nodesInCluster;
+    private int ranIterations;
+    private boolean didConverge;
+    private long skippedDistanceComputations;
 
 
     public static Kmeans createKmeans(Graph graph, KmeansParameters parameters, KmeansContext context, TerminationFlag terminationFlag) {
@@ -121,23 +125,35 @@ public final class Kmeans extends Algorithm<KmeansResult> {
             for (int i = 0; i < (int) graph.nodeCount(); ++i) {
                 bestCentroids[i] = nodePropertyValues.doubleArrayValue(i);
             }
-            return ImmutableKmeansResult.of(bestCommunities, distanceFromCentroid, bestCentroids, 0.0, silhouette, 0.0);
+            return ImmutableKmeansResult.of(
+                bestCommunities,
+                distanceFromCentroid,
+                bestCentroids,
+                0.0,
+                silhouette,
+                0.0,
+                0,
+                true,
+                0L
+            );
         }
         long nodeCount = graph.nodeCount();
 
         var currentCommunities = HugeIntArray.newArray(nodeCount);
         var currentDistanceFromCentroid = HugeDoubleArray.newArray(nodeCount);
+        // mini-batch iterations only look at a sample of the nodes and do not maintain bounds
+        var lowerBounds = parameters.isMiniBatch() ? null : HugeDoubleArray.newArray(nodeCount);
 
         bestDistance = Double.POSITIVE_INFINITY;
         bestCommunities.setAll(v -> UNASSIGNED);
 
         // We need this `if` because the task tree is different if the number of restart is > 1.
         if (parameters.numberOfRestarts() == 1) {
-            kMeans(nodeCount, currentCommunities, currentDistanceFromCentroid, 0);
+            kMeans(nodeCount, currentCommunities, currentDistanceFromCentroid, lowerBounds, 0);
         } else {
             for (int restartIteration = 0; restartIteration < parameters.numberOfRestarts(); ++restartIteration) {
                 progressTracker.beginSubTask(); // KMeans Iteration - start
-                kMeans(nodeCount, currentCommunities, currentDistanceFromCentroid, restartIteration);
+                kMeans(nodeCount, currentCommunities, currentDistanceFromCentroid, lowerBounds, restartIteration);
                 progressTracker.endSubTask(); // KMeans Iteration - end
             }
         }
@@ -152,7 +168,10 @@ public final class Kmeans extends Algorithm<KmeansResult> {
             bestCentroids,
             bestDistance,
             silhouette,
-            averageSilhouette
+            averageSilhouette,
+            ranIterations,
+            didConverge,
+            skippedDistanceComputations
         );
     }
 
@@ -160,6 +179,7 @@ public final class Kmeans extends Algorithm<KmeansResult> {
         long nodeCount,
         HugeIntArray currentCommunities,
         HugeDoubleArray currentDistanceFromCentroid,
+        @Nullable HugeDoubleArray lowerBounds,
         int restartIteration
     ) {
 
@@ -184,6 +204,7 @@ public final class Kmeans extends Algorithm<KmeansResult> {
                 nodePropertyValues,
                 currentCommunities,
                 currentDistanceFromCentroid,
+                lowerBounds,
                 parameters.k(),
                 dimensions,
                 partition
@@ -210,7 +231,32 @@ public final class Kmeans extends Algorithm<KmeansResult> {
         //Initialization do initial centroid computation and assignment
         initializeCentroids(clusterManager, sampler);
 
+        var convergence = parameters.isMiniBatch()
+            ? miniBatchIterations(clusterManager, currentCommunities, tasks)
+            : iterations(clusterManager, lowerBounds, tasks);
+
+        double averageDistanceFromCentroid = calculateDistancePhase(tasks);
+        updateBestSolution(
+            restartIteration,
+            clusterManager,
+            averageDistanceFromCentroid,
+            currentCommunities,
+            currentDistanceFromCentroid,
+            convergence,
+            tasks
+        );
+    }
+
+    private Convergence iterations(
+        ClusterManager clusterManager,
+        HugeDoubleArray lowerBounds,
+        List<KmeansTask> tasks
+    ) {
+        // no bounds are known yet, the initial assignment or the first iteration computes them
+        lowerBounds.setAll(v -> 0D);
+
         int iteration = 0;
+        boolean converged;
         progressTracker.beginSubTask(); // Main - start
         while (true) {
             progressTracker.beginSubTask(); // Iteration - start
@@ -230,23 +276,89 @@ public final class Kmeans extends Algorithm<KmeansResult> {
                     numberOfSwaps += task.getSwaps();
                 }
             }
+            var previousCentroids = clusterManager.copyOfCentroids();
             recomputeCentroids(clusterManager, tasks);
+            clusterManager.updateCentroidDistances(previousCentroids);
             progressTracker.endSubTask(); // Iteration - end
             if (kmeansIterationStopper.shouldQuit(numberOfSwaps, ++iteration)) {
+                converged = kmeansIterationStopper.hasConverged(numberOfSwaps, iteration);
                 break;
             }
 
         }
         progressTracker.endSubTask(); // Main - end
 
-        double averageDistanceFromCentroid = calculateDistancePhase(tasks);
-        updateBestSolution(
-            restartIteration,
-            clusterManager,
-            averageDistanceFromCentroid,
-            currentCommunities,
-            currentDistanceFromCentroid
-        );
+        return new Convergence(iteration, converged);
+    }
+
+    /**
+     * Mini-batch K-Means by Sculley: every iteration assigns a random sample of `batchSize` nodes
+     * and moves each centroid towards its sampled nodes with a per-centroid learning rate.
+     * Afterwards, all nodes are assigned once to their closest centroid and the centroids are recomputed.
+     */
+    private Convergence miniBatchIterations(
+        ClusterManager clusterManager,
+        HugeIntArray currentCommunities,
+        List<KmeansTask> tasks
+    ) {
+        long nodeCount = graph.nodeCount();
+        int batchSize = (int) Math.min(parameters.batchSize(), nodeCount);
+        var batch = new long[batchSize];
+        var batchCommunities = new int[batchSize];
+        var centroidCounts = new long[parameters.k()];
+
+        int iteration = 0;
+        boolean converged = false;
+        progressTracker.beginSubTask(); // Main - start
+        while (iteration < parameters.maxIterations() && !converged) {
+            progressTracker.beginSubTask(); // Iteration - start
+
+            for (int i = 0; i < batchSize; ++i) {
+                batch[i] = random.nextLong(nodeCount);
+            }
+            ParallelUtil.parallelForEachNode(
+                batchSize,
+                concurrency,
+                terminationFlag,
+                i -> batchCommunities[(int) i] = clusterManager.findClosestCentroid(batch[(int) i])
+            );
+
+            // the centroid updates depend on each other and are applied in sample order
+            long swaps = 0;
+            long reassignedNodes = 0;
+            for (int i = 0; i < batchSize; ++i) {
+                long nodeId = batch[i];
+                int community = batchCommunities[i];
+                int previousCommunity = currentCommunities.get(nodeId);
+                if (previousCommunity != UNASSIGNED) {
+                    reassignedNodes++;
+                    if (previousCommunity != community) {
+                        swaps++;
+                    }
+                }
+                currentCommunities.set(nodeId, community);
+                clusterManager.moveTowards(community, nodeId, 1D / ++centroidCounts[community]);
+            }
+            progressTracker.endSubTask(); // Iteration - end
+
+            ++iteration;
+            // nodes seen for the first time do not tell whether the centroids have settled
+            converged = iteration > 1 && reassignedNodes > 0
+                && swaps <= parameters.deltaThreshold() * reassignedNodes;
+        }
+        progressTracker.endSubTask(); // Main - end
+
+        progressTracker.beginSubTask(); // Final assignment - start
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+        recomputeCentroids(clusterManager, tasks);
+        progressTracker.logProgress(nodeCount);
+        progressTracker.endSubTask(); // Final assignment - end
+
+        return new Convergence(iteration, converged);
     }
 
     private void initializeCentroids(ClusterManager clusterManager, KmeansSampler sampler) {
@@ -385,11 +497,14 @@ public final class Kmeans extends Algorithm<KmeansResult> {
         ClusterManager clusterManager,
         double averageDistanceFromCentroid,
         HugeIntArray currentCommunities,
-        HugeDoubleArray currentDistanceFromCentroid
+        HugeDoubleArray currentDistanceFromCentroid,
+        Convergence convergence,
+        Iterable<KmeansTask> tasks
     ) {
         if (restartIteration >= 1) {
             if (averageDistanceFromCentroid < bestDistance) {
                 bestDistance = averageDistanceFromCentroid;
+                updateConvergence(convergence, tasks);
                 ParallelUtil.parallelForEachNode(
                     graph.nodeCount(),
                     concurrency,
@@ -409,6 +524,7 @@ public final class Kmeans extends Algorithm<KmeansResult> {
             distanceFromCentroid = currentDistanceFromCentroid;
             bestCentroids = clusterManager.getCentroids();
             bestDistance = averageDistanceFromCentroid;
+            updateConvergence(convergence, tasks);
             if (parameters.computeSilhouette()) {
                 nodesInCluster = clusterManager.getNodesInCluster();
             }
@@ -416,4 +532,15 @@ public final class Kmeans extends Algorithm<KmeansResult> {
         }
     }
 
+    private void updateConvergence(Convergence convergence, Iterable<KmeansTask> tasks) {
+        ranIterations = convergence.ranIterations();
+        didConverge = convergence.didConverge();
+        skippedDistanceComputations = 0;
+        for (KmeansTask task : tasks) {
+            skippedDistanceComputations += task.getSkippedDistanceComputations();
+        }
+    }
+
+    private record Convergence(int ranIterations, boolean didConverge) {}
+
 }
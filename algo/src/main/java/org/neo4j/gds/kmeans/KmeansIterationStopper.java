@@ -36,9 +36,11 @@ public class KmeansIterationStopper {
         if (iteration == maxIterations) {
             return true;
         }
-        if (iteration > 1 && swaps <= swapsBound) { //in the first iteration, it should never care about swaps  as it starts from a blank state
-            return true;
-        }
-        return false;
+        return hasConverged(swaps, iteration);
+    }
+
+    boolean hasConverged(long swaps, int iteration) {
+        //in the first iteration, it should never care about swaps  as it starts from a blank state
+        return iteration > 1 && swaps <= swapsBound;
     }
 }
@@ -53,6 +53,17 @@ public class KmeansMemoryEstimateDefinition implements MemoryEstimateDefinition
             ))
             .perThread("KMeansTask", KmeansTask.memoryEstimation(parameters.k(), fakeLength));
 
+        if (!parameters.isMiniBatch()) {
+            builder.perNode("lowerBounds", HugeDoubleArray::memoryEstimation);
+        } else {
+            builder.fixed(
+                "miniBatch",
+                Estimate.sizeOfLongArray(parameters.batchSize())
+                    + Estimate.sizeOfIntArray(parameters.batchSize())
+                    + Estimate.sizeOfLongArray(parameters.k())
+            );
+        }
+
         if (parameters.computeSilhouette()) {
             builder.perNode("silhouette", HugeDoubleArray::memoryEstimation);
         }
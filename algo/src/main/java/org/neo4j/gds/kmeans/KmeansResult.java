@@ -39,4 +39,20 @@ public interface KmeansResult {
     HugeDoubleArray silhouette();
 
     double averageSilhouette();
+
+    /**
+     * The number of iterations of the returned clustering, counting sampled batches in mini-batch mode.
+     */
+    int ranIterations();
+
+    /**
+     * Whether the returned clustering stopped because fewer than `deltaThreshold` of the nodes changed their cluster,
+     * rather than by reaching `maxIterations`.
+     */
+    boolean didConverge();
+
+    /**
+     * The number of node-centroid distances the returned clustering did not need to compute thanks to the bounds.
+     */
+    long skippedDistanceComputations();
 }
@@ -34,7 +34,12 @@ public abstract class KmeansTask implements Runnable {
     private final Partition partition;
     final NodePropertyValues nodePropertyValues;
 
+    // during the iterations, also the upper bound on the distance to the assigned centroid
     private final HugeDoubleArray distanceFromCentroid;
+    // lower bound on the distance to all other centroids, `null` if the bounds are not maintained
+    private final HugeDoubleArray lowerBounds;
+    private final double[] closestDistances;
+    private long skippedDistanceComputations;
 
     final HugeIntArray communities;
     final long[] communitySizes;
@@ -56,10 +61,15 @@ public abstract class KmeansTask implements Runnable {
         return swaps;
     }
 
+    long getSkippedDistanceComputations() {
+        return skippedDistanceComputations;
+    }
+
     static MemoryEstimation memoryEstimation(int k, int fakeDimensions) {
         var builder = MemoryEstimations.builder(KmeansTask.class);
         builder
             .fixed("communitySizes", Estimate.sizeOfLongArray(k))
+            .fixed("closestDistances", Estimate.sizeOfDoubleArray(2))
             .add("communityCoordinateSums", MemoryEstimations.of("communityCoordinateSums", MemoryRange.of(
                 k * Estimate.sizeOfFloatArray(fakeDimensions),
                 k * Estimate.sizeOfDoubleArray(fakeDimensions)
@@ -77,6 +87,7 @@ public abstract class KmeansTask implements Runnable {
         NodePropertyValues nodePropertyValues,
         HugeIntArray communities,
         HugeDoubleArray distanceFromCentroid,
+        HugeDoubleArray lowerBounds,
         int k,
         int dimensions,
         Partition partition
@@ -85,6 +96,8 @@ public abstract class KmeansTask implements Runnable {
         this.nodePropertyValues = nodePropertyValues;
         this.communities = communities;
         this.distanceFromCentroid = distanceFromCentroid;
+        this.lowerBounds = lowerBounds;
+        this.closestDistances = new double[2];
         this.k = k;
         this.dimensions = dimensions;
         this.partition = partition;
@@ -106,6 +119,33 @@ public abstract class KmeansTask implements Runnable {
         int k,
         int dimensions,
         Partition partition
+    ) {
+        return createTask(
+            samplerType,
+            clusterManager,
+            nodePropertyValues,
+            communities,
+            distanceFromCentroid,
+            null,
+            k,
+            dimensions,
+            partition
+        );
+    }
+
+    /**
+     * Creates a task that skips distance computations using Hamerly's bounds if `lowerBounds` is given.
+     */
+    static KmeansTask createTask(
+        SamplerType samplerType,
+        ClusterManager clusterManager,
+        NodePropertyValues nodePropertyValues,
+        HugeIntArray communities,
+        HugeDoubleArray distanceFromCentroid,
+        HugeDoubleArray lowerBounds,
+        int k,
+        int dimensions,
+        Partition partition
     ) {
         if (clusterManager instanceof DoubleClusterManager) {
             return new DoubleKmeansTask(
@@ -114,6 +154,7 @@ public abstract class KmeansTask implements Runnable {
                 nodePropertyValues,
                 communities,
                 distanceFromCentroid,
+                lowerBounds,
                 k,
                 dimensions,
                 partition
@@ -125,6 +166,7 @@ public abstract class KmeansTask implements Runnable {
             nodePropertyValues,
             communities,
             distanceFromCentroid,
+            lowerBounds,
             k,
             dimensions,
             partition
@@ -141,9 +183,11 @@ public abstract class KmeansTask implements Runnable {
         reset();
 
         for (long nodeId = startNode; nodeId < endNode; nodeId++) {
-            int closestCommunity = clusterManager.findClosestCentroid(nodeId);
-            communitySizes[closestCommunity]++;
             int previousCommunity = communities.get(nodeId);
+            int closestCommunity = lowerBounds == null
+                ? clusterManager.findClosestCentroid(nodeId)
+                : findClosestCentroidWithBounds(nodeId, previousCommunity);
+            communitySizes[closestCommunity]++;
             if (closestCommunity != previousCommunity) {
                 swaps++;
             }
@@ -157,6 +201,40 @@ public abstract class KmeansTask implements Runnable {
         }
     }
 
+    /**
+     * Hamerly's pruning: the assigned centroid is still the closest one if the upper bound on its distance
+     * is below the lower bound on the distance to any other centroid, or below half the distance
+     * between the assigned centroid and its closest other centroid.
+     * Only if both bounds fail, the distances to all centroids are computed.
+     */
+    private int findClosestCentroidWithBounds(long nodeId, int community) {
+        // unassigned nodes have no bounds yet
+        if (community >= 0) {
+            double upperBound = distanceFromCentroid.get(nodeId) + clusterManager.centroidShift(community);
+            double lowerBound = lowerBounds.get(nodeId) - clusterManager.largestShiftExcept(community);
+            double bound = Math.max(clusterManager.halfDistanceToClosestCentroid(community), lowerBound);
+            if (upperBound < bound) {
+                distanceFromCentroid.set(nodeId, upperBound);
+                lowerBounds.set(nodeId, lowerBound);
+                skippedDistanceComputations += k;
+                return community;
+            }
+            // tighten the upper bound and try again
+            upperBound = clusterManager.euclidean(nodeId, community);
+            if (upperBound < bound) {
+                distanceFromCentroid.set(nodeId, upperBound);
+                lowerBounds.set(nodeId, lowerBound);
+                skippedDistanceComputations += k - 1;
+                return community;
+            }
+        }
+
+        int closestCommunity = clusterManager.findClosestCentroid(nodeId, closestDistances);
+        distanceFromCentroid.set(nodeId, closestDistances[0]);
+        lowerBounds.set(nodeId, closestDistances[1]);
+        return closestCommunity;
+    }
+
     public double getDistanceFromCentroidNormalized() {
         return distance / communities.size();
     }
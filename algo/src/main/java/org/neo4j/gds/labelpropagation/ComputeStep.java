@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.labelpropagation;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.primitive.PrimitiveLongIterable;
@@ -32,26 +33,39 @@ final class ComputeStep implements Step {
     private static final double DEFAULT_WEIGHT = 1.0;
 
     private final HugeLongArray existingLabels;
-    private final PrimitiveLongIterable nodes;
+    private PrimitiveLongIterable nodes;
     private final ProgressTracker progressTracker;
     private final ComputeStepConsumer consumer;
     private final Graph graph;
+    // only the nodes in the frontier are recomputed, if present
+    private final @Nullable Frontier frontier;
 
-    private boolean didChange = true;
+    // negative until the first run
+    private long changedLabels = -1L;
 
     ComputeStep(
             Graph graph,
             NodePropertyValues nodeWeights,
             ProgressTracker progressTracker,
             HugeLongArray existingLabels,
-            PrimitiveLongIterable nodes) {
+            PrimitiveLongIterable nodes,
+            @Nullable Frontier frontier) {
         this.existingLabels = existingLabels;
         this.progressTracker = progressTracker;
         this.graph = graph.concurrentCopy();
         this.nodes = nodes;
+        this.frontier = frontier;
         this.consumer = new ComputeStepConsumer(nodeWeights, existingLabels);
     }
 
+    /**
+     * Lets the semi-synchronous schedule reuse the step, together with its graph copy and votes,
+     * for the nodes of the next color.
+     */
+    void withNodes(PrimitiveLongIterable nodes) {
+        this.nodes = nodes;
+    }
+
     @Override
     public Step next() {
         return this;
@@ -59,25 +73,35 @@ final class ComputeStep implements Step {
 
     @Override
     public void run() {
-        this.didChange = iterateAll(nodes.iterator());
+        this.changedLabels = iterateAll(nodes.iterator());
     }
 
     @Override
     public boolean didConverge() {
-        return !this.didChange;
+        return this.changedLabels == 0L;
+    }
+
+    @Override
+    public long changedLabels() {
+        return Math.max(this.changedLabels, 0L);
     }
 
-    private boolean iterateAll(PrimitiveIterator.OfLong nodeIds) {
-        boolean didChange = false;
+    private long iterateAll(PrimitiveIterator.OfLong nodeIds) {
+        long changedLabels = 0L;
         while (nodeIds.hasNext()) {
             long nodeId = nodeIds.nextLong();
-            didChange = compute(nodeId, didChange);
+            if ((frontier == null || frontier.visit(nodeId)) && compute(nodeId)) {
+                changedLabels++;
+                if (frontier != null) {
+                    frontier.activateVoters(graph, nodeId);
+                }
+            }
             progressTracker.logProgress(graph.degree(nodeId));
         }
-        return didChange;
+        return changedLabels;
     }
 
-    private boolean compute(long nodeId, boolean didChange) {
+    private boolean compute(long nodeId) {
         consumer.clearVotes();
         long label = existingLabels.get(nodeId);
         graph.forEachRelationship(nodeId, DEFAULT_WEIGHT, consumer);
@@ -86,7 +110,7 @@ final class ComputeStep implements Step {
             existingLabels.set(nodeId, newLabel);
             return true;
         }
-        return didChange;
+        return false;
     }
 
     @Override
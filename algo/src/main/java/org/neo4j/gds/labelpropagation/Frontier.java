@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.labelpropagation;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.relationships.RelationshipConsumer;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+
+/**
+ * The nodes whose label needs to be recomputed because the label of one of the nodes they vote on has changed.
+ * <p>
+ * A node activated during a round is recomputed later in the same round if it has not been visited yet,
+ * and in the next round in any case. Visiting a node removes it from the next round, as the
+ * recomputation sees all labels that changed before the visit.
+ */
+final class Frontier {
+
+    private final boolean inverse;
+    private final RelationshipConsumer activateTarget;
+    private HugeAtomicBitSet current;
+    private HugeAtomicBitSet next;
+
+    /**
+     * @param inverse whether the voters of a node are its incoming neighbours, which is the case for directed graphs
+     */
+    Frontier(long nodeCount, boolean inverse) {
+        this.inverse = inverse;
+        this.current = HugeAtomicBitSet.create(nodeCount);
+        this.next = HugeAtomicBitSet.create(nodeCount);
+        this.activateTarget = (source, target) -> {
+            current.set(target);
+            next.set(target);
+            return true;
+        };
+        current.set(0, nodeCount);
+    }
+
+    boolean visit(long nodeId) {
+        if (!current.get(nodeId)) {
+            return false;
+        }
+        next.clear(nodeId);
+        return true;
+    }
+
+    void activateVoters(Graph graph, long nodeId) {
+        if (inverse) {
+            graph.forEachInverseRelationship(nodeId, activateTarget);
+        } else {
+            graph.forEachRelationship(nodeId, activateTarget);
+        }
+    }
+
+    void nextRound() {
+        var visited = current;
+        current = next;
+        next = visited;
+        next.clear();
+    }
+
+    long size() {
+        return current.cardinality();
+    }
+}
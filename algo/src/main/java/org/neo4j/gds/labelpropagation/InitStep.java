@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.labelpropagation;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
@@ -35,6 +36,7 @@ final class InitStep implements Step {
     private final NodePropertyValues nodeWeights;
     private final ProgressTracker progressTracker;
     private final long maxLabelId;
+    private final @Nullable Frontier frontier;
 
     InitStep(
             Graph graph,
@@ -43,7 +45,8 @@ final class InitStep implements Step {
             PrimitiveLongIterable nodes,
             HugeLongArray existingLabels,
             ProgressTracker progressTracker,
-            long maxLabelId) {
+            long maxLabelId,
+            @Nullable Frontier frontier) {
         this.nodePropertyValues = nodePropertyValues;
         this.existingLabels = existingLabels;
         this.nodes = nodes;
@@ -51,6 +54,7 @@ final class InitStep implements Step {
         this.nodeWeights = nodeWeights;
         this.progressTracker = progressTracker;
         this.maxLabelId = maxLabelId;
+        this.frontier = frontier;
     }
 
     @Override
@@ -82,6 +86,11 @@ final class InitStep implements Step {
         return false;
     }
 
+    @Override
+    public long changedLabels() {
+        return 0L;
+    }
+
     @Override
     public Step next() {
         return new ComputeStep(
@@ -89,7 +98,8 @@ final class InitStep implements Step {
                 nodeWeights,
                 progressTracker,
                 existingLabels,
-                nodes
+                nodes,
+                frontier
         );
     }
 }
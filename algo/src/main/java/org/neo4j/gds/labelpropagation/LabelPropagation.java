@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.labelpropagation;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.algorithms.community.CommunityCompanion;
 import org.neo4j.gds.api.DefaultValue;
@@ -27,26 +28,38 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.primitive.PrimitiveLongCollections;
 import org.neo4j.gds.collections.primitive.PrimitiveLongIterable;
+import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.NullPropertyMap.DoubleNullPropertyMap;
 import org.neo4j.gds.core.loading.NullPropertyMap.LongNullPropertyMap;
 import org.neo4j.gds.core.utils.LazyBatchCollection;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.k1coloring.K1Coloring;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_LABEL;
 
 public class LabelPropagation extends Algorithm<LabelPropagationResult> {
 
     static final String LABEL_PROPAGATION_DESCRIPTION =
         "The Label Propagation algorithm is a fast algorithm for finding communities in a graph.";
+    public static final int COLORING_MAX_ITERATIONS = 10;
+    private static final long MIN_COLOR_BATCH_SIZE = 1_000L;
     private final long nodeCount;
     private final NodePropertyValues nodePropertyValues;
     private final NodePropertyValues nodeWeights;
@@ -109,21 +122,37 @@ public class LabelPropagation extends Algorithm<LabelPropagationResult> {
 
         long ranIterations = 0L;
         boolean didConverge = false;
+        var changedLabels = new long[parameters.maxIterations()];
 
-        List<StepRunner> stepRunners = stepRunners();
+        var frontier = parameters.useFrontier() ? frontier() : null;
+        var initSteps = initSteps(frontier);
+        // only the chosen schedule creates compute steps
+        List<StepRunner> stepRunners = parameters.semiSynchronous()
+            ? List.of()
+            : initSteps.stream().map(initStep -> new StepRunner(initStep.next())).toList();
+        var colorSchedule = parameters.semiSynchronous()
+            ? colorSchedule(frontier)
+            : null;
 
         progressTracker.beginSubTask();
         while (ranIterations < parameters.maxIterations()) {
             progressTracker.beginSubTask();
-            RunWithConcurrency.builder()
-                .concurrency(parameters.concurrency())
-                .tasks(stepRunners)
-                .waitTime(1L, MICROSECONDS)
-                .terminationFlag(terminationFlag)
-                .executor(executor)
-                .run();
+            long changedInIteration = colorSchedule != null
+                ? runColorSteps(colorSchedule)
+                : runStepRunners(stepRunners);
+            changedLabels[(int) ranIterations] = changedInIteration;
             ++ranIterations;
-            didConverge = stepRunners.stream().allMatch(StepRunner::didConverge);
+            didConverge = changedInIteration == 0L;
+            if (frontier != null) {
+                frontier.nextRound();
+                progressTracker.logInfo(formatWithLocale(
+                    "Changed %d labels, %d nodes to recompute",
+                    changedInIteration,
+                    frontier.size()
+                ));
+            } else {
+                progressTracker.logInfo(formatWithLocale("Changed %d labels", changedInIteration));
+            }
             progressTracker.endSubTask();
             if (didConverge) {
                 break;
@@ -132,12 +161,84 @@ public class LabelPropagation extends Algorithm<LabelPropagationResult> {
         progressTracker.endSubTask();
 
         stepRunners.forEach(StepRunner::release);
+        if (colorSchedule != null) {
+            colorSchedule.steps().forEach(ComputeStep::release);
+        }
         progressTracker.endSubTask();
 
-        return new LabelPropagationResult(labels, didConverge, ranIterations);
+        return new LabelPropagationResult(
+            labels,
+            didConverge,
+            ranIterations,
+            Arrays.copyOf(changedLabels, (int) ranIterations)
+        );
+    }
+
+    private long runStepRunners(List<StepRunner> stepRunners) {
+        RunWithConcurrency.builder()
+            .concurrency(parameters.concurrency())
+            .tasks(stepRunners)
+            .waitTime(1L, MICROSECONDS)
+            .terminationFlag(terminationFlag)
+            .executor(executor)
+            .run();
+        return stepRunners.stream().mapToLong(StepRunner::changedLabels).sum();
     }
 
-    private List<StepRunner> stepRunners() {
+    /**
+     * Nodes of the same color are not adjacent, so they can update their labels at the same time
+     * without seeing each other's updates. Processing one color after the other avoids
+     * the oscillating labels of fully synchronous updates, independent of the thread scheduling.
+     */
+    private long runColorSteps(ColorSchedule colorSchedule) {
+        var colorOffsets = colorSchedule.colorOffsets();
+        var steps = colorSchedule.steps();
+        long changedLabels = 0L;
+        for (int color = 0; color + 1 < colorOffsets.length; color++) {
+            long colorStart = colorOffsets[color];
+            long colorEnd = colorOffsets[color + 1];
+            if (colorStart == colorEnd) {
+                continue;
+            }
+            long batchSize = colorBatchSize(colorEnd - colorStart);
+            int stepCount = 0;
+            for (long start = colorStart; start < colorEnd; start += batchSize) {
+                steps.get(stepCount++).withNodes(colorBatch(
+                    colorSchedule.nodesByColor(),
+                    start,
+                    Math.min(start + batchSize, colorEnd)
+                ));
+            }
+            var colorSteps = steps.subList(0, stepCount);
+            RunWithConcurrency.builder()
+                .concurrency(parameters.concurrency())
+                .tasks(colorSteps)
+                .terminationFlag(terminationFlag)
+                .executor(executor)
+                .run();
+            for (ComputeStep step : colorSteps) {
+                changedLabels += step.changedLabels();
+            }
+        }
+        return changedLabels;
+    }
+
+    private @Nullable Frontier frontier() {
+        if (graph.characteristics().isUndirected()) {
+            return new Frontier(nodeCount, false);
+        }
+        if (graph.characteristics().isInverseIndexed()) {
+            return new Frontier(nodeCount, true);
+        }
+        progressTracker.logWarning(
+            "The frontier requires an undirected graph or an inverse index, recomputing all nodes in every iteration.");
+        return null;
+    }
+
+    /**
+     * Runs the initial labelling and returns the init steps, one per batch of nodes.
+     */
+    private List<InitStep> initSteps(@Nullable Frontier frontier) {
         long nodeCount = graph.nodeCount();
         long batchSize = ParallelUtil.adjustedBatchSize(nodeCount, this.batchSize);
 
@@ -148,19 +249,18 @@ public class LabelPropagation extends Algorithm<LabelPropagationResult> {
         );
 
         int threads = nodeBatches.size();
-        List<StepRunner> tasks = new ArrayList<>(threads);
+        List<InitStep> tasks = new ArrayList<>(threads);
         for (PrimitiveLongIterable iter : nodeBatches) {
-            InitStep initStep = new InitStep(
+            tasks.add(new InitStep(
                 graph,
                 nodePropertyValues,
                 nodeWeights,
                 iter,
                 labels,
                 progressTracker,
-                maxLabelId
-            );
-            StepRunner task = new StepRunner(initStep);
-            tasks.add(task);
+                maxLabelId,
+                frontier
+            ));
         }
         progressTracker.beginSubTask();
         RunWithConcurrency.builder()
@@ -174,6 +274,137 @@ public class LabelPropagation extends Algorithm<LabelPropagationResult> {
         return tasks;
     }
 
+    /**
+     * Colors the graph with {@link K1Coloring} and sorts the nodes by color.
+     * The compute steps are shared by all colors, a color uses at most one step per thread.
+     */
+    private ColorSchedule colorSchedule(@Nullable Frontier frontier) {
+        var colors = new K1Coloring(
+            graph,
+            COLORING_MAX_ITERATIONS,
+            this.batchSize,
+            parameters.concurrency(),
+            executor,
+            progressTracker,
+            terminationFlag
+        ).compute().colors();
+
+        // counting sort of the nodes by color, each partition counts and places its own nodes
+        var maxColorPartitions = nodePartitions(parameters.concurrency());
+        var maxColors = new long[maxColorPartitions.size()];
+        runPerPartition(maxColorPartitions, (partition, index) -> {
+            long maxColor = 0L;
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                maxColor = Math.max(maxColor, colors.get(nodeId));
+            }
+            maxColors[index] = maxColor;
+        });
+        int colorCount = (int) Arrays.stream(maxColors).max().orElse(0L) + 1;
+
+        // limit the partitions, so that their counts hold at most one entry per node
+        var partitions = nodePartitions(new Concurrency((int) Math.max(
+            1L,
+            Math.min(parameters.concurrency().value(), nodeCount / colorCount)
+        )));
+        var positions = new long[partitions.size()][];
+        runPerPartition(partitions, (partition, index) -> {
+            var counts = new long[colorCount];
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                counts[(int) colors.get(nodeId)]++;
+            }
+            positions[index] = counts;
+        });
+
+        // turn the counts into the first position of each partition within each color
+        var offsets = new long[colorCount + 1];
+        long position = 0L;
+        for (int color = 0; color < colorCount; color++) {
+            offsets[color] = position;
+            for (long[] partitionPositions : positions) {
+                long count = partitionPositions[color];
+                partitionPositions[color] = position;
+                position += count;
+            }
+        }
+        offsets[colorCount] = position;
+
+        var nodesByColor = HugeLongArray.newArray(nodeCount);
+        runPerPartition(partitions, (partition, index) -> {
+            var partitionPositions = positions[index];
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                nodesByColor.set(partitionPositions[(int) colors.get(nodeId)]++, nodeId);
+            }
+        });
+
+        long maxStepCount = 0L;
+        for (int color = 0; color < colorCount; color++) {
+            long colorSize = offsets[color + 1] - offsets[color];
+            if (colorSize > 0L) {
+                maxStepCount = Math.max(maxStepCount, ParallelUtil.threadCount(colorBatchSize(colorSize), colorSize));
+            }
+        }
+        var steps = new ArrayList<ComputeStep>((int) maxStepCount);
+        for (long i = 0; i < maxStepCount; i++) {
+            steps.add(new ComputeStep(
+                graph,
+                nodeWeights,
+                progressTracker,
+                labels,
+                colorBatch(nodesByColor, 0L, 0L),
+                frontier
+            ));
+        }
+        return new ColorSchedule(nodesByColor, offsets, steps);
+    }
+
+    private List<Partition> nodePartitions(Concurrency concurrency) {
+        return PartitionUtils.rangePartition(concurrency, nodeCount, Function.identity(), Optional.empty());
+    }
+
+    private void runPerPartition(List<Partition> partitions, ObjIntConsumer<Partition> task) {
+        var tasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            var partition = partitions.get(i);
+            int index = i;
+            tasks.add(() -> task.accept(partition, index));
+        }
+        RunWithConcurrency.builder()
+            .concurrency(parameters.concurrency())
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executor)
+            .run();
+    }
+
+    private long colorBatchSize(long colorSize) {
+        return ParallelUtil.adjustedBatchSize(colorSize, parameters.concurrency(), MIN_COLOR_BATCH_SIZE);
+    }
+
+    private static PrimitiveLongIterable colorBatch(HugeLongArray nodesByColor, long batchStart, long batchEnd) {
+        return () -> new PrimitiveIterator.OfLong() {
+            private long index = batchStart;
+
+            @Override
+            public boolean hasNext() {
+                return index < batchEnd;
+            }
+
+            @Override
+            public long nextLong() {
+                return nodesByColor.get(index++);
+            }
+        };
+    }
+
+    /**
+     * @param colorOffsets the nodes of color {@code c} are at {@code [colorOffsets[c], colorOffsets[c + 1])} in {@code nodesByColor}
+     */
+    private record ColorSchedule(HugeLongArray nodesByColor, long[] colorOffsets, List<ComputeStep> steps) {
+    }
+
     void withBatchSize(int batchSize) {
         this.batchSize = batchSize;
     }
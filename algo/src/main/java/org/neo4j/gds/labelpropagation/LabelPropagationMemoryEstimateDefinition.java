@@ -20,6 +20,9 @@
 package org.neo4j.gds.labelpropagation;
 
 import com.carrotsearch.hppc.LongDoubleScatterMap;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.k1coloring.K1ColoringMemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.mem.MemoryEstimation;
@@ -32,27 +35,62 @@ import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
 
 public class LabelPropagationMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final LabelPropagationParameters parameters;
+
+    public LabelPropagationMemoryEstimateDefinition(LabelPropagationParameters parameters) {
+        this.parameters = parameters;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
-        return MemoryEstimations.builder(LabelPropagation.class)
-            .perNode("labels", HugeLongArray::memoryEstimation)
-            .perThread("votes", MemoryEstimations.builder()
+        var builder = MemoryEstimations.builder(LabelPropagation.class)
+            .perNode("labels", HugeLongArray::memoryEstimation);
+
+        if (!parameters.semiSynchronous()) {
+            builder.perThread("votes", MemoryEstimations.builder()
                 .field("init step", InitStep.class)
                 .field("compute step", ComputeStep.class)
                 .field("step runner", StepRunner.class)
                 .field("compute step consumer", ComputeStepConsumer.class)
                 .field("votes container", LongDoubleScatterMap.class)
-                .rangePerNode("votes", nodeCount -> {
-                    long minBufferSize = Estimate.sizeOfEmptyOpenHashContainer();
-                    long maxBufferSize = Estimate.sizeOfOpenHashContainer(nodeCount);
-                    if (maxBufferSize < minBufferSize) {
-                        maxBufferSize = minBufferSize;
-                    }
-                    long min = sizeOfLongArray(minBufferSize) + sizeOfDoubleArray(minBufferSize);
-                    long max = sizeOfLongArray(maxBufferSize) + sizeOfDoubleArray(maxBufferSize);
-                    return MemoryRange.of(min, max);
-                }).build())
-            .build();
+                .rangePerNode("votes", LabelPropagationMemoryEstimateDefinition::votes)
+                .build());
+        }
+
+        if (parameters.useFrontier()) {
+            builder.add("frontier", MemoryEstimations.builder(Frontier.class)
+                .perNode("current", HugeAtomicBitSet::memoryEstimation)
+                .perNode("next", HugeAtomicBitSet::memoryEstimation)
+                .build());
+        }
+
+        if (parameters.semiSynchronous()) {
+            builder.add("coloring", new K1ColoringMemoryEstimateDefinition().memoryEstimation())
+                // the counts of all partitions hold at most one entry per node
+                .perNode("color counts", Estimate::sizeOfLongArray)
+                .perNode("nodes by color", HugeLongArray::memoryEstimation)
+                .perThread("color votes", MemoryEstimations.builder()
+                    .field("init step", InitStep.class)
+                    .field("compute step", ComputeStep.class)
+                    .field("graph copy", HugeGraph.class)
+                    .field("compute step consumer", ComputeStepConsumer.class)
+                    .field("votes container", LongDoubleScatterMap.class)
+                    .rangePerNode("votes", LabelPropagationMemoryEstimateDefinition::votes)
+                    .build());
+        }
+
+        return builder.build();
+    }
+
+    private static MemoryRange votes(long nodeCount) {
+        long minBufferSize = Estimate.sizeOfEmptyOpenHashContainer();
+        long maxBufferSize = Estimate.sizeOfOpenHashContainer(nodeCount);
+        if (maxBufferSize < minBufferSize) {
+            maxBufferSize = minBufferSize;
+        }
+        long min = sizeOfLongArray(minBufferSize) + sizeOfDoubleArray(minBufferSize);
+        long max = sizeOfLongArray(maxBufferSize) + sizeOfDoubleArray(maxBufferSize);
+        return MemoryRange.of(min, max);
     }
 
 }
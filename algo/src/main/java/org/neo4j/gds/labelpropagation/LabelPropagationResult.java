@@ -21,4 +21,12 @@ package org.neo4j.gds.labelpropagation;
 
 import org.neo4j.gds.collections.ha.HugeLongArray;
 
-public record LabelPropagationResult(HugeLongArray labels, boolean didConverge, long ranIterations) {}
+/**
+ * @param changedLabels the number of nodes that changed their label, per iteration
+ */
+public record LabelPropagationResult(
+    HugeLongArray labels,
+    boolean didConverge,
+    long ranIterations,
+    long[] changedLabels
+) {}
@@ -25,6 +25,8 @@ interface Step extends Runnable {
 
     boolean didConverge();
 
+    long changedLabels();
+
     Step next();
 
     default void release() {}
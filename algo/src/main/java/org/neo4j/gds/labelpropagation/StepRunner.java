@@ -31,6 +31,10 @@ final class StepRunner implements Runnable {
         return this.current.didConverge();
     }
 
+    long changedLabels() {
+        return this.current.changedLabels();
+    }
+
     @Override
     public void run() {
         current.run();
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.leiden;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+
+/**
+ * Limits the first Leiden iteration to the part of the graph affected by changed relationships,
+ * when the seed communities are the result of a previous run (Delta-Screening).
+ * <p>
+ * A community is changed if it contains an endpoint of a changed relationship, a node without a seed community,
+ * or if a node moved into or out of it during the first local move phase. The first local move phase starts
+ * with the members of the changed communities only, and only changed communities are refined.
+ * Every other community is aggregated as a whole.
+ */
+final class DeltaScreening {
+
+    private final HugeAtomicBitSet changedCommunities;
+    private final HugeAtomicBitSet affectedNodes;
+    private final HugeLongArray communitiesBeforeLocalMove;
+
+    private DeltaScreening(
+        HugeAtomicBitSet changedCommunities,
+        HugeAtomicBitSet affectedNodes,
+        HugeLongArray communitiesBeforeLocalMove
+    ) {
+        this.changedCommunities = changedCommunities;
+        this.affectedNodes = affectedNodes;
+        this.communitiesBeforeLocalMove = communitiesBeforeLocalMove;
+    }
+
+    /**
+     * @param changedRelationships the relationships that changed since the seed communities were computed,
+     *                             on the same nodes as the graph
+     * @param communities          the starting communities, derived from the seed values
+     */
+    static DeltaScreening screen(
+        Graph graph,
+        Graph changedRelationships,
+        NodePropertyValues seedValues,
+        HugeLongArray communities
+    ) {
+        var nodeCount = graph.nodeCount();
+        var changedCommunities = HugeAtomicBitSet.create(nodeCount);
+
+        changedRelationships.forEachNode(nodeId -> {
+            if (seedValues.longValue(nodeId) < 0) {
+                changedCommunities.set(communities.get(nodeId));
+            }
+            changedRelationships.forEachRelationship(nodeId, (source, target) -> {
+                changedCommunities.set(communities.get(source));
+                changedCommunities.set(communities.get(target));
+                return true;
+            });
+            return true;
+        });
+
+        var affectedNodes = HugeAtomicBitSet.create(nodeCount);
+        graph.forEachNode(nodeId -> {
+            if (changedCommunities.get(communities.get(nodeId))) {
+                affectedNodes.set(nodeId);
+            }
+            return true;
+        });
+
+        return new DeltaScreening(changedCommunities, affectedNodes, communities.copyOf(nodeCount));
+    }
+
+    /**
+     * The nodes to start the first local move phase with.
+     */
+    HugeAtomicBitSet affectedNodes() {
+        return affectedNodes;
+    }
+
+    /**
+     * The communities to refine after the first local move phase.
+     */
+    HugeAtomicBitSet changedCommunities(HugeLongArray communitiesAfterLocalMove) {
+        for (long nodeId = 0; nodeId < communitiesAfterLocalMove.size(); nodeId++) {
+            long communityBefore = communitiesBeforeLocalMove.get(nodeId);
+            long communityAfter = communitiesAfterLocalMove.get(nodeId);
+            if (communityBefore != communityAfter) {
+                changedCommunities.set(communityBefore);
+                changedCommunities.set(communityAfter);
+            }
+        }
+        return changedCommunities;
+    }
+}
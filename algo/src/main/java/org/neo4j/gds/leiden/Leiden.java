@@ -52,6 +52,7 @@ public class Leiden extends Algorithm<LeidenResult> {
     private double modularity;
     private final LeidenDendrogramManager dendrogramManager;
     private final Optional<NodePropertyValues> seedValues;
+    private final Optional<Graph> changedRelationships;
     private final ExecutorService executorService;
     private final Concurrency concurrency;
     private final long randomSeed;
@@ -70,8 +71,45 @@ public class Leiden extends Algorithm<LeidenResult> {
         Concurrency concurrency,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        this(
+            graph,
+            maxIterations,
+            initialGamma,
+            theta,
+            includeIntermediateCommunities,
+            randomSeed,
+            seedValues,
+            null,
+            tolerance,
+            concurrency,
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    /**
+     * @param changedRelationships relationships that changed since the seed communities were computed.
+     *                             If present, the first iteration only revisits the affected communities.
+     */
+    public Leiden(
+        Graph graph,
+        int maxIterations,
+        double initialGamma,
+        double theta,
+        boolean includeIntermediateCommunities,
+        long randomSeed,
+        @Nullable NodePropertyValues seedValues,
+        @Nullable Graph changedRelationships,
+        double tolerance,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
     ) {
         super(progressTracker);
+        if (changedRelationships != null && seedValues == null) {
+            throw new IllegalArgumentException("Changed relationships can only be screened for seeded communities.");
+        }
         this.rootGraph = graph;
         this.direction = rootGraph.schema().direction();
         this.maxIterations = maxIterations;
@@ -89,6 +127,7 @@ public class Leiden extends Algorithm<LeidenResult> {
             terminationFlag
         );
         this.seedValues = Optional.ofNullable(seedValues);
+        this.changedRelationships = Optional.ofNullable(changedRelationships);
         this.modularities = new double[maxIterations];
         this.modularity = 0d;
         this.tolerance = tolerance;
@@ -108,6 +147,14 @@ public class Leiden extends Algorithm<LeidenResult> {
             localMoveCommunities
         );
 
+        var startingCommunities = localMoveCommunities;
+        var deltaScreening = changedRelationships.map(changed -> DeltaScreening.screen(
+            rootGraph,
+            changed,
+            seedValues.orElseThrow(),
+            startingCommunities
+        ));
+
         // volume -> the sum of the weights of a nodes outgoing relationships
         var localMoveNodeVolumes = HugeDoubleArray.newArray(nodeCount);
         // the sum of the node volume for all nodes in a community
@@ -131,6 +178,9 @@ public class Leiden extends Algorithm<LeidenResult> {
         progressTracker.beginSubTask("Iteration");
 
         for (iteration = 0; iteration < maxIterations; iteration++) {
+            // only the first iteration runs on the root graph, which the changed relationships refer to
+            var screening = iteration == 0 ? deltaScreening : Optional.<DeltaScreening>empty();
+
             // 1. LOCAL MOVE PHASE - over the singleton localMoveCommunities
             progressTracker.beginSubTask("Local Move");
             var localMovePhase = LocalMovePhase.create(
@@ -139,7 +189,8 @@ public class Leiden extends Algorithm<LeidenResult> {
                 localMoveNodeVolumes,
                 localMoveCommunityVolumes,
                 gamma,
-                concurrency
+                concurrency,
+                screening.map(DeltaScreening::affectedNodes)
             );
 
             localMovePhase.run();
@@ -198,7 +249,10 @@ public class Leiden extends Algorithm<LeidenResult> {
                     randomSeed,
                     concurrency,
                     executorService,
-                    progressTracker
+                    progressTracker,
+                    screening.isPresent()
+                        ? Optional.of(screening.get().changedCommunities(localMoveCommunities))
+                        : Optional.empty()
                 );
                 var refinementPhaseResult = refinementPhase.run();
                 var refinedCommunities = refinementPhaseResult.communities();
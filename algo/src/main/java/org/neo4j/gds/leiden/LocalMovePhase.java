@@ -31,6 +31,7 @@ import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 
 import java.util.ArrayList;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 final class LocalMovePhase {
@@ -62,6 +63,8 @@ final class LocalMovePhase {
     private final double gamma;
 
     private final Concurrency concurrency;
+    // the nodes to start with, all nodes if empty
+    private final Optional<HugeAtomicBitSet> initialNodes;
 
     long swaps;
 
@@ -72,6 +75,30 @@ final class LocalMovePhase {
         HugeDoubleArray communityVolumes,
         double gamma,
         Concurrency concurrency
+    ) {
+        return create(
+            graph,
+            seedCommunities,
+            nodeVolumes,
+            communityVolumes,
+            gamma,
+            concurrency,
+            Optional.empty()
+        );
+    }
+
+    /**
+     * Creates a local move phase that only starts with the given nodes in the queue.
+     * Neighbours of moved nodes are queued as usual, so the moves can still spread over the whole graph.
+     */
+    static LocalMovePhase create(
+        Graph graph,
+        HugeLongArray seedCommunities,
+        HugeDoubleArray nodeVolumes,
+        HugeDoubleArray communityVolumes,
+        double gamma,
+        Concurrency concurrency,
+        Optional<HugeAtomicBitSet> initialNodes
     ) {
         return new LocalMovePhase(
             graph,
@@ -79,7 +106,8 @@ final class LocalMovePhase {
             nodeVolumes,
             communityVolumes,
             gamma,
-            concurrency
+            concurrency,
+            initialNodes
         );
     }
 
@@ -89,7 +117,8 @@ final class LocalMovePhase {
         HugeDoubleArray nodeVolumes,
         HugeDoubleArray communityVolumes,
         double gamma,
-        Concurrency concurrency
+        Concurrency concurrency,
+        Optional<HugeAtomicBitSet> initialNodes
     ) {
         this.graph = graph;
         this.currentCommunities = seedCommunities;
@@ -98,6 +127,7 @@ final class LocalMovePhase {
         this.communityVolumes = communityVolumes;
         this.swaps = 0;
         this.concurrency = concurrency;
+        this.initialNodes = initialNodes;
     }
 
     /**
@@ -111,14 +141,21 @@ final class LocalMovePhase {
         });
         HugeLongArray globalQueue = HugeLongArray.newArray(graph.nodeCount());
         AtomicLong globalQueueIndex = new AtomicLong();
-        AtomicLong globalQueueSize = new AtomicLong(graph.nodeCount());
-
-        HugeAtomicBitSet nodeInQueue = HugeAtomicBitSet.create(graph.nodeCount());
-        nodeInQueue.set(0, graph.nodeCount());
-        graph.forEachNode(v -> {
-            globalQueue.set(v, v);
-            return true;
-        });
+        AtomicLong globalQueueSize = new AtomicLong();
+
+        HugeAtomicBitSet nodeInQueue;
+        if (initialNodes.isPresent()) {
+            nodeInQueue = initialNodes.get();
+            nodeInQueue.forEachSetBit(v -> globalQueue.set(globalQueueSize.getAndIncrement(), v));
+        } else {
+            nodeInQueue = HugeAtomicBitSet.create(graph.nodeCount());
+            nodeInQueue.set(0, graph.nodeCount());
+            graph.forEachNode(v -> {
+                globalQueue.set(v, v);
+                return true;
+            });
+            globalQueueSize.set(graph.nodeCount());
+        }
         var tasks = new ArrayList<LocalMoveTask>();
         for (int i = 0; i < concurrency.value(); ++i) {
             tasks.add(new LocalMoveTask(
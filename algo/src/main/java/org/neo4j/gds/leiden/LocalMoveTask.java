@@ -19,18 +19,15 @@
  */
 package org.neo4j.gds.leiden;
 
-import com.carrotsearch.hppc.LongDoubleHashMap;
-import com.carrotsearch.hppc.LongDoubleMap;
+import org.neo4j.gds.algorithms.community.CommunityWeightAccumulator;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
-import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayQueue;
-import org.neo4j.gds.mem.Estimate;
 
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -38,13 +35,7 @@ public class LocalMoveTask implements Runnable {
 
     static MemoryEstimation estimation() {
         return MemoryEstimations.builder()
-            .rangePerNode(
-                "community map",
-                (nodeCount) -> MemoryRange.of(
-                    Estimate.sizeOfLongDoubleHashMap(50),
-                    Estimate.sizeOfLongDoubleHashMap(Math.max(50, nodeCount))
-                )
-            )
+            .rangePerNode("community weights", CommunityWeightAccumulator::memoryEstimation)
             .add("local queue", HugeLongArrayQueue.memoryEstimation())
             .build();
     }
@@ -52,7 +43,7 @@ public class LocalMoveTask implements Runnable {
     private static final long LOCAL_QUEUE_BOUND = 1000;
     private final Graph graph;
     private final AtomicLong globalQueueIndex;
-    private final LongDoubleMap reuseCommunityMap = new LongDoubleHashMap(50);
+    private final CommunityWeightAccumulator communityWeights;
     private final HugeDoubleArray nodeVolumes;
 
     private final HugeLongArray globalQueue;
@@ -89,6 +80,7 @@ public class LocalMoveTask implements Runnable {
         this.currentCommunities = currentCommunities;
         this.nodeInQueue = nodeInQueue;
         this.localQueue = HugeLongArrayQueue.newQueue(graph.nodeCount());
+        this.communityWeights = new CommunityWeightAccumulator(graph.nodeCount());
         this.gamma = gamma;
         this.phase = LocalMoveTaskPhase.RUN;
 
@@ -142,11 +134,11 @@ public class LocalMoveTask implements Runnable {
 
     }
 
-    private void findCommunityRelationshipWeights(long nodeId, LongDoubleMap communityMap) {
+    private void findCommunityRelationshipWeights(long nodeId) {
         graph.forEachRelationship(nodeId, 1.0, (s, t, relationshipWeight) -> {
             long tCommunity = currentCommunities.get(t);
 
-            communityMap.addTo(tCommunity, relationshipWeight);
+            communityWeights.add(tCommunity, relationshipWeight);
 
             return true;
         });
@@ -192,15 +184,14 @@ public class LocalMoveTask implements Runnable {
         double currentBestGain,
         double currentNodeVolume,
         long bestCommunityId,
-        long communityId,
-        LongDoubleMap communityMap
+        long communityId
     ) {
 
-        for (var entry : communityMap) {
+        for (int i = 0; i < communityWeights.size(); i++) {
 
-            long candidateCommunityId = entry.key;
+            long candidateCommunityId = communityWeights.communityAt(i);
 
-            double candidateCommunityRelationshipsWeight = entry.value;
+            double candidateCommunityRelationshipsWeight = communityWeights.get(candidateCommunityId);
 
             if (candidateCommunityId == communityId) {
                 continue;
@@ -230,30 +221,23 @@ public class LocalMoveTask implements Runnable {
         nodeInQueue.clear(nodeId);
         long currentNodeCommunityId = currentCommunities.get(nodeId);
         double currentNodeVolume = nodeVolumes.get(nodeId);
-        LongDoubleMap communityMap;
-        if (graph.degree(nodeId) <= 50) {
-            communityMap = reuseCommunityMap;
-            communityMap.clear();
-        } else {
-            communityMap = new LongDoubleHashMap(graph.degree(nodeId));
-        }
+        communityWeights.clear();
         // Remove the current node volume from its community volume
 
         double modifiedCommunityVolume = communityVolumes.get(currentNodeCommunityId) - currentNodeVolume;
 
-        findCommunityRelationshipWeights(nodeId, communityMap);
+        findCommunityRelationshipWeights(nodeId);
 
         // Compute the "modularity" for the current node and current community
         double currentBestGain =
-            Math.max(0, communityMap.get(currentNodeCommunityId)) -
+            Math.max(0, communityWeights.get(currentNodeCommunityId)) -
             currentNodeVolume * modifiedCommunityVolume * gamma;
 
         long bestCommunityId = findBestCommunity(
             currentBestGain,
             currentNodeVolume,
             currentNodeCommunityId,
-            currentNodeCommunityId,
-            communityMap
+            currentNodeCommunityId
         );
 
         tryToMoveNode(
@@ -28,6 +28,7 @@ import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.Estimate;
@@ -56,6 +57,9 @@ final class RefinementPhase {
     private final ExecutorService executorService;
     private final HugeDoubleArray nextCommunityProbabilities;
     private final ProgressTracker progressTracker;
+    // the communities to refine, all communities if empty
+    private final Optional<HugeAtomicBitSet> changedCommunities;
+
     static RefinementPhase create(
         Graph workingGraph,
         HugeLongArray originalCommunities,
@@ -67,6 +71,39 @@ final class RefinementPhase {
         Concurrency concurrency,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        return create(
+            workingGraph,
+            originalCommunities,
+            nodeVolumes,
+            communityVolumes,
+            gamma,
+            theta,
+            seed,
+            concurrency,
+            executorService,
+            progressTracker,
+            Optional.empty()
+        );
+    }
+
+    /**
+     * Creates a refinement phase that only refines the given communities.
+     * Every other community is kept as a single refined community, identified by the community id.
+     * This relies on the community id being one of its member nodes, as it is for seeded communities.
+     */
+    static RefinementPhase create(
+        Graph workingGraph,
+        HugeLongArray originalCommunities,
+        HugeDoubleArray nodeVolumes,
+        HugeDoubleArray communityVolumes,
+        double gamma,
+        double theta,
+        long seed,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        Optional<HugeAtomicBitSet> changedCommunities
     ) {
         var encounteredCommunities = HugeLongArray.newArray(workingGraph.nodeCount());
         var encounteredCommunitiesWeights = HugeDoubleArray.newArray(workingGraph.nodeCount());
@@ -86,9 +123,11 @@ final class RefinementPhase {
             seed,
             concurrency,
             executorService,
-            progressTracker
+            progressTracker,
+            changedCommunities
         );
     }
+
     private RefinementPhase(
         Graph workingGraph,
         HugeLongArray originalCommunities,
@@ -102,7 +141,8 @@ final class RefinementPhase {
         long seed,
         Concurrency concurrency,
         ExecutorService executorService,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        Optional<HugeAtomicBitSet> changedCommunities
     ) {
         this.workingGraph = workingGraph;
         this.originalCommunities = originalCommunities;
@@ -120,6 +160,7 @@ final class RefinementPhase {
         this.concurrency = concurrency;
         this.executorService = executorService;
         this.progressTracker = progressTracker;
+        this.changedCommunities = changedCommunities;
     }
 
     static MemoryEstimation memoryEstimation() {
@@ -143,6 +184,8 @@ final class RefinementPhase {
         BitSet singleton = new BitSet(workingGraph.nodeCount());
         singleton.set(0, workingGraph.nodeCount());
 
+        changedCommunities.ifPresent(changed -> keepUnchangedCommunities(changed, refinedCommunities, singleton));
+
         var random = new Random(seed);
 
         MutableLong maximumCommunityId = new MutableLong(-1);
@@ -168,6 +211,31 @@ final class RefinementPhase {
         );
     }
 
+    private void keepUnchangedCommunities(
+        HugeAtomicBitSet changedCommunities,
+        HugeLongArray refinedCommunities,
+        BitSet singleton
+    ) {
+        workingGraph.forEachNode(nodeId -> {
+            long communityId = originalCommunities.get(nodeId);
+            if (!changedCommunities.get(communityId)) {
+                refinedCommunities.set(nodeId, communityId);
+                // no singleton is left that could be merged
+                singleton.clear(nodeId);
+                singleton.clear(communityId);
+                communityVolumesAfterMerge.set(nodeId, 0D);
+            }
+            return true;
+        });
+        workingGraph.forEachNode(nodeId -> {
+            long communityId = originalCommunities.get(nodeId);
+            if (!changedCommunities.get(communityId)) {
+                communityVolumesAfterMerge.addTo(communityId, nodeVolumes.get(nodeId));
+            }
+            return true;
+        });
+    }
+
     private void computeRelationshipsBetweenCommunities() {
         List<RefinementBetweenRelationshipCounter> tasks = PartitionUtils.degreePartition(
             workingGraph,
@@ -20,18 +20,8 @@
 package org.neo4j.gds.louvain;
 
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
-import org.neo4j.gds.ImmutableRelationshipProjections;
-import org.neo4j.gds.NodeProjections;
-import org.neo4j.gds.Orientation;
-import org.neo4j.gds.RelationshipProjection;
-import org.neo4j.gds.RelationshipProjections;
-import org.neo4j.gds.RelationshipType;
-import org.neo4j.gds.api.CSRGraphStoreFactory;
-import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.algorithms.community.CommunityGraphCoarsening;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.core.Aggregation;
-import org.neo4j.gds.core.GraphDimensions;
-import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
@@ -53,34 +43,7 @@ public class LouvainMemoryEstimateDefinition implements MemoryEstimateDefinition
                 "modularityOptimization()",
                 new ModularityOptimizationMemoryEstimateDefinition().memoryEstimation()
             )
-            .rangePerGraphDimension("subGraph", (graphDimensions, concurrency) -> {
-                ImmutableGraphDimensions.Builder dimensionsBuilder = ImmutableGraphDimensions
-                    .builder()
-                    .from(graphDimensions);
-
-                GraphDimensions sparseDimensions = dimensionsBuilder.build();
-
-                // Louvain creates a new graph every iteration, this graph has one relationship property
-                RelationshipProjections relationshipProjections = ImmutableRelationshipProjections.builder()
-                    .putProjection(
-                        RelationshipType.of("AGGREGATE"),
-                        RelationshipProjection.builder()
-                            .type("AGGREGATE")
-                            .orientation(Orientation.UNDIRECTED)
-                            .aggregation(Aggregation.SUM)
-                            .addProperty("prop", "prop", DefaultValue.of(0.0))
-                            .build()
-                    )
-                    .build();
-
-                long maxGraphSize = CSRGraphStoreFactory
-                    .getMemoryEstimation(NodeProjections.all(), relationshipProjections, false)
-                    .estimate(sparseDimensions, concurrency)
-                    .memoryUsage()
-                    .max;
-
-                return MemoryRange.of(1L, maxGraphSize); // rough estimate of graph size
-            })
+            .add("subGraph", CommunityGraphCoarsening.memoryEstimation())
             .rangePerNode("dendrograms", (nodeCount) -> MemoryRange.of(
                 HugeLongArray.memoryEstimation(nodeCount),
                 HugeLongArray.memoryEstimation(nodeCount) * (parameters.includeIntermediateCommunities()
@@ -21,8 +21,10 @@ package org.neo4j.gds.modularityoptimization;
 
 import com.carrotsearch.hppc.cursors.LongLongCursor;
 import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.algorithms.community.CommunityWeightAccumulator;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
@@ -82,6 +84,8 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     private HugeLongArray reverseSeedCommunityMapping;
     private HugeDoubleArray cumulativeNodeWeights;
     private HugeAtomicDoubleArray communityWeightUpdates;
+    // one per task, reused for every color
+    private CommunityWeightAccumulator[] communityInfluences;
 
     private ModularityColorArray modularityColorArray;
 
@@ -234,6 +238,10 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         this.cumulativeNodeWeights = HugeDoubleArray.newArray(nodeCount);
 
         this.communityWeightUpdates = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        this.communityInfluences = new CommunityWeightAccumulator[concurrency.value()];
+        for (int i = 0; i < concurrency.value(); i++) {
+            communityInfluences[i] = new CommunityWeightAccumulator(nodeCount);
+        }
 
         var initTasks = PartitionUtils.rangePartition(concurrency, nodeCount, (partition) ->
                 new InitTask(
@@ -362,7 +370,8 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         long currentStandingPosition,
         long colorCount
     ) {
-
+        // the partitioning creates at most one task per thread
+        var taskIndex = new MutableInt();
         return PartitionUtils.rangePartition(
             concurrency,
             colorCount,
@@ -377,6 +386,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
                 communityWeightUpdates,
                 modularityManager,
                 modularityColorArray,
+                communityInfluences[taskIndex.getAndIncrement()],
                 progressTracker
             ),
             Optional.of(minBatchSize)
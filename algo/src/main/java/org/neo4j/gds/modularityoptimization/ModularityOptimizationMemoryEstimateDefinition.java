@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.modularityoptimization;
 
+import org.neo4j.gds.algorithms.community.CommunityWeightAccumulator;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
@@ -46,13 +47,7 @@ public class ModularityOptimizationMemoryEstimateDefinition implements MemoryEst
             )
             .perNode("communityWeightUpdates", HugeAtomicDoubleArray::memoryEstimation)
             .perThread("ModularityOptimizationTask", MemoryEstimations.builder()
-                .rangePerNode(
-                    "communityInfluences",
-                    (nodeCount) -> MemoryRange.of(
-                        Estimate.sizeOfLongDoubleHashMap(50),
-                        Estimate.sizeOfLongDoubleHashMap(Math.max(50, nodeCount))
-                    )
-                )
+                .rangePerNode("communityInfluences", CommunityWeightAccumulator::memoryEstimation)
                 .build()
             )
             .build();
@@ -19,11 +19,9 @@
  */
 package org.neo4j.gds.modularityoptimization;
 
-import com.carrotsearch.hppc.LongDoubleHashMap;
-import com.carrotsearch.hppc.LongDoubleMap;
-import com.carrotsearch.hppc.cursors.LongDoubleCursor;
 import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.algorithms.community.CommunityWeightAccumulator;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
@@ -43,6 +41,7 @@ final class ModularityOptimizationTask implements Runnable {
     private final HugeDoubleArray cumulativeNodeWeights;
     private final ModularityManager modularityManager;
     private final HugeAtomicDoubleArray communityWeightUpdates;
+    private final CommunityWeightAccumulator communityInfluences;
 
     private final ModularityColorArray modularityColorArray;
 
@@ -57,6 +56,7 @@ final class ModularityOptimizationTask implements Runnable {
         HugeAtomicDoubleArray communityWeightUpdates,
         ModularityManager modularityManager,
         ModularityColorArray modularityColorArray,
+        CommunityWeightAccumulator communityInfluences,
         ProgressTracker progressTracker
     ) {
         this.modularityColorArray = modularityColorArray;
@@ -67,6 +67,7 @@ final class ModularityOptimizationTask implements Runnable {
         this.nextCommunities = nextCommunities;
         this.modularityManager = modularityManager;
         this.communityWeightUpdates = communityWeightUpdates;
+        this.communityInfluences = communityInfluences;
         this.totalNodeWeight = totalNodeWeight;
         this.cumulativeNodeWeights = cumulativeNodeWeights;
         this.progressTracker = progressTracker;
@@ -74,7 +75,6 @@ final class ModularityOptimizationTask implements Runnable {
 
     @Override
     public void run() {
-        LongDoubleMap reuseCommunityInfluences = new LongDoubleHashMap(50);
         var relationshipsProcessed = new MutableLong();
 
         partition.consume(indexId -> {
@@ -83,13 +83,7 @@ final class ModularityOptimizationTask implements Runnable {
             long currentCommunity = currentCommunities.get(nodeId);
             final int degree = localGraph.degree(nodeId);
 
-            LongDoubleMap communityInfluences;
-            if (degree < 50) {
-                reuseCommunityInfluences.clear();
-                communityInfluences = reuseCommunityInfluences;
-            } else {
-                communityInfluences = new LongDoubleHashMap(degree);
-            }
+            communityInfluences.clear();
             MutableDouble selfWeight = new MutableDouble(0.0D);
 
             // calculate influence of this node w.r.t its neighbours communities
@@ -98,7 +92,7 @@ final class ModularityOptimizationTask implements Runnable {
                     selfWeight.add(w);
                 }
                 long targetCommunity = currentCommunities.get(t);
-                communityInfluences.addTo(targetCommunity, w);
+                communityInfluences.add(targetCommunity, w);
                 return true;
             });
 
@@ -112,12 +106,12 @@ final class ModularityOptimizationTask implements Runnable {
             double ay;
 
             long communityCandidate;
-            for (LongDoubleCursor cursor : communityInfluences) {
-                communityCandidate = cursor.key;
+            for (int i = 0; i < communityInfluences.size(); i++) {
+                communityCandidate = communityInfluences.communityAt(i);
 
                 if (currentCommunity != communityCandidate) {
                     ay = modularityManager.getCommunityWeight(communityCandidate);
-                    eiy = cursor.value;
+                    eiy = communityInfluences.get(communityCandidate);
                     currentGain =
                         (eiy - eix) / (totalNodeWeight / 2.0)
                         + (2 * cumulativeNodeWeight * ax - 2 * cumulativeNodeWeight * ay) / Math.pow(
@@ -134,8 +128,10 @@ final class ModularityOptimizationTask implements Runnable {
 
 
             nextCommunities.set(nodeId, nextCommunity);
-            communityWeightUpdates.update(currentCommunity, agg -> agg - cumulativeNodeWeight);
-            communityWeightUpdates.update(nextCommunity, agg -> agg + cumulativeNodeWeight);
+            if (nextCommunity != currentCommunity) {
+                communityWeightUpdates.getAndAdd(currentCommunity, -cumulativeNodeWeight);
+                communityWeightUpdates.getAndAdd(nextCommunity, cumulativeNodeWeight);
+            }
 
             relationshipsProcessed.add(degree);
         });
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongToDoubleFunction;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Updates the PageRank scores of a previous run after relationships have been added or removed.
+ * <p>
+ * The previous scores are read from the seed property. Changing the relationships of a node {@code u}
+ * changes its contribution to its old and new neighbours, which leaves a residual at those neighbours.
+ * The residuals are then pushed forward along the relationships, in the way of Gauss-Southwell iterations,
+ * until no residual is larger than the tolerance. Only nodes with a large enough residual are processed,
+ * so the work is proportional to the part of the graph whose scores actually change.
+ * <p>
+ * Nodes without a seed value are treated as new nodes. Changes of nodes that are no longer part of the graph
+ * are ignored. The relationship weights of the changes must match the ones of the graph, if the graph is weighted.
+ */
+public final class IncrementalPageRank extends Algorithm<PageRankResult> {
+
+    private final Graph graph;
+    private final PageRankConfig config;
+    private final LongSet sourceNodes;
+    private final LongToDoubleFunction degreeFunction;
+    private final ExecutorService executorService;
+
+    private final double dampingFactor;
+    private final double tolerance;
+    private final double alpha;
+
+    private HugeDoubleArray residuals;
+    private BitSet queued;
+    private LongArrayList nextFrontier;
+
+    public IncrementalPageRank(
+        Graph graph,
+        PageRankConfig config,
+        LongSet sourceNodes,
+        LongToDoubleFunction degreeFunction,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (config.seedProperty() == null) {
+            throw new IllegalArgumentException("Incremental PageRank requires a `seedProperty` with the previous scores");
+        }
+        this.graph = graph;
+        this.config = config;
+        this.sourceNodes = sourceNodes;
+        this.degreeFunction = degreeFunction;
+        this.executorService = executorService;
+        this.dampingFactor = config.dampingFactor();
+        this.tolerance = config.tolerance();
+        this.alpha = 1 - dampingFactor;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public PageRankResult compute() {
+        progressTracker.beginSubTask();
+
+        long nodeCount = graph.nodeCount();
+        var scores = HugeDoubleArray.newArray(nodeCount);
+        residuals = HugeDoubleArray.newArray(nodeCount);
+        queued = new BitSet(nodeCount);
+        nextFrontier = new LongArrayList();
+
+        var previousScores = graph.nodeProperties(config.seedProperty());
+        ParallelUtil.parallelForEachNode(nodeCount, config.concurrency(), terminationFlag, nodeId -> {
+            double score = previousScores.doubleValue(nodeId);
+            scores.set(nodeId, Double.isNaN(score) ? 0 : score);
+        });
+
+        // new nodes start from their initial value, like in the first iteration of PageRank
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (Double.isNaN(previousScores.doubleValue(nodeId)) && (sourceNodes.isEmpty() || sourceNodes.contains(nodeId))) {
+                addResidual(nodeId, alpha);
+            }
+        }
+
+        seedResiduals(scores);
+
+        int iterations = 0;
+        var frontier = new LongArrayList();
+        while (!nextFrontier.isEmpty() && iterations < config.maxIterations()) {
+            terminationFlag.assertRunning();
+
+            var tmp = frontier;
+            frontier = nextFrontier;
+            nextFrontier = tmp;
+            nextFrontier.clear();
+
+            var buffer = frontier.buffer;
+            for (int i = 0; i < frontier.size(); i++) {
+                push(buffer[i], scores);
+            }
+            progressTracker.logProgress(frontier.size());
+            iterations++;
+        }
+
+        boolean didConverge = nextFrontier.isEmpty();
+        progressTracker.logInfo(formatWithLocale(
+            "Updated scores in %d iterations, converged: %s",
+            iterations,
+            didConverge
+        ));
+
+        PageRankAlgorithm.scaleScores(scores, config, PageRankVariant.PAGE_RANK, nodeCount, executorService);
+
+        progressTracker.endSubTask();
+        return new PageRankResult(scores, iterations, didConverge);
+    }
+
+    /**
+     * A node {@code u} contributed {@code d * x(u) * w / deg(u)} to each of its targets.
+     * The residual of a target is the difference between the new and the old contribution.
+     */
+    private void seedResiduals(HugeDoubleArray scores) {
+        boolean weighted = graph.hasRelationshipProperty();
+        var addedWeights = new LongDoubleHashMap();
+        var removedWeights = new LongDoubleHashMap();
+        sumWeights(config.addedRelationships(), addedWeights, weighted);
+        sumWeights(config.removedRelationships(), removedWeights, weighted);
+
+        var changedNodes = new LongHashSet();
+        changedNodes.addAll(addedWeights.keys());
+        changedNodes.addAll(removedWeights.keys());
+
+        // the previous inverse degree of the changed nodes, 0 for nodes without relationships
+        var previousInverseDegrees = new LongDoubleHashMap(changedNodes.size());
+        for (var cursor : changedNodes) {
+            long node = cursor.value;
+            double degree = degreeFunction.applyAsDouble(node);
+            double previousDegree = degree - addedWeights.getOrDefault(node, 0) + removedWeights.getOrDefault(node, 0);
+            double inverseDegree = degree > 0 ? 1 / degree : 0;
+            double previousInverseDegree = previousDegree > 0 ? 1 / previousDegree : 0;
+            previousInverseDegrees.put(node, previousInverseDegree);
+
+            double contribution = dampingFactor * scores.get(node);
+            if (contribution == 0) {
+                continue;
+            }
+            // assume every current relationship has been there before, the additions are corrected below
+            double factor = contribution * (inverseDegree - previousInverseDegree);
+            graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                addResidual(target, factor * weight);
+                return true;
+            });
+        }
+
+        applyChanges(config.addedRelationships(), scores, previousInverseDegrees, weighted, 1);
+        applyChanges(config.removedRelationships(), scores, previousInverseDegrees, weighted, -1);
+    }
+
+    private void sumWeights(List<RelationshipChange> changes, LongDoubleHashMap weights, boolean weighted) {
+        for (var change : changes) {
+            long source = graph.safeToMappedNodeId(change.sourceNode());
+            if (source != IdMap.NOT_FOUND) {
+                weights.addTo(source, weighted ? change.weight() : 1.0);
+            }
+        }
+    }
+
+    private void applyChanges(
+        List<RelationshipChange> changes,
+        HugeDoubleArray scores,
+        LongDoubleHashMap previousInverseDegrees,
+        boolean weighted,
+        int sign
+    ) {
+        for (var change : changes) {
+            long source = graph.safeToMappedNodeId(change.sourceNode());
+            long target = graph.safeToMappedNodeId(change.targetNode());
+            if (source == IdMap.NOT_FOUND || target == IdMap.NOT_FOUND) {
+                continue;
+            }
+            double weight = weighted ? change.weight() : 1.0;
+            double contribution = dampingFactor * scores.get(source) * weight * previousInverseDegrees.get(source);
+            addResidual(target, sign * contribution);
+        }
+    }
+
+    private void push(long node, HugeDoubleArray scores) {
+        queued.clear(node);
+        double residual = residuals.get(node);
+        residuals.set(node, 0);
+        scores.addTo(node, residual);
+
+        double degree = degreeFunction.applyAsDouble(node);
+        if (degree > 0) {
+            double contribution = dampingFactor * residual / degree;
+            graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                addResidual(target, contribution * weight);
+                return true;
+            });
+        }
+    }
+
+    private void addResidual(long node, double value) {
+        double residual = residuals.get(node) + value;
+        residuals.set(node, residual);
+        if (Math.abs(residual) > tolerance && !queued.get(node)) {
+            queued.set(node);
+            nextFrontier.add(node);
+        }
+    }
+}
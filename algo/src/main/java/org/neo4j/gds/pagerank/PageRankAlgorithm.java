@@ -97,7 +97,7 @@ public class PageRankAlgorithm<C extends RankConfig> extends Algorithm<PageRankR
 
         var scores = pregelResult.nodeValues().doubleProperties(PageRankComputation.PAGE_RANK);
 
-        scaleScores(scores);
+        scaleScores(scores, config, mode, graph.nodeCount(), executorService);
 
         return new PageRankResult(
             scores,
@@ -106,7 +106,13 @@ public class PageRankAlgorithm<C extends RankConfig> extends Algorithm<PageRankR
         );
     }
 
-    private void scaleScores(HugeDoubleArray scores) {
+    static void scaleScores(
+        HugeDoubleArray scores,
+        RankConfig config,
+        PageRankVariant mode,
+        long nodeCount,
+        ExecutorService executorService
+    ) {
         var scalerFactory = config.scaler();
         var concurrency = config.concurrency();
 
@@ -117,13 +123,13 @@ public class PageRankAlgorithm<C extends RankConfig> extends Algorithm<PageRankR
 
         var scaler = scalerFactory.create(
             NodePropertyValuesAdapter.adapt(scores),
-            graph.nodeCount(),
+            nodeCount,
             concurrency,
             ProgressTracker.NULL_TRACKER,
             executorService
         );
 
-        var tasks = PartitionUtils.rangePartition(concurrency, graph.nodeCount(),
+        var tasks = PartitionUtils.rangePartition(concurrency, nodeCount,
             partition -> (Runnable) () -> partition.consume(nodeId -> scores.set(nodeId, scaler.scaleProperty(nodeId))),
             Optional.empty()
         );
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.BoundedLongPriorityQueue;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Computes approximate personalized PageRank scores for many seed sets at once.
+ * <p>
+ * Every seed set is solved by a local forward push (Andersen, Chung and Lang): each seed starts with a residual
+ * of {@code 1 - dampingFactor}, and a node {@code u} whose residual exceeds {@code tolerance * deg(u)} moves
+ * its residual into its score and pushes {@code dampingFactor} of it to its neighbours. The scores and residuals
+ * are kept in hash maps, so the work and memory of a seed set depend on the tolerance and not on the size of the graph.
+ * <p>
+ * The scores are on the scale of {@code gds.pageRank} with the seed set as source nodes, every score is
+ * underestimated by at most {@code tolerance * deg(u)} per node. Only the {@code topK} scores per seed set are kept.
+ * The seed sets are distributed over the threads, each thread solves one seed set at a time.
+ */
+public final class PersonalizedPageRankBatch extends Algorithm<PersonalizedPageRankBatchResult> {
+
+    private final Graph graph;
+    private final List<long[]> sourceNodeSets;
+    private final LongToDoubleFunction degreeFunction;
+    private final double dampingFactor;
+    private final double tolerance;
+    private final int topK;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+
+    /**
+     * @param sourceNodeSets the seed sets, as mapped node ids
+     * @param degreeFunction the (weighted) out degree of a node
+     */
+    public PersonalizedPageRankBatch(
+        Graph graph,
+        List<long[]> sourceNodeSets,
+        LongToDoubleFunction degreeFunction,
+        double dampingFactor,
+        double tolerance,
+        int topK,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.sourceNodeSets = sourceNodeSets;
+        this.degreeFunction = degreeFunction;
+        this.dampingFactor = dampingFactor;
+        this.tolerance = tolerance;
+        this.topK = topK;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public PersonalizedPageRankBatchResult compute() {
+        progressTracker.beginSubTask();
+
+        int seedSetCount = sourceNodeSets.size();
+        var nodeIds = new long[seedSetCount][];
+        var scores = new double[seedSetCount][];
+        var nextSeedSet = new AtomicInteger();
+
+        ParallelUtil.run(
+            ParallelUtil.tasks(concurrency, () -> new PushTask(graph.concurrentCopy(), nextSeedSet, nodeIds, scores)),
+            executorService
+        );
+
+        progressTracker.endSubTask();
+        return new PersonalizedPageRankBatchResult(nodeIds, scores);
+    }
+
+    private final class PushTask implements Runnable {
+
+        private final Graph localGraph;
+        private final AtomicInteger nextSeedSet;
+        private final long[][] nodeIds;
+        private final double[][] scores;
+
+        // reused for every seed set of this task, they only grow with the explored part of the graph
+        private final LongDoubleHashMap localScores;
+        private final LongDoubleHashMap residuals;
+        private final LongArrayDeque queue;
+
+        PushTask(Graph localGraph, AtomicInteger nextSeedSet, long[][] nodeIds, double[][] scores) {
+            this.localGraph = localGraph;
+            this.nextSeedSet = nextSeedSet;
+            this.nodeIds = nodeIds;
+            this.scores = scores;
+            this.localScores = new LongDoubleHashMap();
+            this.residuals = new LongDoubleHashMap();
+            this.queue = new LongArrayDeque();
+        }
+
+        @Override
+        public void run() {
+            int seedSetIndex;
+            while ((seedSetIndex = nextSeedSet.getAndIncrement()) < sourceNodeSets.size()) {
+                terminationFlag.assertRunning();
+                push(sourceNodeSets.get(seedSetIndex));
+                collectTopK(seedSetIndex);
+                localScores.clear();
+                residuals.clear();
+                progressTracker.logProgress();
+            }
+        }
+
+        private void push(long[] sourceNodes) {
+            // the source nodes are pushed at least once, regardless of the tolerance
+            double alpha = 1 - dampingFactor;
+            for (long sourceNode : sourceNodes) {
+                if (!residuals.containsKey(sourceNode)) {
+                    residuals.put(sourceNode, alpha);
+                    queue.addLast(sourceNode);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                long node = queue.removeFirst();
+                double residual = residuals.put(node, 0);
+                localScores.addTo(node, residual);
+
+                double degree = degreeFunction.applyAsDouble(node);
+                if (degree > 0) {
+                    double contribution = dampingFactor * residual / degree;
+                    localGraph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                        addResidual(target, contribution * weight);
+                        return true;
+                    });
+                }
+            }
+        }
+
+        /**
+         * Queues a node when its residual crosses the threshold. Residuals only grow until the node is pushed,
+         * so apart from the source nodes, every node is at most once in the queue.
+         */
+        private void addResidual(long node, double value) {
+            double previous = residuals.get(node);
+            double residual = previous + value;
+            residuals.put(node, residual);
+            double threshold = threshold(node);
+            if (previous <= threshold && residual > threshold) {
+                queue.addLast(node);
+            }
+        }
+
+        private double threshold(long node) {
+            double degree = degreeFunction.applyAsDouble(node);
+            return degree > 0 ? tolerance * degree : tolerance;
+        }
+
+        private void collectTopK(int seedSetIndex) {
+            var topScores = BoundedLongPriorityQueue.max(topK);
+            for (var cursor : localScores) {
+                topScores.offer(cursor.key, cursor.value);
+            }
+            nodeIds[seedSetIndex] = topScores.elements().toArray();
+            scores[seedSetIndex] = topScores.priorities().toArray();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+/**
+ * The push state of a thread ranges from empty to the whole graph, depending on the tolerance.
+ */
+public class PersonalizedPageRankBatchMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final int seedSetCount;
+    private final int topK;
+
+    public PersonalizedPageRankBatchMemoryEstimateDefinition(int seedSetCount, int topK) {
+        this.seedSetCount = seedSetCount;
+        this.topK = topK;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        long topScores = Estimate.sizeOfObjectArray(seedSetCount) * 2
+            + seedSetCount * (Estimate.sizeOfLongArray(topK) + Estimate.sizeOfDoubleArray(topK));
+
+        var pushState = MemoryEstimations.builder("push state")
+            .rangePerNode("scores and residuals", nodeCount -> MemoryRange.of(
+                2 * Estimate.sizeOfEmptyOpenHashContainer(),
+                2 * Estimate.sizeOfLongDoubleHashMap(nodeCount)
+            ))
+            .rangePerNode("queue", nodeCount -> MemoryRange.of(
+                Estimate.sizeOfLongArray(0),
+                Estimate.sizeOfLongArray(nodeCount)
+            ))
+            .build();
+
+        return MemoryEstimations.builder(PersonalizedPageRankBatch.class)
+            .perNode("weighted degrees", HugeDoubleArray::memoryEstimation)
+            .fixed("top scores", topScores)
+            .perThread("push state", pushState)
+            .build();
+    }
+}
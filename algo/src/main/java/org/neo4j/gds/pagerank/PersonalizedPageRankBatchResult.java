@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The top scores of every seed set, in order of the seed sets.
+ * The node ids of a seed set are sorted by decreasing score.
+ */
+public record PersonalizedPageRankBatchResult(long[][] nodeIds, double[][] scores) {
+
+    public int seedSetCount() {
+        return nodeIds.length;
+    }
+
+    public Stream<ScoredNode> scoredNodes(int seedSetIndex) {
+        var setNodeIds = nodeIds[seedSetIndex];
+        var setScores = scores[seedSetIndex];
+        return IntStream.range(0, setNodeIds.length).mapToObj(i -> new ScoredNode(setNodeIds[i], setScores[i]));
+    }
+
+    public record ScoredNode(long nodeId, double score) {}
+}
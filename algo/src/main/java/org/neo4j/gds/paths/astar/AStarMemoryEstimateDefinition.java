@@ -34,6 +34,8 @@ public class AStarMemoryEstimateDefinition implements MemoryEstimateDefinition {
         return MemoryEstimations.builder(AStar.class)
             .add("Dijkstra",
                 new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
+                    false,
+                    false,
                     false,
                     false
                 )).memoryEstimation()
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps contraction hierarchies attached to the graph store they were built from.
+ * <p>
+ * A hierarchy is built for a specific view of a graph store, identified by the node labels,
+ * relationship types and relationship weight property of the request. Requests for the same view
+ * share the hierarchy. The hierarchies are held as a graph index in the {@link GraphStoreCatalog}
+ * and are dropped together with the graph.
+ */
+public final class ContractionHierarchies {
+
+    private static final String INDEX_NAME = "contraction-hierarchies";
+
+    private ContractionHierarchies() {}
+
+    public static Optional<ContractionHierarchy> get(GraphStore graphStore, Key key) {
+        return GraphStoreCatalog
+            .getGraphIndex(graphStore, INDEX_NAME, Index.class)
+            .map(index -> index.hierarchies.get(key));
+    }
+
+    /**
+     * Attaches the hierarchy to the given view of the graph store, unless another request attached one first.
+     *
+     * @return the hierarchy attached to the view
+     */
+    public static ContractionHierarchy putIfAbsent(GraphStore graphStore, Key key, ContractionHierarchy hierarchy) {
+        var index = GraphStoreCatalog.getOrCreateGraphIndex(graphStore, INDEX_NAME, Index.class, Index::new);
+        var previous = index.hierarchies.putIfAbsent(key, hierarchy);
+        return previous == null ? hierarchy : previous;
+    }
+
+    private static final class Index {
+        private final ConcurrentHashMap<Key, ContractionHierarchy> hierarchies = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Identifies a view of a graph store. The node and relationship counts guard against
+     * a graph store that changed since the hierarchy has been built.
+     */
+    public record Key(
+        List<String> nodeLabels,
+        List<String> relationshipTypes,
+        Optional<String> relationshipWeightProperty,
+        long nodeCount,
+        long relationshipCount
+    ) {
+        public static Key of(
+            Collection<String> nodeLabels,
+            Collection<String> relationshipTypes,
+            Optional<String> relationshipWeightProperty,
+            long nodeCount,
+            long relationshipCount
+        ) {
+            return new Key(
+                nodeLabels.stream().sorted().toList(),
+                relationshipTypes.stream().sorted().toList(),
+                relationshipWeightProperty,
+                nodeCount,
+                relationshipCount
+            );
+        }
+    }
+}
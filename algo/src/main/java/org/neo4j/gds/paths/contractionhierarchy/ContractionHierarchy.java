@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.termination.TerminationFlag;
+
+/**
+ * A contraction hierarchy over a weighted graph.
+ * <p>
+ * Nodes are contracted one after another in order of their rank. Contracting a node removes it from
+ * the remaining graph and inserts shortcut arcs between its neighbours wherever the node lies on
+ * the only shortest path between them. Every arc of the resulting graph, original or shortcut,
+ * is stored exactly once: arcs leading to a higher ranked node are stored as upward arcs of their
+ * source, arcs coming from a higher ranked node are stored as downward arcs of their target.
+ * <p>
+ * A shortest path query only follows upward arcs from the source and upward arcs in reverse
+ * direction from the target, see {@link ContractionHierarchyQuery}.
+ * Shortcuts remember the contracted node they bypass, which is used to unpack them into the
+ * original relationships.
+ * <p>
+ * The hierarchy is immutable and can be queried concurrently, as long as every thread uses its own query.
+ */
+public final class ContractionHierarchy {
+
+    static final long NO_MIDDLE_NODE = -1L;
+
+    private final long nodeCount;
+    private final HugeLongArray rank;
+
+    private final HugeLongArray upwardOffsets;
+    private final HugeLongArray upwardTargets;
+    private final HugeDoubleArray upwardWeights;
+    private final HugeLongArray upwardMiddleNodes;
+
+    private final HugeLongArray downwardOffsets;
+    private final HugeLongArray downwardSources;
+    private final HugeDoubleArray downwardWeights;
+    private final HugeLongArray downwardMiddleNodes;
+
+    ContractionHierarchy(
+        long nodeCount,
+        HugeLongArray rank,
+        HugeLongArray upwardOffsets,
+        HugeLongArray upwardTargets,
+        HugeDoubleArray upwardWeights,
+        HugeLongArray upwardMiddleNodes,
+        HugeLongArray downwardOffsets,
+        HugeLongArray downwardSources,
+        HugeDoubleArray downwardWeights,
+        HugeLongArray downwardMiddleNodes
+    ) {
+        this.nodeCount = nodeCount;
+        this.rank = rank;
+        this.upwardOffsets = upwardOffsets;
+        this.upwardTargets = upwardTargets;
+        this.upwardWeights = upwardWeights;
+        this.upwardMiddleNodes = upwardMiddleNodes;
+        this.downwardOffsets = downwardOffsets;
+        this.downwardSources = downwardSources;
+        this.downwardWeights = downwardWeights;
+        this.downwardMiddleNodes = downwardMiddleNodes;
+    }
+
+    /**
+     * Contracts all nodes of the given graph. Relationship weights must not be negative.
+     */
+    public static ContractionHierarchy create(
+        Graph graph,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        return new ContractionHierarchyBuilder(graph, concurrency, progressTracker, terminationFlag).build();
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ContractionHierarchy.class)
+            .perNode("rank", HugeLongArray::memoryEstimation)
+            .perNode("arc offsets", nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount + 1))
+            // every relationship ends up as one arc, the number of shortcuts is typically
+            // in the same order as the number of relationships for road-like networks
+            .rangePerGraphDimension("arcs", (dimensions, concurrency) -> {
+                long relationshipCount = dimensions.relCountUpperBound();
+                return MemoryRange.of(arcsMemory(relationshipCount), arcsMemory(2 * relationshipCount));
+            })
+            .add("construction", ContractionHierarchyBuilder.memoryEstimation())
+            .build();
+    }
+
+    private static long arcsMemory(long arcCount) {
+        return 2 * HugeLongArray.memoryEstimation(arcCount) + HugeDoubleArray.memoryEstimation(arcCount);
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    long rank(long nodeId) {
+        return rank.get(nodeId);
+    }
+
+    long upwardStart(long nodeId) {
+        return upwardOffsets.get(nodeId);
+    }
+
+    long upwardEnd(long nodeId) {
+        return upwardOffsets.get(nodeId + 1);
+    }
+
+    long upwardTarget(long arc) {
+        return upwardTargets.get(arc);
+    }
+
+    double upwardWeight(long arc) {
+        return upwardWeights.get(arc);
+    }
+
+    long downwardStart(long nodeId) {
+        return downwardOffsets.get(nodeId);
+    }
+
+    long downwardEnd(long nodeId) {
+        return downwardOffsets.get(nodeId + 1);
+    }
+
+    long downwardSource(long arc) {
+        return downwardSources.get(arc);
+    }
+
+    double downwardWeight(long arc) {
+        return downwardWeights.get(arc);
+    }
+
+    /**
+     * Returns the index of the arc from {@code source} to {@code target} in the upward arcs
+     * if {@code source} has the lower rank and in the downward arcs otherwise, or {@code -1}.
+     */
+    long arc(long source, long target) {
+        if (rank.get(source) < rank.get(target)) {
+            for (long arc = upwardStart(source), end = upwardEnd(source); arc < end; arc++) {
+                if (upwardTargets.get(arc) == target) {
+                    return arc;
+                }
+            }
+        } else {
+            for (long arc = downwardStart(target), end = downwardEnd(target); arc < end; arc++) {
+                if (downwardSources.get(arc) == source) {
+                    return arc;
+                }
+            }
+        }
+        return -1L;
+    }
+
+    double arcWeight(long source, long target, long arc) {
+        return rank.get(source) < rank.get(target) ? upwardWeights.get(arc) : downwardWeights.get(arc);
+    }
+
+    long arcMiddleNode(long source, long target, long arc) {
+        return rank.get(source) < rank.get(target) ? upwardMiddleNodes.get(arc) : downwardMiddleNodes.get(arc);
+    }
+}
@@ -0,0 +1,535 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.paths.contractionhierarchy.ContractionHierarchy.NO_MIDDLE_NODE;
+
+/**
+ * Builds a {@link ContractionHierarchy} by contracting nodes in parallel rounds.
+ * <p>
+ * Every node has a priority, its edge difference: the number of shortcuts its contraction would
+ * insert minus the number of arcs it removes, plus the number of already contracted neighbours
+ * to spread contractions evenly over the graph.
+ * In each round, all remaining nodes whose priority is lower than the priority of all remaining
+ * neighbours are contracted. These nodes form an independent set, which allows to search for their
+ * shortcuts in parallel. The witness searches of a round ignore all nodes contracted in the same
+ * round, so the shortcuts of one node never rely on a path through another one.
+ * <p>
+ * Witness searches are bounded by the number of settled nodes. If a search gives up before it
+ * finds a witness path, the shortcut is inserted anyway. This may add unnecessary shortcuts,
+ * but never loses a shortest path.
+ */
+final class ContractionHierarchyBuilder {
+
+    private static final int WITNESS_SEARCH_SETTLED_NODES = 256;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final Concurrency concurrency;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+
+    private final HugeObjectArray<Arcs> outgoing;
+    private final HugeObjectArray<Arcs> incoming;
+    // -1 for nodes that are not contracted yet
+    private final HugeLongArray rank;
+    private final HugeDoubleArray priority;
+    private final HugeIntArray contractedNeighbours;
+    private final HugeObjectArray<Shortcuts> pendingShortcuts;
+    // nodes contracted in the current round
+    private final HugeAtomicBitSet selected;
+    // nodes whose priority needs to be recomputed after the current round
+    private final HugeAtomicBitSet dirty;
+
+    ContractionHierarchyBuilder(
+        Graph graph,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.concurrency = concurrency;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.outgoing = HugeObjectArray.newArray(Arcs.class, nodeCount);
+        this.incoming = HugeObjectArray.newArray(Arcs.class, nodeCount);
+        this.rank = HugeLongArray.newArray(nodeCount);
+        this.priority = HugeDoubleArray.newArray(nodeCount);
+        this.contractedNeighbours = HugeIntArray.newArray(nodeCount);
+        this.pendingShortcuts = HugeObjectArray.newArray(Shortcuts.class, nodeCount);
+        this.selected = HugeAtomicBitSet.create(nodeCount);
+        this.dirty = HugeAtomicBitSet.create(nodeCount);
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ContractionHierarchyBuilder.class)
+            .perNode("arc lists", nodeCount ->
+                2 * HugeObjectArray.memoryEstimation(nodeCount, Estimate.sizeOfInstance(Arcs.class))
+            )
+            .perNode("priorities", HugeDoubleArray::memoryEstimation)
+            .perNode("contracted neighbours", HugeIntArray::memoryEstimation)
+            .perNode("pending shortcuts", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, 0))
+            .perNode("remaining nodes", HugeLongArray::memoryEstimation)
+            .perNode("round bitsets", nodeCount -> 2 * HugeAtomicBitSet.memoryEstimation(nodeCount))
+            // every arc is kept in the list of its source and its target
+            .rangePerGraphDimension("arcs", (dimensions, concurrency) -> {
+                long relationshipCount = dimensions.relCountUpperBound();
+                long bytesPerArc = 2 * (Long.BYTES + Double.BYTES + Long.BYTES);
+                return MemoryRange.of(bytesPerArc * relationshipCount, 2 * bytesPerArc * relationshipCount);
+            })
+            .perThread("witness search", Estimate.sizeOfLongDoubleHashMap(4L * WITNESS_SEARCH_SETTLED_NODES))
+            .build();
+    }
+
+    ContractionHierarchy build() {
+        loadArcs();
+        rank.fill(-1L);
+
+        try (var witnessSearches = CloseableThreadLocal.withInitial(WitnessSearch::new)) {
+            ParallelUtil.parallelForEachNode(
+                nodeCount,
+                concurrency,
+                terminationFlag,
+                nodeId -> priority.set(nodeId, witnessSearches.get().priority(nodeId))
+            );
+
+            var remaining = HugeLongArray.newArray(nodeCount);
+            remaining.setAll(nodeId -> nodeId);
+            long remainingCount = nodeCount;
+            long nextRank = 0;
+
+            while (remainingCount > 0) {
+                terminationFlag.assertRunning();
+                long roundSize = remainingCount;
+
+                ParallelUtil.parallelForEachNode(roundSize, concurrency, terminationFlag, index -> {
+                    long nodeId = remaining.get(index);
+                    if (isLocalMinimum(nodeId)) {
+                        selected.set(nodeId);
+                    }
+                });
+
+                ParallelUtil.parallelForEachNode(roundSize, concurrency, terminationFlag, index -> {
+                    long nodeId = remaining.get(index);
+                    if (selected.get(nodeId)) {
+                        pendingShortcuts.set(nodeId, witnessSearches.get().shortcuts(nodeId, true));
+                    }
+                });
+
+                long kept = 0;
+                for (long index = 0; index < roundSize; index++) {
+                    long nodeId = remaining.get(index);
+                    if (selected.get(nodeId)) {
+                        contract(nodeId, nextRank++);
+                    } else {
+                        remaining.set(kept++, nodeId);
+                    }
+                }
+                remainingCount = kept;
+                selected.clear();
+
+                long remainingAfterRound = remainingCount;
+                ParallelUtil.parallelForEachNode(remainingAfterRound, concurrency, terminationFlag, index -> {
+                    long nodeId = remaining.get(index);
+                    if (dirty.get(nodeId)) {
+                        priority.set(nodeId, witnessSearches.get().priority(nodeId));
+                    }
+                });
+                dirty.clear();
+            }
+        }
+
+        return toHierarchy();
+    }
+
+    private void loadArcs() {
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            outgoing.set(nodeId, new Arcs());
+            incoming.set(nodeId, new Arcs());
+        });
+
+        try (var graphs = CloseableThreadLocal.withInitial(graph::concurrentCopy)) {
+            ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+                var arcs = outgoing.get(nodeId);
+                graphs.get().forEachRelationship(nodeId, 1.0D, (source, target, weight) -> {
+                    if (weight < 0) {
+                        throw new IllegalArgumentException(
+                            "Contraction hierarchies do not support negative relationship weights, got " + weight
+                        );
+                    }
+                    if (source != target) {
+                        arcs.append(target, weight, NO_MIDDLE_NODE);
+                        var reverseArcs = incoming.get(target);
+                        synchronized (reverseArcs) {
+                            reverseArcs.append(source, weight, NO_MIDDLE_NODE);
+                        }
+                    }
+                    return true;
+                });
+            });
+        }
+
+        // keep only the lightest of parallel relationships
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            outgoing.get(nodeId).deduplicate();
+            incoming.get(nodeId).deduplicate();
+        });
+    }
+
+    private boolean isLocalMinimum(long nodeId) {
+        double nodePriority = priority.get(nodeId);
+        return precedesNeighbours(nodeId, nodePriority, outgoing.get(nodeId)) &&
+               precedesNeighbours(nodeId, nodePriority, incoming.get(nodeId));
+    }
+
+    private boolean precedesNeighbours(long nodeId, double nodePriority, Arcs arcs) {
+        for (int i = 0; i < arcs.size; i++) {
+            long neighbour = arcs.nodes[i];
+            if (rank.get(neighbour) >= 0) {
+                continue;
+            }
+            double neighbourPriority = priority.get(neighbour);
+            if (neighbourPriority < nodePriority || (neighbourPriority == nodePriority && neighbour < nodeId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void contract(long nodeId, long nodeRank) {
+        rank.set(nodeId, nodeRank);
+
+        var shortcuts = pendingShortcuts.get(nodeId);
+        pendingShortcuts.set(nodeId, null);
+        for (int i = 0; i < shortcuts.size; i++) {
+            long source = shortcuts.sources[i];
+            long target = shortcuts.targets[i];
+            double weight = shortcuts.weights[i];
+            outgoing.get(source).put(target, weight, nodeId);
+            incoming.get(target).put(source, weight, nodeId);
+        }
+
+        markNeighbours(outgoing.get(nodeId));
+        markNeighbours(incoming.get(nodeId));
+
+        progressTracker.logProgress(graph.degree(nodeId));
+    }
+
+    private void markNeighbours(Arcs arcs) {
+        for (int i = 0; i < arcs.size; i++) {
+            long neighbour = arcs.nodes[i];
+            if (rank.get(neighbour) < 0) {
+                contractedNeighbours.addTo(neighbour, 1);
+                dirty.set(neighbour);
+            }
+        }
+    }
+
+    private ContractionHierarchy toHierarchy() {
+        var upwardOffsets = HugeLongArray.newArray(nodeCount + 1);
+        var downwardOffsets = HugeLongArray.newArray(nodeCount + 1);
+
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            upwardOffsets.set(nodeId, countHigherRanked(nodeId, outgoing.get(nodeId)));
+            downwardOffsets.set(nodeId, countHigherRanked(nodeId, incoming.get(nodeId)));
+        });
+
+        long upwardArcCount = exclusivePrefixSum(upwardOffsets);
+        long downwardArcCount = exclusivePrefixSum(downwardOffsets);
+
+        var upwardTargets = HugeLongArray.newArray(upwardArcCount);
+        var upwardWeights = HugeDoubleArray.newArray(upwardArcCount);
+        var upwardMiddleNodes = HugeLongArray.newArray(upwardArcCount);
+        var downwardSources = HugeLongArray.newArray(downwardArcCount);
+        var downwardWeights = HugeDoubleArray.newArray(downwardArcCount);
+        var downwardMiddleNodes = HugeLongArray.newArray(downwardArcCount);
+
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            copyHigherRanked(nodeId, outgoing.get(nodeId), upwardOffsets.get(nodeId), upwardTargets, upwardWeights, upwardMiddleNodes);
+            copyHigherRanked(nodeId, incoming.get(nodeId), downwardOffsets.get(nodeId), downwardSources, downwardWeights, downwardMiddleNodes);
+            outgoing.set(nodeId, null);
+            incoming.set(nodeId, null);
+        });
+
+        return new ContractionHierarchy(
+            nodeCount,
+            rank,
+            upwardOffsets,
+            upwardTargets,
+            upwardWeights,
+            upwardMiddleNodes,
+            downwardOffsets,
+            downwardSources,
+            downwardWeights,
+            downwardMiddleNodes
+        );
+    }
+
+    private long countHigherRanked(long nodeId, Arcs arcs) {
+        long nodeRank = rank.get(nodeId);
+        long count = 0;
+        for (int i = 0; i < arcs.size; i++) {
+            if (rank.get(arcs.nodes[i]) > nodeRank) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void copyHigherRanked(
+        long nodeId,
+        Arcs arcs,
+        long offset,
+        HugeLongArray nodes,
+        HugeDoubleArray weights,
+        HugeLongArray middleNodes
+    ) {
+        long nodeRank = rank.get(nodeId);
+        for (int i = 0; i < arcs.size; i++) {
+            if (rank.get(arcs.nodes[i]) > nodeRank) {
+                nodes.set(offset, arcs.nodes[i]);
+                weights.set(offset, arcs.weights[i]);
+                middleNodes.set(offset, arcs.middleNodes[i]);
+                offset++;
+            }
+        }
+    }
+
+    private long exclusivePrefixSum(HugeLongArray offsets) {
+        long sum = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long count = offsets.get(nodeId);
+            offsets.set(nodeId, sum);
+            sum += count;
+        }
+        offsets.set(nodeCount, sum);
+        return sum;
+    }
+
+    private final class WitnessSearch {
+        private final LongDoubleHashMap distances = new LongDoubleHashMap();
+        private final NodeHeap heap = new NodeHeap();
+
+        double priority(long nodeId) {
+            int removedArcs = countRemaining(outgoing.get(nodeId)) + countRemaining(incoming.get(nodeId));
+            return shortcuts(nodeId, false).size - removedArcs + contractedNeighbours.get(nodeId);
+        }
+
+        /**
+         * Finds the shortcuts needed to contract the given node.
+         * If {@code excludeSelected} is set, paths through nodes contracted in the same round are ignored.
+         */
+        Shortcuts shortcuts(long nodeId, boolean excludeSelected) {
+            var result = new Shortcuts();
+            var in = incoming.get(nodeId);
+            var out = outgoing.get(nodeId);
+
+            for (int i = 0; i < in.size; i++) {
+                long source = in.nodes[i];
+                if (isExcluded(source, excludeSelected)) {
+                    continue;
+                }
+                double toMiddle = in.weights[i];
+
+                double maxDistance = -1;
+                for (int j = 0; j < out.size; j++) {
+                    long target = out.nodes[j];
+                    if (target != source && !isExcluded(target, excludeSelected)) {
+                        maxDistance = Math.max(maxDistance, toMiddle + out.weights[j]);
+                    }
+                }
+                if (maxDistance < 0) {
+                    continue;
+                }
+
+                search(source, nodeId, maxDistance, excludeSelected);
+
+                for (int j = 0; j < out.size; j++) {
+                    long target = out.nodes[j];
+                    if (target == source || isExcluded(target, excludeSelected)) {
+                        continue;
+                    }
+                    double viaMiddle = toMiddle + out.weights[j];
+                    if (distances.getOrDefault(target, Double.MAX_VALUE) > viaMiddle) {
+                        result.add(source, target, viaMiddle);
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        // bounded Dijkstra from source over the remaining graph, avoiding the node to contract
+        private void search(long source, long avoid, double maxDistance, boolean excludeSelected) {
+            distances.clear();
+            heap.clear();
+            distances.put(source, 0.0);
+            heap.add(source, 0.0);
+
+            int settled = 0;
+            while (!heap.isEmpty() && settled < WITNESS_SEARCH_SETTLED_NODES) {
+                double distance = heap.minKey();
+                long node = heap.pop();
+                if (distance > distances.get(node)) {
+                    continue;
+                }
+                if (distance > maxDistance) {
+                    break;
+                }
+                settled++;
+
+                var arcs = outgoing.get(node);
+                for (int i = 0; i < arcs.size; i++) {
+                    long next = arcs.nodes[i];
+                    if (next == avoid || isExcluded(next, excludeSelected)) {
+                        continue;
+                    }
+                    double nextDistance = distance + arcs.weights[i];
+                    if (nextDistance < distances.getOrDefault(next, Double.MAX_VALUE)) {
+                        distances.put(next, nextDistance);
+                        heap.add(next, nextDistance);
+                    }
+                }
+            }
+        }
+
+        private boolean isExcluded(long nodeId, boolean excludeSelected) {
+            return rank.get(nodeId) >= 0 || (excludeSelected && selected.get(nodeId));
+        }
+
+        private int countRemaining(Arcs arcs) {
+            int count = 0;
+            for (int i = 0; i < arcs.size; i++) {
+                if (rank.get(arcs.nodes[i]) < 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * The arcs of a node in the partially contracted graph, at most one per neighbour.
+     */
+    static final class Arcs {
+        private static final long[] EMPTY_NODES = new long[0];
+        private static final double[] EMPTY_WEIGHTS = new double[0];
+
+        long[] nodes = EMPTY_NODES;
+        double[] weights = EMPTY_WEIGHTS;
+        long[] middleNodes = EMPTY_NODES;
+        int size;
+
+        void append(long node, double weight, long middleNode) {
+            if (size == nodes.length) {
+                int capacity = Math.max(4, size + (size >>> 1));
+                nodes = Arrays.copyOf(nodes, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+                middleNodes = Arrays.copyOf(middleNodes, capacity);
+            }
+            nodes[size] = node;
+            weights[size] = weight;
+            middleNodes[size] = middleNode;
+            size++;
+        }
+
+        /**
+         * Adds the arc, or lowers the weight of an existing arc to the same node.
+         */
+        void put(long node, double weight, long middleNode) {
+            for (int i = 0; i < size; i++) {
+                if (nodes[i] == node) {
+                    if (weight < weights[i]) {
+                        weights[i] = weight;
+                        middleNodes[i] = middleNode;
+                    }
+                    return;
+                }
+            }
+            append(node, weight, middleNode);
+        }
+
+        void deduplicate() {
+            if (size < 2) {
+                return;
+            }
+            var positions = new LongIntHashMap(size);
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                long node = nodes[i];
+                int index = positions.indexOf(node);
+                if (positions.indexExists(index)) {
+                    int position = positions.indexGet(index);
+                    if (weights[i] < weights[position]) {
+                        weights[position] = weights[i];
+                        middleNodes[position] = middleNodes[i];
+                    }
+                } else {
+                    positions.indexInsert(index, node, kept);
+                    nodes[kept] = node;
+                    weights[kept] = weights[i];
+                    middleNodes[kept] = middleNodes[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+
+    static final class Shortcuts {
+        long[] sources = new long[4];
+        long[] targets = new long[4];
+        double[] weights = new double[4];
+        int size;
+
+        void add(long source, long target, double weight) {
+            if (size == sources.length) {
+                sources = Arrays.copyOf(sources, size << 1);
+                targets = Arrays.copyOf(targets, size << 1);
+                weights = Arrays.copyOf(weights, size << 1);
+            }
+            sources[size] = source;
+            targets[size] = target;
+            weights[size] = weight;
+            size++;
+        }
+    }
+}
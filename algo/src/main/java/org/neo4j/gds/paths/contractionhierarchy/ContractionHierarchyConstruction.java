@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+/**
+ * Builds a {@link ContractionHierarchy} as a step of its own, so that the construction
+ * reports its progress and can be terminated independently of the queries answered from it.
+ */
+public final class ContractionHierarchyConstruction extends Algorithm<ContractionHierarchy> {
+
+    public static final String TASK_NAME = "Contraction hierarchy construction";
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+
+    public ContractionHierarchyConstruction(
+        Graph graph,
+        Concurrency concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.terminationFlag = terminationFlag;
+    }
+
+    public static Task progressTask(Graph graph) {
+        return Tasks.leaf(TASK_NAME, graph.relationshipCount());
+    }
+
+    @Override
+    public ContractionHierarchy compute() {
+        progressTracker.beginSubTask();
+        var hierarchy = ContractionHierarchy.create(graph, concurrency, progressTracker, terminationFlag);
+        progressTracker.endSubTask();
+        return hierarchy;
+    }
+}
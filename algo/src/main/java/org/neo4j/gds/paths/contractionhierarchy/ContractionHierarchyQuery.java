@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongLongHashMap;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.paths.contractionhierarchy.ContractionHierarchy.NO_MIDDLE_NODE;
+
+/**
+ * Point-to-point shortest path queries on a {@link ContractionHierarchy}.
+ * <p>
+ * The query runs a bidirectional Dijkstra that only relaxes arcs towards higher ranked nodes:
+ * upward arcs from the source side and reversed downward arcs from the target side.
+ * Both searches meet at the highest ranked node of the shortest path. The search state is kept in
+ * hash maps and only grows with the searched part of the hierarchy, not with the node count.
+ * <p>
+ * A query is not thread-safe, but it can be reused for any number of consecutive queries.
+ */
+public final class ContractionHierarchyQuery {
+
+    private static final long NO_PARENT = -1L;
+
+    private final ContractionHierarchy hierarchy;
+
+    private final LongDoubleHashMap forwardDistances;
+    private final LongLongHashMap forwardParents;
+    private final NodeHeap forwardHeap;
+
+    private final LongDoubleHashMap backwardDistances;
+    private final LongLongHashMap backwardParents;
+    private final NodeHeap backwardHeap;
+
+    private final LongArrayList unpackStack;
+
+    public ContractionHierarchyQuery(ContractionHierarchy hierarchy) {
+        this.hierarchy = hierarchy;
+        this.forwardDistances = new LongDoubleHashMap();
+        this.forwardParents = new LongLongHashMap();
+        this.forwardHeap = new NodeHeap();
+        this.backwardDistances = new LongDoubleHashMap();
+        this.backwardParents = new LongLongHashMap();
+        this.backwardHeap = new NodeHeap();
+        this.unpackStack = new LongArrayList();
+    }
+
+    /**
+     * Computes a shortest path from {@code source} to {@code target}, if the target is reachable.
+     */
+    public Optional<Path> shortestPath(long source, long target) {
+        if (source == target) {
+            return Optional.of(new Path(new long[]{source}, new double[]{0.0}));
+        }
+
+        forwardDistances.clear();
+        forwardParents.clear();
+        forwardHeap.clear();
+        backwardDistances.clear();
+        backwardParents.clear();
+        backwardHeap.clear();
+
+        forwardDistances.put(source, 0.0);
+        forwardParents.put(source, NO_PARENT);
+        forwardHeap.add(source, 0.0);
+        backwardDistances.put(target, 0.0);
+        backwardParents.put(target, NO_PARENT);
+        backwardHeap.add(target, 0.0);
+
+        double bestDistance = Double.MAX_VALUE;
+        long meetingNode = NO_PARENT;
+
+        while (true) {
+            double forwardMin = forwardHeap.isEmpty() ? Double.MAX_VALUE : forwardHeap.minKey();
+            double backwardMin = backwardHeap.isEmpty() ? Double.MAX_VALUE : backwardHeap.minKey();
+            if (Math.min(forwardMin, backwardMin) >= bestDistance) {
+                break;
+            }
+
+            if (forwardMin <= backwardMin) {
+                long node = forwardHeap.pop();
+                if (forwardMin > forwardDistances.get(node)) {
+                    continue;
+                }
+                double total = forwardMin + backwardDistances.getOrDefault(node, Double.MAX_VALUE);
+                if (total < bestDistance) {
+                    bestDistance = total;
+                    meetingNode = node;
+                }
+                for (long arc = hierarchy.upwardStart(node), end = hierarchy.upwardEnd(node); arc < end; arc++) {
+                    relax(
+                        forwardDistances,
+                        forwardParents,
+                        forwardHeap,
+                        node,
+                        hierarchy.upwardTarget(arc),
+                        forwardMin + hierarchy.upwardWeight(arc)
+                    );
+                }
+            } else {
+                long node = backwardHeap.pop();
+                if (backwardMin > backwardDistances.get(node)) {
+                    continue;
+                }
+                double total = backwardMin + forwardDistances.getOrDefault(node, Double.MAX_VALUE);
+                if (total < bestDistance) {
+                    bestDistance = total;
+                    meetingNode = node;
+                }
+                for (long arc = hierarchy.downwardStart(node), end = hierarchy.downwardEnd(node); arc < end; arc++) {
+                    relax(
+                        backwardDistances,
+                        backwardParents,
+                        backwardHeap,
+                        node,
+                        hierarchy.downwardSource(arc),
+                        backwardMin + hierarchy.downwardWeight(arc)
+                    );
+                }
+            }
+        }
+
+        if (meetingNode == NO_PARENT) {
+            return Optional.empty();
+        }
+
+        return Optional.of(unpack(source, meetingNode));
+    }
+
+    private static void relax(
+        LongDoubleHashMap distances,
+        LongLongHashMap parents,
+        NodeHeap heap,
+        long node,
+        long next,
+        double distance
+    ) {
+        if (distance < distances.getOrDefault(next, Double.MAX_VALUE)) {
+            distances.put(next, distance);
+            parents.put(next, node);
+            heap.add(next, distance);
+        }
+    }
+
+    private Path unpack(long source, long meetingNode) {
+        // hierarchy nodes from the source up to the meeting node and down to the target
+        var hierarchyPath = new LongArrayList();
+        for (long node = meetingNode; node != NO_PARENT; node = forwardParents.get(node)) {
+            hierarchyPath.add(node);
+        }
+        reverse(hierarchyPath);
+        for (long node = backwardParents.get(meetingNode); node != NO_PARENT; node = backwardParents.get(node)) {
+            hierarchyPath.add(node);
+        }
+
+        var nodeIds = new LongArrayList(hierarchyPath.size());
+        var costs = new DoubleArrayList(hierarchyPath.size());
+        nodeIds.add(source);
+        costs.add(0.0);
+
+        double cost = 0.0;
+        for (int i = 1; i < hierarchyPath.size(); i++) {
+            unpackStack.clear();
+            unpackStack.add(hierarchyPath.get(i - 1), hierarchyPath.get(i));
+            while (!unpackStack.isEmpty()) {
+                int top = unpackStack.size();
+                long from = unpackStack.get(top - 2);
+                long to = unpackStack.get(top - 1);
+                unpackStack.elementsCount = top - 2;
+                long arc = hierarchy.arc(from, to);
+                long middleNode = hierarchy.arcMiddleNode(from, to, arc);
+                if (middleNode == NO_MIDDLE_NODE) {
+                    cost += hierarchy.arcWeight(from, to, arc);
+                    nodeIds.add(to);
+                    costs.add(cost);
+                } else {
+                    // the second half is processed after the first one
+                    unpackStack.add(middleNode, to);
+                    unpackStack.add(from, middleNode);
+                }
+            }
+        }
+
+        return new Path(nodeIds.toArray(), costs.toArray());
+    }
+
+    private static void reverse(LongArrayList list) {
+        var buffer = list.buffer;
+        for (int left = 0, right = list.size() - 1; left < right; left++, right--) {
+            long tmp = buffer[left];
+            buffer[left] = buffer[right];
+            buffer[right] = tmp;
+        }
+    }
+
+    /**
+     * A shortest path over the original relationships, given as node ids and cumulative costs.
+     */
+    public record Path(long[] nodeIds, double[] costs) {
+        public double totalCost() {
+            return costs[costs.length - 1];
+        }
+    }
+}
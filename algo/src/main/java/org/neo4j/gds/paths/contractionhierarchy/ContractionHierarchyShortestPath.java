@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Answers source-target shortest path requests from a {@link ContractionHierarchy}.
+ * <p>
+ * The result matches the one of {@link org.neo4j.gds.paths.dijkstra.Dijkstra#sourceTarget}:
+ * one path per reachable target, indexed in order of increasing total cost.
+ * Relationship ids are not tracked.
+ */
+public final class ContractionHierarchyShortestPath extends Algorithm<PathFindingResult> {
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private final long sourceNode;
+    private final long[] targetNodes;
+    private final ContractionHierarchy hierarchy;
+
+    public static ContractionHierarchyShortestPath sourceTarget(
+        Graph graph,
+        long originalNodeId,
+        Collection<Long> targetsList,
+        ContractionHierarchy hierarchy,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        var targetNodes = targetsList.stream()
+            .mapToLong(graph::toMappedNodeId)
+            .distinct()
+            .toArray();
+        return new ContractionHierarchyShortestPath(
+            graph.toMappedNodeId(originalNodeId),
+            targetNodes,
+            hierarchy,
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    private ContractionHierarchyShortestPath(
+        long sourceNode,
+        long[] targetNodes,
+        ContractionHierarchy hierarchy,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.sourceNode = sourceNode;
+        this.targetNodes = targetNodes;
+        this.hierarchy = hierarchy;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        var query = new ContractionHierarchyQuery(hierarchy);
+
+        var paths = new ArrayList<ContractionHierarchyQuery.Path>(targetNodes.length);
+        for (long targetNode : targetNodes) {
+            terminationFlag.assertRunning();
+            query.shortestPath(sourceNode, targetNode).ifPresent(paths::add);
+            progressTracker.logProgress();
+        }
+        paths.sort(Comparator.comparingDouble(ContractionHierarchyQuery.Path::totalCost));
+
+        var pathResults = new ArrayList<PathResult>(paths.size());
+        for (int index = 0; index < paths.size(); index++) {
+            var path = paths.get(index);
+            pathResults.add(ImmutablePathResult.builder()
+                .index(index)
+                .sourceNode(sourceNode)
+                .targetNode(path.nodeIds()[path.nodeIds().length - 1])
+                .nodeIds(path.nodeIds())
+                .relationshipIds(EMPTY_ARRAY)
+                .costs(path.costs())
+                .build());
+        }
+
+        return new PathFindingResult(pathResults.stream(), progressTracker::endSubTask);
+    }
+}
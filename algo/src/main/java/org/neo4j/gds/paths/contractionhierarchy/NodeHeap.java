@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import java.util.Arrays;
+
+/**
+ * A growable binary min-heap of nodes keyed by distance.
+ * <p>
+ * The heap does not support decreasing a key. Instead, a node is added again with its smaller key
+ * and the caller skips stale entries when they are popped. This keeps the heap independent of the
+ * node count, which is what the small local searches over a contraction hierarchy need.
+ */
+final class NodeHeap {
+
+    private double[] keys;
+    private long[] nodes;
+    private int size;
+
+    NodeHeap() {
+        this.keys = new double[16];
+        this.nodes = new long[16];
+        this.size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    double minKey() {
+        return keys[0];
+    }
+
+    void add(long node, double key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size << 1);
+            nodes = Arrays.copyOf(nodes, size << 1);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[index] = keys[parent];
+            nodes[index] = nodes[parent];
+            index = parent;
+        }
+        keys[index] = key;
+        nodes[index] = node;
+    }
+
+    /**
+     * Removes the node with the smallest key and returns it.
+     */
+    long pop() {
+        long min = nodes[0];
+        size--;
+        if (size > 0) {
+            double key = keys[size];
+            long node = nodes[size];
+            int index = 0;
+            while (true) {
+                int child = (index << 1) + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                keys[index] = keys[child];
+                nodes[index] = nodes[child];
+                index = child;
+            }
+            keys[index] = key;
+            nodes[index] = node;
+        }
+        return min;
+    }
+}
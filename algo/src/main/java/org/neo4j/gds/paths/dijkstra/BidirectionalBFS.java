@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.stream.Stream;
+
+/**
+ * Computes a single source-target shortest path on an unweighted graph by running BFS from both ends.
+ * <p>
+ * In every round, the smaller of both frontiers is expanded by one level. The search stops after
+ * the first level that connects both searches, picking the shortest connection found in that level.
+ * The search state is kept in hash maps, so it only grows with the explored part of the graph.
+ * <p>
+ * Like {@link BidirectionalDijkstra}, this requires an undirected graph or an inverse index.
+ * The path costs are the number of hops from the source. Relationship ids are not tracked.
+ */
+public final class BidirectionalBFS extends Algorithm<PathFindingResult> {
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+    private static final long NO_NODE = -1L;
+
+    private final Graph graph;
+    private final long sourceNode;
+    private final long targetNode;
+
+    public static BidirectionalBFS sourceTarget(
+        Graph graph,
+        long originalSourceNodeId,
+        long originalTargetNodeId,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        return new BidirectionalBFS(
+            graph,
+            graph.toMappedNodeId(originalSourceNodeId),
+            graph.toMappedNodeId(originalTargetNodeId),
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    private BidirectionalBFS(
+        Graph graph,
+        long sourceNode,
+        long targetNode,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (!BidirectionalDijkstra.canSearchBackwards(graph)) {
+            throw new IllegalArgumentException(
+                "Bidirectional search requires an undirected graph or an inverse indexed relationship type.");
+        }
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.targetNode = targetNode;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        var forward = new Search(sourceNode, true);
+        var backward = new Search(targetNode, false);
+
+        long meetingNode = sourceNode == targetNode ? sourceNode : NO_NODE;
+        while (meetingNode == NO_NODE && !forward.isDone() && !backward.isDone() && terminationFlag.running()) {
+            meetingNode = forward.frontierSize() <= backward.frontierSize()
+                ? forward.expandLevel(backward)
+                : backward.expandLevel(forward);
+        }
+
+        var path = meetingNode == NO_NODE ? PathResult.EMPTY : pathResult(meetingNode, forward, backward);
+
+        return new PathFindingResult(
+            path == PathResult.EMPTY ? Stream.empty() : Stream.of(path),
+            progressTracker::endSubTask
+        );
+    }
+
+    private PathResult pathResult(long meetingNode, Search forward, Search backward) {
+        var nodeIds = new LongArrayList();
+        for (long node = meetingNode; node != NO_NODE; node = forward.parent(node)) {
+            nodeIds.add(node);
+        }
+        var buffer = nodeIds.buffer;
+        for (int left = 0, right = nodeIds.size() - 1; left < right; left++, right--) {
+            long tmp = buffer[left];
+            buffer[left] = buffer[right];
+            buffer[right] = tmp;
+        }
+        for (long node = backward.parent(meetingNode); node != NO_NODE; node = backward.parent(node)) {
+            nodeIds.add(node);
+        }
+
+        var costs = new double[nodeIds.size()];
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = i;
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(EMPTY_ARRAY)
+            .costs(costs)
+            .build();
+    }
+
+    /**
+     * One direction of the search, with the parent of every reached node and the nodes of the current level.
+     */
+    private final class Search {
+
+        private final boolean outgoing;
+        // parent towards the start node, NO_NODE for the start node
+        private final LongLongHashMap parents;
+        // hops from the start node, same keys as `parents`
+        private final LongLongHashMap depths;
+        private LongArrayList frontier;
+        private LongArrayList nextFrontier;
+
+        Search(long startNode, boolean outgoing) {
+            this.outgoing = outgoing;
+            this.parents = new LongLongHashMap();
+            this.depths = new LongLongHashMap();
+            this.frontier = new LongArrayList();
+            this.nextFrontier = new LongArrayList();
+            parents.put(startNode, NO_NODE);
+            depths.put(startNode, 0);
+            frontier.add(startNode);
+        }
+
+        boolean isDone() {
+            return frontier.isEmpty();
+        }
+
+        int frontierSize() {
+            return frontier.size();
+        }
+
+        long parent(long node) {
+            return parents.get(node);
+        }
+
+        /**
+         * Expands the whole current level and returns the node of the shortest connection
+         * to the other search, if one was found in this level.
+         */
+        long expandLevel(Search other) {
+            var meeting = new long[]{NO_NODE, Long.MAX_VALUE};
+            var buffer = frontier.buffer;
+            for (int i = 0; i < frontier.size(); i++) {
+                long node = buffer[i];
+                long nextDepth = depths.get(node) + 1;
+
+                // For disconnected graphs, this will not reach 100%.
+                progressTracker.logProgress(graph.degree(node));
+
+                if (outgoing || graph.characteristics().isUndirected()) {
+                    graph.forEachRelationship(node, (source, target) -> visit(node, target, nextDepth, other, meeting));
+                } else {
+                    graph.forEachInverseRelationship(node, (source, target) -> visit(node, target, nextDepth, other, meeting));
+                }
+
+                if (!terminationFlag.running()) {
+                    break;
+                }
+            }
+
+            var tmp = frontier;
+            frontier = nextFrontier;
+            nextFrontier = tmp;
+            nextFrontier.clear();
+
+            return meeting[0];
+        }
+
+        private boolean visit(long node, long next, long nextDepth, Search other, long[] meeting) {
+            if (parents.containsKey(next)) {
+                return true;
+            }
+            parents.put(next, node);
+            depths.put(next, nextDepth);
+            nextFrontier.add(next);
+
+            int index = other.depths.indexOf(next);
+            if (other.depths.indexExists(index)) {
+                long pathLength = nextDepth + other.depths.indexGet(index);
+                if (pathLength < meeting[1]) {
+                    meeting[0] = next;
+                    meeting[1] = pathLength;
+                }
+            }
+            return true;
+        }
+    }
+}
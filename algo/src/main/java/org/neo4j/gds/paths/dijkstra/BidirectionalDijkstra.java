@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.stream.Stream;
+
+/**
+ * Computes a single source-target shortest path by running Dijkstra from both ends.
+ * <p>
+ * The forward search follows the outgoing relationships from the source, the backward search
+ * follows the incoming relationships from the target. The side with the smaller tentative distance
+ * is expanded next, until the sum of both tentative distances exceeds the shortest path found so far.
+ * Both searches together explore roughly two balls of radius d(s,t)/2 instead of one ball of radius d(s,t).
+ * <p>
+ * The graph must either be undirected or have an inverse index; {@link #canSearchBackwards(Graph)} tells.
+ * Relationship ids are not tracked.
+ */
+public final class BidirectionalDijkstra extends Algorithm<PathFindingResult> {
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+    private static final long NO_NODE = -1L;
+
+    private final Graph graph;
+    private final long sourceNode;
+    private final long targetNode;
+
+    public static boolean canSearchBackwards(Graph graph) {
+        return graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed();
+    }
+
+    public static BidirectionalDijkstra sourceTarget(
+        Graph graph,
+        long originalSourceNodeId,
+        long originalTargetNodeId,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        return new BidirectionalDijkstra(
+            graph,
+            graph.toMappedNodeId(originalSourceNodeId),
+            graph.toMappedNodeId(originalTargetNodeId),
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    private BidirectionalDijkstra(
+        Graph graph,
+        long sourceNode,
+        long targetNode,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (!canSearchBackwards(graph)) {
+            throw new IllegalArgumentException(
+                "Bidirectional search requires an undirected graph or an inverse indexed relationship type.");
+        }
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.targetNode = targetNode;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        var forward = new Search(sourceNode, true);
+        var backward = new Search(targetNode, false);
+
+        var path = sourceNode == targetNode
+            ? pathResult(sourceNode, forward, backward, 0.0)
+            : search(forward, backward);
+
+        return new PathFindingResult(
+            path == PathResult.EMPTY ? Stream.empty() : Stream.of(path),
+            progressTracker::endSubTask
+        );
+    }
+
+    private PathResult search(Search forward, Search backward) {
+        var meeting = new Meeting();
+
+        while (!forward.isDone() && !backward.isDone() && terminationFlag.running()) {
+            // no path through unsettled nodes can be shorter than the one we already have
+            if (forward.minCost() + backward.minCost() >= meeting.cost) {
+                break;
+            }
+            if (forward.minCost() <= backward.minCost()) {
+                forward.expand(backward, meeting);
+            } else {
+                backward.expand(forward, meeting);
+            }
+        }
+
+        if (meeting.node == NO_NODE) {
+            return PathResult.EMPTY;
+        }
+        return pathResult(meeting.node, forward, backward, meeting.cost);
+    }
+
+    private PathResult pathResult(long meetingNode, Search forward, Search backward, double totalCost) {
+        var nodeIds = new LongArrayList();
+        var costs = new DoubleArrayList();
+
+        // source to meeting node, collected backwards
+        for (long node = meetingNode; node != NO_NODE; node = forward.predecessor(node)) {
+            nodeIds.add(node);
+            costs.add(forward.cost(node));
+        }
+        reverse(nodeIds.buffer, nodeIds.size());
+        reverse(costs.buffer, costs.size());
+
+        // meeting node to target
+        for (long node = backward.predecessor(meetingNode); node != NO_NODE; node = backward.predecessor(node)) {
+            nodeIds.add(node);
+            costs.add(totalCost - backward.cost(node));
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(nodeIds.toArray())
+            .relationshipIds(EMPTY_ARRAY)
+            .costs(costs.toArray())
+            .build();
+    }
+
+    private static void reverse(long[] values, int size) {
+        for (int left = 0, right = size - 1; left < right; left++, right--) {
+            long tmp = values[left];
+            values[left] = values[right];
+            values[right] = tmp;
+        }
+    }
+
+    private static void reverse(double[] values, int size) {
+        for (int left = 0, right = size - 1; left < right; left++, right--) {
+            double tmp = values[left];
+            values[left] = values[right];
+            values[right] = tmp;
+        }
+    }
+
+    /**
+     * The best connection between both searches found so far.
+     */
+    private static final class Meeting {
+        private long node = NO_NODE;
+        private double cost = Double.MAX_VALUE;
+    }
+
+    /**
+     * One direction of the search. The queue and visited set are those of a Dijkstra traversal.
+     */
+    private final class Search {
+
+        private final boolean outgoing;
+        private final DijkstraSearchState state;
+        private final HugeLongLongMap predecessors;
+
+        Search(long startNode, boolean outgoing) {
+            this.outgoing = outgoing;
+            this.state = new DijkstraSearchState(graph.nodeCount(), null);
+            this.predecessors = new HugeLongLongMap();
+            state.queue().add(startNode, 0.0);
+        }
+
+        boolean isDone() {
+            return state.queue().isEmpty();
+        }
+
+        double minCost() {
+            var queue = state.queue();
+            return queue.cost(queue.top());
+        }
+
+        boolean isReached(long node) {
+            return state.isVisited(node) || state.queue().containsElement(node);
+        }
+
+        double cost(long node) {
+            return state.queue().cost(node);
+        }
+
+        long predecessor(long node) {
+            return predecessors.getOrDefault(node, NO_NODE);
+        }
+
+        void expand(Search other, Meeting meeting) {
+            var queue = state.queue();
+            long node = queue.pop();
+            double cost = queue.cost(node);
+            state.visit(node);
+
+            // For disconnected graphs, this will not reach 100%.
+            progressTracker.logProgress(graph.degree(node));
+
+            if (outgoing || graph.characteristics().isUndirected()) {
+                graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                    relax(node, target, cost + weight, other, meeting);
+                    return true;
+                });
+            } else {
+                graph.forEachInverseRelationship(node, 1.0D, (source, target, weight) -> {
+                    relax(node, target, cost + weight, other, meeting);
+                    return true;
+                });
+            }
+        }
+
+        private void relax(long node, long next, double newCost, Search other, Meeting meeting) {
+            if (state.isVisited(next)) {
+                return;
+            }
+
+            var queue = state.queue();
+            if (!queue.containsElement(next)) {
+                queue.add(next, newCost);
+                predecessors.put(next, node);
+            } else if (newCost < queue.cost(next)) {
+                queue.set(next, newCost);
+                predecessors.put(next, node);
+            }
+
+            if (other.isReached(next)) {
+                double pathCost = queue.cost(next) + other.cost(next);
+                if (pathCost < meeting.cost) {
+                    meeting.cost = pathCost;
+                    meeting.node = next;
+                }
+            }
+        }
+    }
+}
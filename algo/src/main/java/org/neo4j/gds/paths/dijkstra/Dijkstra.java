@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.paths.dijkstra;
 
-import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.DoubleArrayDeque;
 import com.carrotsearch.hppc.LongArrayDeque;
 import org.apache.commons.lang3.mutable.MutableInt;
@@ -52,8 +51,8 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
     private TraversalState traversalState;
 
     private long sourceNode;
-    // priority queue
-    private final HugeLongPriorityQueue queue;
+    // priority queue and visited set
+    private final DijkstraSearchState searchState;
     // predecessor map
     private final HugeLongLongMap predecessors;
     // True, iff the algo should track relationship ids.
@@ -62,8 +61,6 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
     private final boolean trackRelationships;
     // relationship ids (null, if trackRelationships is false)
     private final HugeLongLongMap relationships;
-    // visited set
-    private final BitSet visited;
     // path id increasing in order of exploration
     private long pathIndex;
     // returns true if the given relationship should be traversed
@@ -129,12 +126,9 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
         this.targets = targets;
         this.traversalState = CONTINUE;
         this.trackRelationships = trackRelationships;
-        this.queue = heuristicFunction
-            .map(fn -> minPriorityQueue(graph.nodeCount(), fn))
-            .orElseGet(() -> HugeLongPriorityQueue.min(graph.nodeCount()));
+        this.searchState = new DijkstraSearchState(graph.nodeCount(), heuristicFunction.orElse(null));
         this.predecessors = new HugeLongLongMap();
         this.relationships = trackRelationships ? new HugeLongLongMap() : null;
-        this.visited = new BitSet();
         this.pathIndex = 0L;
         this.terminationFlag = terminationFlag;
     }
@@ -145,7 +139,7 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
     }
 
     public Dijkstra withVisited(long node) {
-        visited.set(node);
+        searchState.visit(node);
         return this;
     }
     
@@ -160,8 +154,7 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
     // source node.
     public void resetTraversalState() {
         traversalState = CONTINUE;
-        queue.clear();
-        visited.clear();
+        searchState.reset();
         if (trackRelationships) {
             relationships.clear();
         }
@@ -170,7 +163,7 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
     public PathFindingResult compute() {
         progressTracker.beginSubTask();
 
-        queue.add(sourceNode, 0.0);
+        searchState.queue().add(sourceNode, 0.0);
 
         var pathResultBuilder = ImmutablePathResult.builder()
             .sourceNode(sourceNode);
@@ -183,12 +176,13 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
     }
 
     private PathResult next(Targets targets, ImmutablePathResult.Builder pathResultBuilder) {
+        var queue = searchState.queue();
         var relationshipId = new MutableInt();
 
         while (!queue.isEmpty() && terminationFlag.running() && traversalState != EMIT_AND_STOP) {
             var node = queue.pop();
             var cost = queue.cost(node);
-            visited.set(node);
+            searchState.visit(node);
 
             // For disconnected graphs, this will not reach 100%.
             progressTracker.logProgress(graph.degree(node));
@@ -210,19 +204,26 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
             traversalState = targets.apply(node);
 
             if (traversalState == EMIT_AND_CONTINUE || traversalState == EMIT_AND_STOP) {
-                return pathResult(node, pathResultBuilder);
+                return pathResult(queue, node, pathResultBuilder);
             }
         }
 
         return PathResult.EMPTY;
     }
 
-    private void updateCost(long source, long target, long relationshipId, double newCost) {
+    private void updateCost(
+        long source,
+        long target,
+        long relationshipId,
+        double newCost
+    ) {
         // target has been visited, we already have a shortest path
-        if (visited.get(target)) {
+        if (searchState.isVisited(target)) {
             return;
         }
 
+        var queue = searchState.queue();
+
         if (!queue.containsElement(target)) {
             // we see target for the first time
             queue.add(target, newCost);
@@ -242,7 +243,11 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
 
     private static final long[] EMPTY_ARRAY = new long[0];
 
-    private PathResult pathResult(long target, ImmutablePathResult.Builder pathResultBuilder) {
+    private PathResult pathResult(
+        HugeLongPriorityQueue queue,
+        long target,
+        ImmutablePathResult.Builder pathResultBuilder
+    ) {
         // TODO: use LongArrayList and then ArrayUtils.reverse
         var pathNodeIds = new LongArrayDeque();
         var relationshipIds = trackRelationships ? new LongArrayDeque() : null;
@@ -295,15 +300,6 @@ public final class Dijkstra extends Algorithm<PathFindingResult> {
         }
     }
 
-    private static HugeLongPriorityQueue minPriorityQueue(long capacity, HeuristicFunction heuristicFunction) {
-        return new HugeLongPriorityQueue(capacity) {
-            @Override
-            protected boolean lessThan(long a, long b) {
-                return heuristicFunction.applyAsDouble(a) + costValues.get(a) < heuristicFunction.applyAsDouble(b) + costValues.get(b);
-            }
-        };
-    }
-
     @FunctionalInterface
     public interface HeuristicFunction extends LongToDoubleFunction {}
 }
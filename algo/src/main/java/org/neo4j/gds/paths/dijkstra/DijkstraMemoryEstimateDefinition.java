@@ -25,6 +25,10 @@ import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.paths.contractionhierarchy.ContractionHierarchy;
+import org.neo4j.gds.paths.contractionhierarchy.ContractionHierarchyShortestPath;
+
+import java.util.List;
 
 public class DijkstraMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
@@ -36,6 +40,30 @@ public class DijkstraMemoryEstimateDefinition implements MemoryEstimateDefinitio
 
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (parameters.contractionHierarchy()) {
+            // queries only touch the searched part of the hierarchy, which is negligible
+            return MemoryEstimations.builder(ContractionHierarchyShortestPath.class)
+                .add("contraction hierarchy", ContractionHierarchy.memoryEstimation())
+                .build();
+        }
+
+        if (parameters.bidirectional()) {
+            // one search from each end, unweighted graphs use less with the hash map based BFS;
+            // without an inverse index the query falls back to the unidirectional search
+            var bidirectionalSearch = MemoryEstimations.builder(BidirectionalDijkstra.class)
+                .add("forward search", searchMemoryEstimation())
+                .add("backward search", searchMemoryEstimation())
+                .build();
+            return MemoryEstimations.maxEstimation(
+                "Dijkstra",
+                List.of(bidirectionalSearch, unidirectionalMemoryEstimation())
+            );
+        }
+
+        return unidirectionalMemoryEstimation();
+    }
+
+    private MemoryEstimation unidirectionalMemoryEstimation() {
         boolean trackRelationships = parameters.trackRelationships();
         boolean manyTargets = parameters.manyTargets();
 
@@ -53,4 +81,11 @@ public class DijkstraMemoryEstimateDefinition implements MemoryEstimateDefinitio
             .build();
     }
 
+    private static MemoryEstimation searchMemoryEstimation() {
+        return MemoryEstimations.builder(DijkstraSearchState.class)
+            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .add("reverse path", HugeLongLongMap.memoryEstimation())
+            .perNode("visited set", Estimate::sizeOfBitset)
+            .build();
+    }
 }
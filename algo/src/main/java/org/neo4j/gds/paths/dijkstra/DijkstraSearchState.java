@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+
+/**
+ * The per-node state of a {@link Dijkstra} traversal.
+ * <p>
+ * Visited nodes are remembered, so that resetting the state between traversals, e.g. for the spur paths
+ * of Yen's algorithm, is linear in the number of nodes touched by the previous traversal instead of the node count.
+ */
+final class DijkstraSearchState {
+
+    private final SearchQueue queue;
+    private final BitSet visited;
+    private final LongArrayList visitedNodes;
+
+    DijkstraSearchState(long nodeCount, @Nullable Dijkstra.HeuristicFunction heuristicFunction) {
+        this.queue = new SearchQueue(nodeCount, heuristicFunction);
+        this.visited = new BitSet();
+        this.visitedNodes = new LongArrayList();
+    }
+
+    HugeLongPriorityQueue queue() {
+        return queue;
+    }
+
+    boolean isVisited(long node) {
+        return visited.get(node);
+    }
+
+    void visit(long node) {
+        if (!visited.get(node)) {
+            visited.set(node);
+            visitedNodes.add(node);
+        }
+    }
+
+    /**
+     * Clears the queue and the visited set.
+     */
+    void reset() {
+        queue.clear();
+        var buffer = visitedNodes.buffer;
+        for (int i = 0; i < visitedNodes.size(); i++) {
+            visited.clear(buffer[i]);
+        }
+        visitedNodes.elementsCount = 0;
+    }
+
+    /**
+     * A min priority queue, optionally ordered by cost plus the estimate of a heuristic function.
+     */
+    private static final class SearchQueue extends HugeLongPriorityQueue {
+
+        private final @Nullable Dijkstra.HeuristicFunction heuristicFunction;
+
+        SearchQueue(long capacity, @Nullable Dijkstra.HeuristicFunction heuristicFunction) {
+            super(capacity);
+            this.heuristicFunction = heuristicFunction;
+        }
+
+        @Override
+        protected boolean lessThan(long a, long b) {
+            if (heuristicFunction == null) {
+                return costValues.get(a) < costValues.get(b);
+            }
+            return heuristicFunction.applyAsDouble(a) + costValues.get(a) < heuristicFunction.applyAsDouble(b) + costValues.get(b);
+        }
+    }
+}
@@ -41,7 +41,7 @@ public class YensMemoryEstimateDefinition implements MemoryEstimateDefinition {
                 .fixed("neighbors", Estimate.sizeOfLongArray(numberOfShortestPathsToFind))
                 .add(
                     "Dijkstra",
-                    new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(true, false))
+                    new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(true, false, false, false))
                         .memoryEstimation()
                 ).build())
             .build();
@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import com.carrotsearch.hppc.LongArrayDeque;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.relationships.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parallel strongly connected components, following the Multistep method of Slota et al.
+ * <ol>
+ *     <li>Trimming: nodes without incoming or without outgoing relationships to unassigned nodes are
+ *     components on their own. Removing them can trim their neighbours, which is followed up immediately.</li>
+ *     <li>Forward-backward: the nodes that are both reachable from and can reach a pivot form the component of
+ *     the pivot. The pivot is the node with the largest product of in and out degree, which is likely to lie in the
+ *     largest component. Both searches are level synchronous parallel BFS.</li>
+ *     <li>Coloring: every remaining node gets its own id as color, and the largest color is propagated along the
+ *     relationships. A node that keeps its own color is the root of a component, which consists of the nodes of the
+ *     same color that can reach the root. The components are removed and the coloring is repeated on the remaining
+ *     nodes until no node remains.</li>
+ * </ol>
+ * The result is the same partition as the one of {@link Scc}, with another node of the component as component id.
+ * Directed graphs require an inverse index.
+ */
+public final class ParallelScc extends Algorithm<HugeLongArray> {
+
+    private static final long NO_NODE = -1L;
+    private static final long BATCH_SIZE = 4096;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+    private final long nodeCount;
+
+    private final HugeLongArray components;
+    // nodes that have been assigned to a component
+    private final HugeAtomicBitSet assigned;
+    // in and out degrees within the unassigned nodes, reused as colors and remaining nodes during the coloring
+    private final HugeAtomicLongArray inDegrees;
+    private final HugeAtomicLongArray outDegrees;
+    private final HugeAtomicBitSet forward;
+    private final HugeAtomicBitSet backward;
+    private HugeLongArray frontier;
+    private HugeLongArray nextFrontier;
+    private final AtomicLong nextFrontierSize;
+
+    public ParallelScc(
+        Graph graph,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (!canSearchBackwards(graph)) {
+            throw new IllegalArgumentException(
+                "Parallel SCC requires an undirected graph or an inverse indexed relationship type.");
+        }
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.nodeCount = graph.nodeCount();
+
+        this.components = HugeLongArray.newArray(nodeCount);
+        this.assigned = HugeAtomicBitSet.create(nodeCount);
+        this.inDegrees = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.outDegrees = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(concurrency));
+        this.forward = HugeAtomicBitSet.create(nodeCount);
+        this.backward = HugeAtomicBitSet.create(nodeCount);
+        this.frontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontierSize = new AtomicLong();
+
+        this.terminationFlag = terminationFlag;
+    }
+
+    public static boolean canSearchBackwards(Graph graph) {
+        return graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed();
+    }
+
+    @Override
+    public HugeLongArray compute() {
+        progressTracker.beginSubTask();
+
+        trim();
+        forwardBackward();
+        // removing the pivot component usually leaves new trivial components
+        trim();
+        coloring();
+
+        progressTracker.endSubTask();
+        return components;
+    }
+
+    private void trim() {
+        parallelForEach(nodeCount, (localGraph, node) -> {
+            if (!assigned.get(node)) {
+                outDegrees.set(node, countUnassigned(localGraph, node, true));
+                inDegrees.set(node, countUnassigned(localGraph, node, false));
+            }
+            return 0;
+        });
+
+        parallelForEach(nodeCount, (localGraph, node) -> {
+            if (assigned.get(node) || (inDegrees.get(node) > 0 && outDegrees.get(node) > 0)) {
+                return 0;
+            }
+            return trimFrom(localGraph, node);
+        });
+    }
+
+    private long countUnassigned(Graph localGraph, long node, boolean outgoing) {
+        var count = new long[]{0};
+        RelationshipConsumer consumer = (source, target) -> {
+            if (target != node && !assigned.get(target)) {
+                count[0]++;
+            }
+            return true;
+        };
+        if (outgoing) {
+            localGraph.forEachRelationship(node, consumer);
+        } else {
+            forEachIncoming(localGraph, node, consumer);
+        }
+        return count[0];
+    }
+
+    /**
+     * Assigns the node to its own component, and so all neighbours that lose their last in or out neighbour.
+     */
+    private long trimFrom(Graph localGraph, long startNode) {
+        long trimmed = 0;
+        var stack = new LongArrayDeque();
+        stack.addLast(startNode);
+        while (!stack.isEmpty()) {
+            long node = stack.removeLast();
+            if (assigned.getAndSet(node)) {
+                continue;
+            }
+            components.set(node, node);
+            trimmed++;
+
+            localGraph.forEachRelationship(node, (source, target) -> {
+                if (target != node && !assigned.get(target) && inDegrees.getAndAdd(target, -1) == 1) {
+                    stack.addLast(target);
+                }
+                return true;
+            });
+            forEachIncoming(localGraph, node, (target, source) -> {
+                if (source != node && !assigned.get(source) && outDegrees.getAndAdd(source, -1) == 1) {
+                    stack.addLast(source);
+                }
+                return true;
+            });
+        }
+        return trimmed;
+    }
+
+    private void forwardBackward() {
+        var pivot = new AtomicLong(NO_NODE);
+        parallelForEach(nodeCount, (localGraph, node) -> {
+            if (!assigned.get(node)) {
+                offerPivot(pivot, node);
+            }
+            return 0;
+        });
+
+        long pivotNode = pivot.get();
+        if (pivotNode == NO_NODE) {
+            return;
+        }
+
+        reach(pivotNode, forward, true);
+        reach(pivotNode, backward, false);
+
+        parallelForEach(nodeCount, (localGraph, node) -> {
+            if (forward.get(node) && backward.get(node)) {
+                assigned.set(node);
+                components.set(node, pivotNode);
+                return 1;
+            }
+            return 0;
+        });
+    }
+
+    private void offerPivot(AtomicLong pivot, long node) {
+        long score = inDegrees.get(node) * outDegrees.get(node);
+        while (true) {
+            long current = pivot.get();
+            if (current != NO_NODE) {
+                long currentScore = inDegrees.get(current) * outDegrees.get(current);
+                if (currentScore > score || (currentScore == score && current > node)) {
+                    return;
+                }
+            }
+            if (pivot.compareAndSet(current, node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Level synchronous BFS over the unassigned nodes.
+     */
+    private void reach(long startNode, HugeAtomicBitSet visited, boolean outgoing) {
+        visited.set(startNode);
+        frontier.set(0, startNode);
+        long frontierSize = 1;
+
+        while (frontierSize > 0) {
+            nextFrontierSize.set(0);
+            var currentFrontier = frontier;
+            parallelForEach(frontierSize, (localGraph, index) -> {
+                long node = currentFrontier.get(index);
+                RelationshipConsumer consumer = (source, target) -> {
+                    if (!assigned.get(target) && !visited.getAndSet(target)) {
+                        nextFrontier.set(nextFrontierSize.getAndIncrement(), target);
+                    }
+                    return true;
+                };
+                if (outgoing) {
+                    localGraph.forEachRelationship(node, consumer);
+                } else {
+                    forEachIncoming(localGraph, node, consumer);
+                }
+                return 0;
+            });
+            frontierSize = swapFrontiers();
+        }
+    }
+
+    private void coloring() {
+        var colors = inDegrees;
+        var queued = forward;
+        // the out degrees are not needed anymore and hold the nodes that are left to color
+        var remaining = outDegrees;
+
+        nextFrontierSize.set(0);
+        parallelForEach(nodeCount, (localGraph, node) -> {
+            if (!assigned.get(node)) {
+                remaining.set(nextFrontierSize.getAndIncrement(), node);
+            }
+            return 0;
+        });
+        long remainingCount = nextFrontierSize.get();
+
+        // a propagation ends with all queued flags cleared
+        queued.clear();
+
+        while (remainingCount > 0) {
+            var initialFrontier = frontier;
+            parallelForEach(remainingCount, (localGraph, index) -> {
+                long node = remaining.get(index);
+                colors.set(node, node);
+                initialFrontier.set(index, node);
+                return 0;
+            });
+            long frontierSize = remainingCount;
+
+            // propagate the largest color, only nodes whose color changed propagate again
+            while (frontierSize > 0) {
+                nextFrontierSize.set(0);
+                var currentFrontier = frontier;
+                parallelForEach(frontierSize, (localGraph, index) -> {
+                    long node = currentFrontier.get(index);
+                    queued.clear(node);
+                    long color = colors.get(node);
+                    localGraph.forEachRelationship(node, (source, target) -> {
+                        if (!assigned.get(target) && raiseColor(colors, target, color) && !queued.getAndSet(target)) {
+                            nextFrontier.set(nextFrontierSize.getAndIncrement(), target);
+                        }
+                        return true;
+                    });
+                    return 0;
+                });
+                frontierSize = swapFrontiers();
+            }
+
+            // every root collects the nodes of its color that can reach it
+            parallelForEach(remainingCount, (localGraph, index) -> {
+                long node = remaining.get(index);
+                if (assigned.get(node) || colors.get(node) != node) {
+                    return 0;
+                }
+                return collectComponent(localGraph, node, colors);
+            });
+
+            // compact the nodes left for the next round, so that no round scans all nodes
+            nextFrontierSize.set(0);
+            var leftNodes = nextFrontier;
+            parallelForEach(remainingCount, (localGraph, index) -> {
+                long node = remaining.get(index);
+                if (!assigned.get(node)) {
+                    leftNodes.set(nextFrontierSize.getAndIncrement(), node);
+                }
+                return 0;
+            });
+            remainingCount = nextFrontierSize.get();
+            parallelForEach(remainingCount, (localGraph, index) -> {
+                remaining.set(index, leftNodes.get(index));
+                return 0;
+            });
+        }
+    }
+
+    private static boolean raiseColor(HugeAtomicLongArray colors, long node, long color) {
+        long current = colors.get(node);
+        while (color > current) {
+            long witness = colors.compareAndExchange(node, current, color);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private long collectComponent(Graph localGraph, long root, HugeAtomicLongArray colors) {
+        long collected = 0;
+        var stack = new LongArrayDeque();
+        assigned.set(root);
+        components.set(root, root);
+        stack.addLast(root);
+        while (!stack.isEmpty()) {
+            long node = stack.removeLast();
+            collected++;
+            forEachIncoming(localGraph, node, (target, source) -> {
+                if (colors.get(source) == root && !assigned.getAndSet(source)) {
+                    components.set(source, root);
+                    stack.addLast(source);
+                }
+                return true;
+            });
+        }
+        return collected;
+    }
+
+    private long swapFrontiers() {
+        var tmp = frontier;
+        frontier = nextFrontier;
+        nextFrontier = tmp;
+        return nextFrontierSize.get();
+    }
+
+    private void forEachIncoming(Graph localGraph, long node, RelationshipConsumer consumer) {
+        if (graph.characteristics().isUndirected()) {
+            localGraph.forEachRelationship(node, consumer);
+        } else {
+            localGraph.forEachInverseRelationship(node, consumer);
+        }
+    }
+
+    /**
+     * Runs the function for all indexes below the given size. The indexes are handed out in batches,
+     * every thread uses its own copy of the graph. The function returns the number of assigned nodes.
+     */
+    private void parallelForEach(long size, IndexFunction function) {
+        var cursor = new AtomicLong();
+        var tasks = ParallelUtil.tasks(concurrency, () -> {
+            var localGraph = graph.concurrentCopy();
+            return (Runnable) () -> {
+                long start;
+                while ((start = cursor.getAndAdd(BATCH_SIZE)) < size) {
+                    terminationFlag.assertRunning();
+                    long end = Math.min(start + BATCH_SIZE, size);
+                    long assignedNodes = 0;
+                    for (long index = start; index < end; index++) {
+                        assignedNodes += function.apply(localGraph, index);
+                    }
+                    if (assignedNodes > 0) {
+                        progressTracker.logProgress(assignedNodes);
+                    }
+                }
+            };
+        });
+        ParallelUtil.run(tasks, executorService);
+    }
+
+    @FunctionalInterface
+    private interface IndexFunction {
+        long apply(Graph localGraph, long index);
+    }
+}
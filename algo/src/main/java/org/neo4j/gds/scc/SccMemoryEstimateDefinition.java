@@ -19,8 +19,10 @@
  */
 package org.neo4j.gds.scc;
 
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
@@ -30,8 +32,21 @@ import org.neo4j.gds.mem.Estimate;
 
 public class SccMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    private final boolean parallel;
+
+    public SccMemoryEstimateDefinition() {
+        this(false);
+    }
+
+    public SccMemoryEstimateDefinition(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (parallel) {
+            return parallelMemoryEstimation();
+        }
         var builder = MemoryEstimations.builder(Scc.class);
         builder
             .perNode("index", HugeLongArray::memoryEstimation)
@@ -53,4 +68,17 @@ public class SccMemoryEstimateDefinition implements MemoryEstimateDefinition {
         return builder.build();
     }
 
+    private static MemoryEstimation parallelMemoryEstimation() {
+        return MemoryEstimations.builder(ParallelScc.class)
+            .perNode("components", HugeLongArray::memoryEstimation)
+            .perNode("assigned", HugeAtomicBitSet::memoryEstimation)
+            .perNode("forward", HugeAtomicBitSet::memoryEstimation)
+            .perNode("backward", HugeAtomicBitSet::memoryEstimation)
+            .perNode("in-degrees", HugeAtomicLongArray::memoryEstimation)
+            .perNode("out-degrees", HugeAtomicLongArray::memoryEstimation)
+            .perNode("frontier", HugeLongArray::memoryEstimation)
+            .perNode("next frontier", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
 }
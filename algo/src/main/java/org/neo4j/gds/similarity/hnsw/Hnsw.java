@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.similarity.knn.KnnNodePropertySpec;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds a {@link HnswIndex} over a {@code float[]} or {@code double[]} node property.
+ * <p>
+ * All levels are drawn up front, so that the node with the highest level can be inserted first and stays
+ * the entry point of the index. All other nodes are inserted concurrently.
+ */
+public class Hnsw extends Algorithm<HnswIndex> {
+
+    private final Graph graph;
+    private final HnswParameters parameters;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+
+    public Hnsw(
+        Graph graph,
+        HnswParameters parameters,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.parameters = parameters;
+        this.concurrency = parameters.concurrency();
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public HnswIndex compute() {
+        progressTracker.beginSubTask();
+
+        var propertySpec = new KnnNodePropertySpec(parameters.nodeProperty());
+        if (parameters.similarityMetric() != SimilarityMetric.DEFAULT) {
+            propertySpec.setMetric(parameters.similarityMetric());
+        }
+        var similarityComputer = SimilarityComputer.ofProperty(graph, propertySpec);
+        var vectors = graph.nodeProperties(parameters.nodeProperty());
+        switch (vectors.valueType()) {
+            case DOUBLE_ARRAY:
+            case FLOAT_ARRAY:
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The property `%s` has an unsupported type [%s], expected a float or double array.",
+                    parameters.nodeProperty(),
+                    vectors.valueType()
+                ));
+        }
+
+        var levels = drawLevels(graph.nodeCount(), parameters.m(), parameters.randomSeed());
+        long entryPoint = highestLevelNode(levels);
+
+        var index = new HnswIndex(
+            graph,
+            vectors,
+            propertySpec.metric(),
+            similarityComputer,
+            parameters.m(),
+            parameters.efConstruction(),
+            levels,
+            entryPoint
+        );
+
+        if (graph.nodeCount() > 0) {
+            index.insert(entryPoint, new LongHashSet());
+
+            var tasks = PartitionUtils.rangePartition(
+                concurrency,
+                graph.nodeCount(),
+                partition -> (Runnable) () -> {
+                    var visited = new LongHashSet();
+                    partition.consume(nodeId -> {
+                        if (nodeId != entryPoint) {
+                            index.insert(nodeId, visited);
+                        }
+                        progressTracker.logProgress();
+                    });
+                },
+                Optional.empty()
+            );
+
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(tasks)
+                .executor(executorService)
+                .terminationFlag(terminationFlag)
+                .run();
+        }
+
+        index.freeze();
+        progressTracker.endSubTask();
+        return index;
+    }
+
+    static HugeIntArray drawLevels(long nodeCount, int m, Optional<Long> randomSeed) {
+        var random = randomSeed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        double levelMultiplier = 1.0 / Math.log(m);
+        var levels = HugeIntArray.newArray(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            // 1 - nextDouble() is in (0, 1], which keeps the logarithm finite
+            levels.set(nodeId, (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier));
+        }
+        return levels;
+    }
+
+    private static long highestLevelNode(HugeIntArray levels) {
+        long entryPoint = 0;
+        for (long nodeId = 1; nodeId < levels.size(); nodeId++) {
+            if (levels.get(nodeId) > levels.get(entryPoint)) {
+                entryPoint = nodeId;
+            }
+        }
+        return entryPoint;
+    }
+}
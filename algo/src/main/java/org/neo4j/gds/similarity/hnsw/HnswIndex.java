@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.Euclidean;
+import org.neo4j.gds.similarity.knn.metrics.Pearson;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.ToDoubleBiFunction;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A hierarchical navigable small world graph over a vector node property.
+ * <p>
+ * Every node is assigned a random level, drawn from an exponentially decaying distribution.
+ * On each level up to its own, a node is linked to up to {@code m} similar nodes ({@code 2 * m} on level 0).
+ * Queries descend greedily from the entry point on the top level and run a best-first search
+ * with a candidate list of size {@code ef} on level 0.
+ * <p>
+ * Inserts may run concurrently. The neighbour arrays of a node are never modified in place but replaced,
+ * guarded by a striped lock. Once the index is {@link #freeze() frozen}, queries read without locking.
+ */
+public final class HnswIndex {
+
+    private static final int LOCK_STRIPES = 1 << 12;
+
+    private final IdMap idMap;
+    private final NodePropertyValues vectors;
+    private final SimilarityMetric similarityMetric;
+    private final SimilarityComputer similarityComputer;
+    private final int m;
+    private final int efConstruction;
+    private final HugeIntArray levels;
+    private final HugeObjectArray<long[][]> neighbors;
+    private final long entryPoint;
+    private final Object[] locks;
+
+    private boolean frozen;
+
+    HnswIndex(
+        IdMap idMap,
+        NodePropertyValues vectors,
+        SimilarityMetric similarityMetric,
+        SimilarityComputer similarityComputer,
+        int m,
+        int efConstruction,
+        HugeIntArray levels,
+        long entryPoint
+    ) {
+        this.idMap = idMap;
+        this.vectors = vectors;
+        this.similarityMetric = similarityMetric;
+        this.similarityComputer = similarityComputer;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.levels = levels;
+        this.entryPoint = entryPoint;
+        this.neighbors = HugeObjectArray.newArray(long[][].class, levels.size());
+        this.locks = new Object[LOCK_STRIPES];
+        Arrays.setAll(locks, i -> new Object());
+    }
+
+    public long nodeCount() {
+        return levels.size();
+    }
+
+    public int maxLevel() {
+        return nodeCount() == 0 ? -1 : levels.get(entryPoint);
+    }
+
+    public SimilarityMetric similarityMetric() {
+        return similarityMetric;
+    }
+
+    /**
+     * The index keeps the id space of the graph it was built on,
+     * which may differ from the id space of a later query over a differently filtered graph.
+     */
+    public long toOriginalNodeId(long nodeId) {
+        return idMap.toOriginalNodeId(nodeId);
+    }
+
+    /**
+     * Returns {@link IdMap#NOT_FOUND} if the node is not part of the index.
+     */
+    public long toMappedNodeId(long originalNodeId) {
+        return idMap.safeToMappedNodeId(originalNodeId);
+    }
+
+    /**
+     * Returns up to {@code k} approximate nearest neighbours of an indexed node, excluding the node itself.
+     */
+    public List<Neighbor> search(long nodeId, int k, int ef) {
+        LongToDoubleFunction similarityToQuery = other -> similarityComputer.safeSimilarity(nodeId, other);
+        return search(similarityToQuery, nodeId, k, ef);
+    }
+
+    /**
+     * Returns up to {@code k} approximate nearest neighbours of an arbitrary vector.
+     */
+    public List<Neighbor> search(double[] vector, int k, int ef) {
+        if (nodeCount() > 0) {
+            int dimension = vectors.valueType() == ValueType.FLOAT_ARRAY
+                ? vectors.floatArrayValue(entryPoint).length
+                : vectors.doubleArrayValue(entryPoint).length;
+            if (vector.length != dimension) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The query vector has %d dimensions, but the indexed vectors have %d.",
+                    vector.length,
+                    dimension
+                ));
+            }
+        }
+        return search(similarityTo(vector), -1, k, ef);
+    }
+
+    private List<Neighbor> search(LongToDoubleFunction similarityToQuery, long excludedNode, int k, int ef) {
+        if (nodeCount() == 0 || k < 1) {
+            return List.of();
+        }
+
+        var visited = new LongHashSet();
+        // we ask for one additional result, as the query node will usually find itself
+        int candidateListSize = Math.max(ef, k + 1);
+
+        long current = entryPoint;
+        double currentSimilarity = similarityToQuery.applyAsDouble(current);
+        for (int level = maxLevel(); level > 0; level--) {
+            var closest = searchLayer(similarityToQuery, current, currentSimilarity, 1, level, visited);
+            current = closest.topNode();
+            currentSimilarity = closest.topSimilarity();
+        }
+
+        var results = searchLayer(similarityToQuery, current, currentSimilarity, candidateListSize, 0, visited);
+        var sorted = sortedBySimilarity(results);
+
+        var neighbours = new ArrayList<Neighbor>(k);
+        for (int i = 0; i < sorted.size() && neighbours.size() < k; i++) {
+            if (sorted.nodeAt(i) != excludedNode) {
+                neighbours.add(new Neighbor(sorted.nodeAt(i), sorted.similarityAt(i)));
+            }
+        }
+        return neighbours;
+    }
+
+    /**
+     * Links a node into the index. The entry point has to be inserted first.
+     */
+    void insert(long node, LongHashSet visited) {
+        int nodeLevel = levels.get(node);
+        var nodeNeighbors = new long[nodeLevel + 1][];
+        Arrays.fill(nodeNeighbors, new long[0]);
+        neighbors.set(node, nodeNeighbors);
+
+        if (node == entryPoint) {
+            return;
+        }
+
+        LongToDoubleFunction similarityToNode = other -> similarityComputer.safeSimilarity(node, other);
+
+        long current = entryPoint;
+        double currentSimilarity = similarityToNode.applyAsDouble(current);
+        for (int level = maxLevel(); level > nodeLevel; level--) {
+            var closest = searchLayer(similarityToNode, current, currentSimilarity, 1, level, visited);
+            current = closest.topNode();
+            currentSimilarity = closest.topSimilarity();
+        }
+
+        for (int level = Math.min(nodeLevel, maxLevel()); level >= 0; level--) {
+            var candidates = sortedBySimilarity(
+                searchLayer(similarityToNode, current, currentSimilarity, efConstruction, level, visited)
+            );
+            current = candidates.nodeAt(0);
+            currentSimilarity = candidates.similarityAt(0);
+
+            var selected = selectNeighbors(candidates, maxDegree(level));
+            setNeighbors(node, level, selected);
+
+            for (long neighbor : selected) {
+                connect(neighbor, node, level);
+            }
+        }
+    }
+
+    void freeze() {
+        this.frozen = true;
+    }
+
+    private int maxDegree(int level) {
+        return level == 0 ? 2 * m : m;
+    }
+
+    private SimilarityHeap searchLayer(
+        LongToDoubleFunction similarityToQuery,
+        long entry,
+        double entrySimilarity,
+        int ef,
+        int level,
+        LongHashSet visited
+    ) {
+        visited.clear();
+        visited.add(entry);
+
+        var candidates = SimilarityHeap.max(ef);
+        var results = SimilarityHeap.min(ef + 1);
+        candidates.push(entry, entrySimilarity);
+        results.push(entry, entrySimilarity);
+
+        while (!candidates.isEmpty()) {
+            long candidate = candidates.topNode();
+            double candidateSimilarity = candidates.topSimilarity();
+            candidates.pop();
+
+            if (results.size() >= ef && candidateSimilarity < results.topSimilarity()) {
+                break;
+            }
+
+            for (long neighbor : neighbors(candidate, level)) {
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                double similarity = similarityToQuery.applyAsDouble(neighbor);
+                if (results.size() < ef || similarity > results.topSimilarity()) {
+                    candidates.push(neighbor, similarity);
+                    results.push(neighbor, similarity);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Selects neighbours that are closer to the base node than to any already selected neighbour.
+     * This keeps links towards different regions of the space instead of only to a dense cluster.
+     * Remaining slots are filled with the best of the discarded candidates.
+     *
+     * @param candidates candidates sorted by descending similarity to the base node
+     */
+    private long[] selectNeighbors(SimilarityHeap candidates, int maxDegree) {
+        int candidateCount = candidates.size();
+        if (candidateCount <= maxDegree) {
+            var all = new long[candidateCount];
+            Arrays.setAll(all, candidates::nodeAt);
+            return all;
+        }
+
+        var selected = new long[maxDegree];
+        var discarded = new boolean[candidateCount];
+        int selectedCount = 0;
+
+        for (int i = 0; i < candidateCount && selectedCount < maxDegree; i++) {
+            long candidate = candidates.nodeAt(i);
+            double similarityToBase = candidates.similarityAt(i);
+            boolean keep = true;
+            for (int j = 0; j < selectedCount; j++) {
+                if (similarityComputer.safeSimilarity(candidate, selected[j]) > similarityToBase) {
+                    keep = false;
+                    break;
+                }
+            }
+            if (keep) {
+                selected[selectedCount++] = candidate;
+            } else {
+                discarded[i] = true;
+            }
+        }
+
+        for (int i = 0; i < candidateCount && selectedCount < maxDegree; i++) {
+            if (discarded[i]) {
+                selected[selectedCount++] = candidates.nodeAt(i);
+            }
+        }
+
+        return selectedCount == maxDegree ? selected : Arrays.copyOf(selected, selectedCount);
+    }
+
+    private void connect(long node, long newNeighbor, int level) {
+        synchronized (lock(node)) {
+            var current = neighbors.get(node)[level];
+            for (long existing : current) {
+                if (existing == newNeighbor) {
+                    return;
+                }
+            }
+
+            int maxDegree = maxDegree(level);
+            if (current.length < maxDegree) {
+                var extended = Arrays.copyOf(current, current.length + 1);
+                extended[current.length] = newNeighbor;
+                neighbors.get(node)[level] = extended;
+                return;
+            }
+
+            var candidates = SimilarityHeap.min(current.length + 1);
+            for (long existing : current) {
+                candidates.push(existing, similarityComputer.safeSimilarity(node, existing));
+            }
+            candidates.push(newNeighbor, similarityComputer.safeSimilarity(node, newNeighbor));
+            neighbors.get(node)[level] = selectNeighbors(sortedBySimilarity(candidates), maxDegree);
+        }
+    }
+
+    private void setNeighbors(long node, int level, long[] newNeighbors) {
+        synchronized (lock(node)) {
+            neighbors.get(node)[level] = newNeighbors;
+        }
+    }
+
+    private long[] neighbors(long node, int level) {
+        if (frozen) {
+            return neighbors.get(node)[level];
+        }
+        synchronized (lock(node)) {
+            return neighbors.get(node)[level];
+        }
+    }
+
+    private Object lock(long node) {
+        return locks[(int) (node & (LOCK_STRIPES - 1))];
+    }
+
+    /**
+     * Drains a min-heap into a max-heap layout that is sorted by descending similarity.
+     */
+    private static SimilarityHeap sortedBySimilarity(SimilarityHeap minHeap) {
+        int size = minHeap.size();
+        var nodes = new long[size];
+        var similarities = new double[size];
+        for (int i = size - 1; i >= 0; i--) {
+            nodes[i] = minHeap.topNode();
+            similarities[i] = minHeap.topSimilarity();
+            minHeap.pop();
+        }
+        // pushing in descending order keeps the heap array sorted, as no element ever moves up
+        var sorted = SimilarityHeap.max(size);
+        for (int i = 0; i < size; i++) {
+            sorted.push(nodes[i], similarities[i]);
+        }
+        return sorted;
+    }
+
+    private LongToDoubleFunction similarityTo(double[] vector) {
+        switch (vectors.valueType()) {
+            case DOUBLE_ARRAY: {
+                ToDoubleBiFunction<double[], double[]> metric = doubleMetric();
+                return node -> finiteOrZero(metric.applyAsDouble(vector, vectors.doubleArrayValue(node)));
+            }
+            case FLOAT_ARRAY: {
+                var floatVector = new float[vector.length];
+                for (int i = 0; i < vector.length; i++) {
+                    floatVector[i] = (float) vector[i];
+                }
+                ToDoubleBiFunction<float[], float[]> metric = floatMetric();
+                return node -> finiteOrZero(metric.applyAsDouble(floatVector, vectors.floatArrayValue(node)));
+            }
+            default:
+                throw new IllegalStateException(formatWithLocale(
+                    "Unsupported property type [%s] for vector queries.",
+                    vectors.valueType()
+                ));
+        }
+    }
+
+    private ToDoubleBiFunction<double[], double[]> doubleMetric() {
+        switch (similarityMetric) {
+            case COSINE:
+                return Cosine::doubleMetric;
+            case EUCLIDEAN:
+                return Euclidean::doubleMetric;
+            case PEARSON:
+                return Pearson::doubleMetric;
+            default:
+                throw unsupportedMetric();
+        }
+    }
+
+    private ToDoubleBiFunction<float[], float[]> floatMetric() {
+        switch (similarityMetric) {
+            case COSINE:
+                return Cosine::floatMetric;
+            case EUCLIDEAN:
+                return Euclidean::floatMetric;
+            case PEARSON:
+                return Pearson::floatMetric;
+            default:
+                throw unsupportedMetric();
+        }
+    }
+
+    private IllegalStateException unsupportedMetric() {
+        return new IllegalStateException(formatWithLocale(
+            "Similarity metric [%s] is not supported for vector queries.",
+            similarityMetric
+        ));
+    }
+
+    private static double finiteOrZero(double similarity) {
+        return Double.isFinite(similarity) ? similarity : 0.0;
+    }
+
+    public record Neighbor(long nodeId, double similarity) {}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Named {@link HnswIndex indices} are attached to the graph store they were built on
+ * and are dropped together with the graph.
+ */
+public final class HnswIndexes {
+
+    private static final String INDEX_NAME_PREFIX = "hnsw/";
+
+    private HnswIndexes() {}
+
+    public static void put(GraphStore graphStore, String indexName, HnswIndex index) {
+        GraphStoreCatalog.setGraphIndex(graphStore, INDEX_NAME_PREFIX + indexName, index);
+    }
+
+    public static HnswIndex get(GraphStore graphStore, String indexName) {
+        return GraphStoreCatalog
+            .getGraphIndex(graphStore, INDEX_NAME_PREFIX + indexName, HnswIndex.class)
+            .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                "No HNSW index with name `%s` exists for this graph. Build one with `gds.hnsw.build` first.",
+                indexName
+            )));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongHashSet;
+import static org.neo4j.gds.mem.Estimate.sizeOfObjectArray;
+
+public class HnswMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final int m;
+    private final int efConstruction;
+
+    public HnswMemoryEstimateDefinition(int m, int efConstruction) {
+        this.m = m;
+        this.efConstruction = efConstruction;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        // the expected number of levels above the base level is 1 / (m - 1) per node
+        long upperLevels = (long) Math.ceil((sizeOfObjectArray(1) + sizeOfLongArray(m)) / (double) (m - 1));
+        long minPerNode = sizeOfObjectArray(1) + sizeOfLongArray(0);
+        long maxPerNode = sizeOfObjectArray(1) + sizeOfLongArray(2L * m) + upperLevels;
+
+        return MemoryEstimations.builder(Hnsw.class.getSimpleName())
+            .perNode("levels", HugeIntArray::memoryEstimation)
+            .rangePerNode(
+                "neighbors",
+                nodeCount -> MemoryRange.of(
+                    HugeObjectArray.memoryEstimation(nodeCount, minPerNode),
+                    HugeObjectArray.memoryEstimation(nodeCount, maxPerNode)
+                )
+            )
+            .perThread("visited nodes", sizeOfLongHashSet(2L * m * efConstruction))
+            .build();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.mem.MemoryEstimateDefinition;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfInstance;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongHashSet;
+import static org.neo4j.gds.mem.Estimate.sizeOfObjectArray;
+
+/**
+ * The index itself is already resident, a query only needs its candidate lists and the result.
+ */
+public class HnswQueryMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final int topK;
+    private final int ef;
+
+    public HnswQueryMemoryEstimateDefinition(int topK, int ef) {
+        this.topK = topK;
+        this.ef = ef;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        // a candidate and a result heap, each holding up to ef entries
+        long heaps = 2 * (sizeOfLongArray(ef) + sizeOfDoubleArray(ef));
+
+        return MemoryEstimations.builder("HNSW query")
+            .fixed("candidates", heaps)
+            .fixed("visited nodes", sizeOfLongHashSet(ef))
+            .fixed("neighbours", sizeOfObjectArray(topK) + topK * sizeOfInstance(HnswIndex.Neighbor.class))
+            .build();
+    }
+}
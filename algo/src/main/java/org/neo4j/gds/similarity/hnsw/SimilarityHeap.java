@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import java.util.Arrays;
+
+/**
+ * A growable binary heap of (node, similarity) pairs.
+ * The max variant keeps the most similar node on top, the min variant the least similar one.
+ */
+final class SimilarityHeap {
+
+    private final double sign;
+    private long[] nodes;
+    private double[] priorities;
+    private int size;
+
+    private SimilarityHeap(double sign, int initialCapacity) {
+        this.sign = sign;
+        this.nodes = new long[Math.max(initialCapacity, 1)];
+        this.priorities = new double[Math.max(initialCapacity, 1)];
+    }
+
+    static SimilarityHeap max(int initialCapacity) {
+        return new SimilarityHeap(1.0, initialCapacity);
+    }
+
+    static SimilarityHeap min(int initialCapacity) {
+        return new SimilarityHeap(-1.0, initialCapacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    long topNode() {
+        return nodes[0];
+    }
+
+    double topSimilarity() {
+        return priorities[0] * sign;
+    }
+
+    long nodeAt(int index) {
+        return nodes[index];
+    }
+
+    double similarityAt(int index) {
+        return priorities[index] * sign;
+    }
+
+    void push(long node, double similarity) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            priorities = Arrays.copyOf(priorities, size * 2);
+        }
+        int index = size++;
+        double priority = similarity * sign;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] >= priority) {
+                break;
+            }
+            nodes[index] = nodes[parent];
+            priorities[index] = priorities[parent];
+            index = parent;
+        }
+        nodes[index] = node;
+        priorities[index] = priority;
+    }
+
+    void pop() {
+        size--;
+        if (size == 0) {
+            return;
+        }
+        long node = nodes[size];
+        double priority = priorities[size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && priorities[right] > priorities[child]) {
+                child = right;
+            }
+            if (priority >= priorities[child]) {
+                break;
+            }
+            nodes[index] = nodes[child];
+            priorities[index] = priorities[child];
+            index = child;
+        }
+        nodes[index] = node;
+        priorities[index] = priority;
+    }
+}
@@ -47,6 +47,21 @@ public class Knn extends Algorithm<KnnResult> {
         TerminationFlag terminationFlag
     ) {
         var similarityFunction = new SimilarityFunction(similarityComputer);
+        Optional<SimilarityFunction> rerankSimilarityFunction = Optional.empty();
+        if (parameters.quantization().isEnabled()) {
+            // search on the quantized values, the exact values are only used to re-rank the final neighbors;
+            // the quantized copy speeds up the search, but is held in addition to the exact values
+            if (parameters.rerank()) {
+                rerankSimilarityFunction = Optional.of(similarityFunction);
+            }
+            similarityFunction = new SimilarityFunction(SimilarityComputer.ofQuantizedProperty(
+                graph,
+                parameters.nodePropertySpecs().get(0),
+                parameters.quantization(),
+                parameters.concurrency(),
+                terminationFlag
+            ));
+        }
         return new Knn(
             graph,
             context.progressTracker(),
@@ -61,6 +76,7 @@ public class Knn extends Algorithm<KnnResult> {
             parameters.randomSeed(),
             parameters.samplerType(),
             similarityFunction,
+            rerankSimilarityFunction,
             neighborFilterFactory,
             NeighbourConsumers.no_op,
             terminationFlag
@@ -79,6 +95,7 @@ public class Knn extends Algorithm<KnnResult> {
     private final GenerateRandomNeighbors.Factory generateRandomNeighborsFactory;
     private final SplitOldAndNewNeighbors.Factory splitOldAndNewNeighborsFactory;
     private final long updateThreshold;
+    private final Optional<SimilarityFunction> rerankSimilarityFunction;
 
     public Knn(
         Graph graph,
@@ -97,6 +114,46 @@ public class Knn extends Algorithm<KnnResult> {
         NeighborFilterFactory neighborFilterFactory,
         NeighbourConsumers neighborConsumers,
         TerminationFlag terminationFlag
+    ) {
+        this(
+            graph,
+            progressTracker,
+            executorService,
+            k,
+            concurrency,
+            minBatchSize,
+            maxIterations,
+            similarityCutoff,
+            perturbationRate,
+            randomJoins,
+            randomSeed,
+            initialSamplerType,
+            similarityFunction,
+            Optional.empty(),
+            neighborFilterFactory,
+            neighborConsumers,
+            terminationFlag
+        );
+    }
+
+    public Knn(
+        Graph graph,
+        ProgressTracker progressTracker,
+        ExecutorService executorService,
+        K k,
+        Concurrency concurrency,
+        int minBatchSize,
+        int maxIterations,
+        double similarityCutoff,
+        double perturbationRate,
+        int randomJoins,
+        Optional<Long> randomSeed,
+        KnnSampler.SamplerType initialSamplerType,
+        SimilarityFunction similarityFunction,
+        Optional<SimilarityFunction> rerankSimilarityFunction,
+        NeighborFilterFactory neighborFilterFactory,
+        NeighbourConsumers neighborConsumers,
+        TerminationFlag terminationFlag
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -106,6 +163,7 @@ public class Knn extends Algorithm<KnnResult> {
         this.minBatchSize = minBatchSize;
         this.neighborFilterFactory = neighborFilterFactory;
         this.executorService = executorService;
+        this.rerankSimilarityFunction = rerankSimilarityFunction;
 
         this.updateThreshold = k.updateThreshold;
 
@@ -171,6 +229,22 @@ public class Knn extends Algorithm<KnnResult> {
                 break;
             }
         }
+        rerankSimilarityFunction.ifPresent(rerankFunction -> {
+            var rerankTasks = PartitionUtils.rangePartition(
+                concurrency,
+                neighbors.size(),
+                partition -> (Runnable) () -> partition.consume(
+                    nodeId -> neighbors.rescore(nodeId, rerankFunction)
+                ),
+                Optional.of(minBatchSize)
+            );
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(rerankTasks)
+                .terminationFlag(terminationFlag)
+                .executor(executorService)
+                .run();
+        });
         if (similarityCutoff > 0) {
             var neighborFilterTasks = PartitionUtils.rangePartition(
                 concurrency,
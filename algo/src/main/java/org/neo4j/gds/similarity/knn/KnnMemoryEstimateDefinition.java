@@ -25,6 +25,7 @@ import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.similarity.knn.metrics.QuantizedEmbeddings;
 
 import java.util.function.LongFunction;
 
@@ -35,6 +36,9 @@ import static org.neo4j.gds.mem.Estimate.sizeOfOpenHashContainer;
 
 public class KnnMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
+    // used for the quantized copy when the dimension of the property is unknown at estimation time
+    private static final int ESTIMATED_PROPERTY_DIMENSION = 128;
+
     private final KnnMemoryEstimationParametersBuilder parametersSansNodeCount;
 
     public KnnMemoryEstimateDefinition(KnnMemoryEstimationParametersBuilder parametersSansNodeCount) {
@@ -65,7 +69,7 @@ public class KnnMemoryEstimateDefinition implements MemoryEstimateDefinition {
                     HugeObjectArray.memoryEstimation(nodeCount, neighborListEstimate.max)
                 );
 
-                return MemoryEstimations
+                var builder = MemoryEstimations
                     .builder(Knn.class)
                     .rangePerNode("top-k-neighbors-list", perNodeNeighborListEstimate)
                     .rangePerNode("old-neighbors", tempListEstimation)
@@ -83,8 +87,18 @@ public class KnnMemoryEstimateDefinition implements MemoryEstimateDefinition {
                         MemoryRange.of(
                             sizeOfIntArray(sizeOfOpenHashContainer(k.sampledValue)) * concurrency.value()
                         )
+                    );
+
+                parameters.quantizedProperty().ifPresent(property -> builder.fixed(
+                    "quantized-embeddings",
+                    QuantizedEmbeddings.memoryEstimation(
+                        parameters.quantization(),
+                        dim.nodeCount(),
+                        dim.nodePropertyDimensions().get(property).orElse(ESTIMATED_PROPERTY_DIMENSION)
                     )
-                    .build();
+                ));
+
+                return builder.build();
             }
         );
     }
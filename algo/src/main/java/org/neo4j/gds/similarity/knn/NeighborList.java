@@ -219,6 +219,33 @@ public class NeighborList {
             });
     }
 
+    /**
+     * Recomputes the priorities of all elements with the given similarity function
+     * and restores the descending order of priorities.
+     * Lists hold at most topK elements, so we use a simple insertion sort.
+     */
+    void rescore(long nodeId, SimilarityFunction similarityFunction) {
+        for (int i = 0; i < elementCount; i++) {
+            long element = clearCheckedFlag(priorityElementPairs[2 * i + 1]);
+            double priority = similarityFunction.computeSimilarity(nodeId, element);
+            priorityElementPairs[2 * i] = Double.doubleToRawLongBits(priority);
+        }
+
+        for (int i = 1; i < elementCount; i++) {
+            long priorityBits = priorityElementPairs[2 * i];
+            long element = priorityElementPairs[2 * i + 1];
+            double priority = Double.longBitsToDouble(priorityBits);
+            int j = i - 1;
+            while (j >= 0 && Double.longBitsToDouble(priorityElementPairs[2 * j]) < priority) {
+                priorityElementPairs[2 * j + 2] = priorityElementPairs[2 * j];
+                priorityElementPairs[2 * j + 3] = priorityElementPairs[2 * j + 1];
+                j--;
+            }
+            priorityElementPairs[2 * j + 2] = priorityBits;
+            priorityElementPairs[2 * j + 3] = element;
+        }
+    }
+
     /**
      * filterHighSimilarityResults will override the original array in
      * priorityElementPairs keeping only the results with similarity greater than or equal to threshold.
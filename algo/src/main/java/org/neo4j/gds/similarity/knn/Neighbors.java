@@ -71,6 +71,10 @@ final class Neighbors {
         neighbors.get(nodeId).filterHighSimilarityResults(similarityCutoff);
     }
 
+    void rescore(long nodeId, SimilarityFunction similarityFunction) {
+        neighbors.get(nodeId).rescore(nodeId, similarityFunction);
+    }
+
     HugeObjectArray<NeighborList> data() {
         return neighbors;
     }
@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
-import java.util.function.IntToDoubleFunction;
+import org.neo4j.gds.core.utils.Intersections;
 
 /**
  * Here we calculate Euclidean similarity metrics using Euclidean dictance as described in e.g.
@@ -35,28 +35,12 @@ public final class Euclidean {
     private Euclidean() {}
 
     public static double floatMetric(float[] left, float[] right) {
-        return compute(
-            Math.min(left.length, right.length),
-            i -> left[i],
-            i -> right[i]
-        );
+        var result = Intersections.sumSquareDeltaAsDouble(left, right, Math.min(left.length, right.length));
+        return 1.0 / (1.0 + Math.sqrt(result));
     }
 
     public static double doubleMetric(double[] left, double[] right) {
-        return compute(
-            Math.min(left.length, right.length),
-            i -> left[i],
-            i -> right[i]
-        );
-    }
-
-    private static double compute(int len, IntToDoubleFunction left, IntToDoubleFunction right) {
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
-            double delta = left.applyAsDouble(i) - right.applyAsDouble(i);
-            result += delta * delta;
-        }
-
+        var result = Intersections.sumSquareDelta(left, right, Math.min(left.length, right.length));
         return 1.0 / (1.0 + Math.sqrt(result));
     }
 }
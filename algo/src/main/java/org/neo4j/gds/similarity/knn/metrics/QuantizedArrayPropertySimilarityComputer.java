@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+final class QuantizedArrayPropertySimilarityComputer implements SimilarityComputer {
+    private final QuantizedEmbeddings embeddings;
+    private final SimilarityMetric metric;
+
+    QuantizedArrayPropertySimilarityComputer(QuantizedEmbeddings embeddings, SimilarityMetric metric) {
+        this.embeddings = embeddings;
+        this.metric = metric;
+    }
+
+    @Override
+    public double similarity(long firstNodeId, long secondNodeId) {
+        if (metric == SimilarityMetric.EUCLIDEAN) {
+            return 1.0 / (1.0 + Math.sqrt(embeddings.squaredEuclidean(firstNodeId, secondNodeId)));
+        }
+        // for PEARSON, the embeddings have been centered before quantization
+        return (embeddings.cosine(firstNodeId, secondNodeId) + 1) / 2;
+    }
+
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+}
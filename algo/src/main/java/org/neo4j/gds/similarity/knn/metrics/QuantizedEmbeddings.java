@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfByteArray;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Compact, lossy copies of {@code float[]} or {@code double[]} node properties.
+ * <p>
+ * {@link Quantization#INT8} maps every vector symmetrically onto {@code [-127, 127]} using its own scale,
+ * so that {@code value[i] ~ scale * code[i]}. Dot products are computed on the integer codes and
+ * the scales are only applied once per pair.
+ * <p>
+ * {@link Quantization#BINARY} keeps only the sign of every dimension, packed into 64 bit words.
+ * The angle between two vectors is estimated from the Hamming distance of their signs,
+ * {@code angle ~ PI * hamming / dimension}, which is exact in expectation for random hyperplane projections.
+ * <p>
+ * If {@code centered} is set, the mean of every vector is subtracted before quantization.
+ * The cosine of centered vectors is Pearson's correlation coefficient.
+ * <p>
+ * This is a speed option, not a memory option: the copies are held in addition to the original property,
+ * which stays in the graph store and is used for re-ranking. Scoring the compact codes is faster,
+ * as far fewer bytes have to be read per comparison.
+ */
+public final class QuantizedEmbeddings {
+
+    private static final int INT8_MAX = 127;
+
+    private final Quantization quantization;
+    private final HugeObjectArray<byte[]> int8Codes;
+    private final HugeDoubleArray scales;
+    private final HugeLongArray squaredCodeNorms;
+    private final HugeObjectArray<long[]> signBits;
+    private final HugeLongArray dimensions;
+
+    private QuantizedEmbeddings(
+        Quantization quantization,
+        HugeObjectArray<byte[]> int8Codes,
+        HugeDoubleArray scales,
+        HugeLongArray squaredCodeNorms,
+        HugeObjectArray<long[]> signBits,
+        HugeLongArray dimensions
+    ) {
+        this.quantization = quantization;
+        this.int8Codes = int8Codes;
+        this.scales = scales;
+        this.squaredCodeNorms = squaredCodeNorms;
+        this.signBits = signBits;
+        this.dimensions = dimensions;
+    }
+
+    public static QuantizedEmbeddings create(
+        NodePropertyValues properties,
+        long nodeCount,
+        Quantization quantization,
+        boolean centered,
+        Concurrency concurrency,
+        TerminationFlag terminationFlag
+    ) {
+        var valueType = properties.valueType();
+        if (valueType != ValueType.FLOAT_ARRAY && valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Quantization is only supported for properties of type [%s] or [%s], but got [%s].",
+                ValueType.FLOAT_ARRAY,
+                ValueType.DOUBLE_ARRAY,
+                valueType
+            ));
+        }
+
+        switch (quantization) {
+            case INT8: {
+                var codes = HugeObjectArray.newArray(byte[].class, nodeCount);
+                var scales = HugeDoubleArray.newArray(nodeCount);
+                var squaredNorms = HugeLongArray.newArray(nodeCount);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+                    var vector = valuesOf(properties, valueType, nodeId, centered);
+                    double maxAbs = 0;
+                    for (double value : vector) {
+                        maxAbs = Math.max(maxAbs, Math.abs(value));
+                    }
+                    double scale = maxAbs == 0 ? 1.0 : maxAbs / INT8_MAX;
+                    var code = new byte[vector.length];
+                    long squaredNorm = 0;
+                    for (int i = 0; i < vector.length; i++) {
+                        int quantized = (int) Math.round(vector[i] / scale);
+                        code[i] = (byte) quantized;
+                        squaredNorm += (long) quantized * quantized;
+                    }
+                    codes.set(nodeId, code);
+                    scales.set(nodeId, scale);
+                    squaredNorms.set(nodeId, squaredNorm);
+                });
+                return new QuantizedEmbeddings(quantization, codes, scales, squaredNorms, null, null);
+            }
+            case BINARY: {
+                var bits = HugeObjectArray.newArray(long[].class, nodeCount);
+                var dimensions = HugeLongArray.newArray(nodeCount);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+                    var vector = valuesOf(properties, valueType, nodeId, centered);
+                    var words = new long[(vector.length + 63) >>> 6];
+                    for (int i = 0; i < vector.length; i++) {
+                        if (vector[i] > 0) {
+                            words[i >>> 6] |= 1L << i;
+                        }
+                    }
+                    bits.set(nodeId, words);
+                    dimensions.set(nodeId, vector.length);
+                });
+                return new QuantizedEmbeddings(quantization, null, null, null, bits, dimensions);
+            }
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unsupported quantization [%s].", quantization));
+        }
+    }
+
+    public Quantization quantization() {
+        return quantization;
+    }
+
+    /**
+     * The heap held by the quantized copies, on top of the original property.
+     */
+    public static MemoryRange memoryEstimation(Quantization quantization, long nodeCount, int dimension) {
+        switch (quantization) {
+            case INT8:
+                return MemoryRange.of(
+                    HugeObjectArray.memoryEstimation(nodeCount, sizeOfByteArray(dimension))
+                    + HugeDoubleArray.memoryEstimation(nodeCount)
+                    + HugeLongArray.memoryEstimation(nodeCount)
+                );
+            case BINARY:
+                return MemoryRange.of(
+                    HugeObjectArray.memoryEstimation(nodeCount, sizeOfLongArray((dimension + 63) >>> 6))
+                    + HugeLongArray.memoryEstimation(nodeCount)
+                );
+            default:
+                return MemoryRange.empty();
+        }
+    }
+
+    /**
+     * Approximates the cosine between the vectors of the two nodes.
+     * Vectors of different length are compared on their common prefix.
+     */
+    public double cosine(long firstNodeId, long secondNodeId) {
+        if (quantization == Quantization.INT8) {
+            var left = int8Codes.get(firstNodeId);
+            var right = int8Codes.get(secondNodeId);
+            long leftNorm = squaredCodeNorms.get(firstNodeId);
+            long rightNorm = squaredCodeNorms.get(secondNodeId);
+            if (left.length != right.length) {
+                int len = Math.min(left.length, right.length);
+                leftNorm = dot(left, left, len);
+                rightNorm = dot(right, right, len);
+            }
+            return dot(left, right, Math.min(left.length, right.length)) / Math.sqrt((double) leftNorm * rightNorm);
+        }
+
+        int dimension = (int) Math.min(dimensions.get(firstNodeId), dimensions.get(secondNodeId));
+        if (dimension == 0) {
+            return Double.NaN;
+        }
+        long hamming = hamming(signBits.get(firstNodeId), signBits.get(secondNodeId), dimension);
+        return Math.cos(Math.PI * hamming / dimension);
+    }
+
+    /**
+     * Approximates the squared euclidean distance between the vectors of the two nodes.
+     * Only defined for {@link Quantization#INT8}, as the sign bits carry no magnitude.
+     * The combination of {@link Quantization#BINARY} and EUCLIDEAN is rejected when validating the configuration.
+     */
+    public double squaredEuclidean(long firstNodeId, long secondNodeId) {
+        var left = int8Codes.get(firstNodeId);
+        var right = int8Codes.get(secondNodeId);
+        int len = Math.min(left.length, right.length);
+        double leftScale = scales.get(firstNodeId);
+        double rightScale = scales.get(secondNodeId);
+        long leftNorm = left.length == len ? squaredCodeNorms.get(firstNodeId) : dot(left, left, len);
+        long rightNorm = right.length == len ? squaredCodeNorms.get(secondNodeId) : dot(right, right, len);
+
+        double result = leftScale * leftScale * leftNorm
+                        + rightScale * rightScale * rightNorm
+                        - 2 * leftScale * rightScale * dot(left, right, len);
+        return Math.max(result, 0.0);
+    }
+
+    private static long dot(byte[] left, byte[] right, int len) {
+        // four independent accumulators, see Intersections for the rationale
+        long result0 = 0, result1 = 0, result2 = 0, result3 = 0;
+        int i = 0;
+        for (int bound = len & ~3; i < bound; i += 4) {
+            result0 += left[i] * right[i];
+            result1 += left[i + 1] * right[i + 1];
+            result2 += left[i + 2] * right[i + 2];
+            result3 += left[i + 3] * right[i + 3];
+        }
+        for (; i < len; i++) {
+            result0 += left[i] * right[i];
+        }
+        return result0 + result1 + result2 + result3;
+    }
+
+    private static long hamming(long[] left, long[] right, int dimension) {
+        int fullWords = dimension >>> 6;
+        long result = 0;
+        for (int i = 0; i < fullWords; i++) {
+            result += Long.bitCount(left[i] ^ right[i]);
+        }
+        int remainder = dimension & 63;
+        if (remainder != 0) {
+            long mask = (1L << remainder) - 1;
+            result += Long.bitCount((left[fullWords] ^ right[fullWords]) & mask);
+        }
+        return result;
+    }
+
+    private static double[] valuesOf(NodePropertyValues properties, ValueType valueType, long nodeId, boolean centered) {
+        double[] vector;
+        if (valueType == ValueType.FLOAT_ARRAY) {
+            var floats = properties.floatArrayValue(nodeId);
+            vector = new double[floats.length];
+            for (int i = 0; i < floats.length; i++) {
+                vector[i] = floats[i];
+            }
+        } else {
+            vector = properties.doubleArrayValue(nodeId).clone();
+        }
+
+        if (centered && vector.length > 0) {
+            double sum = 0;
+            for (double value : vector) {
+                sum += value;
+            }
+            double mean = sum / vector.length;
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] -= mean;
+            }
+        }
+        return vector;
+    }
+}
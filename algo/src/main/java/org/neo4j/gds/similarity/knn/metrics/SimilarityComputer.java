@@ -23,8 +23,10 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.similarity.knn.KnnNodePropertySpec;
 import org.neo4j.gds.similarity.knn.metrics.LongArrayPropertySimilarityComputer.SortedLongArrayPropertyValues;
+import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.List;
 import java.util.Objects;
@@ -62,6 +64,50 @@ public interface SimilarityComputer {
         return ofProperty(graph, propertyName, nodeProperties, knnNodePropertySpec.metric());
     }
 
+    /**
+     * Computes similarities on quantized copies of a {@code float[]} or {@code double[]} property.
+     * Supports COSINE and PEARSON for all quantizations and EUCLIDEAN for INT8 quantization.
+     */
+    static SimilarityComputer ofQuantizedProperty(
+        Graph graph,
+        KnnNodePropertySpec knnNodePropertySpec,
+        Quantization quantization,
+        Concurrency concurrency,
+        TerminationFlag terminationFlag
+    ) {
+        var propertyName = knnNodePropertySpec.name();
+        var nodeProperties = Objects.requireNonNull(
+            graph.nodeProperties(propertyName),
+            () -> formatWithLocale("The property `%s` has not been loaded", propertyName)
+        );
+
+        if (knnNodePropertySpec.metric() == SimilarityMetric.DEFAULT) {
+            knnNodePropertySpec.setMetric(SimilarityMetric.defaultMetricForType(nodeProperties.valueType()));
+        }
+        var metric = knnNodePropertySpec.metric();
+        boolean supported = metric == SimilarityMetric.COSINE
+                            || metric == SimilarityMetric.PEARSON
+                            || (metric == SimilarityMetric.EUCLIDEAN && quantization == Quantization.INT8);
+        if (!supported) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Similarity metric [%s] is not supported for property [%s] with quantization [%s].",
+                metric,
+                propertyName,
+                quantization
+            ));
+        }
+
+        var embeddings = QuantizedEmbeddings.create(
+            NullCheckingNodePropertyValues.create(nodeProperties, propertyName, graph),
+            graph.nodeCount(),
+            quantization,
+            metric == SimilarityMetric.PEARSON,
+            concurrency,
+            terminationFlag
+        );
+        return new QuantizedArrayPropertySimilarityComputer(embeddings, metric);
+    }
+
     static SimilarityComputer ofProperty(IdMap idMap, String propertyName, NodePropertyValues nodePropertyValues) {
         return ofProperty(idMap, propertyName,
             nodePropertyValues, SimilarityMetric.defaultMetricForType(nodePropertyValues.valueType()));
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeSerialIndirectMergeSort;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.LongStream;
+
+/**
+ * Candidate generation for approximate Node Similarity based on MinHash signatures and
+ * locality sensitive hashing (LSH).
+ * <p>
+ * Every node vector is summarised by {@code bands * rows} MinHash values. The values of one band
+ * are combined into a single bucket key and two nodes become candidates of each other if they
+ * share the bucket key for at least one band. For a pair with Jaccard similarity {@code s},
+ * the probability of becoming a candidate is {@code 1 - (1 - s^rows)^bands}.
+ * More bands increase recall, more rows per band increase precision and reduce the number of candidates.
+ * <p>
+ * For each band we keep the bucket key per node and all participating nodes sorted by bucket key.
+ * The candidates for a node are found by a binary search for its key in the sorted order.
+ */
+final class MinHashCandidates {
+
+    // bucket keys are compared through HugeSerialIndirectMergeSort, which sorts by double values,
+    // we restrict the keys to 52 bits in order to keep the conversion lossless
+    private static final long KEY_MASK = (1L << 52) - 1;
+    private static final long NO_KEY = -1L;
+
+    private final int bands;
+    private final HugeLongArray[] bucketKeys;
+    private final HugeLongArray[] nodesSortedByKey;
+    private final long participatingNodeCount;
+
+    private MinHashCandidates(
+        int bands,
+        HugeLongArray[] bucketKeys,
+        HugeLongArray[] nodesSortedByKey,
+        long participatingNodeCount
+    ) {
+        this.bands = bands;
+        this.bucketKeys = bucketKeys;
+        this.nodesSortedByKey = nodesSortedByKey;
+        this.participatingNodeCount = participatingNodeCount;
+    }
+
+    static MemoryEstimation memoryEstimation(int bands) {
+        return MemoryEstimations.builder(MinHashCandidates.class)
+            .perNode("bucket keys", nodeCount -> bands * HugeLongArray.memoryEstimation(nodeCount))
+            .perNode("nodes sorted by bucket key", nodeCount -> bands * HugeLongArray.memoryEstimation(nodeCount))
+            .build();
+    }
+
+    static MinHashCandidates create(
+        HugeObjectArray<long[]> neighbors,
+        BitSet participatingNodes,
+        int bands,
+        int rows,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        long nodeCount = neighbors.size();
+        var bucketKeys = new HugeLongArray[bands];
+        for (int band = 0; band < bands; band++) {
+            bucketKeys[band] = HugeLongArray.newArray(nodeCount);
+        }
+
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, terminationFlag, nodeId -> {
+            var vector = neighbors.get(nodeId);
+            if (!participatingNodes.get(nodeId) || vector == null || vector.length == 0) {
+                for (int band = 0; band < bands; band++) {
+                    bucketKeys[band].set(nodeId, NO_KEY);
+                }
+                return;
+            }
+            for (int band = 0; band < bands; band++) {
+                long key = band;
+                for (int row = 0; row < rows; row++) {
+                    key = mix(key ^ minHash(vector, band * rows + row));
+                }
+                bucketKeys[band].set(nodeId, key & KEY_MASK);
+            }
+        });
+
+        long participatingNodeCount = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (bucketKeys[0].get(nodeId) != NO_KEY) {
+                participatingNodeCount++;
+            }
+        }
+
+        var nodesSortedByKey = new HugeLongArray[bands];
+        var tasks = new ArrayList<Runnable>(bands);
+        for (int band = 0; band < bands; band++) {
+            var keys = bucketKeys[band];
+            var sorted = HugeLongArray.newArray(participatingNodeCount);
+            nodesSortedByKey[band] = sorted;
+            tasks.add(() -> {
+                long index = 0;
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    if (keys.get(nodeId) != NO_KEY) {
+                        sorted.set(index++, nodeId);
+                    }
+                }
+                terminationFlag.assertRunning();
+                HugeSerialIndirectMergeSort.sort(sorted, keys::get);
+            });
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        return new MinHashCandidates(bands, bucketKeys, nodesSortedByKey, participatingNodeCount);
+    }
+
+    /**
+     * Returns the distinct candidates of the given node in ascending order, excluding the node itself.
+     */
+    LongStream candidates(long nodeId) {
+        if (bucketKeys[0].get(nodeId) == NO_KEY) {
+            return LongStream.empty();
+        }
+
+        var candidates = new LongHashSet();
+        for (int band = 0; band < bands; band++) {
+            var keys = bucketKeys[band];
+            var sorted = nodesSortedByKey[band];
+            long key = keys.get(nodeId);
+
+            for (long index = lowerBound(keys, sorted, key); index < participatingNodeCount; index++) {
+                long candidate = sorted.get(index);
+                if (keys.get(candidate) != key) {
+                    break;
+                }
+                if (candidate != nodeId) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+
+        var result = candidates.toArray();
+        Arrays.sort(result);
+        return Arrays.stream(result);
+    }
+
+    private long lowerBound(HugeLongArray keys, HugeLongArray sorted, long key) {
+        long low = 0;
+        long high = participatingNodeCount;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (keys.get(sorted.get(mid)) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long minHash(long[] vector, int hashFunction) {
+        long seed = mix(0x9E3779B97F4A7C15L * (hashFunction + 1));
+        long min = Long.MAX_VALUE;
+        for (long element : vector) {
+            long hash = mix(element ^ seed);
+            if (hash < min) {
+                min = hash;
+            }
+        }
+        return min;
+    }
+
+    // finalizer of the SplitMix64 generator
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    static BitSet participatingNodes(long nodeCount, BitSet sourceNodes, BitSet targetNodes) {
+        var participating = new BitSet(nodeCount);
+        participating.union(sourceNodes);
+        participating.union(targetNodes);
+        return participating;
+    }
+}
@@ -20,6 +20,7 @@
 package org.neo4j.gds.similarity.nodesim;
 
 import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongIntHashMap;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
@@ -38,6 +39,8 @@ import org.neo4j.gds.similarity.SimilarityGraphResult;
 import org.neo4j.gds.similarity.SimilarityResult;
 import org.neo4j.gds.similarity.filtering.NodeFilter;
 import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.gds.wcc.WccParameters;
 import org.neo4j.gds.wcc.WccStub;
 
@@ -73,6 +76,8 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     private LongUnaryOperator components;
     private Function<Long, LongStream> sourceNodesStream;
     private BiFunction<Long, Long, LongStream> targetNodesStream;
+    private MinHashCandidates minHashCandidates;
+    private SharedNeighborIndex sharedNeighborIndex;
 
     private final WccStub wccStub;
 
@@ -197,6 +202,31 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         initNodeSpecificFields();
         sourceNodesStream = initSourceNodesStream();
         targetNodesStream = initTargetNodesStream();
+        if (parameters.useMinHash()) {
+            minHashCandidates = MinHashCandidates.create(
+                neighbors,
+                MinHashCandidates.participatingNodes(graph.nodeCount(), sourceNodes, targetNodes),
+                parameters.minHashBands(),
+                parameters.minHashRows(),
+                concurrency,
+                executorService,
+                terminationFlag
+            );
+        } else if (canUseSharedNeighborIndex()) {
+            sharedNeighborIndex = SharedNeighborIndex.createIfCheaper(neighbors, sourceNodes, targetNodes).orElse(null);
+        }
+    }
+
+    /**
+     * The shared neighbor index only produces pairs with at least one common neighbor.
+     * That is exact as long as pairs without common neighbors are dropped by the similarity cutoff anyway.
+     * Vectors combined from multiple relationship types may contain duplicates, for which we stay on the exhaustive path.
+     */
+    private boolean canUseSharedNeighborIndex() {
+        return GdsFeatureToggles.USE_SPARSE_NODE_SIMILARITY.isEnabled()
+            && parameters.hasTopK()
+            && !sortVectors
+            && Double.isNaN(similarityComputer.computeSimilarityFromIntersection(0, 1, 1));
     }
 
     private Stream<SimilarityResult> computeSimilarityResultStream() {
@@ -293,6 +323,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private TopKMap computeTopKMap() {
+        if (sharedNeighborIndex != null) {
+            return computeTopKMapWithSharedNeighborIndex();
+        }
         progressTracker.beginSubTask(calculateWorkload());
 
         var comparator = parameters.normalizedK() > 0
@@ -303,7 +336,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         loggableAndTerminableSourceNodeStream()
             .forEach(sourceNodeId -> {
                 if (sourceNodeFilter.equals(NodeFilter.ALLOW_EVERYTHING)) {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), sourceNodeId + 1)
+                    targetNodesFor(sourceNodeId, sourceNodeId + 1)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId,
                             (source, target, similarity) -> {
                                 topKMap.put(source, target, similarity);
@@ -311,7 +344,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                             }
                         ));
                 } else {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), 0L)
+                    targetNodesFor(sourceNodeId, 0L)
                         .filter(targetNodeId -> sourceNodeId != targetNodeId)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topKMap::put));
                 }
@@ -321,6 +354,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private TopKMap computeTopKMapParallel() {
+        if (sharedNeighborIndex != null) {
+            return computeTopKMapWithSharedNeighborIndex();
+        }
         progressTracker.beginSubTask(calculateWorkload());
 
         var comparator = parameters.normalizedK() > 0
@@ -340,7 +376,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                     // into these queues is not considered to be thread-safe.
                     // Hence, we need to ensure that down the stream, exactly one queue
                     // within the TopKMap processes all pairs for a single node.
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), 0L)
+                    targetNodesFor(sourceNodeId, 0L)
                         .filter(targetNodeId -> sourceNodeId != targetNodeId)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topKMap::put))
                 )
@@ -350,6 +386,54 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return topKMap;
     }
 
+    private TopKMap computeTopKMapWithSharedNeighborIndex() {
+        progressTracker.beginSubTask(sourceNodes.cardinality());
+
+        var comparator = parameters.normalizedK() > 0
+            ? SimilarityResult.DESCENDING
+            : SimilarityResult.ASCENDING;
+        var topKMap = new TopKMap(neighbors.size(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
+
+        // Every row is computed by a single thread, so the TopKMap queues need no synchronization
+        // and there are no per-thread results to merge.
+        try (var sharedNeighborCounts = CloseableThreadLocal.withInitial(LongIntHashMap::new)) {
+            ParallelUtil.parallelStreamConsume(
+                loggableAndTerminableSourceNodeStream(),
+                concurrency,
+                terminationFlag,
+                stream -> stream.forEach(sourceNodeId -> {
+                    long componentId = components.applyAsLong(sourceNodeId);
+                    sharedNeighborIndex.computeRow(
+                        sourceNodeId,
+                        sharedNeighborCounts.get(),
+                        targetNodeId -> components.applyAsLong(targetNodeId) == componentId,
+                        this::computeSimilarityFromSharedNeighbors,
+                        topKMap::put
+                    );
+                    progressTracker.logProgress();
+                })
+            );
+        }
+
+        progressTracker.endSubTask();
+        return topKMap;
+    }
+
+    private double computeSimilarityFromSharedNeighbors(long sourceNodeId, long targetNodeId, int sharedNeighbors) {
+        var sourceNodeNeighbors = neighbors.get(sourceNodeId);
+        var targetNodeNeighbors = neighbors.get(targetNodeId);
+        if (weighted) {
+            return similarityComputer.computeWeightedSimilarity(
+                sourceNodeNeighbors, targetNodeNeighbors, weights.get(sourceNodeId), weights.get(targetNodeId)
+            );
+        }
+        return similarityComputer.computeSimilarityFromIntersection(
+            sharedNeighbors,
+            sourceNodeNeighbors.length,
+            targetNodeNeighbors.length
+        );
+    }
+
     private Stream<SimilarityResult> computeTopN() {
         progressTracker.beginSubTask(calculateWorkload());
 
@@ -357,10 +441,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         loggableAndTerminableSourceNodeStream()
             .forEach(sourceNodeId -> {
                 if (sourceNodeFilter.equals(NodeFilter.ALLOW_EVERYTHING)) {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), sourceNodeId + 1)
+                    targetNodesFor(sourceNodeId, sourceNodeId + 1)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topNList::add));
                 } else {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), 0L)
+                    targetNodesFor(sourceNodeId, 0L)
                         .filter(targetNodeId -> sourceNodeId != targetNodeId)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topNList::add));
                 }
@@ -390,12 +474,24 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             .longStream(componentNodes.spliterator(componentId, offset), false);
     }
 
+    private LongStream targetNodesFor(long sourceNodeId, long offset) {
+        if (minHashCandidates == null) {
+            return targetNodesStream.apply(components.applyAsLong(sourceNodeId), offset);
+        }
+        // candidates are symmetric and sorted, so the offset can be applied the same way as for the exact targets
+        long componentId = components.applyAsLong(sourceNodeId);
+        return minHashCandidates.candidates(sourceNodeId)
+            .filter(targetNodeId -> targetNodeId >= offset
+                && targetNodes.get(targetNodeId)
+                && components.applyAsLong(targetNodeId) == componentId);
+    }
+
     private LongStream loggableAndTerminableSourceNodeStream() {
         return checkProgress(sourceNodesStream.apply(0L));
     }
 
     private Stream<SimilarityResult> computeSimilaritiesForNode(long sourceNodeId) {
-        return targetNodesStream.apply(components.applyAsLong(sourceNodeId), sourceNodeId + 1)
+        return targetNodesFor(sourceNodeId, sourceNodeId + 1)
             .mapToObj(targetNodeId -> {
                 var resultHolder = new SimilarityResult[]{null};
                 computeSimilarityFor(
@@ -81,6 +81,11 @@ public class NodeSimilarityMemoryEstimateDefinition implements MemoryEstimateDef
                 builder.perNode("component mapping", HugeLongArray::memoryEstimation);
             }
         }
+        if (parameters.useMinHash()) {
+            builder.add("minhash candidates", MinHashCandidates.memoryEstimation(parameters.minHashBands()));
+        } else if (parameters.hasTopK()) {
+            builder.add("shared neighbor index", SharedNeighborIndex.memoryEstimation());
+        }
         if (parameters.computeToGraph() && !parameters.hasTopK()) {
             builder.add(
                 "similarity graph",
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.utils.SetBitsIterable;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+
+/**
+ * Sparse execution strategy for Node Similarity, in the spirit of computing {@code A * A^T} as a sparse matrix product.
+ * <p>
+ * We keep an inverted index from every neighbor to the target nodes that are connected to it.
+ * The row of a source node is computed by walking its neighbors and counting, per target node,
+ * how many neighbors are shared. Only pairs with at least one shared neighbor are ever touched,
+ * which are also the only pairs with a non-zero similarity.
+ * <p>
+ * The index is only built if the number of accumulations is estimated to be lower than the number of pairs
+ * compared by the exhaustive strategy.
+ */
+final class SharedNeighborIndex {
+
+    private final HugeObjectArray<long[]> neighbors;
+    private final HugeLongArray offsets;
+    private final HugeLongArray targetsByNeighbor;
+
+    private SharedNeighborIndex(
+        HugeObjectArray<long[]> neighbors,
+        HugeLongArray offsets,
+        HugeLongArray targetsByNeighbor
+    ) {
+        this.neighbors = neighbors;
+        this.offsets = offsets;
+        this.targetsByNeighbor = targetsByNeighbor;
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        // the index is only built if it is estimated to be cheaper, hence the lower bound of zero
+        return MemoryEstimations.setup("", (dimensions, concurrency) -> MemoryEstimations
+            .builder()
+            .fixed(
+                "inverted index",
+                MemoryRange.of(
+                    0,
+                    HugeLongArray.memoryEstimation(dimensions.nodeCount() + 1)
+                    + HugeLongArray.memoryEstimation(dimensions.relCountUpperBound())
+                )
+            )
+            .build());
+    }
+
+    /**
+     * Builds the index if computing rows through it is estimated to be cheaper than comparing all pairs
+     * of source and target nodes.
+     */
+    static Optional<SharedNeighborIndex> createIfCheaper(
+        HugeObjectArray<long[]> neighbors,
+        BitSet sourceNodes,
+        BitSet targetNodes
+    ) {
+        long nodeCount = neighbors.size();
+
+        // offsets[v + 1] holds the number of target nodes with neighbor v, turned into offsets below
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        for (long targetNodeId : new SetBitsIterable(targetNodes)) {
+            for (long neighbor : neighbors.get(targetNodeId)) {
+                offsets.addTo(neighbor + 1, 1);
+            }
+        }
+
+        long accumulations = 0;
+        for (long sourceNodeId : new SetBitsIterable(sourceNodes)) {
+            for (long neighbor : neighbors.get(sourceNodeId)) {
+                accumulations += offsets.get(neighbor + 1);
+            }
+        }
+        long comparedPairs = sourceNodes.cardinality() * targetNodes.cardinality();
+        if (accumulations >= comparedPairs) {
+            return Optional.empty();
+        }
+
+        for (long node = 1; node <= nodeCount; node++) {
+            offsets.addTo(node, offsets.get(node - 1));
+        }
+
+        var targetsByNeighbor = HugeLongArray.newArray(offsets.get(nodeCount));
+        var insertPositions = offsets.copyOf(nodeCount);
+        // targets are visited in ascending order, which keeps every posting list sorted
+        for (long targetNodeId : new SetBitsIterable(targetNodes)) {
+            for (long neighbor : neighbors.get(targetNodeId)) {
+                long position = insertPositions.get(neighbor);
+                targetsByNeighbor.set(position, targetNodeId);
+                insertPositions.set(neighbor, position + 1);
+            }
+        }
+
+        return Optional.of(new SharedNeighborIndex(neighbors, offsets, targetsByNeighbor));
+    }
+
+    /**
+     * Computes the similarities of the given source node to all accepted target nodes that share at least one neighbor.
+     * Targets are reported in ascending order, like for the exhaustive strategy.
+     *
+     * @param sharedNeighborCounts a thread-local scratch map, which is cleared before use
+     */
+    void computeRow(
+        long sourceNodeId,
+        LongIntHashMap sharedNeighborCounts,
+        LongPredicate targetFilter,
+        PairSimilarity pairSimilarity,
+        NodeSimilarity.SimilarityConsumer consumer
+    ) {
+        sharedNeighborCounts.clear();
+        var sourceNeighbors = neighbors.get(sourceNodeId);
+        for (long neighbor : sourceNeighbors) {
+            long end = offsets.get(neighbor + 1);
+            for (long position = offsets.get(neighbor); position < end; position++) {
+                long targetNodeId = targetsByNeighbor.get(position);
+                if (targetNodeId != sourceNodeId) {
+                    sharedNeighborCounts.addTo(targetNodeId, 1);
+                }
+            }
+        }
+
+        var targetNodeIds = sharedNeighborCounts.keys().toArray();
+        Arrays.sort(targetNodeIds);
+        for (long targetNodeId : targetNodeIds) {
+            if (!targetFilter.test(targetNodeId)) {
+                continue;
+            }
+            double similarity = pairSimilarity.compute(
+                sourceNodeId,
+                targetNodeId,
+                sharedNeighborCounts.get(targetNodeId)
+            );
+            if (!Double.isNaN(similarity)) {
+                consumer.accept(sourceNodeId, targetNodeId, similarity);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface PairSimilarity {
+        double compute(long sourceNodeId, long targetNodeId, int sharedNeighbors);
+    }
+}
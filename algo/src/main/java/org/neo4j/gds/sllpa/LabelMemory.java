@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.sllpa;
+
+import com.carrotsearch.hppc.LongArrayList;
+
+import java.util.SplittableRandom;
+
+/**
+ * A fixed-capacity label memory for a single node, stored as interleaved {@code (label, count)} pairs in a {@code long[]}.
+ * <p>
+ * Once all slots are taken, a new label replaces the label with the smallest count and inherits that count plus one
+ * (Space-Saving by Metwally et al.). The counts of frequent labels are thereby over-estimated by at most the
+ * smallest count, and the sum of all counts is always the number of observed labels.
+ * A slot with count {@code 0} is free.
+ */
+final class LabelMemory {
+
+    private LabelMemory() {}
+
+    static long[] create(int capacity, long initialLabel) {
+        var memory = new long[2 * capacity];
+        memory[0] = initialLabel;
+        memory[1] = 1;
+        return memory;
+    }
+
+    static void add(long[] memory, long label) {
+        int minSlot = 0;
+        for (int slot = 0; slot < memory.length; slot += 2) {
+            var count = memory[slot + 1];
+            if (count == 0) {
+                memory[slot] = label;
+                memory[slot + 1] = 1;
+                return;
+            }
+            if (memory[slot] == label) {
+                memory[slot + 1] = count + 1;
+                return;
+            }
+            if (count < memory[minSlot + 1]) {
+                minSlot = slot;
+            }
+        }
+        memory[minSlot] = label;
+        memory[minSlot + 1]++;
+    }
+
+    static long total(long[] memory) {
+        long total = 0;
+        for (int slot = 1; slot < memory.length; slot += 2) {
+            total += memory[slot];
+        }
+        return total;
+    }
+
+    /**
+     * Draws a label with a probability proportional to its count.
+     */
+    static long sample(long[] memory, long total, SplittableRandom random) {
+        var remaining = random.nextLong(total);
+        int slot = 0;
+        for (; slot < memory.length - 2; slot += 2) {
+            remaining -= memory[slot + 1];
+            if (remaining < 0) {
+                break;
+            }
+        }
+        return memory[slot];
+    }
+
+    /**
+     * Returns all labels whose share of the observations exceeds the given minimum.
+     */
+    static long[] labelsAbove(long[] memory, double minAssociationStrength) {
+        var total = (double) total(memory);
+        var labelsToKeep = new LongArrayList(memory.length / 2);
+        for (int slot = 0; slot < memory.length; slot += 2) {
+            var count = memory[slot + 1];
+            if (count > 0 && count / total > minAssociationStrength) {
+                labelsToKeep.add(memory[slot]);
+            }
+        }
+        return labelsToKeep.toArray();
+    }
+}
@@ -52,7 +52,9 @@ class SpeakerListenerLPAComputation implements PregelComputation<SpeakerListener
     public void compute(ComputeContext<SpeakerListenerLPAConfig> context, Messages messages) {
         var labels = context.longArrayNodeValue(LABELS_PROPERTY);
 
-        if (context.isInitialSuperstep()) {
+        if (context.config().hasBoundedLabelMemory()) {
+            computeWithBoundedMemory(context, messages, labels);
+        } else if (context.isInitialSuperstep()) {
             labels[0] = context.nodeId();
             context.sendToNeighbors(context.nodeId());
         } else if (context.superstep() < context.config().propagationSteps()) {
@@ -64,8 +66,52 @@ class SpeakerListenerLPAComputation implements PregelComputation<SpeakerListener
         }
     }
 
+    /**
+     * Instead of the full history of received labels, every node keeps the counts of at most
+     * {@link SpeakerListenerLPAConfig#labelMemoryCapacity()} labels, see {@link LabelMemory}.
+     * Speakers draw from these counts, which is the same distribution as drawing from the history.
+     * <p>
+     * With {@link SpeakerListenerLPAConfig#speakerSamplingRatio()} below one, a speaker only reaches a random
+     * sample of its neighbours, which bounds the number of messages per superstep.
+     * A listener that hears no speaker in a superstep makes no observation instead of listening to itself.
+     */
+    private void computeWithBoundedMemory(
+        ComputeContext<SpeakerListenerLPAConfig> context,
+        Messages messages,
+        long[] labelMemory
+    ) {
+        var samplesSpeakers = context.config().samplesSpeakers();
+        if (!context.isInitialSuperstep() && !(samplesSpeakers && messages.isEmpty())) {
+            LabelMemory.add(labelMemory, winningLabel(messages, context.nodeId()));
+        }
+
+        if (context.superstep() < context.config().propagationSteps()) {
+            var total = LabelMemory.total(labelMemory);
+            var speakerSamplingRatio = context.config().speakerSamplingRatio();
+            var rng = random.get();
+            context.forEachNeighbor(neighbor -> {
+                if (!samplesSpeakers || rng.nextDouble() < speakerSamplingRatio) {
+                    context.sendTo(neighbor, LabelMemory.sample(labelMemory, total, rng));
+                }
+            });
+        } else {
+            context.setNodeValue(
+                LABELS_PROPERTY,
+                LabelMemory.labelsAbove(labelMemory, context.config().minAssociationStrength())
+            );
+        }
+    }
+
     @Override
     public void init(InitContext<SpeakerListenerLPAConfig> context) {
+        if (context.config().hasBoundedLabelMemory()) {
+            context.setNodeValue(
+                LABELS_PROPERTY,
+                LabelMemory.create(context.config().labelMemoryCapacity(), context.nodeId())
+            );
+            return;
+        }
+
         var initialLabels = new long[context.config().maxIterations()];
         // when nodes do not have incoming rels, it should vote for itself always
         Arrays.fill(initialLabels, context.nodeId());
@@ -95,23 +141,35 @@ class SpeakerListenerLPAComputation implements PregelComputation<SpeakerListener
         long[] labels
     ) {
         if (!messages.isEmpty()) {
-            var labelVotes = new LongIntScatterMap();
-            long winningLabel = 0;
-            int maxFrequency = Integer.MIN_VALUE;
-            for (Double message : messages) {
-                var currentLabel = message.longValue();
-                var updatedFrequency = labelVotes.addTo(currentLabel, 1);
-
-                if (updatedFrequency > maxFrequency) {
-                    winningLabel = currentLabel;
-                    maxFrequency = updatedFrequency;
-                } else if (updatedFrequency == maxFrequency && currentLabel < winningLabel) {
-                    winningLabel = currentLabel;
-                }
-            }
+            labels[context.superstep()] = winningLabel(messages, context.nodeId());
+        }
+    }
 
-            labels[context.superstep()] = winningLabel;
+    /**
+     * The most frequent received label, preferring smaller labels on ties.
+     * Without messages, the node listens to itself.
+     */
+    private static long winningLabel(Messages messages, long nodeId) {
+        if (messages.isEmpty()) {
+            return nodeId;
         }
+
+        var labelVotes = new LongIntScatterMap();
+        long winningLabel = 0;
+        int maxFrequency = Integer.MIN_VALUE;
+        for (Double message : messages) {
+            var currentLabel = message.longValue();
+            var updatedFrequency = labelVotes.addTo(currentLabel, 1);
+
+            if (updatedFrequency > maxFrequency) {
+                winningLabel = currentLabel;
+                maxFrequency = updatedFrequency;
+            } else if (updatedFrequency == maxFrequency && currentLabel < winningLabel) {
+                winningLabel = currentLabel;
+            }
+        }
+
+        return winningLabel;
     }
 
     private void speak(ComputeContext<SpeakerListenerLPAConfig> context, long[] labels) {
@@ -19,26 +19,43 @@
  */
 package org.neo4j.gds.sllpa;
 
-import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Pregel;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
 
 import java.util.Map;
 
-import static org.neo4j.gds.sllpa.SpeakerListenerLPA.LABELS_PROPERTY;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 
 public class SpeakerListenerLPAMemoryEstimateDefinition  implements MemoryEstimateDefinition {
 
+    private final int maxIterations;
+    private final int labelMemoryCapacity;
+
+    public SpeakerListenerLPAMemoryEstimateDefinition(int maxIterations, int labelMemoryCapacity) {
+        this.maxIterations = maxIterations;
+        this.labelMemoryCapacity = labelMemoryCapacity;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
+        // a bounded memory keeps a (label, count) pair per slot, otherwise every iteration adds one label
+        var labelMemoryLength = labelMemoryCapacity > 0 ? 2 * labelMemoryCapacity : maxIterations;
+
         return MemoryEstimations.builder()
             .add(Pregel.memoryEstimation(
-                Map.of(LABELS_PROPERTY, ValueType.LONG_ARRAY),
+                Map.of(),
                 false,
                 false
-            )).build();
+            ))
+            .perNode(
+                formatWithLocale("label memories (long[%d])", labelMemoryLength),
+                nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, Estimate.sizeOfLongArray(labelMemoryLength))
+            )
+            .build();
     }
 }
@@ -19,32 +19,43 @@
  */
 package org.neo4j.gds.triangle;
 
+import com.carrotsearch.hppc.LongHashSet;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.api.IntersectionConsumer;
-import org.neo4j.gds.api.RelationshipIntersect;
+import org.neo4j.gds.api.properties.relationships.RelationshipConsumer;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
-import org.neo4j.gds.triangle.intersect.ImmutableRelationshipIntersectConfig;
-import org.neo4j.gds.triangle.intersect.RelationshipIntersectConfig;
-import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactory;
-import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactoryLocator;
 
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * TriangleCount counts the number of triangles in the Graph as well
  * as the number of triangles that passes through a node.
  *
- * This impl uses another approach where all the triangles can be calculated
- * using set intersection methods of the graph itself.
+ * This impl uses the forward algorithm: nodes are ordered by degree (ties broken by id)
+ * and every relationship is oriented towards the node that comes later in that order.
+ * Every triangle u < v < w is then found exactly once, as w in the intersection of the
+ * forward neighbours of u and v. The orientation bounds the length of all forward lists
+ * by O(sqrt(m)), so high degree nodes no longer dominate the work.
+ *
+ * With a sampling ratio p below 1, the forward lists only keep every relationship with probability p
+ * (DOULION). Every triangle survives with probability p^3, so the counts of the sparsified graph are
+ * scaled by 1/p^3 into unbiased estimates. The work shrinks with the sampling ratio, at the cost of
+ * a variance that is high for nodes in few triangles.
+ *
+ * The intersection is picked per pair of lists: long forward lists of hubs are put into a
+ * hash set once and probed by all their neighbours, lists of very different length are
+ * intersected by galloping through the longer one and all other lists are merged.
  *
  * https://epubs.siam.org/doi/pdf/10.1137/1.9781611973198.1
  * http://www.cse.cuhk.edu.hk/~jcheng/papers/triangle_kdd11.pdf
@@ -56,15 +67,22 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
 
     static final int EXCLUDED_NODE_TRIANGLE_COUNT = -1;
 
+    // number of nodes a worker takes from the shared queue at once
+    private static final int BATCH_SIZE = 64;
+    // forward lists of at least this length are intersected via a hash set
+    static final int HASH_INTERSECT_THRESHOLD = 256;
+    // lists are intersected by galloping once one of them is this many times longer than the other
+    static final int GALLOP_RATIO = 32;
+
     private final Graph graph;
-    private final RelationshipIntersectFactory intersectFactory;
-    private final RelationshipIntersectConfig intersectConfig;
     private final ExecutorService executorService;
     private final AtomicLong queue;
 
     // results
     private final HugeAtomicLongArray triangleCounts;
     private final long maxDegree;
+    private final double samplingRatio;
+    private final long randomSeed;
     private final Concurrency concurrency;
     private long globalTriangleCount;
 
@@ -78,29 +96,51 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
-        var factory = RelationshipIntersectFactoryLocator
-            .lookup(graph)
-            .orElseThrow(
-                () -> new IllegalArgumentException("No relationship intersect factory registered for graph: " + graph.getClass())
-            );
-        return new IntersectingTriangleCount(graph, factory, concurrency, maxDegree, executorService, progressTracker, terminationFlag);
+        return create(graph, concurrency, maxDegree, 1.0, 0L, executorService, progressTracker, terminationFlag);
+    }
+
+    /**
+     * Counts the triangles of a random sample of the relationships, see the class documentation.
+     * The sample only depends on the `randomSeed`, not on the concurrency.
+     */
+    public static IntersectingTriangleCount create(
+        Graph graph,
+        Concurrency concurrency,
+        long maxDegree,
+        double samplingRatio,
+        long randomSeed,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        return new IntersectingTriangleCount(
+            graph,
+            concurrency,
+            maxDegree,
+            samplingRatio,
+            randomSeed,
+            executorService,
+            progressTracker,
+            terminationFlag
+        );
     }
 
     private IntersectingTriangleCount(
         Graph graph,
-        RelationshipIntersectFactory intersectFactory,
         Concurrency concurrency,
         long maxDegree,
+        double samplingRatio,
+        long randomSeed,
         ExecutorService executorService,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
         super(progressTracker);
         this.graph = graph;
-        this.intersectFactory = intersectFactory;
         this.concurrency = concurrency;
         this.maxDegree = maxDegree;
-        this.intersectConfig = ImmutableRelationshipIntersectConfig.of(maxDegree);
+        this.samplingRatio = samplingRatio;
+        this.randomSeed = randomSeed;
         this.triangleCounts = HugeAtomicLongArray.of(graph.nodeCount(), ParalleLongPageCreator.passThrough(concurrency));
         this.executorService = executorService;
         this.globalTriangleCounter = new LongAdder();
@@ -112,18 +152,40 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
     @Override
     public TriangleCountResult compute() {
         progressTracker.beginSubTask();
-        queue.set(0);
         globalTriangleCounter.reset();
-        // create tasks
-        final Collection<? extends Runnable> tasks = ParallelUtil.tasks(
-            concurrency,
-            () -> new IntersectTask(intersectFactory.load(graph, intersectConfig))
-        );
-        // run
-        ParallelUtil.run(tasks, executorService);
+
+        long nodeCount = graph.nodeCount();
+
+        // upper bound of the forward degree first, the number of distinct forward neighbours after collecting them
+        var forwardDegrees = HugeIntArray.newArray(nodeCount);
+        runTasks(() -> new CountForwardNeighboursTask(graph.concurrentCopy(), forwardDegrees));
+
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            offsets.set(node, offset);
+            offset += forwardDegrees.get(node);
+        }
+        offsets.set(nodeCount, offset);
+
+        var forwardNeighbours = HugeLongArray.newArray(offset);
+        runTasks(() -> new CollectForwardNeighboursTask(
+            graph.concurrentCopy(),
+            offsets,
+            forwardDegrees,
+            forwardNeighbours
+        ));
+
+        runTasks(() -> new IntersectTask(offsets, forwardDegrees, forwardNeighbours));
 
         globalTriangleCount = globalTriangleCounter.longValue();
 
+        if (samplingRatio < 1.0) {
+            double scale = 1.0 / (samplingRatio * samplingRatio * samplingRatio);
+            runTasks(() -> new ScaleTask(scale));
+            globalTriangleCount = Math.round(globalTriangleCount * scale);
+        }
+
         progressTracker.endSubTask();
         return new TriangleCountResult(
             triangleCounts,
@@ -131,34 +193,383 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
         );
     }
 
-    private class IntersectTask implements Runnable, IntersectionConsumer {
+    private void runTasks(Supplier<Runnable> taskSupplier) {
+        queue.set(0);
+        ParallelUtil.run(ParallelUtil.tasks(concurrency, taskSupplier), executorService);
+    }
 
-        private final RelationshipIntersect intersect;
+    /**
+     * Returns the first node of a batch, or a value of at least `nodeCount` if all batches are taken.
+     */
+    private long nextBatch() {
+        return terminationFlag.running() ? queue.getAndAdd(BATCH_SIZE) : graph.nodeCount();
+    }
 
-        IntersectTask(RelationshipIntersect relationshipIntersect) {
-            intersect = relationshipIntersect;
+    /**
+     * Whether the relationship from `node` to `other` points forward in the degree order.
+     * Self loops and relationships to excluded nodes are never forward.
+     */
+    private boolean isForward(Graph graph, long node, int degree, long other) {
+        if (other == node) {
+            return false;
+        }
+        int otherDegree = graph.degree(other);
+        if (otherDegree > maxDegree) {
+            return false;
+        }
+        if (otherDegree < degree || (otherDegree == degree && other < node)) {
+            return false;
+        }
+        return samplingRatio >= 1.0 || isSampled(node, other);
+    }
+
+    /**
+     * Decides by a hash of the relationship and the seed, so that both passes over the graph keep the same sample.
+     */
+    private boolean isSampled(long node, long other) {
+        long hash = mix(mix(randomSeed ^ node) + other);
+        return (hash >>> 11) * 0x1.0p-53 < samplingRatio;
+    }
+
+    // finalizer of SplitMix64
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    private final class CountForwardNeighboursTask implements Runnable, RelationshipConsumer {
+
+        private final Graph graph;
+        private final HugeIntArray forwardDegrees;
+
+        private int sourceDegree;
+        private int forwardDegree;
+
+        CountForwardNeighboursTask(Graph graph, HugeIntArray forwardDegrees) {
+            this.graph = graph;
+            this.forwardDegrees = forwardDegrees;
         }
 
         @Override
         public void run() {
-            long node;
-            while ((node = queue.getAndIncrement()) < graph.nodeCount() && terminationFlag.running()) {
-                if (graph.degree(node) <= maxDegree) {
-                    intersect.intersectAll(node, this);
-                } else {
-                    triangleCounts.set(node, EXCLUDED_NODE_TRIANGLE_COUNT);
+            long nodeCount = graph.nodeCount();
+            long start;
+            while ((start = nextBatch()) < nodeCount) {
+                long end = Math.min(start + BATCH_SIZE, nodeCount);
+                for (long node = start; node < end; node++) {
+                    sourceDegree = graph.degree(node);
+                    if (sourceDegree > maxDegree) {
+                        triangleCounts.set(node, EXCLUDED_NODE_TRIANGLE_COUNT);
+                        continue;
+                    }
+                    forwardDegree = 0;
+                    graph.forEachRelationship(node, this);
+                    forwardDegrees.set(node, forwardDegree);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long source, long target) {
+            if (isForward(graph, source, sourceDegree, target)) {
+                forwardDegree++;
+            }
+            return true;
+        }
+    }
+
+    private final class CollectForwardNeighboursTask implements Runnable, RelationshipConsumer {
+
+        private final Graph graph;
+        private final HugeLongArray offsets;
+        private final HugeIntArray forwardDegrees;
+        private final HugeLongArray forwardNeighbours;
+
+        private long[] buffer;
+        private int sourceDegree;
+        private int bufferLength;
+
+        CollectForwardNeighboursTask(
+            Graph graph,
+            HugeLongArray offsets,
+            HugeIntArray forwardDegrees,
+            HugeLongArray forwardNeighbours
+        ) {
+            this.graph = graph;
+            this.offsets = offsets;
+            this.forwardDegrees = forwardDegrees;
+            this.forwardNeighbours = forwardNeighbours;
+            this.buffer = new long[0];
+        }
+
+        @Override
+        public void run() {
+            long nodeCount = graph.nodeCount();
+            long start;
+            while ((start = nextBatch()) < nodeCount) {
+                long end = Math.min(start + BATCH_SIZE, nodeCount);
+                for (long node = start; node < end; node++) {
+                    int upperBound = forwardDegrees.get(node);
+                    if (upperBound == 0) {
+                        continue;
+                    }
+                    if (buffer.length < upperBound) {
+                        buffer = new long[upperBound];
+                    }
+                    sourceDegree = graph.degree(node);
+                    bufferLength = 0;
+                    graph.forEachRelationship(node, this);
+
+                    // sorting by id allows merging, parallel relationships are dropped
+                    Arrays.sort(buffer, 0, bufferLength);
+                    long offset = offsets.get(node);
+                    int distinct = 0;
+                    for (int i = 0; i < bufferLength; i++) {
+                        if (i == 0 || buffer[i] != buffer[i - 1]) {
+                            forwardNeighbours.set(offset + distinct++, buffer[i]);
+                        }
+                    }
+                    forwardDegrees.set(node, distinct);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long source, long target) {
+            if (isForward(graph, source, sourceDegree, target)) {
+                buffer[bufferLength++] = target;
+            }
+            return true;
+        }
+    }
+
+    private final class ScaleTask implements Runnable {
+
+        private final double scale;
+
+        ScaleTask(double scale) {
+            this.scale = scale;
+        }
+
+        @Override
+        public void run() {
+            long nodeCount = graph.nodeCount();
+            long start;
+            while ((start = nextBatch()) < nodeCount) {
+                long end = Math.min(start + BATCH_SIZE, nodeCount);
+                for (long node = start; node < end; node++) {
+                    long triangles = triangleCounts.get(node);
+                    if (triangles > 0) {
+                        triangleCounts.set(node, Math.round(triangles * scale));
+                    }
                 }
-                progressTracker.logProgress();
             }
         }
+    }
+
+    private final class IntersectTask implements Runnable {
+
+        private final HugeLongArray offsets;
+        private final HugeIntArray forwardDegrees;
+        private final HugeLongArray forwardNeighbours;
+        private final LongHashSet hashedNeighbours;
+
+        private long[] neighbours;
+        private long localTriangleCount;
+
+        IntersectTask(HugeLongArray offsets, HugeIntArray forwardDegrees, HugeLongArray forwardNeighbours) {
+            this.offsets = offsets;
+            this.forwardDegrees = forwardDegrees;
+            this.forwardNeighbours = forwardNeighbours;
+            this.hashedNeighbours = new LongHashSet();
+            this.neighbours = new long[0];
+        }
 
         @Override
-        public void accept(final long nodeA, final long nodeB, final long nodeC) {
-            triangleCounts.getAndAdd(nodeA, 1);
-            triangleCounts.getAndAdd(nodeB, 1);
-            triangleCounts.getAndAdd(nodeC, 1);
-            globalTriangleCounter.increment();
+        public void run() {
+            long nodeCount = graph.nodeCount();
+            long start;
+            while ((start = nextBatch()) < nodeCount) {
+                long end = Math.min(start + BATCH_SIZE, nodeCount);
+                for (long node = start; node < end; node++) {
+                    int degree = forwardDegrees.get(node);
+                    // a triangle needs two forward neighbours of its first node
+                    if (degree > 1) {
+                        countTriangles(node, degree);
+                    }
+                    progressTracker.logProgress();
+                }
+            }
+            globalTriangleCounter.add(localTriangleCount);
         }
+
+        private void countTriangles(long node, int degree) {
+            if (neighbours.length < degree) {
+                neighbours = new long[degree];
+            }
+            long offset = offsets.get(node);
+            for (int i = 0; i < degree; i++) {
+                neighbours[i] = forwardNeighbours.get(offset + i);
+            }
+
+            boolean hashed = degree >= HASH_INTERSECT_THRESHOLD;
+            if (hashed) {
+                hashedNeighbours.clear();
+                for (int i = 0; i < degree; i++) {
+                    hashedNeighbours.add(neighbours[i]);
+                }
+            }
+
+            long nodeTriangles = 0;
+            for (int i = 0; i < degree; i++) {
+                long neighbour = neighbours[i];
+                int neighbourDegree = forwardDegrees.get(neighbour);
+                if (neighbourDegree == 0) {
+                    continue;
+                }
+                long neighbourOffset = offsets.get(neighbour);
+
+                long triangles;
+                if (hashed) {
+                    triangles = probe(neighbourOffset, neighbourDegree);
+                } else if (neighbourDegree >= (long) GALLOP_RATIO * degree) {
+                    triangles = gallopNeighbours(degree, neighbourOffset, neighbourDegree);
+                } else if (degree >= (long) GALLOP_RATIO * neighbourDegree) {
+                    triangles = gallopBuffer(degree, neighbourOffset, neighbourDegree);
+                } else {
+                    triangles = merge(degree, neighbourOffset, neighbourDegree);
+                }
+
+                if (triangles > 0) {
+                    triangleCounts.getAndAdd(neighbour, triangles);
+                    nodeTriangles += triangles;
+                }
+            }
+
+            if (nodeTriangles > 0) {
+                triangleCounts.getAndAdd(node, nodeTriangles);
+                localTriangleCount += nodeTriangles;
+            }
+        }
+
+        private long probe(long offset, int length) {
+            long triangles = 0;
+            for (long i = offset; i < offset + length; i++) {
+                long candidate = forwardNeighbours.get(i);
+                if (hashedNeighbours.contains(candidate)) {
+                    closeTriangle(candidate);
+                    triangles++;
+                }
+            }
+            return triangles;
+        }
+
+        private long merge(int degree, long offset, int length) {
+            long triangles = 0;
+            int i = 0;
+            long j = offset;
+            long end = offset + length;
+            while (i < degree && j < end) {
+                long left = neighbours[i];
+                long right = forwardNeighbours.get(j);
+                if (left < right) {
+                    i++;
+                } else if (left > right) {
+                    j++;
+                } else {
+                    closeTriangle(left);
+                    triangles++;
+                    i++;
+                    j++;
+                }
+            }
+            return triangles;
+        }
+
+        // the buffered list is much shorter, search its elements in the stored one
+        private long gallopNeighbours(int degree, long offset, int length) {
+            long triangles = 0;
+            long j = offset;
+            long end = offset + length;
+            for (int i = 0; i < degree && j < end; i++) {
+                long candidate = neighbours[i];
+                j = advance(forwardNeighbours, j, end, candidate);
+                if (j < end && forwardNeighbours.get(j) == candidate) {
+                    closeTriangle(candidate);
+                    triangles++;
+                    j++;
+                }
+            }
+            return triangles;
+        }
+
+        // the stored list is much shorter, search its elements in the buffered one
+        private long gallopBuffer(int degree, long offset, int length) {
+            long triangles = 0;
+            int i = 0;
+            for (long j = offset; j < offset + length && i < degree; j++) {
+                long candidate = forwardNeighbours.get(j);
+                i = advance(neighbours, i, degree, candidate);
+                if (i < degree && neighbours[i] == candidate) {
+                    closeTriangle(candidate);
+                    triangles++;
+                    i++;
+                }
+            }
+            return triangles;
+        }
+
+        private void closeTriangle(long node) {
+            triangleCounts.getAndAdd(node, 1);
+        }
+    }
+
+    /**
+     * Returns the first index in [from, to) whose value is at least `key`, or `to` if there is none.
+     * The distance to that index is found by doubling the step size, the last step is searched binary.
+     */
+    private static int advance(long[] values, int from, int to, long key) {
+        if (from >= to || values[from] >= key) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        while (low + step < to && values[low + step] < key) {
+            low += step;
+            step <<= 1;
+        }
+        int high = Math.min(low + step, to);
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
     }
 
+    private static long advance(HugeLongArray values, long from, long to, long key) {
+        if (from >= to || values.get(from) >= key) {
+            return from;
+        }
+        long low = from;
+        long step = 1;
+        while (low + step < to && values.get(low + step) < key) {
+            low += step;
+            step <<= 1;
+        }
+        long high = Math.min(low + step, to);
+        while (high - low > 1) {
+            long mid = (low + high) >>> 1;
+            if (values.get(mid) < key) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
 }
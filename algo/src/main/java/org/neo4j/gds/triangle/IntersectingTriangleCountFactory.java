@@ -43,6 +43,8 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
             graph,
             parameters.concurrency(),
             parameters.maxDegree(),
+            parameters.samplingRatio(),
+            parameters.randomSeed().orElse(0L),
             DefaultPool.INSTANCE,
             progressTracker,
             TerminationFlag.RUNNING_TRUE
@@ -19,10 +19,13 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
 
 public class IntersectingTriangleCountMemoryEstimateDefinition implements MemoryEstimateDefinition {
     @Override
@@ -30,6 +33,13 @@ public class IntersectingTriangleCountMemoryEstimateDefinition implements Memory
         return MemoryEstimations
             .builder(IntersectingTriangleCount.class)
             .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation)
+            .perNode("forward-degrees", HugeIntArray::memoryEstimation)
+            .perNode("forward-offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            // every undirected relationship is stored once, in the direction of the higher ranked node
+            .perGraphDimension(
+                "forward-neighbours",
+                (dimensions, concurrency) -> MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound() / 2))
+            )
             .build();
     }
 }
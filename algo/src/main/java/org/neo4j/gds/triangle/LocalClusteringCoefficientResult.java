@@ -20,8 +20,24 @@
 package org.neo4j.gds.triangle;
 
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.triangle.WedgeSamplingResult.ConfidenceInterval;
 
+import java.util.Optional;
+
+/**
+ * @param averageClusteringCoefficientConfidenceInterval the bounds of the average clustering coefficient,
+ *                                                       only present if it has been estimated by {@link WedgeSampling}
+ */
 public record LocalClusteringCoefficientResult(
+        HugeDoubleArray localClusteringCoefficients,
+        double averageClusteringCoefficient,
+        Optional<ConfidenceInterval> averageClusteringCoefficientConfidenceInterval
+    ) {
+
+    public LocalClusteringCoefficientResult(
         HugeDoubleArray localClusteringCoefficients,
         double averageClusteringCoefficient
-    ){}
+    ) {
+        this(localClusteringCoefficients, averageClusteringCoefficient, Optional.empty());
+    }
+}
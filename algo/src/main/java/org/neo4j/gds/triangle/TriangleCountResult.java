@@ -20,8 +20,21 @@
 package org.neo4j.gds.triangle;
 
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.triangle.WedgeSamplingResult.ConfidenceInterval;
 
+import java.util.Optional;
+
+/**
+ * @param globalTriangleCountConfidenceInterval the bounds of the global triangle count,
+ *                                              only present if it has been estimated by {@link WedgeSampling}
+ */
 public record TriangleCountResult(
         HugeAtomicLongArray localTriangles,
-        long globalTriangles
-    ) {}
+        long globalTriangles,
+        Optional<ConfidenceInterval> globalTriangleCountConfidenceInterval
+    ) {
+
+    public TriangleCountResult(HugeAtomicLongArray localTriangles, long globalTriangles) {
+        this(localTriangles, globalTriangles, Optional.empty());
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estimates the global transitivity, the number of triangles and the average local clustering coefficient
+ * from a sample of wedges (paths of length two) instead of enumerating all of them.
+ * <p>
+ * Wedges are sampled in two ways. Sampling uniformly from all wedges estimates the transitivity T,
+ * the fraction of closed wedges, and with it the number of triangles T * W / 3 for W wedges in total.
+ * Sampling a random wedge at a uniformly sampled node estimates the average local clustering coefficient.
+ * Both fractions come with a 95% Wilson score interval.
+ * <p>
+ * Preparing the samplers takes one pass over the node degrees, every sample scans the relationships
+ * of its center node and of one end of the wedge. The cost therefore scales with the sample size,
+ * not with the sum of squared degrees of an exact count. Parallel relationships and self loops are
+ * not collapsed, so they only give accurate results on simple graphs.
+ * <p>
+ * The samples are drawn in fixed blocks with a random generator per block, so the result only depends
+ * on the random seed and the sample size, not on the concurrency.
+ */
+public final class WedgeSampling extends Algorithm<WedgeSamplingResult> {
+
+    // z-score of a two-sided 95% confidence interval
+    static final double Z_95 = 1.959963984540054;
+    private static final int BLOCK_SIZE = 1024;
+
+    private final Graph graph;
+    private final Concurrency concurrency;
+    private final long sampleSize;
+    private final long randomSeed;
+    private final ExecutorService executorService;
+    private final AtomicLong blocks;
+
+    public WedgeSampling(
+        Graph graph,
+        Concurrency concurrency,
+        long sampleSize,
+        long randomSeed,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.sampleSize = sampleSize;
+        this.randomSeed = randomSeed;
+        this.executorService = executorService;
+        this.blocks = new AtomicLong();
+        this.terminationFlag = terminationFlag;
+    }
+
+    @Override
+    public WedgeSamplingResult compute() {
+        progressTracker.beginSubTask();
+
+        long nodeCount = graph.nodeCount();
+        long centerCount = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            if (graph.degree(node) > 1) {
+                centerCount++;
+            }
+        }
+
+        if (centerCount == 0 || sampleSize == 0) {
+            progressTracker.endSubTask();
+            return WedgeSamplingResult.EMPTY;
+        }
+
+        // the nodes with at least one wedge and the number of wedges up to and including each of them
+        var centers = HugeLongArray.newArray(centerCount);
+        var wedgePrefixSums = HugeLongArray.newArray(centerCount);
+        long wedgeCount = 0;
+        long center = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            long degree = graph.degree(node);
+            if (degree > 1) {
+                wedgeCount += degree * (degree - 1) / 2;
+                centers.set(center, node);
+                wedgePrefixSums.set(center, wedgeCount);
+                center++;
+            }
+        }
+
+        var closedWedges = new LongAdder();
+        var closedNodeWedges = new LongAdder();
+        blocks.set(0);
+        long totalWedges = wedgeCount;
+        var tasks = ParallelUtil.tasks(concurrency, () -> new SampleTask(
+            graph.concurrentCopy(),
+            centers,
+            wedgePrefixSums,
+            totalWedges,
+            closedWedges,
+            closedNodeWedges
+        ));
+        ParallelUtil.run(tasks, executorService);
+
+        var transitivity = WedgeSamplingResult.ConfidenceInterval.ofFraction(closedWedges.sum(), sampleSize, Z_95);
+        // nodes with less than two relationships have a coefficient of 0
+        var averageClusteringCoefficient = WedgeSamplingResult.ConfidenceInterval
+            .ofFraction(closedNodeWedges.sum(), sampleSize, Z_95)
+            .scale((double) centerCount / nodeCount);
+
+        progressTracker.endSubTask();
+        return new WedgeSamplingResult(
+            sampleSize,
+            wedgeCount,
+            transitivity,
+            transitivity.scale(wedgeCount / 3.0),
+            averageClusteringCoefficient
+        );
+    }
+
+    private final class SampleTask implements Runnable {
+
+        private final Graph graph;
+        private final HugeLongArray centers;
+        private final HugeLongArray wedgePrefixSums;
+        private final long wedgeCount;
+        private final LongAdder closedWedges;
+        private final LongAdder closedNodeWedges;
+
+        SampleTask(
+            Graph graph,
+            HugeLongArray centers,
+            HugeLongArray wedgePrefixSums,
+            long wedgeCount,
+            LongAdder closedWedges,
+            LongAdder closedNodeWedges
+        ) {
+            this.graph = graph;
+            this.centers = centers;
+            this.wedgePrefixSums = wedgePrefixSums;
+            this.wedgeCount = wedgeCount;
+            this.closedWedges = closedWedges;
+            this.closedNodeWedges = closedNodeWedges;
+        }
+
+        @Override
+        public void run() {
+            long blockCount = (sampleSize + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            long closed = 0;
+            long closedAtNodes = 0;
+            long block;
+            while ((block = blocks.getAndIncrement()) < blockCount && terminationFlag.running()) {
+                var random = new SplittableRandom(randomSeed + block * 0x9e3779b97f4a7c15L);
+                long samples = Math.min(BLOCK_SIZE, sampleSize - block * BLOCK_SIZE);
+                for (long i = 0; i < samples; i++) {
+                    if (isClosed(centerOfWedge(random.nextLong(wedgeCount)), random)) {
+                        closed++;
+                    }
+                    if (isClosed(centers.get(random.nextLong(centers.size())), random)) {
+                        closedAtNodes++;
+                    }
+                }
+                progressTracker.logProgress(samples);
+            }
+            closedWedges.add(closed);
+            closedNodeWedges.add(closedAtNodes);
+        }
+
+        /**
+         * Returns the center of the wedge with the given index, which is the first node whose prefix sum exceeds it.
+         */
+        private long centerOfWedge(long wedge) {
+            long low = 0;
+            long high = wedgePrefixSums.size() - 1;
+            while (low < high) {
+                long mid = (low + high) >>> 1;
+                if (wedgePrefixSums.get(mid) > wedge) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return centers.get(low);
+        }
+
+        /**
+         * Picks two distinct relationships of the center uniformly and checks whether their ends are connected.
+         */
+        private boolean isClosed(long center, SplittableRandom random) {
+            int degree = graph.degree(center);
+            int first = random.nextInt(degree);
+            int second = random.nextInt(degree - 1);
+            if (second >= first) {
+                second++;
+            }
+            long firstEnd = graph.nthTarget(center, first);
+            long secondEnd = graph.nthTarget(center, second);
+            if (firstEnd == secondEnd || firstEnd == center || secondEnd == center) {
+                return false;
+            }
+            // scan the shorter adjacency list
+            return graph.degree(firstEnd) <= graph.degree(secondEnd)
+                ? graph.exists(firstEnd, secondEnd)
+                : graph.exists(secondEnd, firstEnd);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+
+import java.util.Optional;
+
+/**
+ * Estimates of {@link WedgeSampling}, each with the bounds of its 95% confidence interval.
+ *
+ * @param sampleSize                   the number of wedges sampled for each of the estimates
+ * @param wedgeCount                   the exact number of wedges in the graph
+ * @param transitivity                 the fraction of closed wedges
+ * @param globalTriangleCount          the number of triangles, derived from the transitivity
+ * @param averageClusteringCoefficient the average local clustering coefficient over all nodes
+ */
+public record WedgeSamplingResult(
+    long sampleSize,
+    long wedgeCount,
+    ConfidenceInterval transitivity,
+    ConfidenceInterval globalTriangleCount,
+    ConfidenceInterval averageClusteringCoefficient
+) {
+
+    static final WedgeSamplingResult EMPTY = new WedgeSamplingResult(
+        0,
+        0,
+        ConfidenceInterval.ZERO,
+        ConfidenceInterval.ZERO,
+        ConfidenceInterval.ZERO
+    );
+
+    /**
+     * The estimated global triangle count with its bounds. Wedge sampling does not estimate per-node counts.
+     */
+    public TriangleCountResult toTriangleCountResult() {
+        return new TriangleCountResult(
+            HugeAtomicLongArray.of(0, ParalleLongPageCreator.passThrough(new Concurrency(1))),
+            Math.round(globalTriangleCount.estimate()),
+            Optional.of(globalTriangleCount)
+        );
+    }
+
+    /**
+     * The estimated average clustering coefficient with its bounds. Wedge sampling does not estimate per-node coefficients.
+     */
+    public LocalClusteringCoefficientResult toLocalClusteringCoefficientResult() {
+        return new LocalClusteringCoefficientResult(
+            HugeDoubleArray.newArray(0),
+            averageClusteringCoefficient.estimate(),
+            Optional.of(averageClusteringCoefficient)
+        );
+    }
+
+    public record ConfidenceInterval(double estimate, double lowerBound, double upperBound) {
+
+        static final ConfidenceInterval ZERO = new ConfidenceInterval(0, 0, 0);
+
+        /**
+         * The Wilson score interval of a binomial proportion, which unlike the normal approximation
+         * stays within [0, 1] and remains meaningful for fractions close to 0 or 1.
+         */
+        static ConfidenceInterval ofFraction(long successes, long trials, double z) {
+            double fraction = (double) successes / trials;
+            double zSquared = z * z;
+            double denominator = 1 + zSquared / trials;
+            double center = (fraction + zSquared / (2.0 * trials)) / denominator;
+            double halfWidth = z * Math.sqrt(fraction * (1 - fraction) / trials + zSquared / (4.0 * trials * trials)) / denominator;
+            return new ConfidenceInterval(
+                fraction,
+                Math.max(0, center - halfWidth),
+                Math.min(1, center + halfWidth)
+            );
+        }
+
+        ConfidenceInterval scale(double factor) {
+            return new ConfidenceInterval(estimate * factor, lowerBound * factor, upperBound * factor);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Components of a graph store view, together with the relationship types and counts they contain.
+ * <p>
+ * Adding relationships only ever merges components, so the components can be brought up to date by
+ * applying the relationships of new types. Any other change to the contained types requires a full run.
+ */
+public record MaintainedWcc(DisjointSetStruct components, Map<RelationshipType, Long> relationshipCounts) {
+
+    /**
+     * Whether every contained relationship type is still requested and unchanged.
+     */
+    public boolean canBeExtendedTo(Map<RelationshipType, Long> requestedRelationshipCounts) {
+        return relationshipCounts
+            .entrySet()
+            .stream()
+            .allMatch(entry -> entry.getValue().equals(requestedRelationshipCounts.get(entry.getKey())));
+    }
+
+    public Set<RelationshipType> newRelationshipTypes(Map<RelationshipType, Long> requestedRelationshipCounts) {
+        return requestedRelationshipCounts
+            .keySet()
+            .stream()
+            .filter(type -> !relationshipCounts.containsKey(type))
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps WCC components attached to the graph store they were computed on.
+ * <p>
+ * Components are kept per view of a graph store, identified by the node labels, relationship weight property
+ * and threshold of the request. The relationship types are not part of the view: requests that add types to a view
+ * extend its components. The components are held as a graph index in the {@link GraphStoreCatalog}
+ * and are dropped together with the graph.
+ * <p>
+ * Published components are never modified. Updates are computed on a copy outside of this class
+ * and replace the previous components afterwards.
+ */
+public final class MaintainedWccs {
+
+    private static final String INDEX_NAME = "maintained-wcc";
+
+    private MaintainedWccs() {}
+
+    public static Optional<MaintainedWcc> get(GraphStore graphStore, Key key) {
+        return GraphStoreCatalog
+            .getGraphIndex(graphStore, INDEX_NAME, Index.class)
+            .map(index -> index.components.get(key));
+    }
+
+    /**
+     * Replaces the previous components of the given view with the updated ones.
+     * If another request replaced the previous components in the meantime, its components are kept.
+     */
+    public static void publish(
+        GraphStore graphStore,
+        Key key,
+        Optional<MaintainedWcc> previous,
+        MaintainedWcc updated
+    ) {
+        var index = GraphStoreCatalog.getOrCreateGraphIndex(graphStore, INDEX_NAME, Index.class, Index::new);
+        previous.ifPresentOrElse(
+            maintained -> index.components.replace(key, maintained, updated),
+            () -> index.components.putIfAbsent(key, updated)
+        );
+    }
+
+    private static final class Index {
+        private final ConcurrentHashMap<Key, MaintainedWcc> components = new ConcurrentHashMap<>();
+    }
+
+    public record Key(
+        List<String> nodeLabels,
+        Optional<String> relationshipWeightProperty,
+        double threshold,
+        long nodeCount
+    ) {
+        public static Key of(
+            Collection<String> nodeLabels,
+            Optional<String> relationshipWeightProperty,
+            double threshold,
+            long nodeCount
+        ) {
+            return new Key(nodeLabels.stream().sorted().toList(), relationshipWeightProperty, threshold, nodeCount);
+        }
+    }
+}
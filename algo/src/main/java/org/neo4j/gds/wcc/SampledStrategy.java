@@ -96,6 +96,15 @@ final class SampledStrategy {
         linkRemaining(disjointSetStruct, partitions, largestComponent);
     }
 
+    /**
+     * Without an inverse index, a relationship from the largest component to another component
+     * can only be seen from its source node. In that case, nodes of the largest component
+     * are not skipped entirely, but still link their outgoing relationships into other components.
+     */
+    private boolean needsLinkFromSkipComponent() {
+        return !graph.characteristics().isUndirected() && !graph.characteristics().isInverseIndexed();
+    }
+
     /**
      * Processes a sparse samples subgraph first for approximating components.
      * Samples by processing a fixed number of neighbors for each node.
@@ -153,9 +162,11 @@ final class SampledStrategy {
     /**
      * Processes the remaining relationships that were not processed during the initial sampling.
      *
-     * Skips nodes that are already contained in the largest component.
+     * Skips nodes that are already contained in the largest component,
+     * unless the graph can only be traversed along the outgoing relationships.
      */
     private void linkRemaining(DisjointSetStruct components, List<Partition> partitions, long largestComponent) {
+        var linkFromSkipComponent = needsLinkFromSkipComponent();
         var tasks = partitions
             .stream()
             .map(partition -> this.threshold.isPresent()
@@ -164,6 +175,7 @@ final class SampledStrategy {
                 threshold.get(),
                 partition,
                 largestComponent,
+                linkFromSkipComponent,
                 components,
                 progressTracker,
                 terminationFlag
@@ -171,6 +183,7 @@ final class SampledStrategy {
                 graph,
                 partition,
                 largestComponent,
+                linkFromSkipComponent,
                 components,
                 progressTracker,
                 terminationFlag
@@ -272,7 +285,9 @@ final class SampledStrategy {
         long skip;
 
         private final RelationshipConsumer inverseConsumer;
+        private final RelationshipConsumer skipComponentConsumer;
         private final long skipComponent;
+        private final boolean linkFromSkipComponent;
         private final Partition partition;
         private final ProgressTracker progressTracker;
         private final TerminationFlag terminationFlag;
@@ -284,9 +299,22 @@ final class SampledStrategy {
             DisjointSetStruct components,
             ProgressTracker progressTracker,
             TerminationFlag terminationFlag
+        ) {
+            this(graph, partition, skipComponent, false, components, progressTracker, terminationFlag);
+        }
+
+        LinkTask(
+            Graph graph,
+            Partition partition,
+            long skipComponent,
+            boolean linkFromSkipComponent,
+            DisjointSetStruct components,
+            ProgressTracker progressTracker,
+            TerminationFlag terminationFlag
         ) {
             this.graph = graph.concurrentCopy();
             this.skipComponent = skipComponent;
+            this.linkFromSkipComponent = linkFromSkipComponent;
             this.partition = partition;
             this.components = components;
             this.progressTracker = progressTracker;
@@ -300,6 +328,14 @@ final class SampledStrategy {
             } else {
                 this.inverseConsumer = null;
             }
+
+            this.skipComponentConsumer = (sourceNodeId, targetNodeId) -> {
+                skip++;
+                if (skip > NEIGHBOR_ROUNDS && components.setIdOf(targetNodeId) != skipComponent) {
+                    components.union(sourceNodeId, targetNodeId);
+                }
+                return true;
+            };
         }
 
         @Override
@@ -310,6 +346,9 @@ final class SampledStrategy {
 
             for (long node = startNode; node < endNode; node++) {
                 if (components.setIdOf(node) == skipComponent) {
+                    if (linkFromSkipComponent) {
+                        linkSkipped(node);
+                    }
                     continue;
                 }
                 var degree = graph.degree(node);
@@ -335,6 +374,25 @@ final class SampledStrategy {
             graph.forEachInverseRelationship(node, this.inverseConsumer);
         }
 
+        private void linkSkipped(long node) {
+            var degree = graph.degree(node);
+            if (degree > NEIGHBOR_ROUNDS) {
+                reset();
+                linkOutOfSkipComponent(node);
+                progressTracker.logProgress(degree - NEIGHBOR_ROUNDS);
+            }
+            if (node % RUN_CHECK_NODE_COUNT == 0) {
+                terminationFlag.assertRunning();
+            }
+        }
+
+        /**
+         * Links only the relationships of a node in the skip component that leave the skip component.
+         */
+        void linkOutOfSkipComponent(long node) {
+            graph.forEachRelationship(node, this.skipComponentConsumer);
+        }
+
         @Override
         public boolean accept(long sourceNodeId, long targetNodeId) {
             skip++;
@@ -353,17 +411,39 @@ final class SampledStrategy {
 
         private final double threshold;
         private final RelationshipWithPropertyConsumer inverseConsumer;
+        private final RelationshipWithPropertyConsumer skipComponentConsumer;
+
+        LinkWithThresholdTask(
+            Graph graph,
+            double threshold,
+            Partition partition,
+            long skipComponent,
+            DisjointSetStruct components,
+            ProgressTracker progressTracker,
+            TerminationFlag terminationFlag
+        ) {
+            this(graph, threshold, partition, skipComponent, false, components, progressTracker, terminationFlag);
+        }
 
         LinkWithThresholdTask(
             Graph graph,
             double threshold,
             Partition partition,
             long skipComponent,
+            boolean linkFromSkipComponent,
             DisjointSetStruct components,
             ProgressTracker progressTracker,
             TerminationFlag terminationFlag
         ) {
-            super(graph, partition, skipComponent, components, progressTracker, terminationFlag);
+            super(
+                graph,
+                partition,
+                skipComponent,
+                linkFromSkipComponent,
+                components,
+                progressTracker,
+                terminationFlag
+            );
             this.threshold = threshold;
 
             if (graph.characteristics().isInverseIndexed()) {
@@ -376,6 +456,16 @@ final class SampledStrategy {
             } else {
                 this.inverseConsumer = null;
             }
+
+            this.skipComponentConsumer = (sourceNodeId, targetNodeId, property) -> {
+                if (property > threshold) {
+                    skip++;
+                    if (skip > NEIGHBOR_ROUNDS && components.setIdOf(targetNodeId) != skipComponent) {
+                        components.union(sourceNodeId, targetNodeId);
+                    }
+                }
+                return true;
+            };
         }
 
         @Override
@@ -388,6 +478,11 @@ final class SampledStrategy {
             graph.forEachInverseRelationship(node, Wcc.defaultWeight(threshold), this.inverseConsumer);
         }
 
+        @Override
+        void linkOutOfSkipComponent(long node) {
+            graph.forEachRelationship(node, Wcc.defaultWeight(threshold), this.skipComponentConsumer);
+        }
+
         @Override
         public boolean accept(long sourceNodeId, long targetNodeId, double property) {
             if (property > threshold) {
@@ -22,17 +22,15 @@ package org.neo4j.gds.wcc;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.algorithms.community.CommunityCompanion;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicPathHalvingDisjointSetStruct;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
-import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
-
 /**
  * Parallel Union-Find Algorithm based on the
  * "Wait-free Parallel Algorithms for the Union-Find Problem" paper.
@@ -40,12 +38,16 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
  * @see HugeAtomicDisjointSetStruct
  * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.56.8354&rep=rep1&type=pdf">the paper</a>
  * <p>
- * For undirected graphs and directed graphs with index, we use a sampling based approach, as introduced in [1].
+ * We use a sampling based approach, as introduced in [1].
  * <p>
  * The idea is to identify the largest component using a sampled subgraph.
- * Relationships of nodes that are already contained in the largest component are
- * not iterated. The compression step described in [1], is contained in
- * {@link DisjointSetStruct#setIdOf}.
+ * For undirected graphs and directed graphs with index, relationships of nodes that
+ * are already contained in the largest component are not iterated. Directed graphs
+ * without index only iterate outgoing relationships, so nodes of the largest component
+ * still link those relationships that leave the largest component.
+ * The compression step described in [1], is contained in {@link DisjointSetStruct#setIdOf}.
+ * <p>
+ * Without seeding, the components are tracked in a {@link HugeAtomicPathHalvingDisjointSetStruct}.
  * <p>
  * [1] Michael Sutton, Tal Ben-Nun, and Amnon Barak. "Optimizing Parallel
  * Graph Connectivity Computation via Subgraph Sampling" Symposium on
@@ -55,14 +57,12 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
 
     private final WccParameters parameters;
     private final ExecutorService executorService;
-    private final long batchSize;
 
     private final Graph graph;
 
     public Wcc(
         Graph graph,
         ExecutorService executor,
-        int minBatchSize,
         WccParameters parameters,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
@@ -75,22 +75,6 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
         this.parameters = parameters;
 
         this.executorService = executor;
-
-        this.batchSize = ParallelUtil.adjustedBatchSize(
-            graph.nodeCount(),
-            parameters.concurrency(),
-            minBatchSize,
-            Integer.MAX_VALUE
-        );
-
-        if (ParallelUtil.threadCount(batchSize, graph.nodeCount()) > Integer.MAX_VALUE) {
-            throw new IllegalArgumentException(formatWithLocale(
-                "Too many nodes (%d) to run WCC with the given concurrency (%d) and batchSize (%d)",
-                graph.nodeCount(),
-                parameters.concurrency().value(),
-                batchSize
-            ));
-        }
     }
 
     @Override
@@ -98,36 +82,23 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
         progressTracker.beginSubTask();
 
         long nodeCount = graph.nodeCount();
-        var disjointSetStruct = parameters.seedProperty()
-            .map(seedProperty -> {
+        DisjointSetStruct disjointSetStruct = parameters.seedProperty()
+            .<DisjointSetStruct>map(seedProperty -> {
                 var initialComponents = CommunityCompanion.extractSeedingNodePropertyValues(graph, seedProperty);
                 return new HugeAtomicDisjointSetStruct(nodeCount, initialComponents, parameters.concurrency());
             })
-            .orElseGet(() -> new HugeAtomicDisjointSetStruct(nodeCount, parameters.concurrency()));
-
-        if (graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed()) {
-            new SampledStrategyBuilder()
-                .graph(graph)
-                .disjointSetStruct(disjointSetStruct)
-                .threshold(threshold())
-                .concurrency(parameters.concurrency())
-                .terminationFlag(terminationFlag)
-                .progressTracker(progressTracker)
-                .executorService(executorService)
-                .build()
-                .compute();
-        } else {
-            new UnsampledStrategyBuilder()
-                .graph(graph)
-                .disjointSetStruct(disjointSetStruct)
-                .threshold(threshold())
-                .batchSize(batchSize)
-                .terminationFlag(terminationFlag)
-                .progressTracker(progressTracker)
-                .executorService(executorService)
-                .build()
-                .compute();
-        }
+            .orElseGet(() -> new HugeAtomicPathHalvingDisjointSetStruct(nodeCount, parameters.concurrency()));
+
+        new SampledStrategyBuilder()
+            .graph(graph)
+            .disjointSetStruct(disjointSetStruct)
+            .threshold(threshold())
+            .concurrency(parameters.concurrency())
+            .terminationFlag(terminationFlag)
+            .progressTracker(progressTracker)
+            .executorService(executorService)
+            .build()
+            .compute();
 
         progressTracker.endSubTask();
 
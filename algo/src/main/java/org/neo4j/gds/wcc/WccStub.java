@@ -22,7 +22,6 @@ package org.neo4j.gds.wcc;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
 import org.neo4j.gds.core.concurrency.DefaultPool;
-import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -49,7 +48,6 @@ public class WccStub {
         var algorithm = new Wcc(
             graph,
             DefaultPool.INSTANCE,
-            ParallelUtil.DEFAULT_BATCH_SIZE,
             parameters,
             progressTracker,
             terminationFlag
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicPathHalvingDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.termination.TerminationFlag.RUN_CHECK_NODE_COUNT;
+
+/**
+ * Adds relationships to existing components.
+ * <p>
+ * The given graph only needs to contain the new relationships. Every relationship is linked,
+ * so the components are the same as those of a full run on the union of old and new relationships.
+ * The existing components are not modified: they are copied first and the relationships are linked
+ * into the copy, so that the existing components can be read while the update is running.
+ */
+public final class WccUpdate extends Algorithm<DisjointSetStruct> {
+
+    private final Graph graph;
+    private final DisjointSetStruct previousComponents;
+    private final WccParameters parameters;
+    private final ExecutorService executorService;
+
+    public WccUpdate(
+        Graph graph,
+        DisjointSetStruct previousComponents,
+        WccParameters parameters,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        super(progressTracker);
+        if (graph.nodeCount() != previousComponents.size()) {
+            throw new IllegalArgumentException(
+                "The components need to be computed on the same nodes as the new relationships.");
+        }
+        this.graph = graph;
+        this.previousComponents = previousComponents;
+        this.parameters = parameters;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+    }
+
+    public static Task progressTask(String taskName, Graph newRelationships) {
+        return Tasks.task(
+            taskName,
+            Tasks.leaf("copy components", newRelationships.nodeCount()),
+            Tasks.leaf("link relationships", newRelationships.relationshipCount())
+        );
+    }
+
+    @Override
+    public DisjointSetStruct compute() {
+        progressTracker.beginSubTask();
+
+        progressTracker.beginSubTask();
+        var components = new HugeAtomicPathHalvingDisjointSetStruct(graph.nodeCount(), parameters.concurrency());
+        ParallelUtil.parallelForEachNode(graph.nodeCount(), parameters.concurrency(), terminationFlag, node -> {
+            components.union(node, previousComponents.setIdOf(node));
+            progressTracker.logProgress();
+        });
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        var tasks = PartitionUtils.degreePartition(
+            graph,
+            parameters.concurrency(),
+            partition -> (Runnable) () -> link(graph.concurrentCopy(), components, partition),
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executorService);
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+
+        return components;
+    }
+
+    private void link(Graph graph, DisjointSetStruct components, Partition partition) {
+        partition.consume(node -> {
+            if (parameters.hasThreshold()) {
+                double threshold = parameters.threshold();
+                graph.forEachRelationship(node, Wcc.defaultWeight(threshold), (source, target, property) -> {
+                    if (property > threshold) {
+                        components.union(source, target);
+                    }
+                    return true;
+                });
+            } else {
+                graph.forEachRelationship(node, (source, target) -> {
+                    components.union(source, target);
+                    return true;
+                });
+            }
+            if (node % RUN_CHECK_NODE_COUNT == 0) {
+                terminationFlag.assertRunning();
+            }
+            progressTracker.logProgress(graph.degree(node));
+        });
+    }
+}
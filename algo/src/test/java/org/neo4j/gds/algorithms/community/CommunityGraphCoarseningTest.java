@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.algorithms.community;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+@GdlExtension
+class CommunityGraphCoarseningTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED, idOffset = 0)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a0:Node)," +
+        "  (a1:Node)," +
+        "  (a2:Node)," +
+        "  (a3:Node)," +
+        "  (a4:Node)," +
+        "  (a0)-[:R {weight: 1.0}]->(a1)," +
+        "  (a1)-[:R {weight: 2.0}]->(a2)," +
+        "  (a2)-[:R {weight: 3.0}]->(a3)," +
+        "  (a3)-[:R {weight: 4.0}]->(a4)," +
+        "  (a1)-[:R {weight: 5.0}]->(a4)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldSumWeightsBetweenCommunities() {
+        var communities = new long[]{7, 7, 7, 3, 3};
+
+        var coarsenedGraph = coarsen(graph, node -> communities[(int) node], 7, Direction.UNDIRECTED, true, 4);
+
+        assertThat(coarsenedGraph.nodeCount()).isEqualTo(2);
+        coarsenedGraph.forEachNode(nodeId -> {
+            assertThat(coarsenedGraph.toOriginalNodeId(nodeId)).isIn(3L, 7L);
+            return true;
+        });
+
+        // every relationship within a community is seen from both ends
+        assertGraphEquals(
+            fromGdl(
+                "(c3), (c7), " +
+                "(c7)-[{w: 6.0}]->(c7), " +
+                "(c7)-[{w: 8.0}]->(c3), " +
+                "(c3)-[{w: 8.0}]->(c7), " +
+                "(c3)-[{w: 8.0}]->(c3)"
+            ),
+            coarsenedGraph
+        );
+    }
+
+    @Test
+    void shouldDropSelfLoops() {
+        var communities = new long[]{7, 7, 7, 3, 3};
+
+        var coarsenedGraph = coarsen(graph, node -> communities[(int) node], 7, Direction.UNDIRECTED, false, 1);
+
+        assertGraphEquals(
+            fromGdl(
+                "(c3), (c7), " +
+                "(c7)-[{w: 8.0}]->(c3), " +
+                "(c3)-[{w: 8.0}]->(c7)"
+            ),
+            coarsenedGraph
+        );
+        assertThat(coarsenedGraph.characteristics().isUndirected()).isTrue();
+    }
+
+    static Stream<Arguments> randomGraphs() {
+        return TestSupport.crossArguments(
+            () -> Stream.of(Direction.DIRECTED, Direction.UNDIRECTED).map(Arguments::of),
+            () -> IntStream.of(1, 4).mapToObj(Arguments::of),
+            // few communities exceed the merge buffer of the coarsening tasks
+            () -> IntStream.of(3, 997).mapToObj(Arguments::of),
+            () -> Stream.of(true, false).map(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomGraphs")
+    void shouldMatchNaiveAggregation(Direction direction, int concurrency, int communityCount, boolean keepSelfLoops) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(direction)
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0, 1))
+            .seed(42L)
+            .build()
+            .generate();
+
+        LongUnaryOperator communities = node -> 2 * (node * 31 % communityCount);
+
+        var expected = new HashMap<List<Long>, Double>();
+        randomGraph.forEachNode(node -> {
+            long community = communities.applyAsLong(node);
+            randomGraph.forEachRelationship(node, 1.0, (source, target, weight) -> {
+                long targetCommunity = communities.applyAsLong(target);
+                if (keepSelfLoops || community != targetCommunity) {
+                    expected.merge(List.of(community, targetCommunity), weight, Double::sum);
+                }
+                return true;
+            });
+            return true;
+        });
+
+        var coarsenedGraph = coarsen(
+            randomGraph,
+            communities,
+            2L * (communityCount - 1),
+            direction,
+            keepSelfLoops,
+            concurrency
+        );
+
+        assertThat(coarsenedGraph.nodeCount()).isEqualTo(communityCount);
+        assertThat(coarsenedGraph.relationshipCount()).isEqualTo(expected.size());
+
+        var actual = new HashMap<List<Long>, Double>();
+        coarsenedGraph.forEachNode(node -> {
+            coarsenedGraph.forEachRelationship(node, Double.NaN, (source, target, weight) -> {
+                var previous = actual.put(
+                    List.of(coarsenedGraph.toOriginalNodeId(source), coarsenedGraph.toOriginalNodeId(target)),
+                    weight
+                );
+                assertThat(previous).as("parallel relationships").isNull();
+                return true;
+            });
+            return true;
+        });
+
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        for (Map.Entry<List<Long>, Double> entry : expected.entrySet()) {
+            assertThat(actual.get(entry.getKey())).isCloseTo(entry.getValue(), Offset.offset(1e-6));
+        }
+    }
+
+    private static Graph coarsen(
+        Graph graph,
+        LongUnaryOperator communities,
+        long maxCommunityId,
+        Direction direction,
+        boolean keepSelfLoops,
+        int concurrency
+    ) {
+        return new CommunityGraphCoarsening(
+            graph,
+            communities,
+            maxCommunityId,
+            direction,
+            keepSelfLoops,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.algorithms.community;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommunityWeightAccumulatorTest {
+
+    @Test
+    void shouldAccumulateWeightsPerCommunity() {
+        var accumulator = new CommunityWeightAccumulator(10);
+
+        accumulator.add(3, 1.0);
+        accumulator.add(7, 2.5);
+        accumulator.add(3, 0.5);
+
+        assertThat(accumulator.size()).isEqualTo(2);
+        assertThat(accumulator.communityAt(0)).isEqualTo(3);
+        assertThat(accumulator.communityAt(1)).isEqualTo(7);
+        assertThat(accumulator.get(3)).isEqualTo(1.5);
+        assertThat(accumulator.get(7)).isEqualTo(2.5);
+        assertThat(accumulator.get(5)).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldOnlyResetTouchedCommunitiesOnClear() {
+        var accumulator = new CommunityWeightAccumulator(10);
+        accumulator.add(1, 1.0);
+        accumulator.add(9, 1.0);
+
+        accumulator.clear();
+
+        assertThat(accumulator.size()).isZero();
+        for (long community = 0; community < 10; community++) {
+            assertThat(accumulator.get(community)).isEqualTo(0.0);
+        }
+
+        accumulator.add(9, 4.0);
+        assertThat(accumulator.size()).isEqualTo(1);
+        assertThat(accumulator.get(9)).isEqualTo(4.0);
+    }
+
+    @Test
+    void shouldMatchHashMapAccumulation() {
+        var random = new Random(42);
+        var accumulator = new CommunityWeightAccumulator(1_000);
+
+        for (int round = 0; round < 10; round++) {
+            var expected = new HashMap<Long, Double>();
+            for (int i = 0; i < 500; i++) {
+                long community = random.nextInt(1_000);
+                double weight = random.nextDouble();
+                expected.merge(community, weight, Double::sum);
+                accumulator.add(community, weight);
+            }
+
+            var actual = new HashMap<Long, Double>();
+            for (int i = 0; i < accumulator.size(); i++) {
+                long community = accumulator.communityAt(i);
+                actual.put(community, accumulator.get(community));
+            }
+            assertThat(actual).isEqualTo(expected);
+
+            accumulator.clear();
+        }
+    }
+}
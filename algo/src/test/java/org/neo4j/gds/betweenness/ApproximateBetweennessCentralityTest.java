@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.crossArguments;
+
+class ApproximateBetweennessCentralityTest {
+
+    private static final double ERROR_BOUND = 0.05;
+
+    static Stream<Arguments> testArguments() {
+        return crossArguments(
+            () -> Stream.of(Direction.DIRECTED, Direction.UNDIRECTED).map(Arguments::of),
+            () -> Stream.of(true, false).map(Arguments::of),
+            () -> Stream.of(1, 4).map(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest(name = "direction={0}, weighted={1}, concurrency={2}")
+    @MethodSource("testArguments")
+    void shouldStayWithinErrorBound(Direction direction, boolean weighted, int concurrency) {
+        var graph = randomGraph(direction);
+        long nodeCount = graph.nodeCount();
+
+        var exact = new BetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            weighted ? ForwardTraverser.Factory.weighted() : ForwardTraverser.Factory.unweighted(),
+            DefaultPool.INSTANCE,
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().centralities();
+
+        var approximate = new ApproximateBetweennessCentrality(
+            graph,
+            ERROR_BOUND,
+            0.1,
+            Optional.of(42L),
+            weighted,
+            DefaultPool.INSTANCE,
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(approximate.errorBound()).hasValueSatisfying(bound -> assertThat(bound).isLessThanOrEqualTo(ERROR_BOUND));
+        assertThat(approximate.sampleCount()).hasValueSatisfying(sampleCount -> assertThat(sampleCount).isBetween(
+            1L,
+            ApproximateBetweennessCentrality.maximumSampleSize(nodeCount, ERROR_BOUND, 0.1)
+        ));
+
+        // the error bound refers to the scores normalized by the number of node pairs
+        double pairs = (double) nodeCount * (nodeCount - 1) / (direction == Direction.UNDIRECTED ? 2.0 : 1.0);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            double error = Math.abs(approximate.centralities().get(nodeId) - exact.get(nodeId)) / pairs;
+            assertThat(error).as("node %d", nodeId).isLessThanOrEqualTo(ERROR_BOUND);
+        }
+    }
+
+    @Test
+    void shouldGrowMaximumSampleSizeWithPrecision() {
+        long coarse = ApproximateBetweennessCentrality.maximumSampleSize(1_000, 0.1, 0.1);
+        long fine = ApproximateBetweennessCentrality.maximumSampleSize(1_000, 0.01, 0.1);
+        long confident = ApproximateBetweennessCentrality.maximumSampleSize(1_000, 0.1, 0.01);
+
+        assertThat(coarse).isPositive();
+        assertThat(fine).isBetween(coarse * 99, coarse * 100);
+        assertThat(confident).isGreaterThan(coarse);
+    }
+
+    private static Graph randomGraph(Direction direction) {
+        return new RandomGraphGeneratorBuilder()
+            .direction(direction)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 1, 5))
+            .nodeCount(300)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+}
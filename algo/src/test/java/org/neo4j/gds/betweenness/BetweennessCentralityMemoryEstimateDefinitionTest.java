@@ -29,9 +29,9 @@ class BetweennessCentralityMemoryEstimateDefinitionTest {
 
     @ParameterizedTest(name = "Concurrency: {0}")
     @CsvSource({
-        "1, 6_000_376",
-        "4, 21_601_192",
-        "42, 219_211_528"
+        "1, 5_600_504",
+        "4, 17_601_560",
+        "42, 169_614_936"
     })
     void testMemoryEstimation(int concurrency, long expectedBytes) {
         var memoryEstimation = new BetweennessCentralityMemoryEstimateDefinition(false).memoryEstimation();
@@ -42,9 +42,9 @@ class BetweennessCentralityMemoryEstimateDefinitionTest {
 
     @ParameterizedTest(name = "Concurrency: {0}")
     @CsvSource({
-        "1, 7_213_000",
-        "4, 26_451_688",
-        "42, 270_141_736"
+        "1, 6_813_128",
+        "4, 22_452_056",
+        "42, 220_545_144"
     })
     void testMemoryEstimationWithRelationshipWeight(int concurrency, long expectedBytes) {
         var memoryEstimation = new BetweennessCentralityMemoryEstimateDefinition(true).memoryEstimation();
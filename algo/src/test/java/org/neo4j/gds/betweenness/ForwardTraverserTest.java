@@ -23,10 +23,11 @@ import com.carrotsearch.hppc.LongArrayList;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
@@ -64,7 +65,9 @@ class ForwardTraverserTest {
     @Test
     void shouldWorkOnUnWeightedGraphs() {
         var backwardNodes = HugeLongArrayStack.newStack(equallyWeightedGraph.nodeCount());
-        var predecessors = HugeObjectArray.newArray(LongArrayList.class, equallyWeightedGraph.nodeCount());
+        var predecessors = Predecessors.create(
+            Predecessors.offsets(equallyWeightedGraph, new Concurrency(1), DefaultPool.INSTANCE)
+        );
         var sigma = HugeLongArray.newArray(equallyWeightedGraph.nodeCount());
         UnweightedForwardTraverser unweightedForwardTraverser = UnweightedForwardTraverser.create(
             equallyWeightedGraph,
@@ -81,13 +84,13 @@ class ForwardTraverserTest {
         SoftAssertions softAssertions = new SoftAssertions();
 
         softAssertions.assertThat(sigma.toArray()).isEqualTo(new long[]{1, 1, 0, 1, 1, 2, 2});
-        softAssertions.assertThat(predecessors.get(0)).isNull();
-        softAssertions.assertThat(predecessors.get(1).toArray()).containsExactly(0);
-        softAssertions.assertThat(predecessors.get(2)).isNull();
-        softAssertions.assertThat(predecessors.get(3).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(4).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(5).toArray()).containsExactly(3, 4);
-        softAssertions.assertThat(predecessors.get(6).toArray()).containsExactly(5);
+        softAssertions.assertThat(predecessors.count(0)).isZero();
+        softAssertions.assertThat(predecessorsOf(predecessors, 1)).containsExactly(0);
+        softAssertions.assertThat(predecessors.count(2)).isZero();
+        softAssertions.assertThat(predecessorsOf(predecessors, 3)).containsExactly(1);
+        softAssertions.assertThat(predecessorsOf(predecessors, 4)).containsExactly(1);
+        softAssertions.assertThat(predecessorsOf(predecessors, 5)).containsExactly(3, 4);
+        softAssertions.assertThat(predecessorsOf(predecessors, 6)).containsExactly(5);
 
         softAssertions.assertThat(backwardNodes.pop()).isEqualTo(6);
         softAssertions.assertThat(backwardNodes.pop()).isEqualTo(5);
@@ -104,7 +107,9 @@ class ForwardTraverserTest {
     @Test
     void shouldWorkOnWeightedGraphs() {
         var backwardNodes = HugeLongArrayStack.newStack(equallyWeightedGraph.nodeCount());
-        var predecessors = HugeObjectArray.newArray(LongArrayList.class, equallyWeightedGraph.nodeCount());
+        var predecessors = Predecessors.create(
+            Predecessors.offsets(weightedGraph, new Concurrency(1), DefaultPool.INSTANCE)
+        );
         var sigma = HugeLongArray.newArray(equallyWeightedGraph.nodeCount());
         WeightedForwardTraverser weightedForwardTraversor = WeightedForwardTraverser.create(
             weightedGraph,
@@ -121,13 +126,13 @@ class ForwardTraverserTest {
         SoftAssertions softAssertions = new SoftAssertions();
 
         softAssertions.assertThat(sigma.toArray()).isEqualTo(new long[]{1, 1, 0, 1, 1, 1, 1});
-        softAssertions.assertThat(predecessors.get(0)).isNull();
-        softAssertions.assertThat(predecessors.get(1).toArray()).containsExactly(0);
-        softAssertions.assertThat(predecessors.get(2)).isNull();
-        softAssertions.assertThat(predecessors.get(3).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(4).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(5).toArray()).containsExactly(4);
-        softAssertions.assertThat(predecessors.get(6).toArray()).containsExactly(5);
+        softAssertions.assertThat(predecessors.count(0)).isZero();
+        softAssertions.assertThat(predecessorsOf(predecessors, 1)).containsExactly(0);
+        softAssertions.assertThat(predecessors.count(2)).isZero();
+        softAssertions.assertThat(predecessorsOf(predecessors, 3)).containsExactly(1);
+        softAssertions.assertThat(predecessorsOf(predecessors, 4)).containsExactly(1);
+        softAssertions.assertThat(predecessorsOf(predecessors, 5)).containsExactly(4);
+        softAssertions.assertThat(predecessorsOf(predecessors, 6)).containsExactly(5);
 
         softAssertions.assertThat(backwardNodes.pop()).isEqualTo(3);
         softAssertions.assertThat(backwardNodes.pop()).isEqualTo(6);
@@ -140,4 +145,10 @@ class ForwardTraverserTest {
 
         softAssertions.assertAll();
     }
+
+    private static long[] predecessorsOf(Predecessors predecessors, long node) {
+        var result = new LongArrayList();
+        predecessors.forEach(node, result::add);
+        return result.toArray();
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.crossArguments;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class MultiSourceBetweennessCentralityTest {
+
+    private static final String DIAMOND =
+        "CREATE " +
+        "  (a1)-[:REL]->(b)" +
+        ", (a2)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)" +
+        ", (b)-[:REL]->(d)" +
+        ", (c)-[:REL]->(e)" +
+        ", (d)-[:REL]->(e)" +
+        ", (e)-[:REL]->(f)";
+
+    @Test
+    void shouldComputeCentralityOnDiamond() {
+        TestGraph graph = fromGdl(DIAMOND);
+
+        var result = new MultiSourceBetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            DefaultPool.INSTANCE,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().centralities();
+
+        assertThat(result.get(graph.toMappedNodeId("a1"))).isEqualTo(0.0);
+        assertThat(result.get(graph.toMappedNodeId("a2"))).isEqualTo(0.0);
+        assertThat(result.get(graph.toMappedNodeId("b"))).isEqualTo(8.0);
+        assertThat(result.get(graph.toMappedNodeId("c"))).isEqualTo(3.0);
+        assertThat(result.get(graph.toMappedNodeId("d"))).isEqualTo(3.0);
+        assertThat(result.get(graph.toMappedNodeId("e"))).isEqualTo(5.0);
+        assertThat(result.get(graph.toMappedNodeId("f"))).isEqualTo(0.0);
+    }
+
+    static Stream<Arguments> testArguments() {
+        return crossArguments(
+            () -> Stream.of(Direction.DIRECTED, Direction.UNDIRECTED).map(Arguments::of),
+            () -> Stream.of(1, 4).map(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest(name = "direction={0}, concurrency={1}")
+    @MethodSource("testArguments")
+    void shouldGiveSameResultsAsSingleSourceTraversal(Direction direction, int concurrency) {
+        // more sources than fit into one batch, the last batch is not full
+        var graph = randomGraph(direction, 300);
+
+        var expected = new BetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            ForwardTraverser.Factory.unweighted(),
+            DefaultPool.INSTANCE,
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().centralities();
+
+        var actual = new MultiSourceBetweennessCentrality(
+            graph,
+            new FullSelectionStrategy(),
+            DefaultPool.INSTANCE,
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().centralities();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.get(nodeId)).as("node %d", nodeId).isCloseTo(expected.get(nodeId), Offset.offset(1e-6));
+        }
+    }
+
+    @Test
+    void shouldSupportSampling() {
+        var graph = randomGraph(Direction.DIRECTED, 200);
+
+        var expected = new BetweennessCentrality(
+            graph,
+            new RandomDegreeSelectionStrategy(100, Optional.of(42L)),
+            ForwardTraverser.Factory.unweighted(),
+            DefaultPool.INSTANCE,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().centralities();
+
+        var actual = new MultiSourceBetweennessCentrality(
+            graph,
+            new RandomDegreeSelectionStrategy(100, Optional.of(42L)),
+            DefaultPool.INSTANCE,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().centralities();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.get(nodeId)).as("node %d", nodeId).isCloseTo(expected.get(nodeId), Offset.offset(1e-6));
+        }
+    }
+
+    private static Graph randomGraph(Direction direction, int nodeCount) {
+        return new RandomGraphGeneratorBuilder()
+            .direction(direction)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.modularity.ModularityCalculator;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class CommunityQualityTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    static final String GRAPH =
+        "CREATE " +
+        " (a1: Node { communityId: 0, communityId2: 200, singleton: 1 })," +
+        " (a2: Node { communityId: 0, communityId2: 200, singleton: 2 })," +
+        " (a3: Node { communityId: 5, communityId2: 205, singleton: 3 })," +
+        " (a4: Node { communityId: 0, communityId2: 200, singleton: 4 })," +
+        " (a5: Node { communityId: 5, communityId2: 205, singleton: 5 })," +
+        " (a6: Node { communityId: 5, communityId2: 205, singleton: 6 })," +
+
+        " (a1)-[:R]->(a2)," +
+        " (a1)-[:R]->(a4)," +
+        " (a2)-[:R]->(a3)," +
+        " (a2)-[:R]->(a4)," +
+        " (a2)-[:R]->(a5)," +
+        " (a3)-[:R]->(a6)," +
+        " (a4)-[:R]->(a5)," +
+        " (a5)-[:R]->(a6)";
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldScoreAllPartitions(int concurrency) {
+        var result = new CommunityQuality(
+            graph,
+            List.of("communityId", "communityId2", "singleton"),
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(result.partitions())
+            .extracting(PartitionQuality::communityProperty)
+            .containsExactly("communityId", "communityId2", "singleton");
+
+        var community0Modularity = (6 - 9 * 9 * (1.0 / 16)) / 16;
+        var community5Modularity = (4 - 7 * 7 * (1.0 / 16)) / 16;
+        var offset = Offset.offset(1e-9);
+
+        for (var partition : result.partitions().subList(0, 2)) {
+            assertThat(partition.communityCount()).isEqualTo(2);
+            assertThat(partition.totalRelationshipWeight()).isEqualTo(16);
+            assertThat(partition.modularity()).isCloseTo(community0Modularity + community5Modularity, offset);
+            assertThat(partition.coverage()).isCloseTo(10.0 / 16, offset);
+            assertThat(partition.averageConductance()).isCloseTo((3.0 / 9 + 3.0 / 7) / 2, offset);
+        }
+
+        var communityId2 = result.partitions().get(1);
+        Map<Long, Long> nodeCounts = new HashMap<>();
+        Map<Long, Double> conductances = new HashMap<>();
+        for (long community = 0; community < communityId2.communityCount(); community++) {
+            nodeCounts.put(communityId2.communityId(community), communityId2.nodeCount(community));
+            conductances.put(communityId2.communityId(community), communityId2.communityConductance(community));
+        }
+        assertThat(nodeCounts).containsExactlyInAnyOrderEntriesOf(Map.of(200L, 3L, 205L, 3L));
+        assertThat(conductances.get(200L)).isCloseTo(3.0 / 9, offset);
+        assertThat(conductances.get(205L)).isCloseTo(3.0 / 7, offset);
+
+        var singleton = result.partitions().get(2);
+        assertThat(singleton.communityCount()).isEqualTo(6);
+        assertThat(singleton.modularity()).isCloseTo(-46.0 / 256, offset);
+        assertThat(singleton.coverage()).isEqualTo(0.0);
+        assertThat(singleton.averageConductance()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldMatchModularityCalculator() {
+        var result = new CommunityQuality(
+            graph,
+            List.of("communityId", "singleton"),
+            new Concurrency(4),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        for (var partition : result.partitions()) {
+            var expected = ModularityCalculator.create(
+                graph,
+                graph.nodeProperties(partition.communityProperty())::longValue,
+                new Concurrency(4)
+            ).compute();
+
+            assertThat(partition.modularity()).isCloseTo(expected.totalModularity(), Offset.offset(1e-9));
+            assertThat(partition.communityCount()).isEqualTo(expected.communityCount());
+        }
+    }
+
+    @Test
+    void shouldMapCommunitiesSpreadOverSeveralNodeRanges() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(50_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomLong("community", 0, 100))
+            .seed(42L)
+            .build()
+            .generate();
+
+        var sequential = communityNodeCounts(randomGraph, 1);
+        var parallel = communityNodeCounts(randomGraph, 4);
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(parallel.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(50_000L);
+    }
+
+    private static Map<Long, Long> communityNodeCounts(Graph graph, int concurrency) {
+        var partition = new CommunityQuality(
+            graph,
+            List.of("community"),
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().partitions().get(0);
+
+        Map<Long, Long> nodeCounts = new HashMap<>();
+        for (long community = 0; community < partition.communityCount(); community++) {
+            nodeCounts.put(partition.communityId(community), partition.nodeCount(community));
+        }
+        return nodeCounts;
+    }
+}
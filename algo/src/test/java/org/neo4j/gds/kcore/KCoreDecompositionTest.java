@@ -22,8 +22,14 @@ package org.neo4j.gds.kcore;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -33,6 +39,8 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 @GdlExtension
@@ -218,4 +226,49 @@ class KCoreDecompositionTest {
 
         }
     }
+
+    static Stream<Arguments> randomGraphs() {
+        return TestSupport.crossArguments(
+            () -> Stream.of(RelationshipDistribution.POWER_LAW, RelationshipDistribution.RANDOM).map(Arguments::of),
+            () -> Stream.of(1, 4).map(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomGraphs")
+    void shouldComputeSameCoreValuesByHIndex(RelationshipDistribution distribution, int concurrency) {
+        var graph = new RandomGraphGeneratorBuilder()
+            .nodeCount(5_000)
+            .averageDegree(30)
+            .relationshipDistribution(distribution)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var peeling = new KCoreDecomposition(
+            graph,
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            64,
+            KCoreDecomposition.Strategy.PEELING,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        var hIndex = new KCoreDecomposition(
+            graph,
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            64,
+            KCoreDecomposition.Strategy.H_INDEX,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(hIndex.degeneracy()).isEqualTo(peeling.degeneracy());
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(hIndex.coreValues().get(nodeId)).isEqualTo(peeling.coreValues().get(nodeId));
+        }
+        assertThat(hIndex.rounds()).isPositive();
+        assertThat(peeling.rounds()).isPositive();
+    }
 }
+
@@ -36,10 +36,10 @@ class ClusterManagerTest {
 
         assertThat(usage.min)
             .as("Min should be correct")
-            .isEqualTo(144L);
+            .isEqualTo(248L);
         assertThat(usage.max)
             .as("Max should be correct")
-            .isEqualTo(160L);
+            .isEqualTo(264L);
     }
 
 }
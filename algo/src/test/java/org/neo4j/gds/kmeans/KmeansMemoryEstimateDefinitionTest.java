@@ -44,7 +44,7 @@ class KmeansMemoryEstimateDefinitionTest {
 
         MemoryEstimationAssert.assertThat(memoryEstimation).
             memoryRange(graphDimensions, new Concurrency(4))
-            .hasRange(33928,54920);
+            .hasRange(34728,55720);
 
     }
 
@@ -64,7 +64,7 @@ class KmeansMemoryEstimateDefinitionTest {
                             + 6 * 24; // eight doubles
         MemoryEstimationAssert.assertThat(memoryEstimation).
             memoryRange(graphDimensions, new Concurrency(4))
-            .hasRange(33928L + sizeOfCentroids,54920L + sizeOfCentroids);
+            .hasRange(34728L + sizeOfCentroids,55720L + sizeOfCentroids);
     }
 
     @Test
@@ -79,8 +79,8 @@ class KmeansMemoryEstimateDefinitionTest {
 
         MemoryEstimationAssert.assertThat(memoryEstimation).
             memoryRange(graphDimensions, new Concurrency(4))
-            .hasMin(34304)
-            .hasMax(55296);
+            .hasMin(35104)
+            .hasMax(56096);
 
     }
 
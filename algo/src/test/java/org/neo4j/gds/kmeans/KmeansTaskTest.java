@@ -35,7 +35,7 @@ class KmeansTaskTest {
 
         var usage = estimation.memoryUsage();
 
-        assertThat(usage.min).isEqualTo(5448L);
-        assertThat(usage.max).isEqualTo(10568L);
+        assertThat(usage.min).isEqualTo(5496L);
+        assertThat(usage.max).isEqualTo(10616L);
     }
 }
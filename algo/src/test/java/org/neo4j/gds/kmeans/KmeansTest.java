@@ -22,9 +22,14 @@ package org.neo4j.gds.kmeans;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.applications.algorithms.community.CommunityAlgorithms;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.utils.Intersections;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
@@ -343,6 +348,79 @@ class KmeansTest {
     }
 
 
+    @ParameterizedTest
+    @EnumSource(SamplerType.class)
+    void shouldAssignClosestCentroidsWhenSkippingDistanceComputations(SamplerType samplerType) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomEmbeddingDouble("kmeans", 8, -1, 1))
+            .seed(42L)
+            .build()
+            .generate();
+
+        var kmeansConfig = KmeansStreamConfigImpl.builder()
+            .nodeProperty("kmeans")
+            .concurrency(4)
+            .randomSeed(42L)
+            .k(10)
+            .maxIterations(1_000)
+            .deltaThreshold(0)
+            .initialSampler(samplerType)
+            .build();
+        var kmeansContext = ImmutableKmeansContext.builder().build();
+        var result = Kmeans
+            .createKmeans(randomGraph, kmeansConfig.toParameters(), kmeansContext, TerminationFlag.RUNNING_TRUE)
+            .compute();
+
+        assertThat(result.didConverge()).isTrue();
+        assertThat(result.skippedDistanceComputations()).isPositive();
+
+        // once no node changes its cluster anymore, every node is assigned to its closest centroid
+        var properties = randomGraph.nodeProperties("kmeans");
+        var centers = result.centers();
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            var property = properties.doubleArrayValue(nodeId);
+            int closest = 0;
+            for (int centroidId = 1; centroidId < centers.length; centroidId++) {
+                if (Intersections.sumSquareDelta(property, centers[centroidId], property.length)
+                    < Intersections.sumSquareDelta(property, centers[closest], property.length)) {
+                    closest = centroidId;
+                }
+            }
+            assertThat(result.communities().get(nodeId)).isEqualTo(closest);
+        }
+    }
+
+    @Test
+    void shouldRunMiniBatch() {
+        var kmeansConfig = KmeansStreamConfigImpl.builder()
+            .nodeProperty("kmeans")
+            .concurrency(1)
+            .randomSeed(19L)
+            .seedCentroids(List.of(List.of(0.0, 0.0), List.of(50.0, 50.0)))
+            .k(2)
+            .batchSize(2)
+            .maxIterations(5)
+            .build();
+
+        var kmeansContext = ImmutableKmeansContext.builder().build();
+        var kmeans = Kmeans.createKmeans(graph, kmeansConfig.toParameters(), kmeansContext, TerminationFlag.RUNNING_TRUE);
+        var result = kmeans.compute();
+
+        var communities = result.communities();
+        assertThat(communities.get(0)).isEqualTo(communities.get(1)).isEqualTo(0);
+        assertThat(communities.get(2)).isEqualTo(communities.get(3)).isEqualTo(1);
+        assertThat(result.ranIterations()).isBetween(1, 5);
+        // mini-batch iterations do not maintain bounds
+        assertThat(result.skippedDistanceComputations()).isEqualTo(0L);
+
+        // the final assignment recomputes the centroids from all nodes
+        assertThat(result.centers()[0]).containsExactly(1.0, 1.5);
+        assertThat(result.centers()[1]).containsExactly(101.0, 101.0);
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"fail", "kfail"})
     void shouldThrowForMissingProperty(String property) {
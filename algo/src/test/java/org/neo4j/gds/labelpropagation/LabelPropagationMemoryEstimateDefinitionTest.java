@@ -24,25 +24,31 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.k1coloring.K1ColoringMemoryEstimateDefinition;
 
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class LabelPropagationMemoryEstimateDefinitionTest {
 
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 800_464, 4_994_640),
-            Arguments.of(4, 801_544, 17_578_248),
-            Arguments.of(42, 815_224, 176_970_616)
+            Arguments.of(1, 800_472, 4_994_648),
+            Arguments.of(4, 801_576, 17_578_280),
+            Arguments.of(42, 815_560, 176_970_952)
         );
     }
 
     @ParameterizedTest
     @MethodSource("expectedMemoryEstimation")
     void shouldComputeMemoryEstimation(int concurrency, long expectedMinBytes, long expectedMaxBytes) {
-        var memoryEstimation = new LabelPropagationMemoryEstimateDefinition().memoryEstimation();
+        var memoryEstimation = new LabelPropagationMemoryEstimateDefinition(parameters(false, false)).memoryEstimation();
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(100_000L, new Concurrency(concurrency))
             .hasRange(expectedMinBytes,expectedMaxBytes);
@@ -51,11 +57,45 @@ class LabelPropagationMemoryEstimateDefinitionTest {
     @Test
     void shouldBoundMemEstimationToMaxSupportedDegree() {
         var largeNodeCount = ((long) Integer.MAX_VALUE + (long) Integer.MAX_VALUE);
-        var memoryEstimation = new LabelPropagationMemoryEstimateDefinition().memoryEstimation();
+        var memoryEstimation = new LabelPropagationMemoryEstimateDefinition(parameters(false, false)).memoryEstimation();
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(largeNodeCount, new Concurrency(1))
             .max()
             .isPositive();
     }
+
+    @Test
+    void shouldAccountForFrontierAndColoring() {
+        var nodeCount = 100_000L;
+        var concurrency = new Concurrency(4);
+        var synchronous = new LabelPropagationMemoryEstimateDefinition(parameters(false, false))
+            .memoryEstimation()
+            .estimate(GraphDimensions.of(nodeCount), concurrency)
+            .memoryUsage();
+        var frontier = new LabelPropagationMemoryEstimateDefinition(parameters(true, false))
+            .memoryEstimation()
+            .estimate(GraphDimensions.of(nodeCount), concurrency)
+            .memoryUsage();
+        var semiSynchronous = new LabelPropagationMemoryEstimateDefinition(parameters(false, true))
+            .memoryEstimation()
+            .estimate(GraphDimensions.of(nodeCount), concurrency)
+            .memoryUsage();
+
+        var bitSets = 2 * HugeAtomicBitSet.memoryEstimation(nodeCount);
+        assertThat(frontier.min).isGreaterThanOrEqualTo(synchronous.min + bitSets);
+        assertThat(frontier.max).isGreaterThanOrEqualTo(synchronous.max + bitSets);
+
+        var coloring = new K1ColoringMemoryEstimateDefinition()
+            .memoryEstimation()
+            .estimate(GraphDimensions.of(nodeCount), concurrency)
+            .memoryUsage();
+        var nodesByColor = HugeLongArray.memoryEstimation(nodeCount);
+        assertThat(semiSynchronous.min).isGreaterThan(synchronous.min + coloring.min + nodesByColor);
+        assertThat(semiSynchronous.max).isGreaterThan(synchronous.max + coloring.max + nodesByColor);
+    }
+
+    private static LabelPropagationParameters parameters(boolean useFrontier, boolean semiSynchronous) {
+        return new LabelPropagationParameters(new Concurrency(4), 10, null, null, useFrontier, semiSynchronous);
+    }
 }
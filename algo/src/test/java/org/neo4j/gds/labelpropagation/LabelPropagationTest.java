@@ -28,9 +28,18 @@ import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.NullPropertyMap.DoubleNullPropertyMap;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
@@ -52,7 +61,9 @@ class LabelPropagationTest {
         new Concurrency(4),
         10,
         null,
-        null
+        null,
+        false,
+        false
     );
 
     // override idOffset for seedId to be actual neo4j ids
@@ -86,7 +97,7 @@ class LabelPropagationTest {
     void shouldUseOriginalNodeIdWhenSeedPropertyIsMissing() {
         LabelPropagation lp = new LabelPropagation(
             graph,
-            new LabelPropagationParameters(new Concurrency(4), 1, null, null),
+            new LabelPropagationParameters(new Concurrency(4), 1, null, null, false, false),
             DefaultPool.INSTANCE,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
@@ -109,7 +120,7 @@ class LabelPropagationTest {
     void shouldUseSeedProperty() {
         LabelPropagation lp = new LabelPropagation(
             graph,
-            new LabelPropagationParameters(new Concurrency(4), 1, null, "seedId"),
+            new LabelPropagationParameters(new Concurrency(4), 1, null, "seedId", false, false),
             DefaultPool.INSTANCE,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
@@ -187,6 +198,82 @@ class LabelPropagationTest {
         }
     }
 
+    private static Graph randomGraph() {
+        return new RandomGraphGeneratorBuilder()
+            .nodeCount(2_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
+    @Test
+    void shouldOnlyRecomputeFrontierWithoutChangingResult() {
+        var randomGraph = randomGraph();
+
+        var full = new LabelPropagation(
+            randomGraph,
+            new LabelPropagationParameters(new Concurrency(1), 100, null, null, false, false),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+        full.withBatchSize((int) randomGraph.nodeCount());
+        var frontier = new LabelPropagation(
+            randomGraph,
+            new LabelPropagationParameters(new Concurrency(1), 100, null, null, true, false),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+        frontier.withBatchSize((int) randomGraph.nodeCount());
+
+        // a single batch processes the nodes in order, skipping a node does not change its label
+        var fullResult = full.compute();
+        var frontierResult = frontier.compute();
+        assertThat(frontierResult.labels().toArray()).isEqualTo(fullResult.labels().toArray());
+        assertThat(frontierResult.changedLabels()).isEqualTo(fullResult.changedLabels());
+        assertThat(frontierResult.ranIterations()).isEqualTo(fullResult.ranIterations());
+    }
+
+    static Stream<Arguments> schedules() {
+        return TestSupport.crossArguments(
+            () -> Stream.of(Arguments.of(true, false), Arguments.of(false, true), Arguments.of(true, true)),
+            () -> Stream.of(Arguments.of(1), Arguments.of(4))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("schedules")
+    void shouldConvergeToStableLabels(boolean useFrontier, boolean semiSynchronous, int concurrency) {
+        var randomGraph = randomGraph();
+
+        var lp = new LabelPropagation(
+            randomGraph,
+            new LabelPropagationParameters(new Concurrency(concurrency), 100, null, null, useFrontier, semiSynchronous),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+        lp.withBatchSize(100);
+        var result = lp.compute();
+
+        assertThat(result.didConverge()).isTrue();
+        assertThat(result.changedLabels()).hasSize((int) result.ranIterations());
+        assertThat(result.changedLabels()[(int) result.ranIterations() - 1]).isEqualTo(0L);
+
+        // after convergence, no node would change its label anymore
+        var labels = result.labels();
+        var votes = new ComputeStepConsumer(new DoubleNullPropertyMap(1.0), labels);
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            votes.clearVotes();
+            randomGraph.forEachRelationship(nodeId, 1.0, votes);
+            assertThat(votes.tallyVotes(labels.get(nodeId))).isEqualTo(labels.get(nodeId));
+        }
+    }
+
     private static IntObjectMap<IntArrayList> groupByPartitionInt(HugeLongArray labels) {
         if (labels == null) {
             return null;
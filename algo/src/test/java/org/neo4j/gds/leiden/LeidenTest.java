@@ -209,6 +209,64 @@ class LeidenTest {
 
     }
 
+    @Test
+    void shouldOnlyRevisitChangedCommunities() {
+        var changedRelationships = GdlFactory.of(
+            "CREATE (a0), (a1), (a2), (a3), (a4), (a5), (a6), (a7), (a0)-[:R]->(a2)"
+        ).build().getUnion();
+
+        Leiden leiden = new Leiden(
+            graph,
+            3,
+            1.0,
+            0.01,
+            false,
+            19L,
+            graph.nodeProperties("optimal"),
+            changedRelationships,
+            TOLERANCE_DEFAULT,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        var leidenResult = leiden.compute();
+
+        assertThat(leidenResult.didConverge()).isTrue();
+
+        var communities = leidenResult.communities();
+        var communitiesMap = LongStream
+            .range(0, graph.nodeCount())
+            .mapToObj(v -> "a" + v)
+            .collect(Collectors.groupingBy(v -> communities.get(graph.toMappedNodeId(v))));
+
+        assertThat(communitiesMap.values())
+            .hasSize(2)
+            .satisfiesExactlyInAnyOrder(
+                community -> assertThat(community).containsExactlyInAnyOrder("a0", "a2", "a3", "a4"),
+                community -> assertThat(community).containsExactlyInAnyOrder("a1", "a5", "a6", "a7")
+            );
+        assertThat(communitiesMap.keySet()).containsExactlyInAnyOrder(4000L, 5000L);
+    }
+
+    @Test
+    void shouldThrowForChangedRelationshipsWithoutSeed() {
+        assertThatThrownBy(() -> new Leiden(
+            graph,
+            3,
+            1.0,
+            0.01,
+            false,
+            19L,
+            null,
+            graph,
+            TOLERANCE_DEFAULT,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        )).hasMessageContaining("seeded communities");
+    }
+
     @Test
     void shouldMaintainPartition() {
         var localCommunities = HugeLongArray.of(1, 1, 1, 3, 3, 3, 1, 3);
@@ -39,20 +39,20 @@ class LouvainMemoryEstimateDefinitionTest {
     static Stream<Arguments> memoryEstimationTuples() {
         return Stream.of(
 
-            arguments(1, 1, true, 6414145, 23057704),
-            arguments(1, 1, false, 6414145, 23057704),
-            arguments(1, 10, true, 6414145, 30258064),
-            arguments(1, 10, false, 6414145, 23857744),
-
-            arguments(4, 1, true, 6417433, 29057968),
-            arguments(4, 1, false, 6417433, 29057968),
-            arguments(4, 10, true, 6417433, 36258328),
-            arguments(4, 10, false, 6417433, 29858008),
-
-            arguments(42, 1, true, 6459081, 105061312),
-            arguments(42, 1, false, 6459081, 105061312),
-            arguments(42, 10, true, 6459081, 112261672),
-            arguments(42, 10, false, 6459081, 105861352)
+            arguments(1, 1, true, 8847560, 23634368),
+            arguments(1, 1, false, 8847560, 23634368),
+            arguments(1, 10, true, 8847560, 30834728),
+            arguments(1, 10, false, 8847560, 24434408),
+
+            arguments(4, 1, true, 11250992, 28437800),
+            arguments(4, 1, false, 11250992, 28437800),
+            arguments(4, 10, true, 11250992, 35638160),
+            arguments(4, 10, false, 11250992, 29237840),
+
+            arguments(42, 1, true, 41694464, 89281272),
+            arguments(42, 1, false, 41694464, 89281272),
+            arguments(42, 10, true, 41694464, 96481632),
+            arguments(42, 10, false, 41694464, 90081312)
 
         );
     }
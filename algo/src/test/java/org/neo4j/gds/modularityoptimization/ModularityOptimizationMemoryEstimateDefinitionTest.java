@@ -42,9 +42,9 @@ class ModularityOptimizationMemoryEstimateDefinitionTest {
 
     static Stream<Arguments> memoryEstimationTuples() {
         return Stream.of(
-            arguments(1, 5614032, 8413064),
-            arguments(4, 5617320, 14413328),
-            arguments(42, 5658968, 90416672)
+            arguments(1, 6413032, 8013072),
+            arguments(4, 8813296, 12813336),
+            arguments(42, 39216640, 73616680)
         );
     }
 
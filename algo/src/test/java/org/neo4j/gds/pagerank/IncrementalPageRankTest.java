@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import com.carrotsearch.hppc.LongScatterSet;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class IncrementalPageRankTest {
+
+    private static final double SCORE_PRECISION = 1E-6;
+
+    // The graph of PageRankTest after adding (j)->(e), (f)->(b) and removing (e)->(a), (b)->(a).
+    // `seed` holds the scores before the change, `expectedRank` the scores after the change.
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node { seed: 0.9350232387475539,  expectedRank: 0.30410528185693986 })" +
+        ", (b:Node { seed: 1.1786352420658555,  expectedRank: 3.565986403267313 })" +
+        ", (c:Node { seed: 0.6509199778779886,  expectedRank: 3.1810884427772157 })" +
+        ", (d:Node { seed: 0.30463386727688785, expectedRank: 0.3626006631927996 })" +
+        ", (e:Node { seed: 0.7276887871853546,  expectedRank: 0.7503552818569397 })" +
+        ", (f:Node { seed: 0.30463386727688785, expectedRank: 0.3626006631927996 })" +
+        ", (g:Node { seed: 0.15, expectedRank: 0.15 })" +
+        ", (h:Node { seed: 0.15, expectedRank: 0.15 })" +
+        ", (i:Node { seed: 0.15, expectedRank: 0.15 })" +
+        ", (j:Node { seed: 0.15, expectedRank: 0.15 })" +
+        ", (k:Node { seed: 0.15, expectedRank: 0.15 })" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(b)" +
+        ", (d)-[:TYPE]->(a)" +
+        ", (d)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(d)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(b)" +
+        ", (f)-[:TYPE]->(e)" +
+        ", (g)-[:TYPE]->(b)" +
+        ", (g)-[:TYPE]->(e)" +
+        ", (h)-[:TYPE]->(b)" +
+        ", (h)-[:TYPE]->(e)" +
+        ", (i)-[:TYPE]->(b)" +
+        ", (i)-[:TYPE]->(e)" +
+        ", (j)-[:TYPE]->(e)" +
+        ", (k)-[:TYPE]->(e)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldUpdateScoresAfterRelationshipChanges() {
+        var config = PageRankStreamConfigImpl.builder()
+            .seedProperty("seed")
+            .addedRelationships(List.of(
+                List.of(idFunction.of("j"), idFunction.of("e")),
+                List.of(idFunction.of("f"), idFunction.of("b"))
+            ))
+            .removedRelationships(List.of(
+                List.of(idFunction.of("e"), idFunction.of("a")),
+                List.of(idFunction.of("b"), idFunction.of("a"))
+            ))
+            .tolerance(1E-9)
+            .maxIterations(500)
+            .build();
+
+        var result = incrementalPageRank(config).compute();
+
+        assertThat(result.didConverge()).isTrue();
+        var expected = graph.nodeProperties("expectedRank");
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(result.scores().get(nodeId)).isEqualTo(expected.doubleValue(nodeId), within(SCORE_PRECISION));
+        }
+    }
+
+    @Test
+    void shouldNotTouchScoresWithoutChanges() {
+        var config = PageRankStreamConfigImpl.builder()
+            .seedProperty("expectedRank")
+            .tolerance(1E-9)
+            .build();
+
+        var result = incrementalPageRank(config).compute();
+
+        assertThat(result.iterations()).isZero();
+        assertThat(result.didConverge()).isTrue();
+        var expected = graph.nodeProperties("expectedRank");
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(result.scores().get(nodeId)).isEqualTo(expected.doubleValue(nodeId));
+        }
+    }
+
+    @Test
+    void shouldRequireSeedPropertyForRelationshipChanges() {
+        assertThatThrownBy(() -> PageRankStreamConfigImpl.builder()
+            .addedRelationships(List.of(List.of(0L, 1L)))
+            .build()
+        ).hasMessageContaining("require a `seedProperty`");
+    }
+
+    private IncrementalPageRank incrementalPageRank(PageRankConfig config) {
+        return new IncrementalPageRank(
+            graph,
+            config,
+            new LongScatterSet(),
+            DegreeFunctions.pageRankDegreeFunction(graph, false, new Concurrency(1)),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+}
@@ -24,6 +24,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.scaling.ScalerFactory;
 
 import java.util.List;
 
@@ -60,4 +61,13 @@ public class PageRankConfigTest {
             config.internalRelationshipTypes(graphStore)
         )).hasMessageContaining("sourceNodes nodes do not exist in the in-memory graph: [421337]");
     }
+
+    @Test
+    void shouldNotAllowScalerWithSeedProperty() {
+        assertThatThrownBy(() -> PageRankStreamConfigImpl.builder()
+            .seedProperty("seed")
+            .scaler(ScalerFactory.parse("minmax"))
+            .build()
+        ).hasMessageContaining("The `scaler` parameter must be `NONE` when a `seedProperty` is given, but got `minmax`");
+    }
 }
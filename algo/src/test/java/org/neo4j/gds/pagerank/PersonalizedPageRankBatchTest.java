@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.applications.algorithms.centrality.CentralityAlgorithms;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class PersonalizedPageRankBatchTest {
+
+    private static final double SCORE_PRECISION = 1E-5;
+
+    // The graph of PageRankTest, with the converged scores for the source nodes (a, e) and (k, b)
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node { expectedRank1: 0.17053529133112272 , expectedRank2: 0.017454997631454285 })" +
+        ", (b:Node { expectedRank1: 0.3221222169587873  , expectedRank2: 0.8143444249555097   })" +
+        ", (c:Node { expectedRank1: 0.27380388441496917 , expectedRank2: 0.6921927612121832   })" +
+        ", (d:Node { expectedRank1: 0.0483183325438181  , expectedRank2: 0.04107058266224538  })" +
+        ", (e:Node { expectedRank1: 0.17053529133112272 , expectedRank2: 0.14495499763145428  })" +
+        ", (f:Node { expectedRank1: 0.0483183325438181  , expectedRank2: 0.04107058266224538  })" +
+        ", (g:Node { expectedRank1: 0.0                 , expectedRank2: 0.0                  })" +
+        ", (h:Node { expectedRank1: 0.0                 , expectedRank2: 0.0                  })" +
+        ", (i:Node { expectedRank1: 0.0                 , expectedRank2: 0.0                  })" +
+        ", (j:Node { expectedRank1: 0.0                 , expectedRank2: 0.0                  })" +
+        ", (k:Node { expectedRank1: 0.0                 , expectedRank2: 0.15                 })" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(b)" +
+        ", (d)-[:TYPE]->(a)" +
+        ", (d)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(b)" +
+        ", (e)-[:TYPE]->(d)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(b)" +
+        ", (f)-[:TYPE]->(e)" +
+        ", (g)-[:TYPE]->(b)" +
+        ", (g)-[:TYPE]->(e)" +
+        ", (h)-[:TYPE]->(b)" +
+        ", (h)-[:TYPE]->(e)" +
+        ", (i)-[:TYPE]->(b)" +
+        ", (i)-[:TYPE]->(e)" +
+        ", (j)-[:TYPE]->(e)" +
+        ", (k)-[:TYPE]->(e)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldComputeScoresPerSourceNodeSet() {
+        var result = batch(
+            graph,
+            List.of(
+                new long[]{graph.toMappedNodeId("a"), graph.toMappedNodeId("e")},
+                new long[]{graph.toMappedNodeId("k"), graph.toMappedNodeId("b")}
+            ),
+            1E-10,
+            11,
+            1
+        );
+
+        assertThat(result.seedSetCount()).isEqualTo(2);
+        assertScores(result, 0, "expectedRank1");
+        assertScores(result, 1, "expectedRank2");
+    }
+
+    @Test
+    void shouldOnlyKeepTopKScores() {
+        var result = batch(
+            graph,
+            List.of(new long[]{graph.toMappedNodeId("a"), graph.toMappedNodeId("e")}),
+            1E-10,
+            2,
+            1
+        );
+
+        assertThat(result.nodeIds()[0]).containsExactly(graph.toMappedNodeId("b"), graph.toMappedNodeId("c"));
+        assertThat(result.scores()[0][0]).isCloseTo(0.3221222169587873, within(SCORE_PRECISION));
+        assertThat(result.scores()[0][1]).isCloseTo(0.27380388441496917, within(SCORE_PRECISION));
+    }
+
+    @Test
+    void shouldOnlyExploreNodesAboveTheTolerance() {
+        // pushing `k` leaves 0.85 * 0.15 at `e`, which is below a tolerance of 1 per unit of degree
+        var result = batch(graph, List.of(new long[]{graph.toMappedNodeId("k")}), 1, 10, 1);
+
+        assertThat(result.nodeIds()[0]).containsExactly(graph.toMappedNodeId("k"));
+        assertThat(result.scores()[0]).containsExactly(new double[]{0.15}, within(1E-12));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldMatchPageRankWithSourceNodes(int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var sourceNodeSets = LongStream.range(0, 8)
+            .mapToObj(i -> new long[]{i * 97, i * 97 + 13})
+            .toList();
+        int topK = 10;
+
+        var result = batch(randomGraph, sourceNodeSets, 1E-10, topK, concurrency);
+
+        var centralityAlgorithms = new CentralityAlgorithms(null, TerminationFlag.RUNNING_TRUE);
+        for (int index = 0; index < sourceNodeSets.size(); index++) {
+            var config = PageRankStreamConfigImpl.builder()
+                .maxIterations(200)
+                .tolerance(0)
+                .sourceNodes(Arrays.stream(sourceNodeSets.get(index)).boxed().toList())
+                .build();
+            var expected = centralityAlgorithms
+                .pageRank(randomGraph, config, ProgressTracker.NULL_TRACKER)
+                .centralityScoreProvider();
+
+            var expectedTopScores = LongStream.range(0, randomGraph.nodeCount())
+                .mapToDouble(expected::applyAsDouble)
+                .boxed()
+                .sorted((left, right) -> Double.compare(right, left))
+                .limit(topK)
+                .mapToDouble(Double::doubleValue)
+                .toArray();
+
+            var nodeIds = result.nodeIds()[index];
+            var scores = result.scores()[index];
+            assertThat(scores).containsExactly(expectedTopScores, within(SCORE_PRECISION));
+            for (int i = 0; i < nodeIds.length; i++) {
+                assertThat(scores[i]).isCloseTo(expected.applyAsDouble(nodeIds[i]), within(SCORE_PRECISION));
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectEmptySourceNodeSets() {
+        assertThatThrownBy(() -> PersonalizedPageRankBatchStreamConfigImpl.builder()
+            .sourceNodeSets(List.of(List.of(0L), List.of()))
+            .build()
+        ).hasMessageContaining("must contain at least one node");
+    }
+
+    private void assertScores(PersonalizedPageRankBatchResult result, int seedSetIndex, String expectedPropertyKey) {
+        var expected = graph.nodeProperties(expectedPropertyKey);
+        var scoredNodes = result.scoredNodes(seedSetIndex).toList();
+
+        long expectedNodeCount = LongStream.range(0, graph.nodeCount())
+            .filter(nodeId -> expected.doubleValue(nodeId) > 0)
+            .count();
+        assertThat(scoredNodes).hasSize((int) expectedNodeCount);
+        for (var scoredNode : scoredNodes) {
+            assertThat(scoredNode.score()).isCloseTo(expected.doubleValue(scoredNode.nodeId()), within(SCORE_PRECISION));
+        }
+    }
+
+    private static PersonalizedPageRankBatchResult batch(
+        Graph graph,
+        List<long[]> sourceNodeSets,
+        double tolerance,
+        int topK,
+        int concurrency
+    ) {
+        return new PersonalizedPageRankBatch(
+            graph,
+            sourceNodeSets,
+            DegreeFunctions.pageRankDegreeFunction(graph, false, new Concurrency(concurrency)),
+            0.85,
+            tolerance,
+            topK,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
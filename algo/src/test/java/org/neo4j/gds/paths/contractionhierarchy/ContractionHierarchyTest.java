@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contractionhierarchy;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ContractionHierarchyTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:TYPE {cost: 4}]->(b)" +
+        ", (a)-[:TYPE {cost: 2}]->(c)" +
+        ", (b)-[:TYPE {cost: 5}]->(d)" +
+        ", (c)-[:TYPE {cost: 8}]->(d)" +
+        ", (c)-[:TYPE {cost: 10}]->(e)" +
+        ", (d)-[:TYPE {cost: 2}]->(e)" +
+        ", (d)-[:TYPE {cost: 6}]->(f)" +
+        ", (e)-[:TYPE {cost: 2}]->(f)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldComputeShortestPath() {
+        var hierarchy = ContractionHierarchy.create(
+            graph,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        var path = new ContractionHierarchyQuery(hierarchy).shortestPath(
+            graph.toMappedNodeId("a"),
+            graph.toMappedNodeId("f")
+        );
+
+        assertThat(path).isPresent();
+        assertThat(path.get().nodeIds()).containsExactly(
+            graph.toMappedNodeId("a"),
+            graph.toMappedNodeId("b"),
+            graph.toMappedNodeId("d"),
+            graph.toMappedNodeId("e"),
+            graph.toMappedNodeId("f")
+        );
+        assertThat(path.get().costs()).containsExactly(0.0, 4.0, 9.0, 11.0, 13.0);
+    }
+
+    @Test
+    void shouldNotFindPathToUnreachableTarget() {
+        var hierarchy = ContractionHierarchy.create(
+            graph,
+            new Concurrency(1),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        var path = new ContractionHierarchyQuery(hierarchy).shortestPath(
+            graph.toMappedNodeId("f"),
+            graph.toMappedNodeId("a")
+        );
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void shouldEmitPathsInOrderOfCost() {
+        var paths = ContractionHierarchyShortestPath.sourceTarget(
+                graph,
+                idFunction.of("a"),
+                List.of(idFunction.of("f"), idFunction.of("b"), idFunction.of("a")),
+                new ContractionHierarchyConstruction(
+                    graph,
+                    new Concurrency(1),
+                    ProgressTracker.NULL_TRACKER,
+                    TerminationFlag.RUNNING_TRUE
+                ).compute(),
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            )
+            .compute()
+            .mapPaths(PathResult::targetNode)
+            .toList();
+
+        assertThat(paths).containsExactly(
+            graph.toMappedNodeId("a"),
+            graph.toMappedNodeId("b"),
+            graph.toMappedNodeId("f")
+        );
+    }
+
+    static Stream<Arguments> randomGraphs() {
+        return TestSupport.crossArguments(
+            () -> Stream.of(Direction.DIRECTED, Direction.UNDIRECTED).map(Arguments::of),
+            () -> IntStream.of(1, 4).mapToObj(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomGraphs")
+    void shouldGiveSameResultsAsDijkstra(Direction direction, int concurrency) {
+        int nodeCount = 2_000;
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(direction)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10))
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var hierarchy = ContractionHierarchy.create(
+            randomGraph,
+            new Concurrency(concurrency),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+        var query = new ContractionHierarchyQuery(hierarchy);
+
+        for (long source = 0; source < nodeCount; source += 97) {
+            var expected = new double[nodeCount];
+            Arrays.fill(expected, Double.NaN);
+            Dijkstra
+                .singleSource(
+                    randomGraph,
+                    source,
+                    false,
+                    Optional.empty(),
+                    ProgressTracker.NULL_TRACKER,
+                    TerminationFlag.RUNNING_TRUE
+                )
+                .compute()
+                .forEachPath(path -> expected[(int) path.targetNode()] = path.totalCost());
+
+            for (int target = 0; target < nodeCount; target++) {
+                var path = query.shortestPath(source, target);
+                if (Double.isNaN(expected[target])) {
+                    assertThat(path).isEmpty();
+                } else {
+                    assertThat(path).isPresent();
+                    assertThat(path.get().totalCost()).isCloseTo(expected[target], Offset.offset(1e-9));
+                    assertValidPath(randomGraph, source, target, path.get());
+                }
+            }
+        }
+    }
+
+    private static void assertValidPath(Graph graph, long source, long target, ContractionHierarchyQuery.Path path) {
+        var nodeIds = path.nodeIds();
+        var costs = path.costs();
+        assertThat(nodeIds[0]).isEqualTo(source);
+        assertThat(nodeIds[nodeIds.length - 1]).isEqualTo(target);
+        assertThat(costs[0]).isEqualTo(0.0);
+
+        for (int i = 1; i < nodeIds.length; i++) {
+            long next = nodeIds[i];
+            var minWeight = new double[]{Double.MAX_VALUE};
+            graph.forEachRelationship(nodeIds[i - 1], 1.0, (s, t, weight) -> {
+                if (t == next) {
+                    minWeight[0] = Math.min(minWeight[0], weight);
+                }
+                return true;
+            });
+            assertThat(costs[i] - costs[i - 1]).isCloseTo(minWeight[0], Offset.offset(1e-9));
+        }
+    }
+}
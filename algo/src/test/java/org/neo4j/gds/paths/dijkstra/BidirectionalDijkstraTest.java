@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class BidirectionalDijkstraTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:TYPE {cost: 4}]->(b)" +
+        ", (a)-[:TYPE {cost: 2}]->(c)" +
+        ", (b)-[:TYPE {cost: 5}]->(d)" +
+        ", (c)-[:TYPE {cost: 8}]->(d)" +
+        ", (c)-[:TYPE {cost: 10}]->(e)" +
+        ", (d)-[:TYPE {cost: 2}]->(e)" +
+        ", (d)-[:TYPE {cost: 6}]->(f)" +
+        ", (e)-[:TYPE {cost: 2}]->(f)";
+
+    @GdlGraph(indexInverse = true)
+    private static final String INVERSE_GRAPH = DB_CYPHER;
+
+    @GdlGraph(graphNamePrefix = "natural")
+    private static final String NATURAL_GRAPH = DB_CYPHER;
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph naturalGraph;
+
+    @Test
+    void shouldComputeShortestPath() {
+        var path = BidirectionalDijkstra.sourceTarget(
+                graph,
+                graph.toOriginalNodeId("a"),
+                graph.toOriginalNodeId("f"),
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            )
+            .compute()
+            .findFirst();
+
+        assertThat(path).isPresent();
+        assertThat(path.get().nodeIds()).containsExactly(
+            graph.toMappedNodeId("a"),
+            graph.toMappedNodeId("b"),
+            graph.toMappedNodeId("d"),
+            graph.toMappedNodeId("e"),
+            graph.toMappedNodeId("f")
+        );
+        assertThat(path.get().costs()).containsExactly(0.0, 4.0, 9.0, 11.0, 13.0);
+    }
+
+    @Test
+    void shouldNotFindPathToUnreachableTarget() {
+        var path = BidirectionalDijkstra.sourceTarget(
+                graph,
+                graph.toOriginalNodeId("f"),
+                graph.toOriginalNodeId("a"),
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            )
+            .compute()
+            .findFirst();
+
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void shouldRequireInverseIndex() {
+        assertThat(BidirectionalDijkstra.canSearchBackwards(naturalGraph)).isFalse();
+        assertThatThrownBy(() -> BidirectionalBFS.sourceTarget(
+            naturalGraph,
+            naturalGraph.toOriginalNodeId("a"),
+            naturalGraph.toOriginalNodeId("f"),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Direction.class)
+    void shouldGiveSameCostsAsDijkstra(Direction direction) {
+        var weightedGraph = randomGraph(direction, true);
+        var unweightedGraph = randomGraph(direction, false);
+
+        for (long source = 0; source < weightedGraph.nodeCount(); source += 89) {
+            for (long target = 0; target < weightedGraph.nodeCount(); target += 97) {
+                var expectedWeighted = dijkstra(weightedGraph, source, target);
+                var actualWeighted = BidirectionalDijkstra
+                    .sourceTarget(weightedGraph, source, target, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE)
+                    .compute()
+                    .findFirst();
+                assertSamePathCost(weightedGraph, expectedWeighted, actualWeighted);
+
+                var expectedUnweighted = dijkstra(unweightedGraph, source, target);
+                var actualUnweighted = BidirectionalBFS
+                    .sourceTarget(unweightedGraph, source, target, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE)
+                    .compute()
+                    .findFirst();
+                assertSamePathCost(unweightedGraph, expectedUnweighted, actualUnweighted);
+            }
+        }
+    }
+
+    private static Graph randomGraph(Direction direction, boolean weighted) {
+        var builder = new RandomGraphGeneratorBuilder()
+            .direction(direction)
+            .inverseIndex(direction == Direction.DIRECTED)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .nodeCount(1_000)
+            .seed(42L);
+        if (weighted) {
+            builder.relationshipPropertyProducer(PropertyProducer.randomDouble("cost", 1, 10));
+        }
+        return builder.build().generate();
+    }
+
+    private static Optional<PathResult> dijkstra(Graph graph, long source, long target) {
+        return Dijkstra.sourceTarget(
+                graph,
+                source,
+                List.of(target),
+                false,
+                Optional.empty(),
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            )
+            .compute()
+            .findFirst();
+    }
+
+    private static void assertSamePathCost(Graph graph, Optional<PathResult> expected, Optional<PathResult> actual) {
+        assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+        if (expected.isEmpty()) {
+            return;
+        }
+
+        var path = actual.get();
+        assertThat(path.totalCost()).isCloseTo(expected.get().totalCost(), Offset.offset(1e-9));
+        assertThat(path.nodeIds()[0]).isEqualTo(expected.get().sourceNode());
+        assertThat(path.nodeIds()[path.nodeIds().length - 1]).isEqualTo(expected.get().targetNode());
+
+        var nodeIds = path.nodeIds();
+        var costs = path.costs();
+        for (int i = 1; i < nodeIds.length; i++) {
+            long next = nodeIds[i];
+            var minWeight = new double[]{Double.MAX_VALUE};
+            graph.forEachRelationship(nodeIds[i - 1], 1.0, (s, t, weight) -> {
+                if (t == next) {
+                    minWeight[0] = Math.min(minWeight[0], weight);
+                }
+                return true;
+            });
+            assertThat(costs[i] - costs[i - 1]).isCloseTo(minWeight[0], Offset.offset(1e-9));
+        }
+    }
+}
@@ -24,10 +24,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class DijkstraMemoryEstimateDefinitionTest {
 
     private static Stream<Arguments> expectedMemoryEstimation() {
@@ -49,6 +52,8 @@ class DijkstraMemoryEstimateDefinitionTest {
 
         var actualMemoryEstimation = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
             trackRelationships,
+            false,
+            false,
             false
         ))
             .memoryEstimation();
@@ -62,7 +67,9 @@ class DijkstraMemoryEstimateDefinitionTest {
     void shouldWorkWithBitset() {
         var actualMemoryEstimation = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
             false,
-            true
+            true,
+            false,
+            false
         ))
             .memoryEstimation();
 
@@ -71,5 +78,34 @@ class DijkstraMemoryEstimateDefinitionTest {
             .hasSameMinAndMaxEqualTo(40_616 + 168);
     }
 
+    @Test
+    void shouldCoverTheUnidirectionalFallbackOfTheBidirectionalSearch() {
+        var dimensions = GraphDimensions.of(1_000);
+        var concurrency = new Concurrency(1);
+
+        var unidirectional = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
+            false,
+            false,
+            false,
+            false
+        ))
+            .memoryEstimation()
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+
+        var bidirectional = new DijkstraMemoryEstimateDefinition(new DijkstraMemoryEstimateParameters(
+            false,
+            false,
+            false,
+            true
+        ))
+            .memoryEstimation()
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+
+        assertThat(bidirectional.min).isGreaterThanOrEqualTo(unidirectional.min);
+        assertThat(bidirectional.max).isGreaterThanOrEqualTo(unidirectional.max);
+    }
+
 
 }
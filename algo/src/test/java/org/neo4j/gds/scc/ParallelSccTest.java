@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.HashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class ParallelSccTest {
+
+    @GdlGraph(indexInverse = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (i:Node)" +
+        ", (j:Node)" +
+        ", (k:Node)" +
+
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(a)" +
+
+        ", (d)-[:TYPE]->(e)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(d)" +
+
+        ", (a)-[:TYPE]->(d)" +
+
+        ", (g)-[:TYPE]->(h)" +
+        ", (h)-[:TYPE]->(i)" +
+        ", (i)-[:TYPE]->(g)" +
+
+        // trivial components, removed by trimming
+        ", (j)-[:TYPE]->(a)" +
+        ", (f)-[:TYPE]->(k)" +
+        ", (k)-[:TYPE]->(k)";
+
+    @GdlGraph(graphNamePrefix = "plain")
+    private static final String PLAIN_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (a)-[:TYPE]->(b)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private TestGraph plainGraph;
+
+    @ParameterizedTest
+    @MethodSource("concurrencies")
+    void shouldComputeComponents(int concurrency) {
+        var components = new ParallelScc(
+            graph,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(components.get(graph.toMappedNodeId("a")))
+            .isEqualTo(components.get(graph.toMappedNodeId("b")))
+            .isEqualTo(components.get(graph.toMappedNodeId("c")));
+        assertThat(components.get(graph.toMappedNodeId("d")))
+            .isEqualTo(components.get(graph.toMappedNodeId("e")))
+            .isEqualTo(components.get(graph.toMappedNodeId("f")));
+        assertThat(components.get(graph.toMappedNodeId("g")))
+            .isEqualTo(components.get(graph.toMappedNodeId("h")))
+            .isEqualTo(components.get(graph.toMappedNodeId("i")));
+
+        assertSamePartition(components, sequentialComponents(graph));
+    }
+
+    @Test
+    void shouldRequireInverseIndex() {
+        assertThatThrownBy(() -> new ParallelScc(
+            plainGraph,
+            new Concurrency(1),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("inverse indexed");
+    }
+
+    static Stream<Integer> concurrencies() {
+        return Stream.of(1, 4);
+    }
+
+    static Stream<Arguments> randomGraphs() {
+        return TestSupport.crossArguments(
+            () -> Stream.of(Direction.DIRECTED, Direction.UNDIRECTED).map(Arguments::of),
+            () -> IntStream.of(1, 2, 4).mapToObj(Arguments::of),
+            () -> Stream.of(RelationshipDistribution.UNIFORM, RelationshipDistribution.POWER_LAW).map(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomGraphs")
+    void shouldGiveSamePartitionAsSequentialScc(
+        Direction direction,
+        int concurrency,
+        RelationshipDistribution distribution
+    ) {
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(direction)
+            .inverseIndex(direction == Direction.DIRECTED)
+            .averageDegree(2)
+            .relationshipDistribution(distribution)
+            .allowSelfLoops(RandomGraphGeneratorConfig.AllowSelfLoops.YES)
+            .nodeCount(10_000)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var components = new ParallelScc(
+            randomGraph,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertSamePartition(components, sequentialComponents(randomGraph));
+    }
+
+    private static HugeLongArray sequentialComponents(Graph graph) {
+        return new Scc(graph, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE).compute();
+    }
+
+    private static void assertSamePartition(HugeLongArray actual, HugeLongArray expected) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+
+        // component ids may differ, but they have to map one to one
+        var actualToExpected = new HashMap<Long, Long>();
+        var expectedToActual = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < actual.size(); nodeId++) {
+            long actualComponent = actual.get(nodeId);
+            long expectedComponent = expected.get(nodeId);
+            assertThat(actualToExpected.computeIfAbsent(actualComponent, __ -> expectedComponent))
+                .as("component of node %d", nodeId)
+                .isEqualTo(expectedComponent);
+            assertThat(expectedToActual.computeIfAbsent(expectedComponent, __ -> actualComponent))
+                .as("component of node %d", nodeId)
+                .isEqualTo(actualComponent);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HnswTest {
+
+    private static final int K = 10;
+
+    private static Graph embeddingGraph() {
+        return RandomGraphGenerator.builder()
+            .nodeCount(2_000)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomEmbedding("embedding", 16, -1, 1))
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
+    private static HnswIndex buildIndex(Graph graph, int concurrency) {
+        var parameters = new HnswParameters(
+            new Concurrency(concurrency),
+            "embedding",
+            SimilarityMetric.COSINE,
+            8,
+            100,
+            Optional.of(1337L)
+        );
+        return new Hnsw(
+            graph,
+            parameters,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+
+    private static Set<Long> exactNeighbors(Graph graph, long nodeId) {
+        var properties = graph.nodeProperties("embedding");
+        var query = properties.floatArrayValue(nodeId);
+        return LongStream.range(0, graph.nodeCount())
+            .filter(other -> other != nodeId)
+            .boxed()
+            .sorted(Comparator.comparingDouble(other -> -Cosine.floatMetric(query, properties.floatArrayValue(other))))
+            .limit(K)
+            .collect(Collectors.toSet());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldFindNearestNeighborsOfIndexedNodes(int concurrency) {
+        var graph = embeddingGraph();
+        var index = buildIndex(graph, concurrency);
+
+        long hits = 0;
+        long queries = 100;
+        for (long nodeId = 0; nodeId < queries; nodeId++) {
+            var expected = exactNeighbors(graph, nodeId);
+            var actual = index.search(nodeId, K, 50);
+
+            assertThat(actual).hasSize(K);
+            assertThat(actual).extracting(HnswIndex.Neighbor::nodeId).doesNotContain(nodeId);
+            assertThat(actual)
+                .extracting(HnswIndex.Neighbor::similarity)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+
+            hits += actual.stream().filter(neighbor -> expected.contains(neighbor.nodeId())).count();
+        }
+
+        assertThat(hits / (double) (queries * K)).isGreaterThan(0.9);
+    }
+
+    @Test
+    void shouldFindNodeForItsOwnVector() {
+        var graph = embeddingGraph();
+        var index = buildIndex(graph, 4);
+        var properties = graph.nodeProperties("embedding");
+
+        for (long nodeId = 0; nodeId < 100; nodeId++) {
+            var floats = properties.floatArrayValue(nodeId);
+            var vector = new double[floats.length];
+            for (int i = 0; i < floats.length; i++) {
+                vector[i] = floats[i];
+            }
+
+            var actual = index.search(vector, 1, 50);
+
+            assertThat(actual).hasSize(1);
+            assertThat(actual.get(0).nodeId()).isEqualTo(nodeId);
+        }
+    }
+
+    @Test
+    void shouldDrawExponentiallyDecayingLevels() {
+        var levels = Hnsw.drawLevels(100_000, 16, Optional.of(42L));
+
+        long upperLevelNodes = LongStream.range(0, levels.size()).filter(nodeId -> levels.get(nodeId) > 0).count();
+
+        // P(level > 0) = 1 / m
+        assertThat(upperLevelNodes).isBetween(5_500L, 7_000L);
+    }
+
+    @Test
+    void shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new HnswParameters(
+            new Concurrency(1),
+            "embedding",
+            SimilarityMetric.COSINE,
+            16,
+            8,
+            Optional.empty()
+        )).hasMessage("efConstruction must be at least m");
+    }
+}
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @GdlExtension
@@ -73,4 +74,18 @@ class KnnConfigTest {
             .randomSeed(1337L);
         assertThrows(IllegalArgumentException.class, configBuilder::build);
     }
+
+    @Test
+    void shouldRejectEuclideanWithBinaryQuantization() {
+        var userInput = CypherMapWrapper.create(
+            Map.of(
+                "nodeProperties", Map.of("knn", "EUCLIDEAN"),
+                "quantization", "binary"
+            )
+        );
+
+        assertThatThrownBy(() -> new KnnBaseConfigImpl(userInput))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Similarity metric [EUCLIDEAN] of property `knn` is not supported with quantization [BINARY].");
+    }
 }
@@ -20,21 +20,30 @@
 package org.neo4j.gds.similarity.knn;
 
 import com.carrotsearch.hppc.LongArrayList;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.DimensionsMap;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.mem.MemoryTree;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.gds.mem.Estimate.sizeOfByteArray;
 import static org.neo4j.gds.mem.Estimate.sizeOfIntArray;
 import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
 import static org.neo4j.gds.mem.Estimate.sizeOfOpenHashContainer;
@@ -119,5 +128,40 @@ class KnnMemoryEstimateDefinitionTest {
         assertEquals(expectedMax, actual.max);
     }
 
+    @Test
+    void memoryEstimationIncludesQuantizedCopy() {
+        long nodeCount = 1_000;
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .nodePropertyDimensions(new DimensionsMap(Map.of("embedding", Optional.of(64))))
+            .build();
+        var concurrency = new Concurrency(1);
+
+        var unquantized = new KnnMemoryEstimationParametersBuilder(0.5, 10, KnnSampler.SamplerType.UNIFORM);
+        var quantized = new KnnMemoryEstimationParametersBuilder(
+            0.5,
+            10,
+            KnnSampler.SamplerType.UNIFORM,
+            Quantization.INT8,
+            List.of("embedding")
+        );
+
+        var withoutCopy = new KnnMemoryEstimateDefinition(unquantized)
+            .memoryEstimation()
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+        var withCopy = new KnnMemoryEstimateDefinition(quantized)
+            .memoryEstimation()
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+
+        long quantizedCopy = HugeObjectArray.memoryEstimation(nodeCount, sizeOfByteArray(64))
+                             + HugeDoubleArray.memoryEstimation(nodeCount)
+                             + HugeLongArray.memoryEstimation(nodeCount);
+
+        assertEquals(withoutCopy.min + quantizedCopy, withCopy.min);
+        assertEquals(withoutCopy.max + quantizedCopy, withCopy.max);
+    }
+
 
 }
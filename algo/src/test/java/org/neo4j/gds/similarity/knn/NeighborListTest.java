@@ -20,6 +20,8 @@
 package org.neo4j.gds.similarity.knn;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 
 import java.util.List;
 import java.util.SplittableRandom;
@@ -90,4 +92,32 @@ class NeighborListTest {
         assertThat(queue.elements()).containsExactlyInAnyOrderElementsOf(elements);
     }
 
+
+    @Test
+    void shouldRescoreAndReorderElements() {
+        var queue = new NeighborList(4, NeighbourConsumer.EMPTY_CONSUMER);
+        var random = new SplittableRandom(42L);
+        queue.add(1, 4.0, random, 0.0);
+        queue.add(2, 3.0, random, 0.0);
+        queue.add(3, 2.0, random, 0.0);
+        queue.add(4, 1.0, random, 0.0);
+
+        // the exact similarity reverses the approximate order
+        var exactSimilarity = new SimilarityFunction(new SimilarityComputer() {
+            @Override
+            public double similarity(long firstNodeId, long secondNodeId) {
+                return secondNodeId / 10.0;
+            }
+
+            @Override
+            public boolean isSymmetric() {
+                return false;
+            }
+        });
+        queue.rescore(0, exactSimilarity);
+
+        assertArrayEquals(new long[]{4L, 3L, 2L, 1L}, queue.elements().toArray());
+        assertThat(queue.similarityStream(0).mapToDouble(SimilarityResult::property))
+            .containsExactly(0.4, 0.3, 0.2, 0.1);
+    }
 }
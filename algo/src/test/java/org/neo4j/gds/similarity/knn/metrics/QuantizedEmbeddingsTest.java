@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
+import org.neo4j.gds.nodeproperties.FloatArrayTestPropertyValues;
+import org.neo4j.gds.nodeproperties.LongTestPropertyValues;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+class QuantizedEmbeddingsTest {
+
+    private static final int NODE_COUNT = 50;
+    private static final int DIMENSION = 128;
+
+    private static double[][] randomVectors() {
+        var random = new Random(42L);
+        var vectors = new double[NODE_COUNT][];
+        for (int i = 0; i < NODE_COUNT; i++) {
+            vectors[i] = random.doubles(DIMENSION, -1, 1).toArray();
+        }
+        return vectors;
+    }
+
+    @Test
+    void int8ShouldApproximateCosineAndEuclidean() {
+        var vectors = randomVectors();
+        var embeddings = QuantizedEmbeddings.create(
+            new DoubleArrayTestPropertyValues(nodeId -> vectors[(int) nodeId]),
+            NODE_COUNT,
+            Quantization.INT8,
+            false,
+            new Concurrency(4),
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        for (int i = 0; i < NODE_COUNT; i++) {
+            for (int j = 0; j < NODE_COUNT; j++) {
+                var exactCosine = 2 * Cosine.doubleMetric(vectors[i], vectors[j]) - 1;
+                var exactDistance = Math.pow(1 / Euclidean.doubleMetric(vectors[i], vectors[j]) - 1, 2);
+                assertThat(embeddings.cosine(i, j)).isCloseTo(exactCosine, offset(0.02));
+                assertThat(embeddings.squaredEuclidean(i, j)).isCloseTo(exactDistance, offset(0.05 * exactDistance + 1e-6));
+            }
+        }
+    }
+
+    @Test
+    void centeredInt8ShouldApproximatePearson() {
+        var vectors = randomVectors();
+        var embeddings = QuantizedEmbeddings.create(
+            new DoubleArrayTestPropertyValues(nodeId -> vectors[(int) nodeId]),
+            NODE_COUNT,
+            Quantization.INT8,
+            true,
+            new Concurrency(1),
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        for (int i = 0; i < NODE_COUNT; i++) {
+            var exact = 2 * Pearson.doubleMetric(vectors[0], vectors[i]) - 1;
+            assertThat(embeddings.cosine(0, i)).isCloseTo(exact, offset(0.02));
+        }
+    }
+
+    @Test
+    void binaryShouldPreserveTheOrderOfCosines() {
+        var random = new Random(1337L);
+        var query = new float[DIMENSION];
+        var close = new float[DIMENSION];
+        var far = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            query[i] = (float) random.nextGaussian();
+            close[i] = query[i] + 0.3f * (float) random.nextGaussian();
+            far[i] = (float) random.nextGaussian();
+        }
+        var vectors = new float[][]{query, close, far};
+        var embeddings = QuantizedEmbeddings.create(
+            new FloatArrayTestPropertyValues(nodeId -> vectors[(int) nodeId]),
+            vectors.length,
+            Quantization.BINARY,
+            false,
+            new Concurrency(1),
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        assertThat(embeddings.cosine(0, 0)).isEqualTo(1.0);
+        assertThat(embeddings.cosine(0, 1)).isGreaterThan(embeddings.cosine(0, 2));
+        assertThat(embeddings.cosine(0, 1)).isCloseTo(2 * Cosine.floatMetric(query, close) - 1, offset(0.2));
+    }
+
+    @Test
+    void shouldRejectScalarProperties() {
+        assertThatThrownBy(() -> QuantizedEmbeddings.create(
+            new LongTestPropertyValues(nodeId -> nodeId),
+            2,
+            Quantization.INT8,
+            false,
+            new Concurrency(1),
+            TerminationFlag.RUNNING_TRUE
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Quantization is only supported for properties of type");
+    }
+}
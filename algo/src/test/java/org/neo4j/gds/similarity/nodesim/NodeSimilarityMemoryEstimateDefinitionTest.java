@@ -23,6 +23,7 @@ import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
@@ -31,6 +32,11 @@ import org.neo4j.gds.mem.MemoryRange;
 
 class NodeSimilarityMemoryEstimateDefinitionTest {
 
+    private static final MemoryRange SHARED_NEIGHBOR_INDEX = MemoryRange.of(
+        0,
+        HugeLongArray.memoryEstimation(1_000_001) + HugeLongArray.memoryEstimation(5_000_000)
+    );
+
 
     @ParameterizedTest
     @CsvSource({"10, 248000016", "100, 1688000016"})
@@ -61,7 +67,8 @@ class NodeSimilarityMemoryEstimateDefinitionTest {
             .fixed("node filter", nodeFilterRange)
             .fixed("vectors", vectorsRange)
             .fixed("weights", weightsRange)
-            .fixed("similarityComputer", 8);
+            .fixed("similarityComputer", 8)
+            .fixed("shared neighbor index", SHARED_NEIGHBOR_INDEX);
 
 
         builder.fixed("topK map", MemoryRange.of(expectedTopKMemory));
@@ -108,7 +115,8 @@ class NodeSimilarityMemoryEstimateDefinitionTest {
             .fixed("vectors", vectorsRange)
             .fixed("weights", weightsRange)
             .fixed("topNList", topNListRange)
-            .fixed("similarityComputer", 8);
+            .fixed("similarityComputer", 8)
+            .fixed("shared neighbor index", SHARED_NEIGHBOR_INDEX);
 
         builder.fixed("topK map", MemoryRange.of(expectedTopKMemory));
 
@@ -139,7 +147,9 @@ class NodeSimilarityMemoryEstimateDefinitionTest {
 
         SoftAssertions softAssertions = new SoftAssertions();
         softAssertions.assertThat(actual.min).isEqualTo(570592);
-        softAssertions.assertThat(actual.max).isEqualTo(732192);
+        softAssertions.assertThat(actual.max).isEqualTo(
+            732192 + HugeLongArray.memoryEstimation(101) + HugeLongArray.memoryEstimation(20_000)
+        );
         softAssertions.assertAll();
 
     }
@@ -177,7 +187,8 @@ class NodeSimilarityMemoryEstimateDefinitionTest {
             .fixed("node filter", nodeFilterRange)
             .fixed("vectors", vectorsRange)
             .fixed("weights", weightsRange)
-            .fixed("similarityComputer", 8);
+            .fixed("similarityComputer", 8)
+            .fixed("shared neighbor index", SHARED_NEIGHBOR_INDEX);
 
         builder.fixed("extra", extraMemory);
 
@@ -46,11 +46,14 @@ import org.neo4j.gds.similarity.SimilarityGraphResult;
 import org.neo4j.gds.similarity.SimilarityResult;
 import org.neo4j.gds.similarity.filtering.NodeFilter;
 import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.gds.wcc.WccStub;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -511,6 +514,108 @@ final class NodeSimilarityTest {
         );
     }
 
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldComputeWithMinHashCandidatesForSupportedDirections(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        // with a single row per band, a pair shares a bucket with a probability equal to its jaccard similarity
+        // the many bands make sure that every pair with a non-zero similarity is found
+        var parameters = new NodeSimilarityParameters(
+            new JaccardSimilarityComputer(0.0),
+            1,
+            Integer.MAX_VALUE,
+            10,
+            0,
+            true,
+            false,
+            false,
+            null,
+            64,
+            1
+        );
+
+        NodeSimilarity nodeSimilarity = constructNodeSimilarity(
+            graph,
+            parameters,
+            new Concurrency(concurrency)
+        );
+
+        Set<String> result = nodeSimilarity
+            .compute()
+            .streamResult()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+
+        // pairs without any common neighbour never become candidates
+        assertEquals(
+            orientation == REVERSE ? EXPECTED_INCOMING_SIMILARITY_CUTOFF : EXPECTED_OUTGOING_SIMILARITY_CUTOFF,
+            result
+        );
+    }
+
+    @ParameterizedTest(name = "weighted: {0}, concurrency: {1}")
+    @MethodSource("sharedNeighborIndexArguments")
+    void shouldComputeTheSameTopKWithSharedNeighborIndex(boolean weighted, int concurrency) {
+        var random = new Random(42L);
+        var gdl = new StringBuilder("CREATE ");
+        for (int item = 0; item < 500; item++) {
+            gdl.append(formatWithLocale("(i%d:Item), ", item));
+        }
+        for (int person = 0; person < 200; person++) {
+            gdl.append(formatWithLocale("(p%d:Person)", person));
+            for (int like = 0; like < 4; like++) {
+                gdl.append(formatWithLocale(
+                    ", (p%d)-[:LIKES {prop: %d.0}]->(i%d)",
+                    person,
+                    1 + random.nextInt(3),
+                    random.nextInt(500)
+                ));
+            }
+            gdl.append(person < 199 ? ", " : "");
+        }
+        var graph = fromGdl(gdl.toString());
+
+        for (var similarityComputer : List.of(
+            new JaccardSimilarityComputer(1E-42),
+            new OverlapSimilarityComputer(1E-42),
+            new CosineSimilarityComputer(1E-42)
+        )) {
+            var parameters = new NodeSimilarityParameters(
+                similarityComputer,
+                1,
+                Integer.MAX_VALUE,
+                5,
+                0,
+                true,
+                weighted,
+                false,
+                null
+            );
+
+            var sparse = constructNodeSimilarity(graph, parameters, new Concurrency(concurrency))
+                .compute()
+                .streamResult()
+                .map(NodeSimilarityTest::resultString)
+                .collect(Collectors.toSet());
+
+            var exhaustive = new HashSet<String>();
+            GdsFeatureToggles.USE_SPARSE_NODE_SIMILARITY.disableAndRun(() ->
+                constructNodeSimilarity(graph, parameters, new Concurrency(concurrency))
+                    .compute()
+                    .streamResult()
+                    .map(NodeSimilarityTest::resultString)
+                    .forEach(exhaustive::add)
+            );
+
+            assertThat(sparse).isNotEmpty().isEqualTo(exhaustive);
+        }
+    }
+
+    static Stream<Arguments> sharedNeighborIndexArguments() {
+        return crossArguments(toArguments(() -> Stream.of(false, true)), toArguments(NodeSimilarityTest::concurrencies));
+    }
+
     @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
     @MethodSource("supportedLoadAndComputeDirections")
     void shouldComputeWithDegreeCutoffForSupportedDirections(Orientation orientation, int concurrency) {
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.sllpa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LabelMemoryTest {
+
+    @Test
+    void shouldCountLabels() {
+        var memory = LabelMemory.create(3, 0);
+        LabelMemory.add(memory, 1);
+        LabelMemory.add(memory, 0);
+        LabelMemory.add(memory, 1);
+
+        assertThat(memory).containsExactly(0, 2, 1, 2, 0, 0);
+        assertThat(LabelMemory.total(memory)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldReplaceLeastFrequentLabelWhenFull() {
+        var memory = LabelMemory.create(2, 0);
+        LabelMemory.add(memory, 0);
+        LabelMemory.add(memory, 1);
+        LabelMemory.add(memory, 2);
+
+        assertThat(memory).containsExactly(0, 2, 2, 2);
+        assertThat(LabelMemory.total(memory)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldSampleProportionalToCounts() {
+        var memory = LabelMemory.create(3, 0);
+        LabelMemory.add(memory, 1);
+        LabelMemory.add(memory, 1);
+        LabelMemory.add(memory, 1);
+
+        var random = new SplittableRandom(42);
+        var samples = new int[2];
+        for (int i = 0; i < 10_000; i++) {
+            samples[(int) LabelMemory.sample(memory, LabelMemory.total(memory), random)]++;
+        }
+
+        assertThat(samples[0]).isBetween(2_250, 2_750);
+        assertThat(samples[1]).isBetween(7_250, 7_750);
+    }
+
+    @Test
+    void shouldKeepLabelsAboveMinAssociationStrength() {
+        var memory = LabelMemory.create(3, 0);
+        LabelMemory.add(memory, 1);
+        LabelMemory.add(memory, 1);
+        LabelMemory.add(memory, 1);
+        LabelMemory.add(memory, 2);
+
+        assertThat(LabelMemory.labelsAbove(memory, 0.0)).containsExactly(0, 1, 2);
+        assertThat(LabelMemory.labelsAbove(memory, 0.2)).containsExactly(1);
+    }
+}
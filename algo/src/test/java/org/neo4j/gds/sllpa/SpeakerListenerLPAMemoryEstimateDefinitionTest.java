@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.sllpa;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.Estimate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpeakerListenerLPAMemoryEstimateDefinitionTest {
+
+    @Test
+    void shouldAccountForTheLabelMemoryPages() {
+        var nodeCount = 100_000L;
+
+        var unbounded = memoryUsage(nodeCount, 10, 0);
+        var bounded = memoryUsage(nodeCount, 10, 3);
+
+        // both estimates share the Pregel part and differ only in the label memories
+        assertThat(unbounded - bounded).isEqualTo(
+            HugeObjectArray.memoryEstimation(nodeCount, Estimate.sizeOfLongArray(10)) -
+            HugeObjectArray.memoryEstimation(nodeCount, Estimate.sizeOfLongArray(6))
+        );
+        assertThat(unbounded).isGreaterThan(
+            HugeObjectArray.memoryEstimation(nodeCount, Estimate.sizeOfLongArray(10))
+        );
+    }
+
+    private static long memoryUsage(long nodeCount, int maxIterations, int labelMemoryCapacity) {
+        return new SpeakerListenerLPAMemoryEstimateDefinition(maxIterations, labelMemoryCapacity)
+            .memoryEstimation()
+            .estimate(GraphDimensions.of(nodeCount), new Concurrency(4))
+            .memoryUsage()
+            .min;
+    }
+}
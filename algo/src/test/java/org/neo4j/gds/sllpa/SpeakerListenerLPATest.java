@@ -35,6 +35,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.neo4j.gds.sllpa.SpeakerListenerLPA.LABELS_PROPERTY;
 
 @GdlExtension
@@ -136,5 +137,57 @@ class SpeakerListenerLPATest {
         assertThat(communities).containsExactlyInAnyOrderEntriesOf(expected);
     }
 
+    @Test
+    void boundsLabelsPerNodeByLabelMemoryCapacity() {
+        var config = SpeakerListenerLPAConfigImpl.builder()
+            .concurrency(1)
+            .minAssociationStrength(0.00)
+            .maxIterations(30)
+            .labelMemoryCapacity(2)
+            .build();
+
+        var sllp = new SpeakerListenerLPA(graph, config, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER, Optional.of(42L));
+        var resultCommunities = sllp.compute().nodeValues().longArrayProperties(LABELS_PROPERTY);
 
+        graph.forEachNode(nodeId -> {
+            assertThat(resultCommunities.get(nodeId)).hasSizeBetween(1, 2);
+            return true;
+        });
+        // the isolated node only ever hears itself
+        assertThat(resultCommunities.get(0)).containsExactly(0L);
+    }
+
+    @Test
+    void samplesSpeakersWithBoundedLabelMemory() {
+        var config = SpeakerListenerLPAConfigImpl.builder()
+            .concurrency(1)
+            .minAssociationStrength(0.00)
+            .maxIterations(30)
+            .labelMemoryCapacity(2)
+            .speakerSamplingRatio(0.5)
+            .build();
+
+        var sllp = new SpeakerListenerLPA(graph, config, DefaultPool.INSTANCE, ProgressTracker.NULL_TRACKER, Optional.of(42L));
+        var resultCommunities = sllp.compute().nodeValues().longArrayProperties(LABELS_PROPERTY);
+
+        graph.forEachNode(nodeId -> {
+            assertThat(resultCommunities.get(nodeId)).hasSizeBetween(1, 2);
+            return true;
+        });
+        // nodes without speakers keep their own label instead of hearing themselves more often
+        assertThat(resultCommunities.get(0)).containsExactly(0L);
+        assertThat(resultCommunities.get(idFunction.of("a"))).containsExactly(idFunction.of("a"));
+        // b only hears a
+        assertThat(resultCommunities.get(idFunction.of("b"))).contains(idFunction.of("a"));
+    }
+
+    @Test
+    void rejectsSpeakerSamplingWithoutBoundedLabelMemory() {
+        assertThatThrownBy(() -> SpeakerListenerLPAConfigImpl.builder()
+            .maxIterations(10)
+            .speakerSamplingRatio(0.5)
+            .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("labelMemoryCapacity");
+    }
 }
@@ -23,9 +23,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.mem.MemoryEstimation;
 
 class IntersectingTriangleCountMemoryEstimateDefinitionTest {
@@ -39,7 +42,10 @@ class IntersectingTriangleCountMemoryEstimateDefinitionTest {
         GraphDimensions graphDimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
 
         long hugeAtomicLongArray = 24 + nodeCount * 8 + 16;
-        long expected = 72 + hugeAtomicLongArray;
+        long forwardDegrees = 24 + BitUtil.align(16 + nodeCount * 4, 8);
+        long forwardOffsets = 24 + (nodeCount + 1) * 8 + 16;
+        long forwardNeighbours = 24 + 16;
+        long expected = 80 + hugeAtomicLongArray + forwardDegrees + forwardOffsets + forwardNeighbours;
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(graphDimensions, new Concurrency(1))
@@ -55,11 +61,35 @@ class IntersectingTriangleCountMemoryEstimateDefinitionTest {
         GraphDimensions graphDimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
 
         long hugeAtomicLongArray = 32 + sizeOfHugeArray;
-        long expected = 72 + hugeAtomicLongArray;
+        long forwardDegrees = HugeIntArray.memoryEstimation(nodeCount);
+        long forwardOffsets = HugeLongArray.memoryEstimation(nodeCount + 1);
+        long forwardNeighbours = 24 + 16;
+        long expected = 80 + hugeAtomicLongArray + forwardDegrees + forwardOffsets + forwardNeighbours;
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(graphDimensions, new Concurrency(1))
             .hasSameMinAndMaxEqualTo(expected);
 
     }
+
+    @ValueSource(longs = {0L, 10L, 1_000L})
+    @ParameterizedTest
+    void memoryEstimationWithRelationships(long relationshipCount) {
+        MemoryEstimation memoryEstimation =
+            new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation();
+
+        GraphDimensions withoutRelationships = ImmutableGraphDimensions.builder().nodeCount(100).build();
+        GraphDimensions graphDimensions = GraphDimensions.of(100, relationshipCount);
+
+        long withoutRelationshipsBytes = memoryEstimation
+            .estimate(withoutRelationships, new Concurrency(1))
+            .memoryUsage().min;
+
+        // the forward neighbours keep every undirected relationship once
+        long forwardNeighbours = (relationshipCount / 2) * 8;
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(graphDimensions, new Concurrency(1))
+            .hasSameMinAndMaxEqualTo(withoutRelationshipsBytes + forwardNeighbours);
+    }
 }
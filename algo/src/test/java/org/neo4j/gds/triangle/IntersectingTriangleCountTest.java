@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.triangle;
 
+import com.carrotsearch.hppc.LongHashSet;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -27,14 +28,20 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
@@ -507,6 +514,124 @@ class IntersectingTriangleCountTest {
             .returns(0L, t -> t.get(testGraph.toMappedNodeId("y")));
     }
 
+    static Stream<Arguments> randomGraphs() {
+        return Stream.of(
+            // hubs, where forward lists of very different length are intersected by galloping
+            Arguments.of(RelationshipDistribution.POWER_LAW, 5_000, 20, Long.MAX_VALUE),
+            Arguments.of(RelationshipDistribution.POWER_LAW, 5_000, 20, 50L),
+            // dense, where the longest forward lists are intersected via a hash set
+            Arguments.of(RelationshipDistribution.RANDOM, 600, 300, Long.MAX_VALUE)
+        );
+    }
+
+    @MethodSource("randomGraphs")
+    @ParameterizedTest
+    void shouldCountSameTrianglesAsBruteForce(
+        RelationshipDistribution distribution,
+        int nodeCount,
+        int averageDegree,
+        long maxDegree
+    ) {
+        var graph = new RandomGraphGeneratorBuilder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .direction(Direction.UNDIRECTED)
+            .allowSelfLoops(RandomGraphGeneratorConfig.AllowSelfLoops.YES)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var expected = bruteForceTriangleCounts(graph, maxDegree);
+
+        for (int concurrency : new int[]{1, 4}) {
+            var result = compute(graph, new Concurrency(concurrency), maxDegree);
+
+            var actual = new long[nodeCount];
+            for (int node = 0; node < nodeCount; node++) {
+                actual[node] = result.localTriangles().get(node);
+            }
+            assertThat(actual).containsExactly(expected);
+            assertThat(result.globalTriangles()).isEqualTo(Arrays.stream(expected).filter(c -> c > 0).sum() / 3);
+        }
+    }
+
+    @Test
+    void shouldEstimateTrianglesFromSampledRelationships() {
+        var graph = new RandomGraphGeneratorBuilder()
+            .nodeCount(600)
+            .averageDegree(100)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .direction(Direction.UNDIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        long exact = compute(graph).globalTriangles();
+        var sampled = IntersectingTriangleCount.create(
+            graph,
+            new Concurrency(4),
+            Long.MAX_VALUE,
+            0.5,
+            42L,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        assertThat(sampled.globalTriangles()).isCloseTo(exact, withinPercentage(5));
+        // the sample does not depend on the concurrency
+        var sequential = IntersectingTriangleCount.create(
+            graph,
+            new Concurrency(1),
+            Long.MAX_VALUE,
+            0.5,
+            42L,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+        assertThat(sequential.globalTriangles()).isEqualTo(sampled.globalTriangles());
+    }
+
+    private static long[] bruteForceTriangleCounts(Graph graph, long maxDegree) {
+        int nodeCount = (int) graph.nodeCount();
+        var neighbours = new LongHashSet[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            var nodeNeighbours = new LongHashSet();
+            if (graph.degree(node) <= maxDegree) {
+                graph.forEachRelationship(node, (source, target) -> {
+                    if (source != target && graph.degree(target) <= maxDegree) {
+                        nodeNeighbours.add(target);
+                    }
+                    return true;
+                });
+            }
+            neighbours[node] = nodeNeighbours;
+        }
+
+        var counts = new long[nodeCount];
+        for (int u = 0; u < nodeCount; u++) {
+            if (graph.degree(u) > maxDegree) {
+                counts[u] = EXCLUDED_NODE_TRIANGLE_COUNT;
+                continue;
+            }
+            for (var v : neighbours[u]) {
+                if (v.value <= u) {
+                    continue;
+                }
+                for (var w : neighbours[(int) v.value]) {
+                    if (w.value > v.value && neighbours[u].contains(w.value)) {
+                        counts[u]++;
+                        counts[(int) v.value]++;
+                        counts[(int) w.value]++;
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
     private TriangleCountResult compute(Graph graph) {
         return compute(graph, new Concurrency(4), Long.MAX_VALUE);
     }
@@ -23,9 +23,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.BitUtil;
 
 class LocalClusteringCoefficientMemoryEstimateDefinitionTest {
 
@@ -36,7 +39,8 @@ class LocalClusteringCoefficientMemoryEstimateDefinitionTest {
         var memoryEstimation = new LocalClusteringCoefficientMemoryEstimateDefinition(null)
             .memoryEstimation();
 
-        long triangleCountEstimate = 56 + 24 + nodeCount * 8 + 16;
+        long forwardAdjacency = 24 + BitUtil.align(16 + nodeCount * 4, 8) + 24 + (nodeCount + 1) * 8 + 16 + 24 + 16;
+        long triangleCountEstimate = 64 + 24 + nodeCount * 8 + 16 + forwardAdjacency;
         long hugeDoubleArray = 16 + nodeCount * 8 + 16;
         long expected = 80 + hugeDoubleArray + triangleCountEstimate;
 
@@ -68,7 +72,8 @@ class LocalClusteringCoefficientMemoryEstimateDefinitionTest {
         var memoryEstimation = new LocalClusteringCoefficientMemoryEstimateDefinition(null)
             .memoryEstimation();
 
-        long triangleCountEstimate = 56 + 32 + sizeOfHugeArray;
+        long forwardAdjacency = HugeIntArray.memoryEstimation(nodeCount) + HugeLongArray.memoryEstimation(nodeCount + 1) + 24 + 16;
+        long triangleCountEstimate = 64 + 32 + sizeOfHugeArray + forwardAdjacency;
         long hugeDoubleArray = 24 + sizeOfHugeArray;
         long expected = 80 + hugeDoubleArray + triangleCountEstimate;
 
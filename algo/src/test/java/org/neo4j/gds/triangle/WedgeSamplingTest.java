@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+class WedgeSamplingTest {
+
+    @Test
+    void shouldFindAllWedgesClosedInClique() {
+        int nodeCount = 20;
+        var gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < nodeCount; i++) {
+            gdl.append(formatWithLocale("(n%d)", i)).append(i < nodeCount - 1 ? ", " : "");
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            for (int j = i + 1; j < nodeCount; j++) {
+                gdl.append(formatWithLocale(", (n%d)-[:T]->(n%d)", i, j));
+            }
+        }
+        var graph = TestSupport.fromGdl(gdl.toString(), Orientation.UNDIRECTED).graph();
+
+        var result = compute(graph, 1_000, 4);
+
+        assertThat(result.wedgeCount()).isEqualTo(nodeCount * (19L * 18 / 2));
+        assertThat(result.transitivity().estimate()).isEqualTo(1.0);
+        assertThat(result.globalTriangleCount().estimate()).isCloseTo(20 * 19 * 18 / 6.0, within(1e-6));
+        assertThat(result.averageClusteringCoefficient().estimate()).isEqualTo(1.0);
+        assertThat(result.transitivity().upperBound()).isCloseTo(1.0, within(1e-9));
+        assertThat(result.transitivity().lowerBound()).isBetween(0.99, 1.0);
+    }
+
+    @Test
+    void shouldFindNoClosedWedgesInStar() {
+        var graph = TestSupport.fromGdl(
+            "CREATE (c)-[:T]->(), (c)-[:T]->(), (c)-[:T]->(), (c)-[:T]->(), ()",
+            Orientation.UNDIRECTED
+        ).graph();
+
+        var result = compute(graph, 1_000, 1);
+
+        assertThat(result.wedgeCount()).isEqualTo(6L);
+        assertThat(result.transitivity().estimate()).isEqualTo(0.0);
+        assertThat(result.globalTriangleCount().estimate()).isEqualTo(0.0);
+        assertThat(result.averageClusteringCoefficient().estimate()).isEqualTo(0.0);
+        assertThat(result.transitivity().lowerBound()).isCloseTo(0.0, within(1e-9));
+    }
+
+    @Test
+    void shouldReturnEmptyResultWithoutWedges() {
+        var graph = TestSupport.fromGdl("CREATE ()-[:T]->(), ()", Orientation.UNDIRECTED).graph();
+
+        assertThat(compute(graph, 1_000, 1)).isEqualTo(WedgeSamplingResult.EMPTY);
+    }
+
+    @Test
+    void shouldEstimateExactValues() {
+        var graph = randomGraph();
+
+        var exactTriangles = IntersectingTriangleCount.create(
+            graph,
+            new Concurrency(4),
+            Long.MAX_VALUE,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().globalTriangles();
+        var exactAverage = new LocalClusteringCoefficient(
+            graph,
+            new Concurrency(4),
+            Long.MAX_VALUE,
+            null,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute().averageClusteringCoefficient();
+
+        var result = compute(graph, 100_000, 4);
+
+        // four standard errors, about two widths of the 95% interval
+        var triangles = result.globalTriangleCount();
+        assertThat(triangles.estimate())
+            .isCloseTo(exactTriangles, within(2 * (triangles.upperBound() - triangles.lowerBound())));
+        var average = result.averageClusteringCoefficient();
+        assertThat(average.estimate())
+            .isCloseTo(exactAverage, within(2 * (average.upperBound() - average.lowerBound())));
+        assertThat(triangles.lowerBound()).isLessThan(triangles.estimate());
+        assertThat(triangles.upperBound()).isGreaterThan(triangles.estimate());
+    }
+
+    @Test
+    void shouldCarryTheConfidenceIntervalsIntoTheAlgorithmResults() {
+        var result = compute(randomGraph(), 10_000, 4);
+
+        var triangleCountResult = result.toTriangleCountResult();
+        assertThat(triangleCountResult.globalTriangles()).isEqualTo(Math.round(result.globalTriangleCount().estimate()));
+        assertThat(triangleCountResult.globalTriangleCountConfidenceInterval()).contains(result.globalTriangleCount());
+
+        var lccResult = result.toLocalClusteringCoefficientResult();
+        assertThat(lccResult.averageClusteringCoefficient()).isEqualTo(result.averageClusteringCoefficient().estimate());
+        assertThat(lccResult.averageClusteringCoefficientConfidenceInterval()).contains(result.averageClusteringCoefficient());
+    }
+
+    @Test
+    void shouldNotDependOnConcurrency() {
+        var graph = randomGraph();
+
+        assertThat(compute(graph, 10_000, 4)).isEqualTo(compute(graph, 10_000, 1));
+    }
+
+    private static Graph randomGraph() {
+        return new RandomGraphGeneratorBuilder()
+            .nodeCount(2_000)
+            .averageDegree(20)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .aggregation(Aggregation.SINGLE)
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
+    private static WedgeSamplingResult compute(Graph graph, long sampleSize, int concurrency) {
+        return new WedgeSampling(
+            graph,
+            new Concurrency(concurrency),
+            sampleSize,
+            42L,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
@@ -122,7 +122,6 @@ class IncrementalWccTest {
         return new Wcc(
             graph,
             DefaultPool.INSTANCE,
-            COMMUNITY_SIZE / ConcurrencyConfig.DEFAULT_CONCURRENCY,
             parameters,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
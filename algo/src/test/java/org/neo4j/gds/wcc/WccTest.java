@@ -29,13 +29,17 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.CommunityHelper;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
 import org.neo4j.gds.applications.algorithms.community.CommunityAlgorithms;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
 import org.neo4j.gds.applications.algorithms.machinery.ProgressTrackerCreator;
 import org.neo4j.gds.applications.algorithms.machinery.RequestScopedDependencies;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
@@ -82,10 +86,6 @@ class WccTest {
         return sets.cardinality();
     }
 
-    int communitySize() {
-        return SET_SIZE;
-    }
-
     @ParameterizedTest(name = "orientation = {0}")
     @EnumSource(Orientation.class)
     void shouldComputeComponents(Orientation orientation) {
@@ -173,6 +173,45 @@ class WccTest {
         assertThat(getSetCount(result)).isEqualTo(5);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeComponentsOnDirectedGraphsWithoutInverseIndex(int concurrency) {
+        var graph = new RandomGraphGeneratorBuilder()
+            .nodeCount(10_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.DIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var result = run(graph, new WccParameters(0D, new Concurrency(concurrency)));
+
+        // sequential union-find, every set is represented by its smallest node id
+        var expected = new long[(int) graph.nodeCount()];
+        Arrays.setAll(expected, i -> i);
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                int sourceRoot = find(expected, (int) source);
+                int targetRoot = find(expected, (int) target);
+                expected[Math.max(sourceRoot, targetRoot)] = Math.min(sourceRoot, targetRoot);
+                return true;
+            });
+            return true;
+        });
+
+        for (int nodeId = 0; nodeId < expected.length; nodeId++) {
+            assertThat(result.setIdOf(nodeId)).isEqualTo(find(expected, nodeId));
+        }
+    }
+
+    private static int find(long[] parents, int nodeId) {
+        while (parents[nodeId] != nodeId) {
+            nodeId = (int) parents[nodeId];
+        }
+        return nodeId;
+    }
+
     @Test
     void shouldWarnAboutThresholdOnUnweightedGraphs() {
         var log = new GdsTestLog();
@@ -217,14 +256,9 @@ class WccTest {
     }
 
     DisjointSetStruct run(Graph graph, WccParameters parameters) {
-        return run(graph, parameters, communitySize() / parameters.concurrency().value());
-    }
-
-    DisjointSetStruct run(Graph graph, WccParameters parameters, int concurrency) {
         return new Wcc(
             graph,
             DefaultPool.INSTANCE,
-            communitySize() / concurrency,
             parameters,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
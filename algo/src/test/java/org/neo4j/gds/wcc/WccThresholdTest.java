@@ -39,7 +39,6 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.neo4j.gds.Orientation.NATURAL;
 import static org.neo4j.gds.Orientation.UNDIRECTED;
 import static org.neo4j.gds.TestSupport.ids;
-import static org.neo4j.gds.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
 
 @GdlExtension
 class WccThresholdTest {
@@ -109,7 +108,6 @@ class WccThresholdTest {
         DisjointSetStruct dss = new Wcc(
             graph,
             DefaultPool.INSTANCE,
-            DEFAULT_BATCH_SIZE,
             parameters,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
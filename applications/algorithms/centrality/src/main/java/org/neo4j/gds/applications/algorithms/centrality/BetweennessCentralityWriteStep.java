@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.applications.algorithms.centrality;
 
-import org.neo4j.gds.algorithms.centrality.CentralityAlgorithmResult;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.ResultStore;
@@ -27,11 +26,12 @@ import org.neo4j.gds.applications.algorithms.machinery.WriteStep;
 import org.neo4j.gds.applications.algorithms.machinery.WriteToDatabase;
 import org.neo4j.gds.applications.algorithms.metadata.NodePropertiesWritten;
 import org.neo4j.gds.betweenness.BetweennessCentralityWriteConfig;
+import org.neo4j.gds.betweenness.BetwennessCentralityResult;
 import org.neo4j.gds.core.utils.progress.JobId;
 
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.BetweennessCentrality;
 
-class BetweennessCentralityWriteStep implements WriteStep<CentralityAlgorithmResult, NodePropertiesWritten> {
+class BetweennessCentralityWriteStep implements WriteStep<BetwennessCentralityResult, NodePropertiesWritten> {
     private final WriteToDatabase writeToDatabase;
     private final BetweennessCentralityWriteConfig configuration;
 
@@ -45,7 +45,7 @@ class BetweennessCentralityWriteStep implements WriteStep<CentralityAlgorithmRes
         Graph graph,
         GraphStore graphStore,
         ResultStore resultStore,
-        CentralityAlgorithmResult result,
+        BetwennessCentralityResult result,
         JobId jobId
     ) {
         return writeToDatabase.perform(
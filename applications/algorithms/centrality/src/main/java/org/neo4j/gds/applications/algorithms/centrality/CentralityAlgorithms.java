@@ -21,6 +21,7 @@ package org.neo4j.gds.applications.algorithms.centrality;
 
 import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.LongScatterSet;
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
@@ -29,12 +30,14 @@ import org.neo4j.gds.articulationpoints.ArticulationPoints;
 import org.neo4j.gds.articulationpoints.ArticulationPointsProgressTaskCreator;
 import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelResult;
+import org.neo4j.gds.betweenness.ApproximateBetweennessCentrality;
 import org.neo4j.gds.betweenness.BetweennessCentrality;
 import org.neo4j.gds.betweenness.BetweennessCentralityBaseConfig;
 import org.neo4j.gds.betweenness.BetweennessCentralityParameters;
 import org.neo4j.gds.betweenness.BetwennessCentralityResult;
 import org.neo4j.gds.betweenness.ForwardTraverser;
 import org.neo4j.gds.betweenness.FullSelectionStrategy;
+import org.neo4j.gds.betweenness.MultiSourceBetweennessCentrality;
 import org.neo4j.gds.betweenness.RandomDegreeSelectionStrategy;
 import org.neo4j.gds.bridges.BridgeProgressTaskCreator;
 import org.neo4j.gds.bridges.BridgeResult;
@@ -68,10 +71,14 @@ import org.neo4j.gds.pagerank.ArticleRankConfig;
 import org.neo4j.gds.pagerank.DegreeFunctions;
 import org.neo4j.gds.pagerank.EigenvectorComputation;
 import org.neo4j.gds.pagerank.EigenvectorConfig;
+import org.neo4j.gds.pagerank.IncrementalPageRank;
 import org.neo4j.gds.pagerank.PageRankAlgorithm;
 import org.neo4j.gds.pagerank.PageRankComputation;
 import org.neo4j.gds.pagerank.PageRankConfig;
 import org.neo4j.gds.pagerank.PageRankResult;
+import org.neo4j.gds.pagerank.PersonalizedPageRankBatch;
+import org.neo4j.gds.pagerank.PersonalizedPageRankBatchResult;
+import org.neo4j.gds.pagerank.PersonalizedPageRankBatchStreamConfig;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Optional;
@@ -150,6 +157,10 @@ public class CentralityAlgorithms {
         BetweennessCentralityParameters parameters,
         Function<Optional<Long>, ProgressTracker> progressTrackerFromSamplingSize
     ) {
+        if (parameters.samplingErrorBound().isPresent()) {
+            return approximateBetweennessCentrality(graph, parameters, progressTrackerFromSamplingSize);
+        }
+
         var samplingSize = parameters.samplingSize();
         var samplingSeed = parameters.samplingSeed();
 
@@ -157,16 +168,65 @@ public class CentralityAlgorithms {
             ? new RandomDegreeSelectionStrategy(samplingSize.get(), samplingSeed)
             : new FullSelectionStrategy();
 
-        var traverserFactory = parameters.hasRelationshipWeightProperty()
-            ? ForwardTraverser.Factory.weighted()
-            : ForwardTraverser.Factory.unweighted();
-
         var progressTracker = progressTrackerFromSamplingSize.apply(samplingSize);
 
-        var algorithm = new BetweennessCentrality(
+        Algorithm<BetwennessCentralityResult> algorithm;
+        if (parameters.multiSourceTraversal() && !parameters.hasRelationshipWeightProperty()) {
+            algorithm = new MultiSourceBetweennessCentrality(
+                graph,
+                selectionStrategy,
+                DefaultPool.INSTANCE,
+                parameters.concurrency(),
+                progressTracker,
+                terminationFlag
+            );
+        } else {
+            var traverserFactory = parameters.hasRelationshipWeightProperty()
+                ? ForwardTraverser.Factory.weighted()
+                : ForwardTraverser.Factory.unweighted();
+
+            algorithm = new BetweennessCentrality(
+                graph,
+                selectionStrategy,
+                traverserFactory,
+                DefaultPool.INSTANCE,
+                parameters.concurrency(),
+                progressTracker,
+                terminationFlag
+            );
+        }
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+            algorithm,
+            progressTracker,
+            true,
+            parameters.concurrency()
+        );
+    }
+
+    /**
+     * The progress is measured in samples, up to the number of samples that guarantees the error bound.
+     */
+    private BetwennessCentralityResult approximateBetweennessCentrality(
+        Graph graph,
+        BetweennessCentralityParameters parameters,
+        Function<Optional<Long>, ProgressTracker> progressTrackerFromSamplingSize
+    ) {
+        var errorBound = parameters.samplingErrorBound().orElseThrow();
+        var maximumSampleSize = ApproximateBetweennessCentrality.maximumSampleSize(
+            graph.nodeCount(),
+            errorBound,
+            parameters.samplingFailureProbability()
+        );
+
+        var progressTracker = progressTrackerFromSamplingSize.apply(Optional.of(maximumSampleSize));
+
+        var algorithm = new ApproximateBetweennessCentrality(
             graph,
-            selectionStrategy,
-            traverserFactory,
+            errorBound,
+            parameters.samplingFailureProbability(),
+            parameters.samplingSeed(),
+            parameters.hasRelationshipWeightProperty(),
             DefaultPool.INSTANCE,
             parameters.concurrency(),
             progressTracker,
@@ -364,6 +424,10 @@ public class CentralityAlgorithms {
     }
 
     public PageRankResult pageRank(Graph graph, PageRankConfig configuration) {
+        if (configuration.isIncremental()) {
+            return incrementalPageRank(graph, configuration);
+        }
+
         var task = Pregel.progressTask(graph, configuration, PageRank.asString());
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
 
@@ -386,6 +450,80 @@ public class CentralityAlgorithms {
         return pageRank.compute();
     }
 
+    /**
+     * Updates the scores in the seed property, the progress is measured in processed nodes.
+     */
+    private PageRankResult incrementalPageRank(Graph graph, PageRankConfig configuration) {
+        var task = Tasks.leaf(PageRank.asString());
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var degreeFunction = DegreeFunctions.pageRankDegreeFunction(
+            graph,
+            configuration.hasRelationshipWeightProperty(), configuration.concurrency()
+        );
+
+        var mappedSourceNodes = new LongScatterSet(configuration.sourceNodes().size());
+        configuration.sourceNodes().stream()
+            .mapToLong(graph::toMappedNodeId)
+            .forEach(mappedSourceNodes::add);
+
+        var algorithm = new IncrementalPageRank(
+            graph,
+            configuration,
+            mappedSourceNodes,
+            degreeFunction,
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+            algorithm,
+            progressTracker,
+            true,
+            configuration.concurrency()
+        );
+    }
+
+    public PersonalizedPageRankBatchResult personalizedPageRankBatch(
+        Graph graph,
+        PersonalizedPageRankBatchStreamConfig configuration
+    ) {
+        var task = Tasks.leaf(AlgorithmLabel.PersonalizedPageRankBatch.asString(), configuration.sourceNodeSets().size());
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var degreeFunction = DegreeFunctions.pageRankDegreeFunction(
+            graph,
+            configuration.hasRelationshipWeightProperty(),
+            configuration.concurrency()
+        );
+
+        var sourceNodeSets = configuration.sourceNodeSets()
+            .stream()
+            .map(sourceNodes -> sourceNodes.stream().mapToLong(graph::toMappedNodeId).toArray())
+            .toList();
+
+        var algorithm = new PersonalizedPageRankBatch(
+            graph,
+            sourceNodeSets,
+            degreeFunction,
+            configuration.dampingFactor(),
+            configuration.tolerance(),
+            configuration.topK(),
+            configuration.concurrency(),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+            algorithm,
+            progressTracker,
+            true,
+            configuration.concurrency()
+        );
+    }
+
     private ArticleRankComputation<ArticleRankConfig> articleRankComputation(Graph graph, ArticleRankConfig configuration) {
         var degreeFunction = DegreeFunctions.pageRankDegreeFunction(
             graph,
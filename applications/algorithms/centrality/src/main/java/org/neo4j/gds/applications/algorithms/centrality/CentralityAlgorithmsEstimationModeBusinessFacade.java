@@ -39,6 +39,8 @@ import org.neo4j.gds.influenceMaximization.CELFMemoryEstimateDefinition;
 import org.neo4j.gds.influenceMaximization.InfluenceMaximizationBaseConfig;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.pagerank.PageRankMemoryEstimateDefinition;
+import org.neo4j.gds.pagerank.PersonalizedPageRankBatchMemoryEstimateDefinition;
+import org.neo4j.gds.pagerank.PersonalizedPageRankBatchStreamConfig;
 import org.neo4j.gds.pagerank.RankConfig;
 
 public class CentralityAlgorithmsEstimationModeBusinessFacade {
@@ -70,6 +72,14 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
         return new BetweennessCentralityMemoryEstimateDefinition(configuration.hasRelationshipWeightProperty()).memoryEstimation();
     }
 
+    public MemoryEstimation betweennessCentrality(BetweennessCentralityBaseConfig configuration) {
+        return new BetweennessCentralityMemoryEstimateDefinition(
+            configuration.hasRelationshipWeightProperty(),
+            configuration.samplingErrorBound().isPresent(),
+            configuration.multiSourceTraversal()
+        ).memoryEstimation();
+    }
+
     public MemoryEstimateResult betweennessCentrality(
         BetweennessCentralityBaseConfig configuration,
         Object graphNameOrConfiguration
@@ -151,6 +161,26 @@ public class CentralityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
+    public MemoryEstimation personalizedPageRankBatch(PersonalizedPageRankBatchStreamConfig configuration) {
+        return new PersonalizedPageRankBatchMemoryEstimateDefinition(
+            configuration.sourceNodeSets().size(),
+            configuration.topK()
+        ).memoryEstimation();
+    }
+
+    public MemoryEstimateResult personalizedPageRankBatch(
+        PersonalizedPageRankBatchStreamConfig configuration,
+        Object graphNameOrConfiguration
+    ) {
+        var memoryEstimation = personalizedPageRankBatch(configuration);
+
+        return algorithmEstimationTemplate.estimate(
+            configuration,
+            graphNameOrConfiguration,
+            memoryEstimation
+        );
+    }
+
     MemoryEstimation indirectExposure() {
         return new IndirectExposureMemoryEstimationDefinition().memoryEstimation();
     }
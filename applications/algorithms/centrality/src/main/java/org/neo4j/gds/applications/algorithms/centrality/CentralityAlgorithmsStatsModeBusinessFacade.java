@@ -27,6 +27,7 @@ import org.neo4j.gds.applications.algorithms.machinery.StatsResultBuilder;
 import org.neo4j.gds.articulationpoints.ArticulationPointsStatsConfig;
 import org.neo4j.gds.beta.pregel.PregelResult;
 import org.neo4j.gds.betweenness.BetweennessCentralityStatsConfig;
+import org.neo4j.gds.betweenness.BetwennessCentralityResult;
 import org.neo4j.gds.closeness.ClosenessCentralityStatsConfig;
 import org.neo4j.gds.degree.DegreeCentralityStatsConfig;
 import org.neo4j.gds.harmonic.HarmonicCentralityStatsConfig;
@@ -104,7 +105,7 @@ public class CentralityAlgorithmsStatsModeBusinessFacade {
     public <RESULT> RESULT betweennessCentrality(
         GraphName graphName,
         BetweennessCentralityStatsConfig configuration,
-        StatsResultBuilder<CentralityAlgorithmResult, RESULT> resultBuilder
+        StatsResultBuilder<BetwennessCentralityResult, RESULT> resultBuilder
     ) {
         return algorithmProcessingTemplateConvenience.processRegularAlgorithmInStatsMode(
             graphName,
@@ -40,6 +40,8 @@ import org.neo4j.gds.pagerank.ArticleRankStreamConfig;
 import org.neo4j.gds.pagerank.EigenvectorStreamConfig;
 import org.neo4j.gds.pagerank.PageRankResult;
 import org.neo4j.gds.pagerank.PageRankStreamConfig;
+import org.neo4j.gds.pagerank.PersonalizedPageRankBatchResult;
+import org.neo4j.gds.pagerank.PersonalizedPageRankBatchStreamConfig;
 
 import java.util.List;
 import java.util.Optional;
@@ -56,6 +58,7 @@ import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.Eig
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.HITS;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.HarmonicCentrality;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.PageRank;
+import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.PersonalizedPageRankBatch;
 
 public class CentralityAlgorithmsStreamModeBusinessFacade {
     private final CentralityAlgorithmsEstimationModeBusinessFacade estimationFacade;
@@ -225,6 +228,21 @@ public class CentralityAlgorithmsStreamModeBusinessFacade {
         );
     }
 
+    public <RESULT> Stream<RESULT> personalizedPageRankBatch(
+        GraphName graphName,
+        PersonalizedPageRankBatchStreamConfig configuration,
+        StreamResultBuilder<PersonalizedPageRankBatchResult, RESULT> streamResultBuilder
+    ) {
+        return algorithmProcessingTemplateConvenience.processRegularAlgorithmInStreamMode(
+            graphName,
+            configuration,
+            PersonalizedPageRankBatch,
+            () -> estimationFacade.personalizedPageRankBatch(configuration),
+            (graph, __) -> centralityAlgorithms.personalizedPageRankBatch(graph, configuration),
+            streamResultBuilder
+        );
+    }
+
     public <RESULT> Stream<RESULT> hits(
         GraphName graphName,
         HitsConfig configuration,
@@ -19,8 +19,10 @@
  */
 package org.neo4j.gds.applications.algorithms.community;
 
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.algorithms.community.CommunityCompanion;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
@@ -30,6 +32,9 @@ import org.neo4j.gds.approxmaxkcut.ApproxMaxKCutResult;
 import org.neo4j.gds.approxmaxkcut.config.ApproxMaxKCutBaseConfig;
 import org.neo4j.gds.beta.pregel.PregelResult;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.communityquality.CommunityQuality;
+import org.neo4j.gds.communityquality.CommunityQualityBaseConfig;
+import org.neo4j.gds.communityquality.CommunityQualityResult;
 import org.neo4j.gds.conductance.Conductance;
 import org.neo4j.gds.conductance.ConductanceBaseConfig;
 import org.neo4j.gds.conductance.ConductanceConfigTransformer;
@@ -68,7 +73,9 @@ import org.neo4j.gds.modularityoptimization.ModularityOptimization;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationBaseConfig;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationProgressTrackerTaskCreator;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationResult;
+import org.neo4j.gds.scc.ParallelScc;
 import org.neo4j.gds.scc.Scc;
+import org.neo4j.gds.scc.SccCommonBaseConfig;
 import org.neo4j.gds.sllpa.SpeakerListenerLPA;
 import org.neo4j.gds.sllpa.SpeakerListenerLPAConfig;
 import org.neo4j.gds.sllpa.SpeakerListenerLPAProgressTrackerCreator;
@@ -82,12 +89,20 @@ import org.neo4j.gds.triangle.TriangleCountBaseConfig;
 import org.neo4j.gds.triangle.TriangleCountResult;
 import org.neo4j.gds.triangle.TriangleResult;
 import org.neo4j.gds.triangle.TriangleStream;
+import org.neo4j.gds.triangle.WedgeSampling;
+import org.neo4j.gds.triangle.WedgeSamplingResult;
+import org.neo4j.gds.wcc.MaintainedWcc;
+import org.neo4j.gds.wcc.MaintainedWccs;
 import org.neo4j.gds.wcc.WccBaseConfig;
 import org.neo4j.gds.wcc.WccStub;
+import org.neo4j.gds.wcc.WccUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class CommunityAlgorithms {
@@ -128,6 +143,32 @@ public class CommunityAlgorithms {
         );
     }
 
+    CommunityQualityResult communityQuality(Graph graph, CommunityQualityBaseConfig configuration) {
+        var communityProperties = configuration.communityProperties();
+        var task = Tasks.task(
+            AlgorithmLabel.CommunityQuality.asString(),
+            Tasks.leaf("map communities", graph.nodeCount() * communityProperties.size()),
+            Tasks.leaf("aggregate relationship weights", graph.nodeCount()),
+            Tasks.leaf("compute scores", communityProperties.size())
+        );
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = new CommunityQuality(
+            graph,
+            communityProperties,
+            configuration.concurrency(),
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+            algorithm,
+            progressTracker,
+            true,
+            configuration.concurrency()
+        );
+    }
+
     ConductanceResult conductance(Graph graph, ConductanceBaseConfig configuration) {
         var task = Tasks.task(
             AlgorithmLabel.Conductance.asString(),
@@ -215,15 +256,20 @@ public class CommunityAlgorithms {
     }
 
     LabelPropagationResult labelPropagation(Graph graph, LabelPropagationBaseConfig configuration) {
-        var task = Tasks.task(
-            AlgorithmLabel.LabelPropagation.asString(),
-            Tasks.leaf("Initialization", graph.relationshipCount()),
-            Tasks.iterativeDynamic(
-                "Assign labels",
-                () -> List.of(Tasks.leaf("Iteration", graph.relationshipCount())),
-                configuration.maxIterations()
-            )
-        );
+        var tasks = new ArrayList<Task>();
+        tasks.add(Tasks.leaf("Initialization", graph.relationshipCount()));
+        if (configuration.semiSynchronous()) {
+            tasks.add(K1ColoringProgressTrackerTaskCreator.progressTask(
+                graph.nodeCount(),
+                LabelPropagation.COLORING_MAX_ITERATIONS
+            ));
+        }
+        tasks.add(Tasks.iterativeDynamic(
+            "Assign labels",
+            () -> List.of(Tasks.leaf("Iteration", graph.relationshipCount())),
+            configuration.maxIterations()
+        ));
+        var task = Tasks.task(AlgorithmLabel.LabelPropagation.asString(), tasks);
         var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
 
         var algorithm = new LabelPropagation(
@@ -271,6 +317,25 @@ public class CommunityAlgorithms {
     }
 
     public LeidenResult leiden(Graph graph, LeidenBaseConfig configuration) {
+        return leiden(graph, configuration, Optional.empty());
+    }
+
+    /**
+     * With `changedRelationshipType`, the seed communities are treated as the result of a previous run,
+     * and the first iteration only revisits the communities touched by relationships of that type.
+     */
+    LeidenResult leiden(Graph graph, GraphStore graphStore, LeidenBaseConfig configuration) {
+        var changedRelationships = configuration.changedRelationshipType()
+            .map(type -> graphStore.getGraph(
+                configuration.nodeLabelIdentifiers(graphStore),
+                List.of(RelationshipType.of(type)),
+                Optional.empty()
+            ));
+
+        return leiden(graph, configuration, changedRelationships);
+    }
+
+    private LeidenResult leiden(Graph graph, LeidenBaseConfig configuration, Optional<Graph> changedRelationships) {
         if (!graph.schema().isUndirected()) {
             throw new IllegalArgumentException(
                 "The Leiden algorithm works only with undirected graphs. Please orient the edges properly");
@@ -292,6 +357,7 @@ public class CommunityAlgorithms {
             parameters.includeIntermediateCommunities(),
             parameters.randomSeed().orElse(0L),
             seedValues,
+            changedRelationships.orElse(null),
             parameters.tolerance(),
             parameters.concurrency(),
             progressTracker,
@@ -382,12 +448,29 @@ public class CommunityAlgorithms {
         );
     }
 
-    HugeLongArray scc(Graph graph, AlgoBaseConfig configuration) {
+    HugeLongArray scc(Graph graph, SccCommonBaseConfig configuration) {
         var progressTracker = progressTrackerCreator.createProgressTracker(
             configuration,
             Tasks.leaf(AlgorithmLabel.SCC.asString(), graph.nodeCount())
         );
 
+        if (configuration.parallel()) {
+            var algorithm = new ParallelScc(
+                graph,
+                configuration.concurrency(),
+                DefaultPool.INSTANCE,
+                progressTracker,
+                terminationFlag
+            );
+
+            return algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+                algorithm,
+                progressTracker,
+                true,
+                configuration.concurrency()
+            );
+        }
+
         return scc(graph, configuration, progressTracker);
     }
 
@@ -412,6 +495,39 @@ public class CommunityAlgorithms {
             graph,
             parameters.concurrency(),
             parameters.maxDegree(),
+            parameters.samplingRatio(),
+            parameters.randomSeed().orElse(0L),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+            algorithm,
+            progressTracker,
+            true,
+            configuration.concurrency()
+        );
+    }
+
+    /**
+     * Only estimates global values, with confidence intervals, from a sample of wedges.
+     */
+    WedgeSamplingResult wedgeSampling(
+        Graph graph,
+        AlgoBaseConfig configuration,
+        AlgorithmLabel label,
+        long sampleSize,
+        Optional<Long> randomSeed
+    ) {
+        var task = Tasks.leaf(label.asString(), sampleSize);
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = new WedgeSampling(
+            graph,
+            configuration.concurrency(),
+            sampleSize,
+            randomSeed.orElse(0L),
             DefaultPool.INSTANCE,
             progressTracker,
             terminationFlag
@@ -450,6 +566,75 @@ public class CommunityAlgorithms {
         return wccStub.wcc(graph, configuration.toParameters(), progressTracker, true);
     }
 
+    /**
+     * With `maintainComponents`, the components stay attached to the graph store.
+     * Later requests only link the relationships of types that have been added since,
+     * and fall back to a full run if any of the previously linked types changed or was removed.
+     */
+    DisjointSetStruct wcc(Graph graph, GraphStore graphStore, WccBaseConfig configuration) {
+        if (!configuration.maintainComponents()) {
+            return wcc(graph, configuration);
+        }
+
+        var relationshipCounts = configuration
+            .internalRelationshipTypes(graphStore)
+            .stream()
+            .collect(Collectors.toMap(Function.identity(), graphStore::relationshipCount));
+        var key = MaintainedWccs.Key.of(
+            configuration.nodeLabels(),
+            configuration.relationshipWeightProperty(),
+            configuration.threshold(),
+            graph.nodeCount()
+        );
+
+        var previous = MaintainedWccs.get(graphStore, key);
+        var updated = previous
+            .filter(maintained -> maintained.canBeExtendedTo(relationshipCounts))
+            .map(maintained -> extendMaintainedWcc(graphStore, configuration, maintained, relationshipCounts))
+            .orElseGet(() -> new MaintainedWcc(wcc(graph, configuration), Map.copyOf(relationshipCounts)));
+        MaintainedWccs.publish(graphStore, key, previous, updated);
+
+        return updated.components();
+    }
+
+    private MaintainedWcc extendMaintainedWcc(
+        GraphStore graphStore,
+        WccBaseConfig configuration,
+        MaintainedWcc maintained,
+        Map<RelationshipType, Long> relationshipCounts
+    ) {
+        var newRelationshipTypes = maintained.newRelationshipTypes(relationshipCounts);
+        if (newRelationshipTypes.isEmpty()) {
+            return maintained;
+        }
+
+        var newRelationships = graphStore.getGraph(
+            configuration.nodeLabelIdentifiers(graphStore),
+            newRelationshipTypes,
+            configuration.relationshipWeightProperty()
+        );
+        var task = WccUpdate.progressTask(AlgorithmLabel.WCC.asString(), newRelationships);
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = new WccUpdate(
+            newRelationships,
+            maintained.components(),
+            configuration.toParameters(),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        var components = algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+            algorithm,
+            progressTracker,
+            true,
+            configuration.concurrency()
+        );
+
+        return new MaintainedWcc(components, Map.copyOf(relationshipCounts));
+    }
+
     private Task constructKMeansProgressTask(IdMap idMap, KmeansBaseConfig configuration) {
         var label = AlgorithmLabel.KMeans.asString();
 
@@ -466,19 +651,17 @@ public class CommunityAlgorithms {
     }
 
     private Task kMeansTask(IdMap idMap, String description, KmeansBaseConfig configuration) {
+        var tasks = new ArrayList<Task>();
+        tasks.add(Tasks.leaf("Initialization", configuration.k()));
+        tasks.add(Tasks.iterativeDynamic("Main", () -> List.of(Tasks.leaf("Iteration")), configuration.maxIterations()));
+        if (configuration.batchSize() > 0) {
+            // mini-batch iterations are followed by one assignment of all nodes
+            tasks.add(Tasks.leaf("Final assignment", idMap.nodeCount()));
+        }
         if (configuration.computeSilhouette()) {
-            return Tasks.task(description, List.of(
-                Tasks.leaf("Initialization", configuration.k()),
-                Tasks.iterativeDynamic("Main", () -> List.of(Tasks.leaf("Iteration")), configuration.maxIterations()),
-                Tasks.leaf("Silhouette", idMap.nodeCount())
-
-            ));
-        } else {
-            return Tasks.task(description, List.of(
-                Tasks.leaf("Initialization", configuration.k()),
-                Tasks.iterativeDynamic("Main", () -> List.of(Tasks.leaf("Iteration")), configuration.maxIterations())
-            ));
+            tasks.add(Tasks.leaf("Silhouette", idMap.nodeCount()));
         }
+        return Tasks.task(description, tasks);
     }
 
     private static Task searchTask(long nodeCount, int vnsMaxNeighborhoodOrder) {
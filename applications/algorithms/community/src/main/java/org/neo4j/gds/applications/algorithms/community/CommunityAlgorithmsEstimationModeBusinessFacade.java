@@ -23,6 +23,8 @@ import org.neo4j.gds.applications.algorithms.machinery.AlgorithmEstimationTempla
 import org.neo4j.gds.applications.algorithms.machinery.MemoryEstimateResult;
 import org.neo4j.gds.approxmaxkcut.ApproxMaxKCutMemoryEstimateDefinition;
 import org.neo4j.gds.approxmaxkcut.config.ApproxMaxKCutBaseConfig;
+import org.neo4j.gds.communityquality.CommunityQualityBaseConfig;
+import org.neo4j.gds.communityquality.CommunityQualityMemoryEstimateDefinition;
 import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.gds.k1coloring.K1ColoringBaseConfig;
@@ -43,6 +45,7 @@ import org.neo4j.gds.modularity.ModularityCalculatorMemoryEstimateDefinition;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationBaseConfig;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationMemoryEstimateDefinition;
 import org.neo4j.gds.scc.SccBaseConfig;
+import org.neo4j.gds.scc.SccCommonBaseConfig;
 import org.neo4j.gds.scc.SccMemoryEstimateDefinition;
 import org.neo4j.gds.sllpa.SpeakerListenerLPAConfig;
 import org.neo4j.gds.sllpa.SpeakerListenerLPAMemoryEstimateDefinition;
@@ -77,6 +80,23 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
+    public MemoryEstimation communityQuality(CommunityQualityBaseConfig configuration) {
+        return new CommunityQualityMemoryEstimateDefinition(configuration.communityProperties().size()).memoryEstimation();
+    }
+
+    public MemoryEstimateResult communityQuality(
+        CommunityQualityBaseConfig configuration,
+        Object graphNameOrConfiguration
+    ) {
+        var memoryEstimation = communityQuality(configuration);
+
+        return algorithmEstimationTemplate.estimate(
+            configuration,
+            graphNameOrConfiguration,
+            memoryEstimation
+        );
+    }
+
     MemoryEstimation conductance() {
         throw new MemoryEstimationNotImplementedException();
     }
@@ -123,15 +143,15 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation labelPropagation() {
-        return new LabelPropagationMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation labelPropagation(LabelPropagationBaseConfig configuration) {
+        return new LabelPropagationMemoryEstimateDefinition(configuration.toParameters()).memoryEstimation();
     }
 
     public MemoryEstimateResult labelPropagation(
         LabelPropagationBaseConfig configuration,
         Object graphNameOrConfiguration
     ) {
-        var memoryEstimation = labelPropagation();
+        var memoryEstimation = labelPropagation(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -220,8 +240,12 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         return new SccMemoryEstimateDefinition().memoryEstimation();
     }
 
+    public MemoryEstimation scc(SccCommonBaseConfig configuration) {
+        return new SccMemoryEstimateDefinition(configuration.parallel()).memoryEstimation();
+    }
+
     public MemoryEstimateResult scc(SccBaseConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = scc();
+        var memoryEstimation = scc(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -262,12 +286,15 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public  MemoryEstimation speakerListenerLPA() {
-        return new SpeakerListenerLPAMemoryEstimateDefinition().memoryEstimation();
+    public  MemoryEstimation speakerListenerLPA(SpeakerListenerLPAConfig configuration) {
+        return new SpeakerListenerLPAMemoryEstimateDefinition(
+            configuration.maxIterations(),
+            configuration.labelMemoryCapacity()
+        ).memoryEstimation();
     }
 
     public MemoryEstimateResult speakerListenerLPA(SpeakerListenerLPAConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = speakerListenerLPA();
+        var memoryEstimation = speakerListenerLPA(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
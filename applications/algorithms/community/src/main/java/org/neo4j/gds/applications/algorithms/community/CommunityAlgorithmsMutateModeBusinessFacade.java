@@ -205,7 +205,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             configuration,
             Leiden,
             () -> estimation.leiden(configuration),
-            (graph, __) -> algorithms.leiden(graph, configuration),
+            (graph, graphStore) -> algorithms.leiden(graph, graphStore, configuration),
             mutateStep,
             resultBuilder
         );
@@ -258,7 +258,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimation::scc,
+            () -> estimation.scc(configuration),
             (graph, __) -> algorithms.scc(graph, configuration),
             mutateStep,
             resultBuilder
@@ -295,7 +295,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             configuration,
             WCC,
             () -> estimation.wcc(configuration),
-            (graph, __) -> algorithms.wcc(graph, configuration),
+            (graph, graphStore) -> algorithms.wcc(graph, graphStore, configuration),
             mutateStep,
             resultBuilder
         );
@@ -312,7 +312,7 @@ public class CommunityAlgorithmsMutateModeBusinessFacade {
             graphName,
             configuration,
             SLLPA,
-            estimation::speakerListenerLPA,
+            () -> estimation.speakerListenerLPA(configuration),
             (graph, __) -> algorithms.speakerListenerLPA(graph, configuration),
             mutateStep,
             resultBuilder
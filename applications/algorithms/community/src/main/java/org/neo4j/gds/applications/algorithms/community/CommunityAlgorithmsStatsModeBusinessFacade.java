@@ -148,7 +148,11 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             configuration,
             LCC,
             () -> estimationFacade.lcc(configuration),
-            (graph, __) -> communityAlgorithms.lcc(graph, configuration),
+            (graph, __) -> configuration.wedgeSampleSize()
+                .map(sampleSize -> communityAlgorithms
+                    .wedgeSampling(graph, configuration, LCC, sampleSize, configuration.randomSeed())
+                    .toLocalClusteringCoefficientResult())
+                .orElseGet(() -> communityAlgorithms.lcc(graph, configuration)),
             resultBuilder
         );
     }
@@ -163,7 +167,7 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             configuration,
             Leiden,
             () -> estimationFacade.leiden(configuration),
-            (graph, __) -> communityAlgorithms.leiden(graph, configuration),
+            (graph, graphStore) -> communityAlgorithms.leiden(graph, graphStore, configuration),
             resultBuilder
         );
     }
@@ -222,7 +226,7 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration),
             (graph, __) -> communityAlgorithms.scc(graph, configuration),
             resultBuilder
         );
@@ -238,7 +242,11 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             configuration,
             TriangleCount,
             estimationFacade::triangleCount,
-            (graph, __) -> communityAlgorithms.triangleCount(graph, configuration),
+            (graph, __) -> configuration.wedgeSampleSize()
+                .map(sampleSize -> communityAlgorithms
+                    .wedgeSampling(graph, configuration, TriangleCount, sampleSize, configuration.randomSeed())
+                    .toTriangleCountResult())
+                .orElseGet(() -> communityAlgorithms.triangleCount(graph, configuration)),
             resultBuilder
         );
     }
@@ -253,7 +261,7 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             configuration,
             WCC,
             () -> estimationFacade.wcc(configuration),
-            (graph, __) -> communityAlgorithms.wcc(graph, configuration),
+            (graph, graphStore) -> communityAlgorithms.wcc(graph, graphStore, configuration),
             resultBuilder
         );
     }
@@ -267,7 +275,7 @@ public class CommunityAlgorithmsStatsModeBusinessFacade {
             graphName,
             configuration,
             SLLPA,
-            estimationFacade::speakerListenerLPA,
+            () -> estimationFacade.speakerListenerLPA(configuration),
             (graph, __) -> communityAlgorithms.speakerListenerLPA(graph, configuration),
             resultBuilder
         );
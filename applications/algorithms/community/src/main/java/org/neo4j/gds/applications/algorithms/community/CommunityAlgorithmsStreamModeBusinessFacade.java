@@ -26,6 +26,8 @@ import org.neo4j.gds.approxmaxkcut.ApproxMaxKCutResult;
 import org.neo4j.gds.approxmaxkcut.config.ApproxMaxKCutStreamConfig;
 import org.neo4j.gds.beta.pregel.PregelResult;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.communityquality.CommunityQualityResult;
+import org.neo4j.gds.communityquality.CommunityQualityStreamConfig;
 import org.neo4j.gds.conductance.ConductanceResult;
 import org.neo4j.gds.conductance.ConductanceStreamConfig;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
@@ -58,6 +60,7 @@ import org.neo4j.gds.wcc.WccStreamConfig;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.ApproximateMaximumKCut;
+import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.CommunityQuality;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.Conductance;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.K1Coloring;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.KCore;
@@ -104,6 +107,21 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
         );
     }
 
+    public <RESULT> Stream<RESULT> communityQuality(
+        GraphName graphName,
+        CommunityQualityStreamConfig configuration,
+        StreamResultBuilder<CommunityQualityResult, RESULT> streamResultBuilder
+    ) {
+        return algorithmProcessingTemplateConvenience.processRegularAlgorithmInStreamMode(
+            graphName,
+            configuration,
+            CommunityQuality,
+            () -> estimationFacade.communityQuality(configuration),
+            (graph, __) -> algorithms.communityQuality(graph, configuration),
+            streamResultBuilder
+        );
+    }
+
     public <RESULT> Stream<RESULT> conductance(
         GraphName graphName,
         ConductanceStreamConfig configuration,
@@ -204,7 +222,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             configuration,
             Leiden,
             () -> estimationFacade.leiden(configuration),
-            (graph, __) -> algorithms.leiden(graph, configuration),
+            (graph, graphStore) -> algorithms.leiden(graph, graphStore, configuration),
             streamResultBuilder
         );
     }
@@ -263,7 +281,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration),
             (graph, __) -> algorithms.scc(graph, configuration),
             streamResultBuilder
         );
@@ -309,7 +327,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             configuration,
             WCC,
             () -> estimationFacade.wcc(configuration),
-            (graph, __) -> algorithms.wcc(graph, configuration),
+            (graph, graphStore) -> algorithms.wcc(graph, graphStore, configuration),
             streamResultBuilder
         );
     }
@@ -323,7 +341,7 @@ public class CommunityAlgorithmsStreamModeBusinessFacade {
             graphName,
             configuration,
             SLLPA,
-            estimationFacade::speakerListenerLPA,
+            () -> estimationFacade.speakerListenerLPA(configuration),
             (graph, __) -> algorithms.speakerListenerLPA(graph, configuration),
             streamResultBuilder
         );
@@ -206,7 +206,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             configuration,
             Leiden,
             () -> estimationFacade.leiden(configuration),
-            (graph, __) -> algorithms.leiden(graph, configuration),
+            (graph, graphStore) -> algorithms.leiden(graph, graphStore, configuration),
             writeStep,
             resultBuilder
         );
@@ -259,7 +259,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration),
             (graph, __) -> algorithms.scc(graph, configuration),
             writeStep,
             resultBuilder
@@ -277,7 +277,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             SCC,
-            estimationFacade::scc,
+            () -> estimationFacade.scc(configuration),
             (graph, __) -> algorithms.scc(graph, configuration),
             writeStep,
             resultBuilder
@@ -314,7 +314,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             configuration,
             WCC,
             () -> estimationFacade.wcc(configuration),
-            (graph, __) -> algorithms.wcc(graph, configuration),
+            (graph, graphStore) -> algorithms.wcc(graph, graphStore, configuration),
             writeStep,
             resultBuilder
         );
@@ -331,7 +331,7 @@ public final class CommunityAlgorithmsWriteModeBusinessFacade {
             graphName,
             configuration,
             SLLPA,
-            estimationFacade::speakerListenerLPA,
+            () -> estimationFacade.speakerListenerLPA(configuration),
             (graph, __) -> algorithms.speakerListenerLPA(graph, configuration),
             writeStep,
             resultBuilder
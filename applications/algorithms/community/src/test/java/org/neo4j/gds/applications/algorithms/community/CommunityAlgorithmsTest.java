@@ -873,6 +873,77 @@ final class CommunityAlgorithmsTest {
 
     }
 
+    @GdlExtension
+    @Nested
+    class WccMaintainedComponents {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:Node)" +
+            ", (b:Node)" +
+            ", (c:Node)" +
+            ", (d:Node)" +
+            ", (e:Node)" +
+            ", (a)-[:OLD]->(b)" +
+            ", (c)-[:OLD]->(d)" +
+            ", (b)-[:NEW]->(c)";
+
+        @Inject
+        private GraphStore graphStore;
+
+        @Inject
+        private TestGraph graph;
+
+        @Test
+        void shouldOnlyLinkNewRelationshipTypes() {
+            var algorithms = new CommunityAlgorithms(
+                progressTrackerCreator(1, new GdsTestLog()),
+                TerminationFlag.RUNNING_TRUE
+            );
+            var oldConfig = WccStreamConfigImpl.builder()
+                .relationshipTypes(List.of("OLD"))
+                .maintainComponents(true)
+                .build();
+            var allConfig = WccStreamConfigImpl.builder()
+                .relationshipTypes(List.of("OLD", "NEW"))
+                .maintainComponents(true)
+                .build();
+
+            var oldComponents = algorithms.wcc(
+                graphStore.getGraph(RelationshipType.listOf("OLD"), Optional.empty()),
+                graphStore,
+                oldConfig
+            );
+            assertThat(oldComponents.setIdOf(graph.toMappedNodeId("a")))
+                .isNotEqualTo(oldComponents.setIdOf(graph.toMappedNodeId("c")));
+
+            var allComponents = algorithms.wcc(
+                graphStore.getGraph(RelationshipType.listOf("OLD", "NEW"), Optional.empty()),
+                graphStore,
+                allConfig
+            );
+            // the maintained components have been extended instead of recomputed
+            assertThat(allComponents).isSameAs(oldComponents);
+            assertThat(allComponents.setIdOf(graph.toMappedNodeId("a")))
+                .isEqualTo(allComponents.setIdOf(graph.toMappedNodeId("b")))
+                .isEqualTo(allComponents.setIdOf(graph.toMappedNodeId("c")))
+                .isEqualTo(allComponents.setIdOf(graph.toMappedNodeId("d")))
+                .isNotEqualTo(allComponents.setIdOf(graph.toMappedNodeId("e")));
+
+            graphStore.deleteRelationships(RelationshipType.of("NEW"));
+
+            var afterDeletion = algorithms.wcc(
+                graphStore.getGraph(RelationshipType.listOf("OLD"), Optional.empty()),
+                graphStore,
+                oldConfig
+            );
+            assertThat(afterDeletion).isNotSameAs(allComponents);
+            assertThat(afterDeletion.setIdOf(graph.toMappedNodeId("a")))
+                .isNotEqualTo(afterDeletion.setIdOf(graph.toMappedNodeId("c")));
+        }
+    }
+
     @Nested
     @GdlExtension
     class SpeakerListenerLPA {
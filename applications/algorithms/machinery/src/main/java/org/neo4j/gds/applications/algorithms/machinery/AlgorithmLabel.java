@@ -35,6 +35,7 @@ public enum AlgorithmLabel implements Label {
     CELF("CELF"),
     ClosenessCentrality("Closeness Centrality"),
     CollapsePath("CollapsePath"),
+    CommunityQuality("Community Quality"),
     Conductance("Conductance"),
     DegreeCentrality("DegreeCentrality"),
     DeltaStepping("Delta Stepping"),
@@ -49,6 +50,7 @@ public enum AlgorithmLabel implements Label {
     HarmonicCentrality("HarmonicCentrality"),
     HashGNN("HashGNN"),
     HITS("HITS"),
+    HNSW("HNSW"),
 
     IndexInverse("IndexInverse"),
     IndirectExposure("IndirectExposure"),
@@ -69,6 +71,7 @@ public enum AlgorithmLabel implements Label {
     Node2Vec("Node2Vec"),
     PageRank("PageRank"),
     PCST("PrizeCollectingSteinerTree"),
+    PersonalizedPageRankBatch("Personalized PageRank Batch"),
     RandomWalk("RandomWalk"),
     ScaleProperties("ScaleProperties"),
     SCC("SCC"),
@@ -106,6 +109,7 @@ public enum AlgorithmLabel implements Label {
             case CELF -> CELF;
             case ClosenessCentrality -> ClosenessCentrality;
             case CollapsePath -> CollapsePath;
+            case CommunityQuality -> CommunityQuality;
             case Conductance -> Conductance;
             case DegreeCentrality -> DegreeCentrality;
             case DeltaStepping -> DeltaStepping;
@@ -120,6 +124,7 @@ public enum AlgorithmLabel implements Label {
             case HITS -> HITS;
             case HarmonicCentrality -> HarmonicCentrality;
             case HashGNN -> HashGNN;
+            case HNSW -> HNSW;
             case IndexInverse -> IndexInverse;
             case K1Coloring -> K1Coloring;
             case KCore -> KCore;
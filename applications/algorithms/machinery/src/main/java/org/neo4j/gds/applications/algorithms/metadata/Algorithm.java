@@ -40,6 +40,7 @@ public enum Algorithm {
     CELF,
     ClosenessCentrality,
     CollapsePath,
+    CommunityQuality,
     Conductance,
     DegreeCentrality,
     DeltaStepping,
@@ -54,6 +55,7 @@ public enum Algorithm {
     HITS,
     HarmonicCentrality,
     HashGNN,
+    HNSW,
     IndexInverse,
     K1Coloring,
     KCore,
@@ -19,12 +19,14 @@
  */
 package org.neo4j.gds.applications.algorithms.pathfinding;
 
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.allshortestpaths.AllShortestPathsConfig;
 import org.neo4j.gds.allshortestpaths.AllShortestPathsStreamResult;
 import org.neo4j.gds.allshortestpaths.MSBFSASPAlgorithm;
 import org.neo4j.gds.allshortestpaths.MSBFSAllShortestPaths;
 import org.neo4j.gds.allshortestpaths.WeightedAllShortestPaths;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmMachinery;
 import org.neo4j.gds.applications.algorithms.machinery.ProgressTrackerCreator;
@@ -50,8 +52,14 @@ import org.neo4j.gds.paths.astar.config.ShortestPathAStarBaseConfig;
 import org.neo4j.gds.paths.bellmanford.AllShortestPathsBellmanFordBaseConfig;
 import org.neo4j.gds.paths.bellmanford.BellmanFord;
 import org.neo4j.gds.paths.bellmanford.BellmanFordResult;
+import org.neo4j.gds.paths.contractionhierarchy.ContractionHierarchies;
+import org.neo4j.gds.paths.contractionhierarchy.ContractionHierarchy;
+import org.neo4j.gds.paths.contractionhierarchy.ContractionHierarchyConstruction;
+import org.neo4j.gds.paths.contractionhierarchy.ContractionHierarchyShortestPath;
 import org.neo4j.gds.paths.delta.DeltaStepping;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaBaseConfig;
+import org.neo4j.gds.paths.dijkstra.BidirectionalBFS;
+import org.neo4j.gds.paths.dijkstra.BidirectionalDijkstra;
 import org.neo4j.gds.paths.dijkstra.Dijkstra;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
 import org.neo4j.gds.paths.dijkstra.config.DijkstraBaseConfig;
@@ -354,12 +362,25 @@ public class PathFindingAlgorithms {
      * And they also get to do result rendering, using details of user request and GraphStore state.
      * Down here though it is just the algorithm.
      */
-    PathFindingResult singlePairShortestPathDijkstra(Graph graph, DijkstraSourceTargetsBaseConfig configuration) {
+    PathFindingResult singlePairShortestPathDijkstra(
+        Graph graph,
+        GraphStore graphStore,
+        DijkstraSourceTargetsBaseConfig configuration
+    ) {
+        if (configuration.useContractionHierarchy()) {
+            return singlePairShortestPathContractionHierarchy(graph, graphStore, configuration);
+        }
+
         var progressTracker = createProgressTracker(
             configuration,
             Tasks.leaf(AlgorithmLabel.Dijkstra.asString(), graph.relationshipCount())
         );
 
+        var targets = configuration.targetsList();
+        if (configuration.bidirectional() && targets.size() == 1 && BidirectionalDijkstra.canSearchBackwards(graph)) {
+            return singlePairShortestPathBidirectional(graph, configuration, targets.get(0), progressTracker);
+        }
+
         var algorithm = Dijkstra.sourceTarget(
             graph,
             configuration.sourceNode(),
@@ -378,6 +399,108 @@ public class PathFindingAlgorithms {
         );
     }
 
+    /**
+     * Without relationship weights, the cheaper breadth-first variant is used.
+     * Graphs without an inverse index fall back to the unidirectional search before getting here.
+     */
+    private PathFindingResult singlePairShortestPathBidirectional(
+        Graph graph,
+        DijkstraSourceTargetsBaseConfig configuration,
+        long targetNode,
+        ProgressTracker progressTracker
+    ) {
+        Algorithm<PathFindingResult> algorithm = graph.hasRelationshipProperty()
+            ? BidirectionalDijkstra.sourceTarget(
+                graph,
+                configuration.sourceNode(),
+                targetNode,
+                progressTracker,
+                requestScopedDependencies.terminationFlag()
+            )
+            : BidirectionalBFS.sourceTarget(
+                graph,
+                configuration.sourceNode(),
+                targetNode,
+                progressTracker,
+                requestScopedDependencies.terminationFlag()
+            );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+            algorithm,
+            progressTracker,
+            false,
+            configuration.concurrency()
+        );
+    }
+
+    /**
+     * The hierarchy is built on the first request for a view of the graph store and reused by all later ones.
+     * Building it is a step of its own, with its own progress task, that precedes answering the query.
+     */
+    private PathFindingResult singlePairShortestPathContractionHierarchy(
+        Graph graph,
+        GraphStore graphStore,
+        DijkstraSourceTargetsBaseConfig configuration
+    ) {
+        var key = ContractionHierarchies.Key.of(
+            configuration.nodeLabels(),
+            configuration.relationshipTypes(),
+            configuration.relationshipWeightProperty(),
+            graph.nodeCount(),
+            graph.relationshipCount()
+        );
+
+        var hierarchy = ContractionHierarchies
+            .get(graphStore, key)
+            .orElseGet(() -> ContractionHierarchies.putIfAbsent(
+                graphStore,
+                key,
+                contractionHierarchy(graph, configuration)
+            ));
+
+        var progressTracker = createProgressTracker(
+            configuration,
+            Tasks.leaf(AlgorithmLabel.Dijkstra.asString(), configuration.targetsList().size())
+        );
+
+        var algorithm = ContractionHierarchyShortestPath.sourceTarget(
+            graph,
+            configuration.sourceNode(),
+            configuration.targetsList(),
+            hierarchy,
+            progressTracker,
+            requestScopedDependencies.terminationFlag()
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+            algorithm,
+            progressTracker,
+            false,
+            configuration.concurrency()
+        );
+    }
+
+    private ContractionHierarchy contractionHierarchy(Graph graph, DijkstraSourceTargetsBaseConfig configuration) {
+        var progressTracker = createProgressTracker(
+            configuration,
+            ContractionHierarchyConstruction.progressTask(graph)
+        );
+
+        var algorithm = new ContractionHierarchyConstruction(
+            graph,
+            configuration.concurrency(),
+            progressTracker,
+            requestScopedDependencies.terminationFlag()
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+            algorithm,
+            progressTracker,
+            true,
+            configuration.concurrency()
+        );
+    }
+
     public PathFindingResult singlePairShortestPathYens(Graph graph, ShortestPathYensBaseConfig configuration) {
         var initialTask = Tasks.leaf(AlgorithmLabel.Dijkstra.asString(), graph.relationshipCount());
         var pathGrowingTask = Tasks.leaf("Path growing", configuration.k() - 1);
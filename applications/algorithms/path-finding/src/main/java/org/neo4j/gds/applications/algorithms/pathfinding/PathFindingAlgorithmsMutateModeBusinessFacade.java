@@ -201,7 +201,7 @@ public class PathFindingAlgorithmsMutateModeBusinessFacade {
             configuration,
             Dijkstra,
             () -> estimationFacade.singlePairShortestPathDijkstra(configuration),
-            (graph, __) -> pathFindingAlgorithms.singlePairShortestPathDijkstra(graph, configuration),
+            (graph, graphStore) -> pathFindingAlgorithms.singlePairShortestPathDijkstra(graph, graphStore, configuration),
             mutateStep,
             resultBuilder
         );
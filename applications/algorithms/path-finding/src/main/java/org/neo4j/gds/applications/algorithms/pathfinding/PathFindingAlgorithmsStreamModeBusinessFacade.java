@@ -230,7 +230,7 @@ public class PathFindingAlgorithmsStreamModeBusinessFacade {
             configuration,
             Dijkstra,
             () -> estimation.singlePairShortestPathDijkstra(configuration),
-            (graph, __) -> algorithms.singlePairShortestPathDijkstra(graph, configuration),
+            (graph, graphStore) -> algorithms.singlePairShortestPathDijkstra(graph, graphStore, configuration),
             resultBuilder
         );
     }
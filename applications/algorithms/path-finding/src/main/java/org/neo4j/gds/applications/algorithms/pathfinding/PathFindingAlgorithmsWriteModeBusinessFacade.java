@@ -175,7 +175,7 @@ public class PathFindingAlgorithmsWriteModeBusinessFacade {
             configuration,
             Dijkstra,
             () -> estimationFacade.singlePairShortestPathDijkstra(configuration),
-            (graph, __) -> pathFindingAlgorithms.singlePairShortestPathDijkstra(graph, configuration),
+            (graph, graphStore) -> pathFindingAlgorithms.singlePairShortestPathDijkstra(graph, graphStore, configuration),
             resultBuilder
         );
     }
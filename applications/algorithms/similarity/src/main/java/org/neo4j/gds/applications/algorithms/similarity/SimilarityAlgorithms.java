@@ -20,6 +20,8 @@
 package org.neo4j.gds.applications.algorithms.similarity;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.wcc.WccStub;
@@ -35,6 +37,12 @@ import org.neo4j.gds.similarity.filteredknn.FilteredKnnBaseConfig;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnResult;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityBaseConfig;
 import org.neo4j.gds.similarity.filtering.NodeFilter;
+import org.neo4j.gds.similarity.hnsw.Hnsw;
+import org.neo4j.gds.similarity.hnsw.HnswBuildConfig;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+import org.neo4j.gds.similarity.hnsw.HnswIndexes;
+import org.neo4j.gds.similarity.hnsw.HnswProgressTaskCreator;
+import org.neo4j.gds.similarity.hnsw.HnswStreamConfig;
 import org.neo4j.gds.similarity.knn.ImmutableKnnContext;
 import org.neo4j.gds.similarity.knn.Knn;
 import org.neo4j.gds.similarity.knn.KnnBaseConfig;
@@ -51,6 +59,7 @@ import java.util.List;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.FilteredKNN;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.FilteredNodeSimilarity;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.KNN;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class SimilarityAlgorithms {
     private final AlgorithmMachinery algorithmMachinery = new AlgorithmMachinery();
@@ -150,6 +159,58 @@ public class SimilarityAlgorithms {
         );
     }
 
+    HnswIndex hnsw(Graph graph, HnswBuildConfig configuration) {
+        var task = HnswProgressTaskCreator.progressTask(graph.nodeCount());
+        var progressTracker = progressTrackerCreator.createProgressTracker(configuration, task);
+
+        var algorithm = new Hnsw(
+            graph,
+            configuration.toParameters(),
+            DefaultPool.INSTANCE,
+            progressTracker,
+            terminationFlag
+        );
+
+        return algorithmMachinery.runAlgorithmsAndManageProgressTracker(
+            algorithm,
+            progressTracker,
+            true,
+            configuration.concurrency()
+        );
+    }
+
+    /**
+     * Queries a previously built index. The neighbours carry original node ids,
+     * as the index may have been built over a different node filter than the one of this query.
+     */
+    List<HnswIndex.Neighbor> hnswQuery(GraphStore graphStore, HnswStreamConfig configuration) {
+        var index = HnswIndexes.get(graphStore, configuration.indexName());
+
+        List<HnswIndex.Neighbor> neighbors;
+        if (configuration.sourceNode().isPresent()) {
+            long sourceNode = configuration.sourceNode().get();
+            long mappedSourceNode = index.toMappedNodeId(sourceNode);
+            if (mappedSourceNode == IdMap.NOT_FOUND) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Source node with id %d is not part of the index `%s`.",
+                    sourceNode,
+                    configuration.indexName()
+                ));
+            }
+            neighbors = index.search(mappedSourceNode, configuration.topK(), configuration.ef());
+        } else {
+            neighbors = index.search(configuration.queryVectorAsArray(), configuration.topK(), configuration.ef());
+        }
+
+        return neighbors
+            .stream()
+            .map(neighbor -> new HnswIndex.Neighbor(
+                index.toOriginalNodeId(neighbor.nodeId()),
+                neighbor.similarity()
+            ))
+            .toList();
+    }
+
     KnnResult knn(Graph graph, KnnBaseConfig configuration) {
         var parameters = configuration.toParameters().finalize(graph.nodeCount());
 
@@ -26,6 +26,10 @@ import org.neo4j.gds.similarity.filteredknn.FilteredKnnBaseConfig;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnMemoryEstimateDefinition;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityBaseConfig;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityMemoryEstimateDefinition;
+import org.neo4j.gds.similarity.hnsw.HnswBuildConfig;
+import org.neo4j.gds.similarity.hnsw.HnswMemoryEstimateDefinition;
+import org.neo4j.gds.similarity.hnsw.HnswQueryMemoryEstimateDefinition;
+import org.neo4j.gds.similarity.hnsw.HnswStreamConfig;
 import org.neo4j.gds.similarity.knn.KnnBaseConfig;
 import org.neo4j.gds.similarity.knn.KnnMemoryEstimateDefinition;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarityBaseConfig;
@@ -69,6 +73,24 @@ public class SimilarityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
+    public MemoryEstimation hnsw(HnswBuildConfig configuration) {
+        return new HnswMemoryEstimateDefinition(configuration.m(), configuration.efConstruction()).memoryEstimation();
+    }
+
+    public MemoryEstimateResult hnsw(HnswBuildConfig configuration, Object graphNameOrConfiguration) {
+        var memoryEstimation = hnsw(configuration);
+
+        return algorithmEstimationTemplate.estimate(
+            configuration,
+            graphNameOrConfiguration,
+            memoryEstimation
+        );
+    }
+
+    public MemoryEstimation hnswQuery(HnswStreamConfig configuration) {
+        return new HnswQueryMemoryEstimateDefinition(configuration.topK(), configuration.ef()).memoryEstimation();
+    }
+
     public MemoryEstimation knn(KnnBaseConfig knnMutateConfig) {
         return new KnnMemoryEstimateDefinition(knnMutateConfig.toMemoryEstimationParameters()).memoryEstimation();
     }
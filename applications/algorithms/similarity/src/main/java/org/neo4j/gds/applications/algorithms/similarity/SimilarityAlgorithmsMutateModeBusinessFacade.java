@@ -28,6 +28,8 @@ import org.neo4j.gds.logging.Log;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnMutateConfig;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnResult;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityMutateConfig;
+import org.neo4j.gds.similarity.hnsw.HnswBuildConfig;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
 import org.neo4j.gds.similarity.knn.KnnMutateConfig;
 import org.neo4j.gds.similarity.knn.KnnResult;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarityMutateConfig;
@@ -37,6 +39,7 @@ import java.util.Map;
 
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.FilteredKNN;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.FilteredNodeSimilarity;
+import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.HNSW;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.KNN;
 import static org.neo4j.gds.applications.algorithms.machinery.AlgorithmLabel.NodeSimilarity;
 
@@ -99,6 +102,24 @@ public class SimilarityAlgorithmsMutateModeBusinessFacade {
         );
     }
 
+    public <RESULT> RESULT hnsw(
+        GraphName graphName,
+        HnswBuildConfig configuration,
+        ResultBuilder<HnswBuildConfig, HnswIndex, RESULT, Void> resultBuilder
+    ) {
+        var mutateStep = new HnswMutateStep(configuration.indexName());
+
+        return algorithmProcessingTemplateConvenience.processRegularAlgorithmInMutateMode(
+            graphName,
+            configuration,
+            HNSW,
+            () -> estimationFacade.hnsw(configuration),
+            (graph, __) -> similarityAlgorithms.hnsw(graph, configuration),
+            mutateStep,
+            resultBuilder
+        );
+    }
+
     public <RESULT> RESULT knn(
         GraphName graphName,
         KnnMutateConfig configuration,
@@ -37,7 +37,13 @@ public enum GdsFeatureToggles {
     // Makes sure end users algorithms don't fail due to errors in log tracking,
     // but keeps the option to find these failures when running tests.
     FAIL_ON_PROGRESS_TRACKER_ERRORS(false),
-    ENABLE_ADJACENCY_COMPRESSION_MEMORY_TRACKING(false);
+    ENABLE_ADJACENCY_COMPRESSION_MEMORY_TRACKING(false),
+    // Similarity kernels in Intersections use multiple independent accumulators for long vectors.
+    // Disabling falls back to the plain scalar loops.
+    USE_UNROLLED_SIMILARITY_KERNELS(true),
+    // Node Similarity with topK scores only pairs with shared neighbors, found through an inverted index,
+    // if that is estimated to be cheaper than comparing all pairs.
+    USE_SPARSE_NODE_SIMILARITY(true);
 
     public boolean isEnabled() {
         return current.get();
@@ -36,12 +36,15 @@ import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StringJoining;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,6 +57,12 @@ public final class GraphStoreCatalog {
     private static final Collection<GraphStoreAddedEventListener> graphStoreAddedEventListeners = new HashSet<>();
     private static final Collection<GraphStoreRemovedEventListener> graphStoreRemovedEventListeners = new HashSet<>();
 
+    // auxiliary indices are attached to the graph store rather than the catalog entry,
+    // so that algorithms can reach them without knowing under which name the graph was projected;
+    // graph stores that never made it into the catalog are released by the garbage collector
+    private static final Map<GraphStore, Map<String, Object>> graphIndicesByGraphStore =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
     // as we want to use the Neo4j log if possible and the catalog is a static instance,
     // we make the log injectable
     private static Optional<Log> log = Optional.empty();
@@ -266,6 +275,51 @@ public final class GraphStoreCatalog {
         );
     }
 
+    /**
+     * Attaches an auxiliary index, e.g. a nearest neighbor or shortest path index, to a graph store.
+     * The index lives as long as the graph store is in the catalog and is dropped together with it.
+     */
+    public static void setGraphIndex(GraphStore graphStore, String indexName, Object index) {
+        if (indexName == null || index == null) {
+            throw new IllegalArgumentException("Both index name and index must be not null");
+        }
+        graphIndices(graphStore).put(indexName, index);
+    }
+
+    public static <T> Optional<T> getGraphIndex(GraphStore graphStore, String indexName, Class<T> indexType) {
+        return Optional
+            .ofNullable(graphIndicesByGraphStore.get(graphStore))
+            .map(indices -> indices.get(indexName))
+            .filter(indexType::isInstance)
+            .map(indexType::cast);
+    }
+
+    /**
+     * Returns the index of the given name, attaching a new one on first access.
+     * Concurrent first accesses wait for the creation, so the supplier should be cheap.
+     */
+    public static <T> T getOrCreateGraphIndex(
+        GraphStore graphStore,
+        String indexName,
+        Class<T> indexType,
+        Supplier<T> indexSupplier
+    ) {
+        var index = graphIndices(graphStore).computeIfAbsent(indexName, __ -> indexSupplier.get());
+        if (!indexType.isInstance(index)) {
+            throw new IllegalStateException(formatWithLocale(
+                "The index `%s` is of type %s, expected %s",
+                indexName,
+                index.getClass().getSimpleName(),
+                indexType.getSimpleName()
+            ));
+        }
+        return indexType.cast(index);
+    }
+
+    private static Map<String, Object> graphIndices(GraphStore graphStore) {
+        return graphIndicesByGraphStore.computeIfAbsent(graphStore, __ -> new ConcurrentHashMap<>());
+    }
+
     public static void removeAllLoadedGraphs() {
         userCatalogs.forEach((username, userCatalog) -> {
             userCatalog.graphsByName.forEach(((userCatalogKey, graphStoreCatalogEntry) -> {
@@ -413,6 +467,7 @@ public final class GraphStoreCatalog {
                     var removed = graphsByName.remove(userCatalogKey);
                     var config = removed.config();
                     var graphStore = removed.graphStore();
+                    graphIndicesByGraphStore.remove(graphStore);
 
                     graphStoreRemovedEventListeners.forEach(
                         listener -> ExceptionUtil.safeRunWithLogException(
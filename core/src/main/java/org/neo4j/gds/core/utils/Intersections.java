@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.utils;
 
 import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 public final class Intersections {
 
@@ -104,7 +105,18 @@ public final class Intersections {
         return intersection;
     }
 
+    // Vectors shorter than this are computed with plain loops, where unrolling does not pay off.
+    // This also keeps the results for small vectors bit-identical between both kernel variants.
+    private static final int MIN_UNROLLED_LENGTH = 32;
+
+    private static boolean useUnrolledKernel(int len) {
+        return len >= MIN_UNROLLED_LENGTH && GdsFeatureToggles.USE_UNROLLED_SIMILARITY_KERNELS.isEnabled();
+    }
+
     public static double sumSquareDelta(double[] vector1, double[] vector2, int len) {
+        if (useUnrolledKernel(len)) {
+            return sumSquareDeltaUnrolled(vector1, vector2, len);
+        }
         double result = 0;
         for (int i = 0; i < len; i++) {
             double delta = vector1[i] - vector2[i];
@@ -114,6 +126,9 @@ public final class Intersections {
     }
 
     public static float sumSquareDelta(float[] vector1, float[] vector2, int len) {
+        if (useUnrolledKernel(len)) {
+            return sumSquareDeltaUnrolled(vector1, vector2, len);
+        }
         float result = 0;
         for (int i = 0; i < len; i++) {
             float delta = vector1[i] - vector2[i];
@@ -122,19 +137,53 @@ public final class Intersections {
         return result;
     }
 
-    public static double[] sumSquareDeltas(double[] vector1, double[][] vector2, int len) {
-        int vectors = vector2.length;
-        double[] result = new double[vectors];
+    /**
+     * Like {@link #sumSquareDelta(float[], float[], int)}, but accumulates in double precision.
+     */
+    public static double sumSquareDeltaAsDouble(float[] vector1, float[] vector2, int len) {
+        if (useUnrolledKernel(len)) {
+            return sumSquareDeltaAsDoubleUnrolled(vector1, vector2, len);
+        }
+        double result = 0;
         for (int i = 0; i < len; i++) {
-            double v1 = vector1[i];
-            for (int j = 0; j < vectors; j++) {
-                result[j] += (v1 - vector2[j][i]) * (v1 - vector2[j][i]);
-            }
+            double delta = vector1[i] - vector2[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the sum of squared deltas between {@code vector1} and each of the {@code vectors}.
+     */
+    public static double[] sumSquareDeltas(double[] vector1, double[][] vectors, int len) {
+        double[] result = new double[vectors.length];
+        for (int j = 0; j < vectors.length; j++) {
+            result[j] = sumSquareDelta(vector1, vectors[j], len);
+        }
+        return result;
+    }
+
+    public static float[] sumSquareDeltas(float[] vector1, float[][] vectors, int len) {
+        float[] result = new float[vectors.length];
+        for (int j = 0; j < vectors.length; j++) {
+            result[j] = sumSquareDelta(vector1, vectors[j], len);
         }
         return result;
     }
 
     public static double pearson(double[] vector1, double[] vector2, int len) {
+        double result = pearsonCorrelation(vector1, vector2, len);
+        return Double.isNaN(result) ? 0 : result;
+    }
+
+    /**
+     * Pearson's correlation coefficient; unlike {@link #pearson(double[], double[], int)} this returns {@code NaN}
+     * if one of the vectors has no variance.
+     */
+    public static double pearsonCorrelation(double[] vector1, double[] vector2, int len) {
+        if (useUnrolledKernel(len)) {
+            return pearsonCorrelationUnrolled(vector1, vector2, len);
+        }
         double vector1Sum = 0.0;
         double vector2Sum = 0.0;
         for (int i = 0; i < len; i++) {
@@ -157,11 +206,45 @@ public final class Intersections {
             yLength += vector2Delta * vector2Delta;
         }
 
-        double result = dotProductMinusMean / Math.sqrt(xLength * yLength);
-        return Double.isNaN(result) ? 0 : result;
+        return dotProductMinusMean / Math.sqrt(xLength * yLength);
+    }
+
+    /**
+     * Pearson's correlation coefficient of float vectors, computed in double precision.
+     */
+    public static double pearsonCorrelation(float[] vector1, float[] vector2, int len) {
+        if (useUnrolledKernel(len)) {
+            return pearsonCorrelationUnrolled(vector1, vector2, len);
+        }
+        double vector1Sum = 0.0;
+        double vector2Sum = 0.0;
+        for (int i = 0; i < len; i++) {
+            vector1Sum += vector1[i];
+            vector2Sum += vector2[i];
+        }
+
+        double vector1Mean = vector1Sum / len;
+        double vector2Mean = vector2Sum / len;
+
+        double dotProductMinusMean = 0D;
+        double xLength = 0D;
+        double yLength = 0D;
+        for (int i = 0; i < len; i++) {
+            double vector1Delta = vector1[i] - vector1Mean;
+            double vector2Delta = vector2[i] - vector2Mean;
+
+            dotProductMinusMean += (vector1Delta * vector2Delta);
+            xLength += vector1Delta * vector1Delta;
+            yLength += vector2Delta * vector2Delta;
+        }
+
+        return dotProductMinusMean / Math.sqrt(xLength * yLength);
     }
 
     public static double cosine(double[] vector1, double[] vector2, int len) {
+        if (useUnrolledKernel(len)) {
+            return cosineUnrolled(vector1, vector2, len);
+        }
         double dotProduct = 0D;
         double xLength = 0D;
         double yLength = 0D;
@@ -180,6 +263,9 @@ public final class Intersections {
     }
 
     public static float cosine(float[] vector1, float[] vector2, int len) {
+        if (useUnrolledKernel(len)) {
+            return cosineUnrolled(vector1, vector2, len);
+        }
         float dotProduct = 0F;
         float xLength = 0F;
         float yLength = 0F;
@@ -197,5 +283,276 @@ public final class Intersections {
         return (float) (dotProduct / Math.sqrt(xLength * yLength));
     }
 
+    /**
+     * Computes the cosine between {@code vector1} and each of the {@code vectors}.
+     * The squared length of {@code vector1} is computed only once.
+     */
+    public static double[] cosines(double[] vector1, double[][] vectors, int len) {
+        double xLength = dot(vector1, vector1, len);
+        double[] result = new double[vectors.length];
+        for (int j = 0; j < vectors.length; j++) {
+            var vector2 = vectors[j];
+            result[j] = dot(vector1, vector2, len) / Math.sqrt(xLength * dot(vector2, vector2, len));
+        }
+        return result;
+    }
+
+    public static float[] cosines(float[] vector1, float[][] vectors, int len) {
+        float xLength = dot(vector1, vector1, len);
+        float[] result = new float[vectors.length];
+        for (int j = 0; j < vectors.length; j++) {
+            var vector2 = vectors[j];
+            result[j] = (float) (dot(vector1, vector2, len) / Math.sqrt(xLength * dot(vector2, vector2, len)));
+        }
+        return result;
+    }
+
+    private static double dot(double[] vector1, double[] vector2, int len) {
+        int i = 0;
+        double result = 0D;
+        if (useUnrolledKernel(len)) {
+            double result1 = 0D, result2 = 0D, result3 = 0D;
+            for (int bound = len & ~3; i < bound; i += 4) {
+                result += vector1[i] * vector2[i];
+                result1 += vector1[i + 1] * vector2[i + 1];
+                result2 += vector1[i + 2] * vector2[i + 2];
+                result3 += vector1[i + 3] * vector2[i + 3];
+            }
+            result = (result + result1) + (result2 + result3);
+        }
+        for (; i < len; i++) {
+            result += vector1[i] * vector2[i];
+        }
+        return result;
+    }
+
+    private static float dot(float[] vector1, float[] vector2, int len) {
+        int i = 0;
+        float result = 0F;
+        if (useUnrolledKernel(len)) {
+            float result1 = 0F, result2 = 0F, result3 = 0F;
+            for (int bound = len & ~3; i < bound; i += 4) {
+                result += vector1[i] * vector2[i];
+                result1 += vector1[i + 1] * vector2[i + 1];
+                result2 += vector1[i + 2] * vector2[i + 2];
+                result3 += vector1[i + 3] * vector2[i + 3];
+            }
+            result = (result + result1) + (result2 + result3);
+        }
+        for (; i < len; i++) {
+            result += vector1[i] * vector2[i];
+        }
+        return result;
+    }
+
+    // The unrolled kernels keep independent accumulators per sum, four for the distance and cosine kernels
+    // and two for the Pearson kernels, which already keep three sums in the second pass.
+    // This breaks the dependency chain of a single accumulator, so that consecutive
+    // additions can be pipelined and the JIT is free to emit packed instructions for the multiplications.
+
+    private static double sumSquareDeltaUnrolled(double[] vector1, double[] vector2, int len) {
+        double result0 = 0D, result1 = 0D, result2 = 0D, result3 = 0D;
+        int i = 0;
+        for (int bound = len & ~3; i < bound; i += 4) {
+            double delta0 = vector1[i] - vector2[i];
+            double delta1 = vector1[i + 1] - vector2[i + 1];
+            double delta2 = vector1[i + 2] - vector2[i + 2];
+            double delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        for (; i < len; i++) {
+            double delta = vector1[i] - vector2[i];
+            result0 += delta * delta;
+        }
+        return (result0 + result1) + (result2 + result3);
+    }
+
+    private static float sumSquareDeltaUnrolled(float[] vector1, float[] vector2, int len) {
+        float result0 = 0F, result1 = 0F, result2 = 0F, result3 = 0F;
+        int i = 0;
+        for (int bound = len & ~3; i < bound; i += 4) {
+            float delta0 = vector1[i] - vector2[i];
+            float delta1 = vector1[i + 1] - vector2[i + 1];
+            float delta2 = vector1[i + 2] - vector2[i + 2];
+            float delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        for (; i < len; i++) {
+            float delta = vector1[i] - vector2[i];
+            result0 += delta * delta;
+        }
+        return (result0 + result1) + (result2 + result3);
+    }
+
+    private static double sumSquareDeltaAsDoubleUnrolled(float[] vector1, float[] vector2, int len) {
+        double result0 = 0D, result1 = 0D, result2 = 0D, result3 = 0D;
+        int i = 0;
+        for (int bound = len & ~3; i < bound; i += 4) {
+            double delta0 = vector1[i] - vector2[i];
+            double delta1 = vector1[i + 1] - vector2[i + 1];
+            double delta2 = vector1[i + 2] - vector2[i + 2];
+            double delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        for (; i < len; i++) {
+            double delta = vector1[i] - vector2[i];
+            result0 += delta * delta;
+        }
+        return (result0 + result1) + (result2 + result3);
+    }
+
+    private static double cosineUnrolled(double[] vector1, double[] vector2, int len) {
+        double dot0 = 0D, dot1 = 0D, dot2 = 0D, dot3 = 0D;
+        double x0 = 0D, x1 = 0D, x2 = 0D, x3 = 0D;
+        double y0 = 0D, y1 = 0D, y2 = 0D, y3 = 0D;
+        int i = 0;
+        for (int bound = len & ~3; i < bound; i += 4) {
+            double a0 = vector1[i], a1 = vector1[i + 1], a2 = vector1[i + 2], a3 = vector1[i + 3];
+            double b0 = vector2[i], b1 = vector2[i + 1], b2 = vector2[i + 2], b3 = vector2[i + 3];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            dot2 += a2 * b2;
+            dot3 += a3 * b3;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            x2 += a2 * a2;
+            x3 += a3 * a3;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+            y2 += b2 * b2;
+            y3 += b3 * b3;
+        }
+        for (; i < len; i++) {
+            double a = vector1[i];
+            double b = vector2[i];
+            dot0 += a * b;
+            x0 += a * a;
+            y0 += b * b;
+        }
+        double dotProduct = (dot0 + dot1) + (dot2 + dot3);
+        double xLength = (x0 + x1) + (x2 + x3);
+        double yLength = (y0 + y1) + (y2 + y3);
+        return dotProduct / Math.sqrt(xLength * yLength);
+    }
+
+    private static float cosineUnrolled(float[] vector1, float[] vector2, int len) {
+        float dot0 = 0F, dot1 = 0F, dot2 = 0F, dot3 = 0F;
+        float x0 = 0F, x1 = 0F, x2 = 0F, x3 = 0F;
+        float y0 = 0F, y1 = 0F, y2 = 0F, y3 = 0F;
+        int i = 0;
+        for (int bound = len & ~3; i < bound; i += 4) {
+            float a0 = vector1[i], a1 = vector1[i + 1], a2 = vector1[i + 2], a3 = vector1[i + 3];
+            float b0 = vector2[i], b1 = vector2[i + 1], b2 = vector2[i + 2], b3 = vector2[i + 3];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            dot2 += a2 * b2;
+            dot3 += a3 * b3;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            x2 += a2 * a2;
+            x3 += a3 * a3;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+            y2 += b2 * b2;
+            y3 += b3 * b3;
+        }
+        for (; i < len; i++) {
+            float a = vector1[i];
+            float b = vector2[i];
+            dot0 += a * b;
+            x0 += a * a;
+            y0 += b * b;
+        }
+        float dotProduct = (dot0 + dot1) + (dot2 + dot3);
+        float xLength = (x0 + x1) + (x2 + x3);
+        float yLength = (y0 + y1) + (y2 + y3);
+        return (float) (dotProduct / Math.sqrt(xLength * yLength));
+    }
+
+    private static double pearsonCorrelationUnrolled(double[] vector1, double[] vector2, int len) {
+        double sumA0 = 0D, sumA1 = 0D, sumB0 = 0D, sumB1 = 0D;
+        int i = 0;
+        for (int bound = len & ~1; i < bound; i += 2) {
+            sumA0 += vector1[i];
+            sumA1 += vector1[i + 1];
+            sumB0 += vector2[i];
+            sumB1 += vector2[i + 1];
+        }
+        for (; i < len; i++) {
+            sumA0 += vector1[i];
+            sumB0 += vector2[i];
+        }
+        double meanA = (sumA0 + sumA1) / len;
+        double meanB = (sumB0 + sumB1) / len;
+
+        double dot0 = 0D, dot1 = 0D, x0 = 0D, x1 = 0D, y0 = 0D, y1 = 0D;
+        i = 0;
+        for (int bound = len & ~1; i < bound; i += 2) {
+            double a0 = vector1[i] - meanA, a1 = vector1[i + 1] - meanA;
+            double b0 = vector2[i] - meanB, b1 = vector2[i + 1] - meanB;
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+        }
+        for (; i < len; i++) {
+            double a = vector1[i] - meanA;
+            double b = vector2[i] - meanB;
+            dot0 += a * b;
+            x0 += a * a;
+            y0 += b * b;
+        }
+        return (dot0 + dot1) / Math.sqrt((x0 + x1) * (y0 + y1));
+    }
+
+    private static double pearsonCorrelationUnrolled(float[] vector1, float[] vector2, int len) {
+        double sumA0 = 0D, sumA1 = 0D, sumB0 = 0D, sumB1 = 0D;
+        int i = 0;
+        for (int bound = len & ~1; i < bound; i += 2) {
+            sumA0 += vector1[i];
+            sumA1 += vector1[i + 1];
+            sumB0 += vector2[i];
+            sumB1 += vector2[i + 1];
+        }
+        for (; i < len; i++) {
+            sumA0 += vector1[i];
+            sumB0 += vector2[i];
+        }
+        double meanA = (sumA0 + sumA1) / len;
+        double meanB = (sumB0 + sumB1) / len;
+
+        double dot0 = 0D, dot1 = 0D, x0 = 0D, x1 = 0D, y0 = 0D, y1 = 0D;
+        i = 0;
+        for (int bound = len & ~1; i < bound; i += 2) {
+            double a0 = vector1[i] - meanA, a1 = vector1[i + 1] - meanA;
+            double b0 = vector2[i] - meanB, b1 = vector2[i + 1] - meanB;
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            x0 += a0 * a0;
+            x1 += a1 * a1;
+            y0 += b0 * b0;
+            y1 += b1 * b1;
+        }
+        for (; i < len; i++) {
+            double a = vector1[i] - meanA;
+            double b = vector2[i] - meanB;
+            dot0 += a * b;
+            x0 += a * a;
+            y0 += b * b;
+        }
+        return (dot0 + dot1) / Math.sqrt((x0 + x1) * (y0 + y1));
+    }
+
     private Intersections() {}
 }
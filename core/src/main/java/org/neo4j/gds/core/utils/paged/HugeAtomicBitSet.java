@@ -192,6 +192,24 @@ public final class HugeAtomicBitSet {
         }
     }
 
+    /**
+     * Returns the index of the first set bit at or after the given index, or -1 if there is none.
+     */
+    public long nextSetBit(long index) {
+        if (index >= numBits) {
+            return -1;
+        }
+        long wordIndex = index / NUM_BITS;
+        long word = bits.get(wordIndex) & (-1L << (index % NUM_BITS));
+        while (word == 0) {
+            if (++wordIndex == bits.size()) {
+                return -1;
+            }
+            word = bits.get(wordIndex);
+        }
+        return wordIndex * NUM_BITS + Long.numberOfTrailingZeros(word);
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged.dss;
+
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+/**
+ * A concurrent DSS that links by minimum id and compresses paths by halving,
+ * using the interleaved union of Rem's algorithm [1, 2].
+ * <p>
+ * Like {@link HugeAtomicDisjointSetStruct}, every parent id is at most the id of its child,
+ * so the set id of a set is always its smallest member. The difference is in {@link #union(long, long)}:
+ * instead of finding both roots first and restarting both finds when the linking CAS fails,
+ * both paths are walked in lockstep, always advancing the one with the larger parent.
+ * The walk stops as soon as both nodes share a parent, which often happens well below the roots,
+ * and a failed CAS only repeats the current step. Every step halves the path it advances on.
+ * <p>
+ * Seeding is not supported, use {@link HugeAtomicDisjointSetStruct} for incremental computations.
+ *
+ * <ul>
+ * <li>[1]: Md. Mostofa Ali Patwary, Jean Blair, and Fredrik Manne. "Experiments on Union-Find Algorithms
+ * for the Disjoint-Set Data Structure", SEA 2010.</li>
+ * <li>[2]: Laxman Dhulipala, Changwan Hong, and Julian Shun. "ConnectIt: A Framework for Static and
+ * Incremental Parallel Graph Connectivity Algorithms", VLDB 2021.</li>
+ * </ul>
+ */
+public final class HugeAtomicPathHalvingDisjointSetStruct implements DisjointSetStruct {
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations
+            .builder(HugeAtomicPathHalvingDisjointSetStruct.class)
+            .perNode("data", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    private final HugeAtomicLongArray parent;
+
+    public HugeAtomicPathHalvingDisjointSetStruct(long capacity, Concurrency concurrency) {
+        this.parent = HugeAtomicLongArray.of(capacity, ParalleLongPageCreator.identity(concurrency));
+    }
+
+    private long parent(long id) {
+        return parent.get(id);
+    }
+
+    private long find(long id) {
+        long parent;
+        while (id != (parent = parent(id))) {
+            long grandParent = parent(parent);
+            if (parent != grandParent) {
+                // A failed CAS means another thread moved `id` closer to the root already.
+                this.parent.compareAndSet(id, parent, grandParent);
+            }
+            id = grandParent;
+        }
+        return id;
+    }
+
+    @Override
+    public long setIdOf(long nodeId) {
+        return find(nodeId);
+    }
+
+    @Override
+    public boolean sameSet(long id1, long id2) {
+        while (true) {
+            id1 = find(id1);
+            id2 = find(id2);
+            if (id1 == id2) {
+                return true;
+            }
+            if (parent(id1) == id1) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public void union(long id1, long id2) {
+        long parent1 = parent(id1);
+        long parent2 = parent(id2);
+
+        while (parent1 != parent2) {
+            // Always advance on the path with the larger parent, so both walks meet at the lower root.
+            if (parent1 < parent2) {
+                long tmp = id1;
+                id1 = id2;
+                id2 = tmp;
+                tmp = parent1;
+                parent1 = parent2;
+                parent2 = tmp;
+            }
+
+            if (id1 == parent1) {
+                // id1 is a root with a larger id than some ancestor of id2
+                if (parent.compareAndSet(id1, id1, parent2)) {
+                    return;
+                }
+            } else {
+                long grandParent = parent(parent1);
+                if (parent1 != grandParent) {
+                    parent.compareAndSet(id1, parent1, grandParent);
+                }
+                id1 = grandParent;
+            }
+
+            parent1 = parent(id1);
+            parent2 = parent(id2);
+        }
+    }
+
+    @Override
+    public long size() {
+        return parent.size();
+    }
+}
@@ -207,10 +207,13 @@ public abstract class HugeLongPriorityQueue implements PrimitiveLongIterable {
 
     /**
      * Removes all entries from the queue.
+     * Only the entries currently in the queue are touched, the cost is linear in {@code size()}.
      */
     public void clear() {
+        for (long position = 1; position <= size; position++) {
+            mapIndexTo.set(heap.get(position), 0L);
+        }
         size = 0;
-        mapIndexTo.fill(0L);
     }
 
      long findElementPosition(long element) {
@@ -367,6 +367,39 @@ class GraphStoreCatalogTest {
         assertEquals(2, GraphStoreCatalog.graphStoreCount());
     }
 
+    @Test
+    void graphIndices() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var index = new Object();
+
+        assertThat(GraphStoreCatalog.getGraphIndex(graphStore, "idx", Object.class)).isEmpty();
+
+        GraphStoreCatalog.setGraphIndex(graphStore, "idx", index);
+        assertThat(GraphStoreCatalog.getGraphIndex(graphStore, "idx", Object.class)).containsSame(index);
+        assertThat(GraphStoreCatalog.getGraphIndex(graphStore, "idx", String.class)).isEmpty();
+
+        GraphStoreCatalog.remove(
+            CatalogRequest.of(USER_NAME, DATABASE_ID),
+            GRAPH_NAME,
+            graphStoreWithConfig -> {},
+            true
+        );
+        assertThat(GraphStoreCatalog.getGraphIndex(graphStore, "idx", Object.class)).isEmpty();
+    }
+
+    @Test
+    void getOrCreateGraphIndex() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+
+        var index = GraphStoreCatalog.getOrCreateGraphIndex(graphStore, "idx", StringBuilder.class, StringBuilder::new);
+        assertThat(GraphStoreCatalog.getOrCreateGraphIndex(graphStore, "idx", StringBuilder.class, StringBuilder::new))
+            .isSameAs(index);
+
+        assertThatThrownBy(() -> GraphStoreCatalog.getOrCreateGraphIndex(graphStore, "idx", String.class, () -> ""))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("The index `idx` is of type StringBuilder, expected String");
+    }
+
     @Test
     void removeAllLoadedGraphs() {
         GraphStoreCatalog.set(CONFIG, graphStore);
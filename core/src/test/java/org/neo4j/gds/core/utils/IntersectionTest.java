@@ -22,9 +22,15 @@ package org.neo4j.gds.core.utils;
 import com.carrotsearch.hppc.LongHashSet;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
+import java.util.Random;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class IntersectionTest {
@@ -76,4 +82,77 @@ class IntersectionTest {
             assertEquals(row[2][0], Intersections.intersection4(row[0],row[1]), Arrays.toString(row));
         }
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 32, 33, 130})
+    void unrolledKernelsMatchScalarKernels(int len) {
+        var random = new Random(42L);
+        var doubles1 = random.doubles(len, -1, 1).toArray();
+        var doubles2 = random.doubles(len, -1, 1).toArray();
+        var floats1 = toFloats(doubles1);
+        var floats2 = toFloats(doubles2);
+
+        var unrolled = kernelResults(doubles1, doubles2, floats1, floats2, len);
+        var scalar = new double[unrolled.length];
+        GdsFeatureToggles.USE_UNROLLED_SIMILARITY_KERNELS.disableAndRun(
+            () -> System.arraycopy(kernelResults(doubles1, doubles2, floats1, floats2, len), 0, scalar, 0, scalar.length)
+        );
+
+        assertThat(unrolled).containsExactly(scalar, offset(1e-4));
+    }
+
+    @Test
+    void batchedKernelsMatchSingleKernels() {
+        var random = new Random(1337L);
+        int len = 64;
+        var query = random.doubles(len, -1, 1).toArray();
+        var vectors = new double[5][];
+        var floatVectors = new float[5][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = random.doubles(len, -1, 1).toArray();
+            floatVectors[i] = toFloats(vectors[i]);
+        }
+        var floatQuery = toFloats(query);
+
+        var cosines = Intersections.cosines(query, vectors, len);
+        var floatCosines = Intersections.cosines(floatQuery, floatVectors, len);
+        var deltas = Intersections.sumSquareDeltas(query, vectors, len);
+        var floatDeltas = Intersections.sumSquareDeltas(floatQuery, floatVectors, len);
+        for (int i = 0; i < vectors.length; i++) {
+            assertThat(cosines[i]).isCloseTo(Intersections.cosine(query, vectors[i], len), offset(1e-9));
+            assertThat(floatCosines[i]).isCloseTo(Intersections.cosine(floatQuery, floatVectors[i], len), offset(1e-5F));
+            assertThat(deltas[i]).isEqualTo(Intersections.sumSquareDelta(query, vectors[i], len));
+            assertThat(floatDeltas[i]).isEqualTo(Intersections.sumSquareDelta(floatQuery, floatVectors[i], len));
+        }
+    }
+
+    @Test
+    void pearsonWithoutVariance() {
+        var constant = new double[64];
+        Arrays.fill(constant, 1.0);
+        var other = new Random(0L).doubles(64).toArray();
+
+        assertThat(Intersections.pearsonCorrelation(constant, other, 64)).isNaN();
+        assertThat(Intersections.pearson(constant, other, 64)).isEqualTo(0.0);
+    }
+
+    private static double[] kernelResults(double[] doubles1, double[] doubles2, float[] floats1, float[] floats2, int len) {
+        return new double[]{
+            Intersections.cosine(doubles1, doubles2, len),
+            Intersections.cosine(floats1, floats2, len),
+            Intersections.sumSquareDelta(doubles1, doubles2, len),
+            Intersections.sumSquareDelta(floats1, floats2, len),
+            Intersections.sumSquareDeltaAsDouble(floats1, floats2, len),
+            Intersections.pearsonCorrelation(doubles1, doubles2, len),
+            Intersections.pearsonCorrelation(floats1, floats2, len),
+        };
+    }
+
+    private static float[] toFloats(double[] values) {
+        var result = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (float) values[i];
+        }
+        return result;
+    }
 }
@@ -187,6 +187,22 @@ class HugeAtomicBitSetTest {
         assertThat(atomicBitSet.isEmpty()).isTrue();
     }
 
+    @Test
+    void testNextSetBit() {
+        var atomicBitSet = HugeAtomicBitSet.create(200);
+        assertThat(atomicBitSet.nextSetBit(0)).isEqualTo(-1);
+        atomicBitSet.set(3);
+        atomicBitSet.set(64);
+        atomicBitSet.set(199);
+        assertThat(atomicBitSet.nextSetBit(0)).isEqualTo(3);
+        assertThat(atomicBitSet.nextSetBit(3)).isEqualTo(3);
+        assertThat(atomicBitSet.nextSetBit(4)).isEqualTo(64);
+        assertThat(atomicBitSet.nextSetBit(65)).isEqualTo(199);
+        assertThat(atomicBitSet.nextSetBit(200)).isEqualTo(-1);
+        atomicBitSet.clear(199);
+        assertThat(atomicBitSet.nextSetBit(65)).isEqualTo(-1);
+    }
+
     @Test
     void testAllSet() {
         var atomicBitSet = HugeAtomicBitSet.create(42);
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged.dss;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.concurrency.Concurrency;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HugeAtomicPathHalvingDisjointSetStructTest extends HugeAtomicDisjointSetStructTest {
+
+    @Override
+    DisjointSetStruct newSet(int capacity) {
+        return new HugeAtomicPathHalvingDisjointSetStruct(capacity, new Concurrency(4));
+    }
+
+    @Test
+    void shouldUseSmallestMemberAsSetIdUnderConcurrentUnions() {
+        int capacity = 10_000;
+        int unionsPerThread = 5_000;
+        var struct = newSet(capacity);
+
+        var futures = new ArrayList<CompletableFuture<Void>>();
+        var pairs = new long[4][unionsPerThread * 2];
+        for (int thread = 0; thread < pairs.length; thread++) {
+            var random = new SplittableRandom(thread);
+            for (int i = 0; i < pairs[thread].length; i++) {
+                pairs[thread][i] = random.nextLong(capacity);
+            }
+            var threadPairs = pairs[thread];
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < threadPairs.length; i += 2) {
+                    struct.union(threadPairs[i], threadPairs[i + 1]);
+                }
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        var expected = new long[capacity];
+        for (int i = 0; i < capacity; i++) {
+            expected[i] = i;
+        }
+        for (var threadPairs : pairs) {
+            for (int i = 0; i < threadPairs.length; i += 2) {
+                long root1 = find(expected, threadPairs[i]);
+                long root2 = find(expected, threadPairs[i + 1]);
+                expected[(int) Math.max(root1, root2)] = Math.min(root1, root2);
+            }
+        }
+
+        for (int i = 0; i < capacity; i++) {
+            assertThat(struct.setIdOf(i)).isEqualTo(find(expected, i));
+        }
+    }
+
+    private static long find(long[] parents, long id) {
+        while (parents[(int) id] != id) {
+            id = parents[(int) id];
+        }
+        return id;
+    }
+}
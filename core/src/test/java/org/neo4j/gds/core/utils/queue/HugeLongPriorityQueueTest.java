@@ -56,6 +56,28 @@ class HugeLongPriorityQueueTest {
         assertThat(queue.size()).isEqualTo(0L);
     }
 
+    @Test
+    void shouldBeReusableAfterClear() {
+        var queue = HugeLongPriorityQueue.min(10);
+        queue.add(3, 3.0);
+        queue.add(1, 1.0);
+        queue.add(7, 7.0);
+        assertThat(queue.pop()).isEqualTo(1L);
+
+        queue.clear();
+
+        for (long element = 0; element < 10; element++) {
+            assertThat(queue.containsElement(element)).isFalse();
+        }
+
+        queue.add(7, 0.5);
+        queue.add(3, 2.0);
+        assertThat(queue.size()).isEqualTo(2L);
+        assertThat(queue.pop()).isEqualTo(7L);
+        assertThat(queue.pop()).isEqualTo(3L);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
     @Test
     void testAdd() {
         var size = 50;
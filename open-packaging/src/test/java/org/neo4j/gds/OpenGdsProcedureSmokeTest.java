@@ -77,6 +77,11 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.collapsePath.mutate",
 
+        "gds.communityQuality.communities.stream",
+        "gds.communityQuality.communities.stream.estimate",
+        "gds.communityQuality.stream",
+        "gds.communityQuality.stream.estimate",
+
         "gds.conductance.stream",
 
         "gds.closeness.harmonic.mutate",
@@ -296,6 +301,10 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.k1coloring.write",
         "gds.k1coloring.write.estimate",
 
+        "gds.hnsw.build",
+        "gds.hnsw.build.estimate",
+        "gds.hnsw.stream",
+
         "gds.knn.mutate",
         "gds.knn.mutate.estimate",
         "gds.knn.stats",
@@ -457,6 +466,9 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.pageRank.write",
         "gds.pageRank.write.estimate",
 
+        "gds.personalizedPageRank.batch.stream",
+        "gds.personalizedPageRank.batch.stream.estimate",
+
         "gds.shortestPath.astar.mutate",
         "gds.shortestPath.astar.mutate.estimate",
         "gds.shortestPath.astar.stream",
@@ -593,7 +605,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 434;
+        int expectedCount = 443;
         assertEquals(
             expectedCount,
             returnedRows,
@@ -95,6 +95,7 @@ public class ConfigurationParsersForMutateMode {
             case CELF -> InfluenceMaximizationMutateConfig::of;
             case ClosenessCentrality -> ClosenessCentralityMutateConfig::of;
             case CollapsePath -> CollapsePathConfig::of;
+            case CommunityQuality -> null;
             case Conductance -> null;
             case DegreeCentrality -> DegreeCentralityMutateConfig::of;
             case DeltaStepping -> AllShortestPathsDeltaMutateConfig::of;
@@ -109,6 +110,7 @@ public class ConfigurationParsersForMutateMode {
             case HITS -> HitsConfig::of;
             case HarmonicCentrality -> HarmonicCentralityMutateConfig::of;
             case HashGNN -> HashGNNMutateConfig::of;
+            case HNSW -> null;
             case IndexInverse -> InverseRelationshipsConfig::of;
             case K1Coloring -> K1ColoringMutateConfig::of;
             case KCore -> KCoreDecompositionMutateConfig::of;
@@ -70,6 +70,7 @@ final class MutateModeAlgorithmLibrary {
             case CELF -> CanonicalProcedureName.parse("gds.influenceMaximization.celf");
             case ClosenessCentrality -> CanonicalProcedureName.parse("gds.closeness");
             case CollapsePath -> CanonicalProcedureName.parse("gds.collapsePath");
+            case CommunityQuality -> null;
             case Conductance -> null;
             case DegreeCentrality -> CanonicalProcedureName.parse("gds.degree");
             case DeltaStepping -> CanonicalProcedureName.parse("gds.allShortestPaths.delta");
@@ -84,6 +85,7 @@ final class MutateModeAlgorithmLibrary {
             case HITS -> CanonicalProcedureName.parse("gds.hits");
             case HarmonicCentrality -> CanonicalProcedureName.parse("gds.closeness.harmonic");
             case HashGNN -> CanonicalProcedureName.parse("gds.hashgnn");
+            case HNSW -> null;
             case IndexInverse -> CanonicalProcedureName.parse("gds.graph.relationships.indexInverse");
             case K1Coloring -> CanonicalProcedureName.parse("gds.k1coloring");
             case KCore -> CanonicalProcedureName.parse("gds.kcore");
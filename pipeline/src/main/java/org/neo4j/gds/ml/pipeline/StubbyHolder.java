@@ -94,6 +94,7 @@ class StubbyHolder {
             case CELF -> new CelfStub();
             case ClosenessCentrality -> new ClosenessCentralityStub();
             case CollapsePath -> new CollapsePathStub();
+            case CommunityQuality -> null;
             case Conductance -> null;
             case DegreeCentrality -> new DegreeCentralityStub();
             case DeltaStepping -> new SingleSourceShortestPathDeltaStub();
@@ -108,6 +109,7 @@ class StubbyHolder {
             case HITS -> new HitsStub();
             case HarmonicCentrality -> new HarmonicCentralityStub();
             case HashGNN -> new HashGnnStub();
+            case HNSW -> null;
             case IndexInverse -> new IndexInverseStub();
             case K1Coloring -> new K1ColoringStub();
             case KCore -> new KCoreStub();
@@ -21,11 +21,11 @@ package org.neo4j.gds.ml.pipeline.stubs;
 
 import org.neo4j.gds.betweenness.BetweennessCentralityMutateConfig;
 import org.neo4j.gds.procedures.algorithms.AlgorithmsProcedureFacade;
-import org.neo4j.gds.procedures.algorithms.centrality.CentralityMutateResult;
+import org.neo4j.gds.procedures.algorithms.centrality.BetweennessCentralityMutateResult;
 import org.neo4j.gds.procedures.algorithms.stubs.MutateStub;
 
-public class BetweennessCentralityStub extends AbstractStub<BetweennessCentralityMutateConfig, CentralityMutateResult> {
-    protected MutateStub<BetweennessCentralityMutateConfig, CentralityMutateResult> stub(AlgorithmsProcedureFacade facade) {
+public class BetweennessCentralityStub extends AbstractStub<BetweennessCentralityMutateConfig, BetweennessCentralityMutateResult> {
+    protected MutateStub<BetweennessCentralityMutateConfig, BetweennessCentralityMutateResult> stub(AlgorithmsProcedureFacade facade) {
         return facade.centrality().betweennessCentralityMutateStub();
     }
 }
@@ -20,7 +20,7 @@
 package org.neo4j.gds.betweenness;
 
 import org.neo4j.gds.procedures.GraphDataScienceProcedures;
-import org.neo4j.gds.procedures.algorithms.centrality.CentralityMutateResult;
+import org.neo4j.gds.procedures.algorithms.centrality.BetweennessCentralityMutateResult;
 import org.neo4j.gds.applications.algorithms.machinery.MemoryEstimateResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
@@ -40,7 +40,7 @@ public class BetweennessCentralityMutateProc {
 
     @Procedure(value = "gds.betweenness.mutate", mode = READ)
     @Description(BETWEENNESS_DESCRIPTION)
-    public Stream<CentralityMutateResult> mutate(
+    public Stream<BetweennessCentralityMutateResult> mutate(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
@@ -20,7 +20,7 @@
 package org.neo4j.gds.betweenness;
 
 import org.neo4j.gds.procedures.GraphDataScienceProcedures;
-import org.neo4j.gds.procedures.algorithms.centrality.CentralityStatsResult;
+import org.neo4j.gds.procedures.algorithms.centrality.BetweennessCentralityStatsResult;
 import org.neo4j.gds.applications.algorithms.machinery.MemoryEstimateResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
@@ -40,7 +40,7 @@ public class BetweennessCentralityStatsProc {
 
     @Procedure(value = "gds.betweenness.stats", mode = READ)
     @Description(BETWEENNESS_DESCRIPTION)
-    public Stream<CentralityStatsResult> stats(
+    public Stream<BetweennessCentralityStatsResult> stats(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
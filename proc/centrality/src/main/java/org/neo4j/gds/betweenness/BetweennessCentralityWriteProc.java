@@ -21,7 +21,7 @@ package org.neo4j.gds.betweenness;
 
 import org.neo4j.gds.applications.algorithms.machinery.MemoryEstimateResult;
 import org.neo4j.gds.procedures.GraphDataScienceProcedures;
-import org.neo4j.gds.procedures.algorithms.centrality.CentralityWriteResult;
+import org.neo4j.gds.procedures.algorithms.centrality.BetweennessCentralityWriteResult;
 import org.neo4j.procedure.Context;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
@@ -41,7 +41,7 @@ public class BetweennessCentralityWriteProc {
 
     @Procedure(value = "gds.betweenness.write", mode = WRITE)
     @Description(BETWEENNESS_DESCRIPTION)
-    public Stream<CentralityWriteResult> write(
+    public Stream<BetweennessCentralityWriteResult> write(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
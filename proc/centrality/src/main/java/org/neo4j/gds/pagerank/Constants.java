@@ -27,4 +27,7 @@ class Constants {
         "measures the transitive influence or connectivity of nodes.";
     public static final String EIGENVECTOR_DESCRIPTION =
         "Eigenvector Centrality is an algorithm that measures the transitive influence or connectivity of nodes.";
+    public static final String PERSONALIZED_PAGE_RANK_BATCH_DESCRIPTION =
+        "Personalized Page Rank Batch approximates the Page Rank scores for many sets of source nodes " +
+        "and returns the top scoring nodes of each set.";
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import org.assertj.core.data.Offset;
+import org.intellij.lang.annotations.Language;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommunityQualityCommunitiesStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    @Language("Cypher")
+    private static final String DB_CYPHER =
+        "CREATE " +
+        " (a1: Node { communityId: 0, singleton: 1 })," +
+        " (a2: Node { communityId: 0, singleton: 2 })," +
+        " (a3: Node { communityId: 5, singleton: 3 })," +
+        " (a4: Node { communityId: 0, singleton: 4 })," +
+        " (a5: Node { communityId: 5, singleton: 5 })," +
+        " (a6: Node { communityId: 5, singleton: 6 })," +
+
+        " (a1)-[:R]->(a2)," +
+        " (a1)-[:R]->(a4)," +
+        " (a2)-[:R]->(a3)," +
+        " (a2)-[:R]->(a4)," +
+        " (a2)-[:R]->(a5)," +
+        " (a3)-[:R]->(a6)," +
+        " (a4)-[:R]->(a5)," +
+        " (a5)-[:R]->(a6)";
+
+    @BeforeEach
+    void setupGraph() throws Exception {
+        registerProcedures(
+            CommunityQualityCommunitiesStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(
+            "CALL gds.graph.project('graph', 'Node', {R: {orientation: 'UNDIRECTED'}}, " +
+            "{nodeProperties: ['communityId', 'singleton']})"
+        );
+    }
+
+    @AfterEach
+    void clearStore() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldStreamOneRowPerCommunity() {
+        var query = "CALL gds.communityQuality.communities.stream('graph', {communityProperties: ['communityId', 'singleton']}) " +
+                    "YIELD communityProperty, communityId, nodeCount, internalRelationshipWeight, volume, modularity, conductance";
+
+        Map<String, Long> rowsPerProperty = new HashMap<>();
+        Map<Long, Map<String, Object>> communityIdRows = new HashMap<>();
+        runQueryWithRowConsumer(query, row -> {
+            var communityProperty = row.getString("communityProperty");
+            rowsPerProperty.merge(communityProperty, 1L, Long::sum);
+            if (communityProperty.equals("communityId")) {
+                communityIdRows.put(
+                    row.getNumber("communityId").longValue(),
+                    Map.of(
+                        "nodeCount", row.getNumber("nodeCount").longValue(),
+                        "internalRelationshipWeight", row.getNumber("internalRelationshipWeight").doubleValue(),
+                        "volume", row.getNumber("volume").doubleValue(),
+                        "modularity", row.getNumber("modularity").doubleValue(),
+                        "conductance", row.getNumber("conductance").doubleValue()
+                    )
+                );
+            }
+        });
+
+        assertThat(rowsPerProperty).containsExactlyInAnyOrderEntriesOf(Map.of("communityId", 2L, "singleton", 6L));
+        assertThat(communityIdRows).containsOnlyKeys(0L, 5L);
+
+        var offset = Offset.offset(1e-9);
+        var community0 = communityIdRows.get(0L);
+        assertThat(community0.get("nodeCount")).isEqualTo(3L);
+        assertThat((double) community0.get("internalRelationshipWeight")).isCloseTo(6.0, offset);
+        assertThat((double) community0.get("volume")).isCloseTo(9.0, offset);
+        assertThat((double) community0.get("modularity")).isCloseTo((6 - 9 * 9 / 16.0) / 16, offset);
+        assertThat((double) community0.get("conductance")).isCloseTo(3.0 / 9, offset);
+
+        var community5 = communityIdRows.get(5L);
+        assertThat(community5.get("nodeCount")).isEqualTo(3L);
+        assertThat((double) community5.get("internalRelationshipWeight")).isCloseTo(4.0, offset);
+        assertThat((double) community5.get("volume")).isCloseTo(7.0, offset);
+        assertThat((double) community5.get("conductance")).isCloseTo(3.0 / 7, offset);
+    }
+}
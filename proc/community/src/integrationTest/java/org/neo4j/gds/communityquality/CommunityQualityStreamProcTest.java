@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.communityquality;
+
+import org.assertj.core.data.Offset;
+import org.intellij.lang.annotations.Language;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommunityQualityStreamProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    @Language("Cypher")
+    private static final String DB_CYPHER =
+        "CREATE " +
+        " (a1: Node { communityId: 0, singleton: 1 })," +
+        " (a2: Node { communityId: 0, singleton: 2 })," +
+        " (a3: Node { communityId: 5, singleton: 3 })," +
+        " (a4: Node { communityId: 0, singleton: 4 })," +
+        " (a5: Node { communityId: 5, singleton: 5 })," +
+        " (a6: Node { communityId: 5, singleton: 6 })," +
+
+        " (a1)-[:R]->(a2)," +
+        " (a1)-[:R]->(a4)," +
+        " (a2)-[:R]->(a3)," +
+        " (a2)-[:R]->(a4)," +
+        " (a2)-[:R]->(a5)," +
+        " (a3)-[:R]->(a6)," +
+        " (a4)-[:R]->(a5)," +
+        " (a5)-[:R]->(a6)";
+
+    @BeforeEach
+    void setupGraph() throws Exception {
+        registerProcedures(
+            CommunityQualityStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(
+            "CALL gds.graph.project('graph', 'Node', {R: {orientation: 'UNDIRECTED'}}, " +
+            "{nodeProperties: ['communityId', 'singleton']})"
+        );
+    }
+
+    @AfterEach
+    void clearStore() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldStreamOneRowPerCommunityProperty() {
+        var query = "CALL gds.communityQuality.stream('graph', {communityProperties: ['communityId', 'singleton']}) " +
+                    "YIELD communityProperty, communityCount, modularity, coverage, averageConductance";
+
+        Map<String, Map<String, Object>> rows = new HashMap<>();
+        runQueryWithRowConsumer(query, row -> rows.put(
+            row.getString("communityProperty"),
+            Map.of(
+                "communityCount", row.getNumber("communityCount").longValue(),
+                "modularity", row.getNumber("modularity").doubleValue(),
+                "coverage", row.getNumber("coverage").doubleValue(),
+                "averageConductance", row.getNumber("averageConductance").doubleValue()
+            )
+        ));
+
+        assertThat(rows).containsOnlyKeys("communityId", "singleton");
+
+        var offset = Offset.offset(1e-9);
+        var communityId = rows.get("communityId");
+        assertThat(communityId.get("communityCount")).isEqualTo(2L);
+        assertThat((double) communityId.get("modularity"))
+            .isCloseTo((6 - 9 * 9 / 16.0) / 16 + (4 - 7 * 7 / 16.0) / 16, offset);
+        assertThat((double) communityId.get("coverage")).isCloseTo(10.0 / 16, offset);
+        assertThat((double) communityId.get("averageConductance")).isCloseTo((3.0 / 9 + 3.0 / 7) / 2, offset);
+
+        var singleton = rows.get("singleton");
+        assertThat(singleton.get("communityCount")).isEqualTo(6L);
+        assertThat((double) singleton.get("modularity")).isCloseTo(-46.0 / 256, offset);
+        assertThat((double) singleton.get("coverage")).isCloseTo(0.0, offset);
+        assertThat((double) singleton.get("averageConductance")).isCloseTo(1.0, offset);
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var query = "CALL gds.communityQuality.stream.estimate('graph', {communityProperties: ['communityId', 'singleton']}) " +
+                    "YIELD bytesMin, bytesMax";
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("bytesMin").longValue()).isPositive();
+            assertThat(row.getNumber("bytesMax").longValue()).isGreaterThanOrEqualTo(row.getNumber("bytesMin").longValue());
+        });
+    }
+}
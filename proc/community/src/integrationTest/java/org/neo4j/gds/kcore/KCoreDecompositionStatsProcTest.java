@@ -99,6 +99,11 @@ class KCoreDecompositionStatsProcTest extends BaseProcTest {
                 .asInstanceOf(LONG)
                 .isEqualTo(2L);
 
+            assertThat(row.getNumber("rounds"))
+                .as("rounds")
+                .asInstanceOf(LONG)
+                .isGreaterThan(0L);
+
             assertThat(row.get("configuration"))
                 .as("configuration")
                 .asInstanceOf(MAP)
@@ -92,7 +92,9 @@ class KmeansMutateProcTest extends BaseProcTest {
                     "configuration",
                     "centroids",
                     "averageDistanceToCentroid",
-                    "averageSilhouette"
+                    "averageSilhouette",
+                    "ranIterations",
+                    "didConverge"
                 );
 
             while(result.hasNext()) {
@@ -85,7 +85,9 @@ class KmeansStatsProcTest extends BaseProcTest {
                     "configuration",
                     "centroids",
                     "averageDistanceToCentroid",
-                    "averageSilhouette"
+                    "averageSilhouette",
+                    "ranIterations",
+                    "didConverge"
                 );
 
             while (result.hasNext()) {
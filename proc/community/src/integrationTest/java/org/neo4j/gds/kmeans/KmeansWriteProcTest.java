@@ -90,7 +90,9 @@ class KmeansWriteProcTest extends BaseProcTest {
                     "configuration",
                     "centroids",
                     "averageDistanceToCentroid",
-                    "averageSilhouette"
+                    "averageSilhouette",
+                    "ranIterations",
+                    "didConverge"
                 );
 
             var softAssertions = new SoftAssertions();
@@ -246,6 +246,11 @@ public class LabelPropagationMutateProcTest extends BaseProcTest {
 
                 assertThat(row.getBoolean("didConverge")).isTrue();
 
+                assertThat(row.get("changedLabelsPerIteration"))
+                    .asInstanceOf(InstanceOfAssertFactories.LIST)
+                    .last()
+                    .isEqualTo(0L);
+
                 assertThat(row.get("communityDistribution"))
                     .isNotNull()
                     .isInstanceOf(Map.class)
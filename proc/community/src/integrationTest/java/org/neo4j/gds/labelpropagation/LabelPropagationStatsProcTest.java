@@ -33,6 +33,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.neo4j.gds.assertj.ConditionFactory.containsAllEntriesOf;
 
@@ -92,6 +95,7 @@ class LabelPropagationStatsProcTest extends BaseProcTest {
         assertCypherResult(query, List.of(Map.of(
             "didConverge", true,
             "ranIterations", 2L,
+            "changedLabelsPerIteration", contains(greaterThan(0L), equalTo(0L)),
             "communityCount", 10L,
             "communityDistribution",
             containsAllEntriesOf(Map.of(
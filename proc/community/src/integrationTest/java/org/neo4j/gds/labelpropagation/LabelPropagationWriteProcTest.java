@@ -44,6 +44,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
 import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -99,7 +100,7 @@ class LabelPropagationWriteProcTest extends BaseProcTest {
     void testWrite() {
         var query = "CALL gds.labelPropagation.write('myGraph', {writeProperty: 'myFancyCommunity'})" +
                     " YIELD communityCount, preProcessingMillis, computeMillis, writeMillis, " +
-                    " postProcessingMillis, communityDistribution, didConverge";
+                    " postProcessingMillis, communityDistribution, didConverge, changedLabelsPerIteration";
 
         var rowCount = runQueryWithRowConsumer(query, row -> {
             assertThat(row.getNumber("communityCount"))
@@ -124,6 +125,11 @@ class LabelPropagationWriteProcTest extends BaseProcTest {
 
             assertThat(row.getBoolean("didConverge")).isTrue();
 
+            assertThat(row.get("changedLabelsPerIteration"))
+                .asInstanceOf(LIST)
+                .last()
+                .isEqualTo(0L);
+
             assertThat(row.get("communityDistribution"))
                 .isInstanceOf(Map.class)
                 .asInstanceOf(MAP)
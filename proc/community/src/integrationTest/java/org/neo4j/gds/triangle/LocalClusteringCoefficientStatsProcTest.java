@@ -21,6 +21,7 @@ package org.neo4j.gds.triangle;
 
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -34,6 +35,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.DOUBLE;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 class LocalClusteringCoefficientStatsProcTest extends BaseProcTest {
@@ -104,4 +106,31 @@ class LocalClusteringCoefficientStatsProcTest extends BaseProcTest {
         assertThat(rowCount).isEqualTo(1);
     }
 
+    @Test
+    void shouldEstimateWithWedgeSampling() {
+        var query = "CALL gds.localClusteringCoefficient.stats('graph', { wedgeSampleSize: 10000, randomSeed: 42 })";
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            var averageClusteringCoefficient = row.getNumber("averageClusteringCoefficient").doubleValue();
+            assertThat(averageClusteringCoefficient).isCloseTo(13.0 / 15.0, Offset.offset(0.05));
+
+            assertThat(row.getNumber("nodeCount"))
+                .asInstanceOf(LONG)
+                .isEqualTo(5L);
+
+            assertThat(row.get("averageClusteringCoefficientConfidenceInterval"))
+                .asInstanceOf(MAP)
+                .containsOnlyKeys("lowerBound", "upperBound")
+                .hasEntrySatisfying(
+                    "lowerBound",
+                    lowerBound -> assertThat((double) lowerBound).isLessThanOrEqualTo(averageClusteringCoefficient)
+                )
+                .hasEntrySatisfying(
+                    "upperBound",
+                    upperBound -> assertThat((double) upperBound).isGreaterThanOrEqualTo(averageClusteringCoefficient)
+                );
+        });
+
+        assertThat(rowCount).isEqualTo(1);
+    }
 }
@@ -31,7 +31,9 @@ import org.neo4j.gds.extension.Neo4jGraph;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
 
 class TriangleCountStatsProcTest extends BaseProcTest {
 
@@ -87,6 +89,30 @@ class TriangleCountStatsProcTest extends BaseProcTest {
 
     }
 
+    @Test
+    void shouldEstimateWithWedgeSampling() {
+        var query = GdsCypher.call("graph")
+            .algo("triangleCount")
+            .statsMode()
+            .addParameter("wedgeSampleSize", 1_000)
+            .addParameter("randomSeed", 42)
+            .yields("globalTriangleCount", "globalTriangleCountConfidenceInterval");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("globalTriangleCount"))
+                .asInstanceOf(LONG)
+                .isEqualTo(1L);
+
+            assertThat(row.get("globalTriangleCountConfidenceInterval"))
+                .asInstanceOf(MAP)
+                .containsOnlyKeys("lowerBound", "upperBound")
+                .hasEntrySatisfying("lowerBound", lowerBound -> assertThat((double) lowerBound).isBetween(0.99, 1.0))
+                .hasEntrySatisfying("upperBound", upperBound -> assertThat((double) upperBound).isCloseTo(1.0, within(1e-9)));
+        });
+
+        assertThat(rowCount).isEqualTo(1L);
+    }
+
     @Test
     void testStatsWithMaxDegree() {
         // Add a single node and connect it to the triangle
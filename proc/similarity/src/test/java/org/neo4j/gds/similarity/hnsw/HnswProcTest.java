@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.catalog.GraphDropProc;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HnswProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    public static final String DB_CYPHER = "CREATE" +
+        "  (a { embedding: [1.0, 0.0] } )" +
+        ", (b { embedding: [0.9, 0.1] } )" +
+        ", (c { embedding: [0.0, 1.0] } )" +
+        ", (d { embedding: [0.1, 0.9] } )";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            HnswBuildProc.class,
+            HnswStreamProc.class,
+            GraphProjectProc.class,
+            GraphDropProc.class
+        );
+        runQuery("CALL gds.graph.project('g', {__ALL__: {label: '*', properties: 'embedding'}}, '*')");
+    }
+
+    @Test
+    void shouldBuildAndQueryIndex() {
+        runQueryWithRowConsumer(
+            "CALL gds.hnsw.build('g', {indexName: 'idx', nodeProperty: 'embedding', randomSeed: 42, concurrency: 1})" +
+            " YIELD indexName, nodeCount",
+            row -> {
+                assertThat(row.getString("indexName")).isEqualTo("idx");
+                assertThat(row.getNumber("nodeCount").longValue()).isEqualTo(4L);
+            }
+        );
+
+        assertCypherResult(
+            "CALL gds.hnsw.stream('g', {indexName: 'idx', sourceNode: $source, topK: 1})" +
+            " YIELD nodeId RETURN nodeId",
+            Map.of("source", idFunction.of("a")),
+            List.of(Map.of("nodeId", idFunction.of("b")))
+        );
+
+        assertCypherResult(
+            "CALL gds.hnsw.stream('g', {indexName: 'idx', queryVector: [0.0, 1.0], topK: 1})" +
+            " YIELD nodeId RETURN nodeId",
+            List.of(Map.of("nodeId", idFunction.of("c")))
+        );
+    }
+
+    @Test
+    void shouldDropIndexWithGraph() {
+        runQuery("CALL gds.hnsw.build('g', {indexName: 'idx', nodeProperty: 'embedding'})");
+        runQuery("CALL gds.graph.drop('g')");
+        runQuery("CALL gds.graph.project('g', {__ALL__: {label: '*', properties: 'embedding'}}, '*')");
+
+        assertThatThrownBy(() -> runQuery("CALL gds.hnsw.stream('g', {indexName: 'idx', queryVector: [0.0, 1.0]})"))
+            .rootCause()
+            .hasMessageContaining("No HNSW index with name `idx` exists for this graph.");
+    }
+
+    @Test
+    void shouldRequireExactlyOneQuery() {
+        assertThatThrownBy(() -> runQuery("CALL gds.hnsw.stream('g', {indexName: 'idx'})"))
+            .rootCause()
+            .hasMessageContaining("Exactly one of `sourceNode` and `queryVector` must be specified.");
+    }
+}
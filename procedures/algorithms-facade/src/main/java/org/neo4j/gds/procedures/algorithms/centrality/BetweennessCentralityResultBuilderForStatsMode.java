@@ -19,17 +19,17 @@
  */
 package org.neo4j.gds.procedures.algorithms.centrality;
 
-import org.neo4j.gds.algorithms.centrality.CentralityAlgorithmResult;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTimings;
 import org.neo4j.gds.applications.algorithms.machinery.StatsResultBuilder;
 import org.neo4j.gds.betweenness.BetweennessCentralityStatsConfig;
+import org.neo4j.gds.betweenness.BetwennessCentralityResult;
 
 import java.util.Optional;
 import java.util.stream.Stream;
 
-class BetweennessCentralityResultBuilderForStatsMode implements StatsResultBuilder<CentralityAlgorithmResult, Stream<CentralityStatsResult>> {
-    private final GenericCentralityResultBuilderForStatsMode genericResultBuilder = new GenericCentralityResultBuilderForStatsMode();
+class BetweennessCentralityResultBuilderForStatsMode implements StatsResultBuilder<BetwennessCentralityResult, Stream<BetweennessCentralityStatsResult>> {
+    private final CentralityDistributionComputer centralityDistributionComputer = new CentralityDistributionComputer();
 
     private final BetweennessCentralityStatsConfig configuration;
     private final boolean shouldComputeCentralityDistribution;
@@ -43,19 +43,34 @@ class BetweennessCentralityResultBuilderForStatsMode implements StatsResultBuild
     }
 
     @Override
-    public Stream<CentralityStatsResult> build(
+    public Stream<BetweennessCentralityStatsResult> build(
         Graph graph,
-        Optional<CentralityAlgorithmResult> result,
+        Optional<BetwennessCentralityResult> result,
         AlgorithmProcessingTimings timings
     ) {
-        var centralityStatsResult = genericResultBuilder.build(
+        var configurationMap = configuration.toMap();
+
+        if (result.isEmpty()) return Stream.of(BetweennessCentralityStatsResult.emptyFrom(timings, configurationMap));
+
+        var betweennessCentralityResult = result.get();
+
+        var centralityDistributionAndTiming = centralityDistributionComputer.compute(
             graph,
+            betweennessCentralityResult.centralityScoreProvider(),
             configuration,
-            result,
-            timings,
             shouldComputeCentralityDistribution
         );
 
-        return Stream.of(centralityStatsResult);
+        return Stream.of(
+            new BetweennessCentralityStatsResult(
+                centralityDistributionAndTiming.getLeft(),
+                betweennessCentralityResult.sampleCount().orElse(null),
+                betweennessCentralityResult.errorBound().orElse(null),
+                timings.preProcessingMillis,
+                timings.computeMillis,
+                centralityDistributionAndTiming.getRight(),
+                configurationMap
+            )
+        );
     }
 }
@@ -19,18 +19,18 @@
  */
 package org.neo4j.gds.procedures.algorithms.centrality;
 
-import org.neo4j.gds.algorithms.centrality.CentralityAlgorithmResult;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTimings;
 import org.neo4j.gds.applications.algorithms.machinery.ResultBuilder;
 import org.neo4j.gds.applications.algorithms.metadata.NodePropertiesWritten;
 import org.neo4j.gds.betweenness.BetweennessCentralityWriteConfig;
+import org.neo4j.gds.betweenness.BetwennessCentralityResult;
 
 import java.util.Optional;
 import java.util.stream.Stream;
 
-class BetweennessCentralityResultBuilderForWriteMode implements ResultBuilder<BetweennessCentralityWriteConfig, CentralityAlgorithmResult, Stream<CentralityWriteResult>, NodePropertiesWritten> {
-    private final GenericCentralityResultBuilderForWriteMode genericResultBuilder = new GenericCentralityResultBuilderForWriteMode();
+class BetweennessCentralityResultBuilderForWriteMode implements ResultBuilder<BetweennessCentralityWriteConfig, BetwennessCentralityResult, Stream<BetweennessCentralityWriteResult>, NodePropertiesWritten> {
+    private final CentralityDistributionComputer centralityDistributionComputer = new CentralityDistributionComputer();
 
     private final boolean shouldComputeCentralityDistribution;
 
@@ -39,21 +39,37 @@ class BetweennessCentralityResultBuilderForWriteMode implements ResultBuilder<Be
     }
 
     @Override
-    public Stream<CentralityWriteResult> build(
+    public Stream<BetweennessCentralityWriteResult> build(
         Graph graph,
         BetweennessCentralityWriteConfig configuration,
-        Optional<CentralityAlgorithmResult> result,
+        Optional<BetwennessCentralityResult> result,
         AlgorithmProcessingTimings timings,
         Optional<NodePropertiesWritten> metadata
     ) {
+        var configurationMap = configuration.toMap();
+
+        if (result.isEmpty()) return Stream.of(BetweennessCentralityWriteResult.emptyFrom(timings, configurationMap));
+
+        var betweennessCentralityResult = result.get();
+
+        var centralityDistributionAndTiming = centralityDistributionComputer.compute(
+            graph,
+            betweennessCentralityResult.centralityScoreProvider(),
+            configuration,
+            shouldComputeCentralityDistribution
+        );
+
         return Stream.of(
-            genericResultBuilder.build(
-                graph,
-                configuration,
-                result,
-                timings,
-                metadata,
-                shouldComputeCentralityDistribution
+            new BetweennessCentralityWriteResult(
+                metadata.orElseThrow().value(),
+                timings.preProcessingMillis,
+                timings.computeMillis,
+                centralityDistributionAndTiming.getRight(),
+                timings.sideEffectMillis,
+                centralityDistributionAndTiming.getLeft(),
+                betweennessCentralityResult.sampleCount().orElse(null),
+                betweennessCentralityResult.errorBound().orElse(null),
+                configurationMap
             )
         );
     }
@@ -61,6 +61,7 @@ import org.neo4j.gds.pagerank.PageRankMutateConfig;
 import org.neo4j.gds.pagerank.PageRankStatsConfig;
 import org.neo4j.gds.pagerank.PageRankStreamConfig;
 import org.neo4j.gds.pagerank.PageRankWriteConfig;
+import org.neo4j.gds.pagerank.PersonalizedPageRankBatchStreamConfig;
 import org.neo4j.gds.procedures.algorithms.centrality.stubs.ArticulationPointsMutateStub;
 import org.neo4j.gds.procedures.algorithms.centrality.stubs.BetaClosenessCentralityMutateStub;
 import org.neo4j.gds.procedures.algorithms.centrality.stubs.BetweennessCentralityMutateStub;
@@ -423,7 +424,7 @@ public final class LocalCentralityProcedureFacade implements CentralityProcedure
     }
 
     @Override
-    public Stream<CentralityStatsResult> betweennessCentralityStats(
+    public Stream<BetweennessCentralityStatsResult> betweennessCentralityStats(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -499,7 +500,7 @@ public final class LocalCentralityProcedureFacade implements CentralityProcedure
 
 
     @Override
-    public Stream<CentralityWriteResult> betweennessCentralityWrite(
+    public Stream<BetweennessCentralityWriteResult> betweennessCentralityWrite(
         String graphName,
         Map<String, Object> configuration
     ) {
@@ -1230,6 +1231,41 @@ public final class LocalCentralityProcedureFacade implements CentralityProcedure
         return Stream.of(estimationModeBusinessFacade.pageRank(parsedConfiguration, graphNameOrConfiguration));
     }
 
+    @Override
+    public Stream<PersonalizedPageRankBatchStreamResult> personalizedPageRankBatchStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        var resultBuilder = new PersonalizedPageRankBatchResultBuilderForStreamMode();
+
+        var parsedConfiguration = configurationParser.parseConfiguration(
+            configuration,
+            PersonalizedPageRankBatchStreamConfig::of
+        );
+
+        return streamModeBusinessFacade.personalizedPageRankBatch(
+            GraphName.parse(graphName),
+            parsedConfiguration,
+            resultBuilder
+        );
+    }
+
+    @Override
+    public Stream<MemoryEstimateResult> personalizedPageRankBatchStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    ) {
+        var parsedConfiguration = configurationParser.parseConfiguration(
+            algorithmConfiguration,
+            PersonalizedPageRankBatchStreamConfig::of
+        );
+
+        return Stream.of(estimationModeBusinessFacade.personalizedPageRankBatch(
+            parsedConfiguration,
+            graphNameOrConfiguration
+        ));
+    }
+
     @Override
     public Stream<HitsStreamResult> hitsStream(String graphName, Map<String, Object> configuration) {
 
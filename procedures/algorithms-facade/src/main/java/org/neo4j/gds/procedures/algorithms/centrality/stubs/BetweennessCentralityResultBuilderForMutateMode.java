@@ -25,12 +25,13 @@ import org.neo4j.gds.applications.algorithms.machinery.ResultBuilder;
 import org.neo4j.gds.applications.algorithms.metadata.NodePropertiesWritten;
 import org.neo4j.gds.betweenness.BetweennessCentralityMutateConfig;
 import org.neo4j.gds.betweenness.BetwennessCentralityResult;
-import org.neo4j.gds.procedures.algorithms.centrality.CentralityMutateResult;
+import org.neo4j.gds.procedures.algorithms.centrality.BetweennessCentralityMutateResult;
+import org.neo4j.gds.procedures.algorithms.centrality.CentralityDistributionComputer;
 
 import java.util.Optional;
 
-public class BetweennessCentralityResultBuilderForMutateMode implements ResultBuilder<BetweennessCentralityMutateConfig, BetwennessCentralityResult, CentralityMutateResult, NodePropertiesWritten> {
-    private final GenericCentralityResultBuilderForMutateMode genericResultBuilder = new GenericCentralityResultBuilderForMutateMode();
+public class BetweennessCentralityResultBuilderForMutateMode implements ResultBuilder<BetweennessCentralityMutateConfig, BetwennessCentralityResult, BetweennessCentralityMutateResult, NodePropertiesWritten> {
+    private final CentralityDistributionComputer centralityDistributionComputer = new CentralityDistributionComputer();
 
     private final boolean shouldComputeCentralityDistribution;
 
@@ -39,20 +40,36 @@ public class BetweennessCentralityResultBuilderForMutateMode implements ResultBu
     }
 
     @Override
-    public CentralityMutateResult build(
+    public BetweennessCentralityMutateResult build(
         Graph graph,
         BetweennessCentralityMutateConfig configuration,
         Optional<BetwennessCentralityResult> result,
         AlgorithmProcessingTimings timings,
         Optional<NodePropertiesWritten> metadata
     ) {
-        return genericResultBuilder.build(
+        var configurationMap = configuration.toMap();
+
+        if (result.isEmpty()) return BetweennessCentralityMutateResult.emptyFrom(timings, configurationMap);
+
+        var betweennessCentralityResult = result.get();
+
+        var centralityDistributionAndTiming = centralityDistributionComputer.compute(
             graph,
+            betweennessCentralityResult.centralityScoreProvider(),
             configuration,
-            result,
-            timings,
-            metadata,
             shouldComputeCentralityDistribution
         );
+
+        return new BetweennessCentralityMutateResult(
+            metadata.orElseThrow().value(),
+            timings.preProcessingMillis,
+            timings.computeMillis,
+            centralityDistributionAndTiming.getRight(),
+            timings.sideEffectMillis,
+            centralityDistributionAndTiming.getLeft(),
+            betweennessCentralityResult.sampleCount().orElse(null),
+            betweennessCentralityResult.errorBound().orElse(null),
+            configurationMap
+        );
     }
 }
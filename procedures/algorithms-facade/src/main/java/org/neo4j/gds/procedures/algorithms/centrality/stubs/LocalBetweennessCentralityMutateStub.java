@@ -25,7 +25,7 @@ import org.neo4j.gds.applications.algorithms.centrality.CentralityAlgorithmsMuta
 import org.neo4j.gds.applications.algorithms.machinery.MemoryEstimateResult;
 import org.neo4j.gds.betweenness.BetweennessCentralityMutateConfig;
 import org.neo4j.gds.mem.MemoryEstimation;
-import org.neo4j.gds.procedures.algorithms.centrality.CentralityMutateResult;
+import org.neo4j.gds.procedures.algorithms.centrality.BetweennessCentralityMutateResult;
 import org.neo4j.gds.procedures.algorithms.stubs.GenericStub;
 
 import java.util.Map;
@@ -74,7 +74,7 @@ public class LocalBetweennessCentralityMutateStub implements BetweennessCentrali
     }
 
     @Override
-    public Stream<CentralityMutateResult> execute(String graphNameAsString, Map<String, Object> rawConfiguration) {
+    public Stream<BetweennessCentralityMutateResult> execute(String graphNameAsString, Map<String, Object> rawConfiguration) {
         var shouldComputeCentralityDistribution = procedureReturnColumns.contains("centralityDistribution");
         var resultBuilder = new BetweennessCentralityResultBuilderForMutateMode(shouldComputeCentralityDistribution);
 
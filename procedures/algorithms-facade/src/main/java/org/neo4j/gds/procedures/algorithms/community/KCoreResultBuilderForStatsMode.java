@@ -47,6 +47,7 @@ class KCoreResultBuilderForStatsMode implements StatsResultBuilder<KCoreDecompos
 
         var kCoreDecompositionStatsResult = new KCoreDecompositionStatsResult(
             kCoreDecompositionResult.degeneracy(),
+            kCoreDecompositionResult.rounds(),
             timings.preProcessingMillis,
             timings.computeMillis,
             0,
@@ -45,6 +45,7 @@ class KCoreResultBuilderForWriteMode implements ResultBuilder<KCoreDecomposition
         var kCoreDecompositionWriteResult = new KCoreDecompositionWriteResult(
             metadata.orElseThrow().value(),
             kCoreDecompositionResult.degeneracy(),
+            kCoreDecompositionResult.rounds(),
             timings.preProcessingMillis,
             timings.computeMillis,
             0,
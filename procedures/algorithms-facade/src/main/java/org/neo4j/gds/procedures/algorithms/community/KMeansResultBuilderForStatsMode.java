@@ -82,6 +82,8 @@ class KMeansResultBuilderForStatsMode implements StatsResultBuilder<KmeansResult
             centroids,
             kmeansResult.averageDistanceToCentroid(),
             kmeansResult.averageSilhouette(),
+            kmeansResult.ranIterations(),
+            kmeansResult.didConverge(),
             configuration.toMap()
         );
 
@@ -81,6 +81,8 @@ class KMeansResultBuilderForWriteMode implements ResultBuilder<KmeansWriteConfig
             centroids,
             kmeansResult.averageDistanceToCentroid(),
             kmeansResult.averageSilhouette(),
+            kmeansResult.ranIterations(),
+            kmeansResult.didConverge(),
             configuration.toMap()
         );
 
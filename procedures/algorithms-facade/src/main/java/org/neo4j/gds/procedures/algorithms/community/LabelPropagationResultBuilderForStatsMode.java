@@ -26,6 +26,7 @@ import org.neo4j.gds.labelpropagation.LabelPropagationResult;
 import org.neo4j.gds.labelpropagation.LabelPropagationStatsConfig;
 import org.neo4j.gds.result.StatisticsComputationInstructions;
 
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -63,6 +64,7 @@ class LabelPropagationResultBuilderForStatsMode implements StatsResultBuilder<La
         var labelPropagationStatsResult = new LabelPropagationStatsResult(
             labelPropagationResult.ranIterations(),
             labelPropagationResult.didConverge(),
+            Arrays.stream(labelPropagationResult.changedLabels()).boxed().toList(),
             communityStatisticsWithTiming.getLeft(),
             communityStatisticsWithTiming.getMiddle(),
             timings.preProcessingMillis,
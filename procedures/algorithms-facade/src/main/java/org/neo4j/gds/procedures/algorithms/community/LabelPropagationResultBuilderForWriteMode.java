@@ -31,6 +31,7 @@ import org.neo4j.gds.labelpropagation.LabelPropagationWriteConfig;
 import org.neo4j.gds.result.CommunityStatistics;
 import org.neo4j.gds.result.StatisticsComputationInstructions;
 
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -68,6 +69,7 @@ class LabelPropagationResultBuilderForWriteMode implements ResultBuilder<LabelPr
         var wccWriteResult = new LabelPropagationWriteResult(
             labelPropagationResult.ranIterations(),
             labelPropagationResult.didConverge(),
+            Arrays.stream(labelPropagationResult.changedLabels()).boxed().toList(),
             communityStatistics.componentCount(),
             communitySummary,
             timings.preProcessingMillis,
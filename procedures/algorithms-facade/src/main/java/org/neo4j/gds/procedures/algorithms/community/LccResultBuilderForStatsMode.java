@@ -25,6 +25,7 @@ import org.neo4j.gds.applications.algorithms.machinery.StatsResultBuilder;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientResult;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientStatsConfig;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -50,7 +51,13 @@ class LccResultBuilderForStatsMode implements StatsResultBuilder<LocalClustering
 
         var localClusteringCoefficientStatsResult = new LocalClusteringCoefficientStatsResult(
             localClusteringCoefficientResult.averageClusteringCoefficient(),
-            localClusteringCoefficientResult.localClusteringCoefficients().size(),
+            graph.nodeCount(),
+            localClusteringCoefficientResult.averageClusteringCoefficientConfidenceInterval()
+                .map(interval -> Map.<String, Object>of(
+                    "lowerBound", interval.lowerBound(),
+                    "upperBound", interval.upperBound()
+                ))
+                .orElse(Map.of()),
             timings.preProcessingMillis,
             timings.computeMillis,
             configuration.toMap()
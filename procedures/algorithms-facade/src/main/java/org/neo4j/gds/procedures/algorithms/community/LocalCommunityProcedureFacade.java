@@ -29,6 +29,7 @@ import org.neo4j.gds.applications.algorithms.community.CommunityAlgorithmsStream
 import org.neo4j.gds.applications.algorithms.community.CommunityAlgorithmsWriteModeBusinessFacade;
 import org.neo4j.gds.applications.algorithms.machinery.MemoryEstimateResult;
 import org.neo4j.gds.approxmaxkcut.config.ApproxMaxKCutStreamConfig;
+import org.neo4j.gds.communityquality.CommunityQualityStreamConfig;
 import org.neo4j.gds.conductance.ConductanceStreamConfig;
 import org.neo4j.gds.k1coloring.K1ColoringStatsConfig;
 import org.neo4j.gds.k1coloring.K1ColoringStreamConfig;
@@ -321,6 +322,40 @@ public final class LocalCommunityProcedureFacade implements CommunityProcedureFa
         return Stream.of(estimationModeBusinessFacade.approximateMaximumKCut(configuration, graphNameOrConfiguration));
     }
 
+    @Override
+    public Stream<CommunityQualityStreamResult> communityQualityStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        var resultBuilder = new CommunityQualityResultBuilderForStreamMode();
+
+        var parsedConfig = configurationParser.parseConfiguration(configuration, CommunityQualityStreamConfig::of);
+        return streamModeBusinessFacade.communityQuality(GraphName.parse(graphName), parsedConfig, resultBuilder);
+    }
+
+    @Override
+    public Stream<MemoryEstimateResult> communityQualityStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    ) {
+        var configuration = configurationParser.parseConfiguration(
+            algorithmConfiguration,
+            CommunityQualityStreamConfig::of
+        );
+        return Stream.of(estimationModeBusinessFacade.communityQuality(configuration, graphNameOrConfiguration));
+    }
+
+    @Override
+    public Stream<CommunityQualityCommunityStreamResult> communityQualityCommunitiesStream(
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        var resultBuilder = new CommunityQualityResultBuilderForCommunitiesStreamMode();
+
+        var parsedConfig = configurationParser.parseConfiguration(configuration, CommunityQualityStreamConfig::of);
+        return streamModeBusinessFacade.communityQuality(GraphName.parse(graphName), parsedConfig, resultBuilder);
+    }
+
     @Override
     public Stream<ConductanceStreamResult> conductanceStream(
         String graphName,
@@ -25,6 +25,7 @@ import org.neo4j.gds.applications.algorithms.machinery.StatsResultBuilder;
 import org.neo4j.gds.triangle.TriangleCountResult;
 import org.neo4j.gds.triangle.TriangleCountStatsConfig;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -48,6 +49,12 @@ class TriangleCountResultBuilderForStatsMode implements StatsResultBuilder<Trian
         var triangleCountStatsResult = new TriangleCountStatsResult(
             triangleCountResult.globalTriangles(),
             graph.nodeCount(),
+            triangleCountResult.globalTriangleCountConfidenceInterval()
+                .map(interval -> Map.<String, Object>of(
+                    "lowerBound", interval.lowerBound(),
+                    "upperBound", interval.upperBound()
+                ))
+                .orElse(Map.of()),
             timings.preProcessingMillis,
             timings.computeMillis,
             configuration.toMap()
@@ -45,6 +45,7 @@ public class KCoreResultBuilderForMutateMode implements ResultBuilder<KCoreDecom
         return new KCoreDecompositionMutateResult(
             metadata.orElseThrow().value(),
             kCoreDecompositionResult.degeneracy(),
+            kCoreDecompositionResult.rounds(),
             timings.preProcessingMillis,
             timings.computeMillis,
             0,
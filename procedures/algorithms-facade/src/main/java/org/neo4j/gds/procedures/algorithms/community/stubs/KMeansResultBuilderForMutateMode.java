@@ -80,6 +80,8 @@ public class KMeansResultBuilderForMutateMode implements ResultBuilder<KmeansMut
             centroids,
             kmeansResult.averageDistanceToCentroid(),
             kmeansResult.averageSilhouette(),
+            kmeansResult.ranIterations(),
+            kmeansResult.didConverge(),
             configuration.toMap()
         );
     }
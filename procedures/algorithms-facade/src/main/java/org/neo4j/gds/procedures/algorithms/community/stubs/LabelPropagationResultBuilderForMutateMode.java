@@ -29,6 +29,7 @@ import org.neo4j.gds.procedures.algorithms.community.CommunityStatisticsWithTimi
 import org.neo4j.gds.procedures.algorithms.community.LabelPropagationMutateResult;
 import org.neo4j.gds.result.StatisticsComputationInstructions;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 public class LabelPropagationResultBuilderForMutateMode implements ResultBuilder<LabelPropagationMutateConfig, LabelPropagationResult, LabelPropagationMutateResult, NodePropertiesWritten> {
@@ -64,6 +65,7 @@ public class LabelPropagationResultBuilderForMutateMode implements ResultBuilder
         return new LabelPropagationMutateResult(
             labelPropagationResult.ranIterations(),
             labelPropagationResult.didConverge(),
+            Arrays.stream(labelPropagationResult.changedLabels()).boxed().toList(),
             communityStatisticsWithTiming.getLeft(),
             communityStatisticsWithTiming.getMiddle(),
             timings.preProcessingMillis,
@@ -60,7 +60,7 @@ public class LocalLabelPropagationMutateStub implements LabelPropagationMutateSt
         return genericStub.getMemoryEstimation(
             rawConfiguration,
             LabelPropagationMutateConfig::of,
-            __ -> estimationModeBusinessFacade.labelPropagation()
+            estimationModeBusinessFacade::labelPropagation
         );
     }
 
@@ -70,7 +70,7 @@ public class LocalLabelPropagationMutateStub implements LabelPropagationMutateSt
             graphName,
             rawConfiguration,
             LabelPropagationMutateConfig::of,
-            __ -> estimationModeBusinessFacade.labelPropagation()
+            estimationModeBusinessFacade::labelPropagation
         );
     }
 
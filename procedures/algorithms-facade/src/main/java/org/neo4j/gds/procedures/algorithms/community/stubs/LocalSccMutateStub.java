@@ -61,7 +61,7 @@ public class LocalSccMutateStub implements SccMutateStub {
         return genericStub.getMemoryEstimation(
             configuration,
             SccMutateConfig::of,
-            __ -> estimationModeBusinessFacade.scc()
+            estimationModeBusinessFacade::scc
         );
     }
 
@@ -71,7 +71,7 @@ public class LocalSccMutateStub implements SccMutateStub {
             graphName,
             configuration,
             SccMutateConfig::of,
-            __ -> estimationModeBusinessFacade.scc()
+            estimationModeBusinessFacade::scc
         );
     }
 
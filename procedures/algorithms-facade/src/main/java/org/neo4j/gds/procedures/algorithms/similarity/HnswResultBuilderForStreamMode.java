@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.similarity;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.applications.algorithms.machinery.StreamResultBuilder;
+import org.neo4j.gds.similarity.hnsw.HnswIndex;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+class HnswResultBuilderForStreamMode implements StreamResultBuilder<List<HnswIndex.Neighbor>, HnswStreamResult> {
+
+    /**
+     * The neighbours already carry original node ids, they are taken from the index rather than the query graph.
+     */
+    @Override
+    public Stream<HnswStreamResult> build(
+        Graph graph,
+        GraphStore graphStore,
+        Optional<List<HnswIndex.Neighbor>> result
+    ) {
+        if (result.isEmpty()) return Stream.empty();
+
+        return result.get()
+            .stream()
+            .map(neighbor -> new HnswStreamResult(neighbor.nodeId(), neighbor.similarity()));
+    }
+}
@@ -24,6 +24,7 @@ import org.neo4j.gds.api.ProcedureReturnColumns;
 import org.neo4j.gds.applications.ApplicationsFacade;
 import org.neo4j.gds.applications.algorithms.machinery.MemoryEstimateResult;
 import org.neo4j.gds.applications.algorithms.similarity.SimilarityAlgorithmsEstimationModeBusinessFacade;
+import org.neo4j.gds.applications.algorithms.similarity.SimilarityAlgorithmsMutateModeBusinessFacade;
 import org.neo4j.gds.applications.algorithms.similarity.SimilarityAlgorithmsStatsModeBusinessFacade;
 import org.neo4j.gds.applications.algorithms.similarity.SimilarityAlgorithmsStreamModeBusinessFacade;
 import org.neo4j.gds.applications.algorithms.similarity.SimilarityAlgorithmsWriteModeBusinessFacade;
@@ -43,6 +44,8 @@ import org.neo4j.gds.similarity.filteredknn.FilteredKnnWriteConfig;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityStatsConfig;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityStreamConfig;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityWriteConfig;
+import org.neo4j.gds.similarity.hnsw.HnswBuildConfig;
+import org.neo4j.gds.similarity.hnsw.HnswStreamConfig;
 import org.neo4j.gds.similarity.knn.KnnStatsConfig;
 import org.neo4j.gds.similarity.knn.KnnStreamConfig;
 import org.neo4j.gds.similarity.knn.KnnWriteConfig;
@@ -57,6 +60,7 @@ public final class LocalSimilarityProcedureFacade implements SimilarityProcedure
     private final ProcedureReturnColumns procedureReturnColumns;
 
     private final SimilarityAlgorithmsEstimationModeBusinessFacade estimationModeBusinessFacade;
+    private final SimilarityAlgorithmsMutateModeBusinessFacade mutateModeBusinessFacade;
     private final SimilarityAlgorithmsStatsModeBusinessFacade statsModeBusinessFacade;
     private final SimilarityAlgorithmsStreamModeBusinessFacade streamModeBusinessFacade;
     private final SimilarityAlgorithmsWriteModeBusinessFacade writeModeBusinessFacade;
@@ -72,6 +76,7 @@ public final class LocalSimilarityProcedureFacade implements SimilarityProcedure
     private LocalSimilarityProcedureFacade(
         ProcedureReturnColumns procedureReturnColumns,
         SimilarityAlgorithmsEstimationModeBusinessFacade estimationModeBusinessFacade,
+        SimilarityAlgorithmsMutateModeBusinessFacade mutateModeBusinessFacade,
         SimilarityAlgorithmsStatsModeBusinessFacade statsModeBusinessFacade,
         SimilarityAlgorithmsStreamModeBusinessFacade streamModeBusinessFacade,
         SimilarityAlgorithmsWriteModeBusinessFacade writeModeBusinessFacade,
@@ -83,6 +88,7 @@ public final class LocalSimilarityProcedureFacade implements SimilarityProcedure
     ) {
         this.procedureReturnColumns = procedureReturnColumns;
         this.estimationModeBusinessFacade = estimationModeBusinessFacade;
+        this.mutateModeBusinessFacade = mutateModeBusinessFacade;
         this.statsModeBusinessFacade = statsModeBusinessFacade;
         this.streamModeBusinessFacade = streamModeBusinessFacade;
         this.writeModeBusinessFacade = writeModeBusinessFacade;
@@ -130,6 +136,7 @@ public final class LocalSimilarityProcedureFacade implements SimilarityProcedure
         return new LocalSimilarityProcedureFacade(
             procedureReturnColumns,
             applicationsFacade.similarity().estimate(),
+            applicationsFacade.similarity().mutate(),
             applicationsFacade.similarity().stats(),
             applicationsFacade.similarity().stream(),
             applicationsFacade.similarity().write(),
@@ -328,6 +335,43 @@ public final class LocalSimilarityProcedureFacade implements SimilarityProcedure
         return Stream.of(result);
     }
 
+    @Override
+    public Stream<HnswBuildResult> hnswBuild(String graphName, Map<String, Object> configuration) {
+        var resultBuilder = new HnswResultBuilderForMutateMode();
+
+        var result = mutateModeBusinessFacade.hnsw(
+            GraphName.parse(graphName),
+            configurationParser.parseConfiguration(configuration, HnswBuildConfig::of),
+            resultBuilder
+        );
+
+        return Stream.of(result);
+    }
+
+    @Override
+    public Stream<MemoryEstimateResult> hnswBuildEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    ) {
+        var result = estimationModeBusinessFacade.hnsw(
+            configurationParser.parseConfiguration(algorithmConfiguration, HnswBuildConfig::of),
+            graphNameOrConfiguration
+        );
+
+        return Stream.of(result);
+    }
+
+    @Override
+    public Stream<HnswStreamResult> hnswStream(String graphName, Map<String, Object> configuration) {
+        var resultBuilder = new HnswResultBuilderForStreamMode();
+
+        return streamModeBusinessFacade.hnswQuery(
+            GraphName.parse(graphName),
+            configurationParser.parseConfiguration(configuration, HnswStreamConfig::of),
+            resultBuilder
+        );
+    }
+
     @Override
     public KnnMutateStub knnMutateStub() {
         return knnMutateStub;
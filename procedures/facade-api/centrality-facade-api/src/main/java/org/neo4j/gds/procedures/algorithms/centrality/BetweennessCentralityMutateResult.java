@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.centrality;
+
+import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTimings;
+
+import java.util.Collections;
+import java.util.Map;
+
+public final class BetweennessCentralityMutateResult extends BetweennessCentralityStatsResult {
+    public final long nodePropertiesWritten;
+    public final long mutateMillis;
+
+    public BetweennessCentralityMutateResult(
+        long nodePropertiesWritten,
+        long preProcessingMillis,
+        long computeMillis,
+        long postProcessingMillis,
+        long mutateMillis,
+        Map<String, Object> centralityDistribution,
+        Long sampleCount,
+        Double errorBound,
+        Map<String, Object> config
+    ) {
+        super(
+            centralityDistribution,
+            sampleCount,
+            errorBound,
+            preProcessingMillis,
+            computeMillis,
+            postProcessingMillis,
+            config
+        );
+        this.nodePropertiesWritten = nodePropertiesWritten;
+        this.mutateMillis = mutateMillis;
+    }
+
+    public static BetweennessCentralityMutateResult emptyFrom(
+        AlgorithmProcessingTimings timings,
+        Map<String, Object> configurationMap
+    ) {
+        return new BetweennessCentralityMutateResult(
+            0,
+            timings.preProcessingMillis,
+            timings.computeMillis,
+            0,
+            timings.sideEffectMillis,
+            Collections.emptyMap(),
+            null,
+            null,
+            configurationMap
+        );
+    }
+}
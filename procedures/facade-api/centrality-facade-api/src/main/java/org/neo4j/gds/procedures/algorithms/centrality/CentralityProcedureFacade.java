@@ -81,7 +81,7 @@ public interface CentralityProcedureFacade {
 
     BetweennessCentralityMutateStub betweennessCentralityMutateStub();
 
-    Stream<CentralityStatsResult> betweennessCentralityStats(
+    Stream<BetweennessCentralityStatsResult> betweennessCentralityStats(
         String graphName,
         Map<String, Object> configuration
     );
@@ -101,7 +101,7 @@ public interface CentralityProcedureFacade {
         Map<String, Object> algorithmConfiguration
     );
 
-    Stream<CentralityWriteResult> betweennessCentralityWrite(
+    Stream<BetweennessCentralityWriteResult> betweennessCentralityWrite(
         String graphName,
         Map<String, Object> configuration
     );
@@ -284,6 +284,16 @@ public interface CentralityProcedureFacade {
         Map<String, Object> algorithmConfiguration
     );
 
+    Stream<PersonalizedPageRankBatchStreamResult> personalizedPageRankBatchStream(
+        String graphName,
+        Map<String, Object> configuration
+    );
+
+    Stream<MemoryEstimateResult> personalizedPageRankBatchStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    );
+
     Stream<HitsStreamResult> hitsStream(String graphName, Map<String, Object> configuration);
 
     Stream<MemoryEstimateResult> hitsStreamEstimate(
@@ -22,13 +22,13 @@ package org.neo4j.gds.procedures.algorithms.centrality.stubs;
 import org.neo4j.gds.applications.algorithms.machinery.MemoryEstimateResult;
 import org.neo4j.gds.betweenness.BetweennessCentralityMutateConfig;
 import org.neo4j.gds.mem.MemoryEstimation;
-import org.neo4j.gds.procedures.algorithms.centrality.CentralityMutateResult;
+import org.neo4j.gds.procedures.algorithms.centrality.BetweennessCentralityMutateResult;
 import org.neo4j.gds.procedures.algorithms.stubs.MutateStub;
 
 import java.util.Map;
 import java.util.stream.Stream;
 
-public interface BetweennessCentralityMutateStub extends MutateStub<BetweennessCentralityMutateConfig, CentralityMutateResult> {
+public interface BetweennessCentralityMutateStub extends MutateStub<BetweennessCentralityMutateConfig, BetweennessCentralityMutateResult> {
     @Override
     BetweennessCentralityMutateConfig parseConfiguration(Map<String, Object> configuration);
 
@@ -39,5 +39,5 @@ public interface BetweennessCentralityMutateStub extends MutateStub<BetweennessC
     Stream<MemoryEstimateResult> estimate(Object graphName, Map<String, Object> configuration);
 
     @Override
-    Stream<CentralityMutateResult> execute(String graphNameAsString, Map<String, Object> rawConfiguration);
+    Stream<BetweennessCentralityMutateResult> execute(String graphNameAsString, Map<String, Object> rawConfiguration);
 }
@@ -50,6 +50,21 @@ public interface CommunityProcedureFacade {
         Map<String, Object> algorithmConfiguration
     );
 
+    Stream<CommunityQualityStreamResult> communityQualityStream(
+        String graphName,
+        Map<String, Object> configuration
+    );
+
+    Stream<MemoryEstimateResult> communityQualityStreamEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    );
+
+    Stream<CommunityQualityCommunityStreamResult> communityQualityCommunitiesStream(
+        String graphName,
+        Map<String, Object> configuration
+    );
+
     Stream<ConductanceStreamResult> conductanceStream(
         String graphName,
         Map<String, Object> configuration
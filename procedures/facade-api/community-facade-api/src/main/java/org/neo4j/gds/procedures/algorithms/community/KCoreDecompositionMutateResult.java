@@ -28,10 +28,12 @@ import java.util.Map;
 public class KCoreDecompositionMutateResult extends StandardMutateResult {
     public final long nodePropertiesWritten;
     public final long degeneracy;
+    public final long rounds;
 
     public KCoreDecompositionMutateResult(
         long nodePropertiesWritten,
         long degeneracy,
+        long rounds,
         long preProcessingMillis,
         long computeMillis,
         long postProcessingMillis,
@@ -41,6 +43,7 @@ public class KCoreDecompositionMutateResult extends StandardMutateResult {
         super(preProcessingMillis, computeMillis, postProcessingMillis, mutateMillis, configuration);
         this.nodePropertiesWritten = nodePropertiesWritten;
         this.degeneracy = degeneracy;
+        this.rounds = rounds;
     }
 
     public static KCoreDecompositionMutateResult emptyFrom(
@@ -48,6 +51,7 @@ public class KCoreDecompositionMutateResult extends StandardMutateResult {
         Map<String, Object> configurationMap
     ) {
         return new KCoreDecompositionMutateResult(
+            0,
             0,
             0,
             timings.preProcessingMillis,
@@ -60,16 +64,23 @@ public class KCoreDecompositionMutateResult extends StandardMutateResult {
 
     public static final class Builder extends AbstractResultBuilder<KCoreDecompositionMutateResult> {
         private long degeneracy;
+        private long rounds;
 
         public Builder withDegeneracy(long degeneracy) {
             this.degeneracy = degeneracy;
             return this;
         }
 
+        public Builder withRounds(long rounds) {
+            this.rounds = rounds;
+            return this;
+        }
+
         public KCoreDecompositionMutateResult build() {
             return new KCoreDecompositionMutateResult(
                 nodePropertiesWritten,
                 degeneracy,
+                rounds,
                 preProcessingMillis,
                 computeMillis,
                 -1L,
@@ -28,9 +28,11 @@ import java.util.stream.Stream;
 
 public class KCoreDecompositionStatsResult extends StandardStatsResult {
     public final long degeneracy;
+    public final long rounds;
 
     public KCoreDecompositionStatsResult(
         long degeneracy,
+        long rounds,
         long preProcessingMillis,
         long computeMillis,
         long postProcessingMillis,
@@ -38,6 +40,7 @@ public class KCoreDecompositionStatsResult extends StandardStatsResult {
     ) {
         super(preProcessingMillis, computeMillis, postProcessingMillis,  configuration);
         this.degeneracy = degeneracy;
+        this.rounds = rounds;
     }
 
     static Stream<KCoreDecompositionStatsResult> emptyFrom(
@@ -46,6 +49,7 @@ public class KCoreDecompositionStatsResult extends StandardStatsResult {
     ) {
         return Stream.of(
             new KCoreDecompositionStatsResult(
+                0,
                 0,
                 timings.preProcessingMillis,
                 timings.computeMillis,
@@ -57,15 +61,22 @@ public class KCoreDecompositionStatsResult extends StandardStatsResult {
 
     public static final class Builder extends AbstractResultBuilder<KCoreDecompositionStatsResult> {
         private long degeneracy;
+        private long rounds;
 
         public Builder withDegeneracy(long degeneracy) {
             this.degeneracy = degeneracy;
             return this;
         }
 
+        public Builder withRounds(long rounds) {
+            this.rounds = rounds;
+            return this;
+        }
+
         public KCoreDecompositionStatsResult build() {
             return new KCoreDecompositionStatsResult(
                 degeneracy,
+                rounds,
                 preProcessingMillis,
                 computeMillis,
                 -1L,
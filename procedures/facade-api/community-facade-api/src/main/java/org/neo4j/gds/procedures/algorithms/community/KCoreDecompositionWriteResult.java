@@ -28,10 +28,12 @@ import java.util.Map;
 public class KCoreDecompositionWriteResult extends StandardWriteResult {
     public final long nodePropertiesWritten;
     public final long degeneracy;
+    public final long rounds;
 
     KCoreDecompositionWriteResult(
         long nodePropertiesWritten,
         long degeneracy,
+        long rounds,
         long preProcessingMillis,
         long computeMillis,
         long postProcessingMillis,
@@ -41,6 +43,7 @@ public class KCoreDecompositionWriteResult extends StandardWriteResult {
         super(preProcessingMillis, computeMillis, postProcessingMillis, writeMillis, configuration);
         this.nodePropertiesWritten = nodePropertiesWritten;
         this.degeneracy = degeneracy;
+        this.rounds = rounds;
     }
 
     static KCoreDecompositionWriteResult emptyFrom(
@@ -48,6 +51,7 @@ public class KCoreDecompositionWriteResult extends StandardWriteResult {
         Map<String, Object> configurationMap
     ) {
         return new KCoreDecompositionWriteResult(
+            0,
             0,
             0,
             timings.preProcessingMillis,
@@ -60,16 +64,23 @@ public class KCoreDecompositionWriteResult extends StandardWriteResult {
 
     public static final class Builder extends AbstractResultBuilder<KCoreDecompositionWriteResult> {
         private long degeneracy;
+        private long rounds;
 
         public Builder withDegeneracy(long degeneracy) {
             this.degeneracy = degeneracy;
             return this;
         }
 
+        public Builder withRounds(long rounds) {
+            this.rounds = rounds;
+            return this;
+        }
+
         public KCoreDecompositionWriteResult build() {
             return new KCoreDecompositionWriteResult(
                 nodePropertiesWritten,
                 degeneracy,
+                rounds,
                 preProcessingMillis,
                 computeMillis,
                 -1L,
@@ -42,6 +42,8 @@ public class KmeansMutateResult extends KmeansStatsResult {
         List<List<Double>> centroids,
         double averageDistanceToCentroid,
         double averageSilhouette,
+        long ranIterations,
+        boolean didConverge,
         Map<String, Object> configuration
     ) {
         super(
@@ -52,6 +54,8 @@ public class KmeansMutateResult extends KmeansStatsResult {
             centroids,
             averageDistanceToCentroid,
             averageSilhouette,
+            ranIterations,
+            didConverge,
             configuration
         );
         this.mutateMillis = mutateMillis;
@@ -72,6 +76,8 @@ public class KmeansMutateResult extends KmeansStatsResult {
             Collections.emptyList(),
             0,
             0,
+            0,
+            false,
             configurationMap
         );
     }
@@ -81,6 +87,8 @@ public class KmeansMutateResult extends KmeansStatsResult {
         private double averageDistanceToCentroid;
 
         private double averageSilhouette;
+        private long ranIterations;
+        private boolean didConverge;
 
         public Builder(ProcedureReturnColumns returnColumns, Concurrency concurrency) {
             super(returnColumns, concurrency);
@@ -98,6 +106,8 @@ public class KmeansMutateResult extends KmeansStatsResult {
                 centroids,
                 averageDistanceToCentroid,
                 averageSilhouette,
+                ranIterations,
+                didConverge,
                 config.toMap()
             );
         }
@@ -116,5 +126,15 @@ public class KmeansMutateResult extends KmeansStatsResult {
             this.averageSilhouette = averageSilhouette;
             return this;
         }
+
+        public Builder withRanIterations(long ranIterations) {
+            this.ranIterations = ranIterations;
+            return this;
+        }
+
+        public Builder withDidConverge(boolean didConverge) {
+            this.didConverge = didConverge;
+            return this;
+        }
     }
 }
@@ -34,6 +34,8 @@ public class KmeansStatsResult extends StandardStatsResult {
     public final List<List<Double>> centroids;
     public final double averageDistanceToCentroid;
     public final double averageSilhouette;
+    public final long ranIterations;
+    public final boolean didConverge;
 
     public KmeansStatsResult(
         long preProcessingMillis,
@@ -43,6 +45,8 @@ public class KmeansStatsResult extends StandardStatsResult {
         List<List<Double>> centroids,
         double averageDistanceToCentroid,
         double averageSilhouette,
+        long ranIterations,
+        boolean didConverge,
         Map<String, Object> configuration
     ) {
         super(preProcessingMillis, computeMillis, postProcessingMillis, configuration);
@@ -50,6 +54,8 @@ public class KmeansStatsResult extends StandardStatsResult {
         this.centroids = centroids;
         this.averageDistanceToCentroid = averageDistanceToCentroid;
         this.averageSilhouette = averageSilhouette;
+        this.ranIterations = ranIterations;
+        this.didConverge = didConverge;
     }
 
     static KmeansStatsResult emptyFrom(AlgorithmProcessingTimings timings, Map<String, Object> configurationMap) {
@@ -61,6 +67,8 @@ public class KmeansStatsResult extends StandardStatsResult {
             Collections.emptyList(),
             0,
             0,
+            0,
+            false,
             configurationMap
         );
     }
@@ -73,6 +81,8 @@ public class KmeansStatsResult extends StandardStatsResult {
         private List<List<Double>> centroids;
         private double averageDistanceToCentroid;
         private double averageSilhouette;
+        private long ranIterations;
+        private boolean didConverge;
         @Override
         public KmeansStatsResult buildResult() {
             return new KmeansStatsResult(
@@ -83,6 +93,8 @@ public class KmeansStatsResult extends StandardStatsResult {
                 centroids,
                 averageDistanceToCentroid,
                 averageSilhouette,
+                ranIterations,
+                didConverge,
                 config.toMap()
             );
         }
@@ -101,5 +113,15 @@ public class KmeansStatsResult extends StandardStatsResult {
             this.averageSilhouette = averageSilhouette;
             return this;
         }
+
+        public Builder withRanIterations(long ranIterations) {
+            this.ranIterations = ranIterations;
+            return this;
+        }
+
+        public Builder withDidConverge(boolean didConverge) {
+            this.didConverge = didConverge;
+            return this;
+        }
     }
 }
@@ -42,6 +42,8 @@ public class KmeansWriteResult extends KmeansStatsResult {
         List<List<Double>> centroids,
         double averageDistanceToCentroid,
         double averageSilhouette,
+        long ranIterations,
+        boolean didConverge,
         Map<String, Object> configuration
     ) {
         super(
@@ -52,6 +54,8 @@ public class KmeansWriteResult extends KmeansStatsResult {
             centroids,
             averageDistanceToCentroid,
             averageSilhouette,
+            ranIterations,
+            didConverge,
             configuration
         );
         this.writeMillis = writeMillis;
@@ -69,6 +73,8 @@ public class KmeansWriteResult extends KmeansStatsResult {
             Collections.emptyList(),
             0,
             0,
+            0,
+            false,
             configurationMap
         );
     }
@@ -79,6 +85,8 @@ public class KmeansWriteResult extends KmeansStatsResult {
         private double averageDistanceToCentroid;
 
         private double averageSilhouette;
+        private long ranIterations;
+        private boolean didConverge;
 
         public Builder(ProcedureReturnColumns returnColumns, Concurrency concurrency) {
             super(returnColumns, concurrency);
@@ -96,6 +104,8 @@ public class KmeansWriteResult extends KmeansStatsResult {
                 centroids,
                 averageDistanceToCentroid,
                 averageSilhouette,
+                ranIterations,
+                didConverge,
                 config.toMap()
             );
         }
@@ -114,5 +124,15 @@ public class KmeansWriteResult extends KmeansStatsResult {
             this.averageSilhouette = averageSilhouette;
             return this;
         }
+
+        public Builder withRanIterations(long ranIterations) {
+            this.ranIterations = ranIterations;
+            return this;
+        }
+
+        public Builder withDidConverge(boolean didConverge) {
+            this.didConverge = didConverge;
+            return this;
+        }
     }
 }
@@ -24,6 +24,7 @@ import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTiming
 import org.neo4j.gds.core.concurrency.Concurrency;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 public final class LabelPropagationMutateResult extends LabelPropagationStatsResult {
@@ -33,6 +34,7 @@ public final class LabelPropagationMutateResult extends LabelPropagationStatsRes
     public LabelPropagationMutateResult(
         long ranIterations,
         boolean didConverge,
+        List<Long> changedLabelsPerIteration,
         long communityCount,
         Map<String, Object> communityDistribution,
         long preProcessingMillis,
@@ -45,6 +47,7 @@ public final class LabelPropagationMutateResult extends LabelPropagationStatsRes
         super(
             ranIterations,
             didConverge,
+            changedLabelsPerIteration,
             communityCount,
             communityDistribution,
             preProcessingMillis,
@@ -67,6 +70,7 @@ public final class LabelPropagationMutateResult extends LabelPropagationStatsRes
         return new LabelPropagationMutateResult(
             0,
             false,
+            List.of(),
             0,
             Collections.emptyMap(),
             timings.preProcessingMillis,
@@ -88,6 +92,7 @@ public final class LabelPropagationMutateResult extends LabelPropagationStatsRes
             return new LabelPropagationMutateResult(
                 ranIterations,
                 didConverge,
+                changedLabelsPerIteration,
                 maybeCommunityCount.orElse(0L),
                 communityHistogramOrNull(),
                 preProcessingMillis,
@@ -23,11 +23,15 @@ import org.neo4j.gds.api.ProcedureReturnColumns;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.result.AbstractCommunityResultBuilder;
 
+import java.util.List;
+
 public abstract class LabelPropagationResultBuilder<PROC_RESULT> extends AbstractCommunityResultBuilder<PROC_RESULT> {
     protected long ranIterations;
 
     protected boolean didConverge;
 
+    protected List<Long> changedLabelsPerIteration = List.of();
+
     public LabelPropagationResultBuilder(ProcedureReturnColumns returnColumns, Concurrency concurrency) {
         super(returnColumns, concurrency);
     }
@@ -41,4 +45,9 @@ public abstract class LabelPropagationResultBuilder<PROC_RESULT> extends Abstrac
         this.didConverge = didConverge;
         return this;
     }
+
+    public LabelPropagationResultBuilder<PROC_RESULT> changedLabelsPerIteration(List<Long> changedLabelsPerIteration) {
+        this.changedLabelsPerIteration = changedLabelsPerIteration;
+        return this;
+    }
 }
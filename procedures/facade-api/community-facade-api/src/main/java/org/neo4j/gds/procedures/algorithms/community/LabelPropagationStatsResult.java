@@ -25,17 +25,20 @@ import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.procedures.algorithms.results.StandardStatsResult;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 public class LabelPropagationStatsResult extends StandardStatsResult {
     public final long ranIterations;
     public final boolean didConverge;
+    public final List<Long> changedLabelsPerIteration;
     public final long communityCount;
     public final Map<String, Object> communityDistribution;
 
     public LabelPropagationStatsResult(
         long ranIterations,
         boolean didConverge,
+        List<Long> changedLabelsPerIteration,
         long communityCount,
         Map<String, Object> communityDistribution,
         long preProcessingMillis,
@@ -46,6 +49,7 @@ public class LabelPropagationStatsResult extends StandardStatsResult {
         super(preProcessingMillis, computeMillis, postProcessingMillis, configuration);
         this.ranIterations = ranIterations;
         this.didConverge = didConverge;
+        this.changedLabelsPerIteration = changedLabelsPerIteration;
         this.communityCount = communityCount;
         this.communityDistribution = communityDistribution;
     }
@@ -57,6 +61,7 @@ public class LabelPropagationStatsResult extends StandardStatsResult {
         return new LabelPropagationStatsResult(
             0,
             false,
+            List.of(),
             0,
             Collections.emptyMap(),
             timings.preProcessingMillis,
@@ -76,6 +81,7 @@ public class LabelPropagationStatsResult extends StandardStatsResult {
             return new LabelPropagationStatsResult(
                 ranIterations,
                 didConverge,
+                changedLabelsPerIteration,
                 maybeCommunityCount.orElse(0L),
                 communityHistogramOrNull(),
                 preProcessingMillis,
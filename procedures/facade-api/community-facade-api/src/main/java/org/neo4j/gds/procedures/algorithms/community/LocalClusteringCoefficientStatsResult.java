@@ -28,10 +28,12 @@ import java.util.Map;
 public class LocalClusteringCoefficientStatsResult extends StandardStatsResult {
     public final double averageClusteringCoefficient;
     public final long nodeCount;
+    public final Map<String, Object> averageClusteringCoefficientConfidenceInterval;
 
     public LocalClusteringCoefficientStatsResult(
         double averageClusteringCoefficient,
         long nodeCount,
+        Map<String, Object> averageClusteringCoefficientConfidenceInterval,
         long preProcessingMillis,
         long computeMillis,
         Map<String, Object> configuration
@@ -40,6 +42,7 @@ public class LocalClusteringCoefficientStatsResult extends StandardStatsResult {
         super(preProcessingMillis, computeMillis, 0L, configuration);
         this.averageClusteringCoefficient = averageClusteringCoefficient;
         this.nodeCount = nodeCount;
+        this.averageClusteringCoefficientConfidenceInterval = averageClusteringCoefficientConfidenceInterval;
     }
 
     public static Builder statsBuilder() {
@@ -53,6 +56,7 @@ public class LocalClusteringCoefficientStatsResult extends StandardStatsResult {
         return new LocalClusteringCoefficientStatsResult(
             0,
             0,
+            Map.of(),
             timings.preProcessingMillis,
             timings.computeMillis,
             configurationMap
@@ -73,6 +77,7 @@ public class LocalClusteringCoefficientStatsResult extends StandardStatsResult {
             return new LocalClusteringCoefficientStatsResult(
                 averageClusteringCoefficient,
                 nodeCount,
+                Map.of(),
                 preProcessingMillis,
                 computeMillis,
                 config.toMap()
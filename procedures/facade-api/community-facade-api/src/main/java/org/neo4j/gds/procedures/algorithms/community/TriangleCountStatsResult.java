@@ -28,10 +28,12 @@ import java.util.Map;
 public class TriangleCountStatsResult extends StandardStatsResult {
     public final long globalTriangleCount;
     public final long nodeCount;
+    public final Map<String, Object> globalTriangleCountConfidenceInterval;
 
     public TriangleCountStatsResult(
         long globalTriangleCount,
         long nodeCount,
+        Map<String, Object> globalTriangleCountConfidenceInterval,
         long preProcessingMillis,
         long computeMillis,
         Map<String, Object> configuration
@@ -40,13 +42,21 @@ public class TriangleCountStatsResult extends StandardStatsResult {
         super(preProcessingMillis, computeMillis, 0L, configuration);
         this.globalTriangleCount = globalTriangleCount;
         this.nodeCount = nodeCount;
+        this.globalTriangleCountConfidenceInterval = globalTriangleCountConfidenceInterval;
     }
 
     static TriangleCountStatsResult emptyFrom(
         AlgorithmProcessingTimings timings,
         Map<String, Object> configurationMap
     ) {
-        return new TriangleCountStatsResult(0, 0, timings.preProcessingMillis, timings.computeMillis, configurationMap);
+        return new TriangleCountStatsResult(
+            0,
+            0,
+            Map.of(),
+            timings.preProcessingMillis,
+            timings.computeMillis,
+            configurationMap
+        );
     }
 
     public static class Builder extends AbstractResultBuilder<TriangleCountStatsResult> {
@@ -62,6 +72,7 @@ public class TriangleCountStatsResult extends StandardStatsResult {
             return new TriangleCountStatsResult(
                 globalTriangleCount,
                 nodeCount,
+                Map.of(),
                 preProcessingMillis,
                 computeMillis,
                 config.toMap()
@@ -30,7 +30,6 @@ import org.neo4j.gds.utils.StringFormatting;
 import org.neo4j.gds.utils.StringJoining;
 
 import java.util.Collection;
-import java.util.Locale;
 import java.util.Optional;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -41,17 +40,47 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
 
     Optional<Long> samplingSeed();
 
+    Optional<Double> samplingErrorBound();
+
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    default double samplingFailureProbability() {
+        return 0.1;
+    }
+
+    default boolean multiSourceTraversal() {
+        return false;
+    }
+
     @Configuration.Check
     default void validate() {
         samplingSize().ifPresent(samplingSize -> {
             if (samplingSize < 0) {
-                throw new IllegalArgumentException(String.format(
-                    Locale.ENGLISH,
+                throw new IllegalArgumentException(formatWithLocale(
                     "Configuration parameter 'samplingSize' must be a positive number, got %d.",
                     samplingSize
                 ));
             }
         });
+        samplingErrorBound().ifPresent(samplingErrorBound -> {
+            if (samplingErrorBound <= 0 || samplingErrorBound >= 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'samplingErrorBound' must be in the range (0, 1), got %s.",
+                    samplingErrorBound
+                ));
+            }
+            if (samplingSize().isPresent()) {
+                throw new IllegalArgumentException(
+                    "The `samplingSize` and `samplingErrorBound` parameters cannot be both specified at the same time");
+            }
+            if (multiSourceTraversal()) {
+                throw new IllegalArgumentException(
+                    "The `multiSourceTraversal` and `samplingErrorBound` parameters cannot be both specified at the same time");
+            }
+        });
+        if (multiSourceTraversal() && hasRelationshipWeightProperty()) {
+            throw new IllegalArgumentException(
+                "The `multiSourceTraversal` parameter is only supported for unweighted graphs");
+        }
     }
 
     @Configuration.GraphStoreValidationCheck
@@ -91,7 +120,10 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
             concurrency(),
             samplingSize(),
             samplingSeed(),
-            hasRelationshipWeightProperty()
+            hasRelationshipWeightProperty(),
+            samplingErrorBound(),
+            samplingFailureProbability(),
+            multiSourceTraversal()
         );
     }
 }
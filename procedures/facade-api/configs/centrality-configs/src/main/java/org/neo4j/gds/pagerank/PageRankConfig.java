@@ -20,11 +20,48 @@
 package org.neo4j.gds.pagerank;
 
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.SeedConfig;
+import org.neo4j.gds.scaling.NoneScaler;
+
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @Configuration("PageRankConfigImpl")
-public interface PageRankConfig extends RankConfig {
+public interface PageRankConfig extends RankConfig, SeedConfig {
     @Configuration.DoubleRange(min = 0, max = 1, maxInclusive = false)
     default double dampingFactor() {
         return 0.85;
     }
+
+    @Configuration.ConvertWith(method = "org.neo4j.gds.pagerank.RelationshipChange#parseAdded")
+    @Configuration.ToMapValue("org.neo4j.gds.pagerank.RelationshipChange#toMapValue")
+    default List<RelationshipChange> addedRelationships() {
+        return List.of();
+    }
+
+    @Configuration.ConvertWith(method = "org.neo4j.gds.pagerank.RelationshipChange#parseRemoved")
+    @Configuration.ToMapValue("org.neo4j.gds.pagerank.RelationshipChange#toMapValue")
+    default List<RelationshipChange> removedRelationships() {
+        return List.of();
+    }
+
+    @Configuration.Check
+    default void validateRelationshipChanges() {
+        if ((!addedRelationships().isEmpty() || !removedRelationships().isEmpty()) && !isIncremental()) {
+            throw new IllegalArgumentException(
+                "The `addedRelationships` and `removedRelationships` parameters require a `seedProperty` with the scores of a previous run");
+        }
+    }
+
+    @Configuration.Check
+    default void validateScalerWithSeedProperty() {
+        // the seeded scores are already scaled, scaling the result would apply the scaler twice
+        if (isIncremental() && !scaler().type().equals(NoneScaler.TYPE)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `scaler` parameter must be `NONE` when a `seedProperty` is given, but got `%s`",
+                scaler().type()
+            ));
+        }
+    }
 }
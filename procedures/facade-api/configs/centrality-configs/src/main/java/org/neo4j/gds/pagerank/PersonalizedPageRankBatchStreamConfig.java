@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.NodeIdParser;
+import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@Configuration
+public interface PersonalizedPageRankBatchStreamConfig extends AlgoBaseConfig, RelationshipWeightConfig {
+
+    String SOURCE_NODE_SETS_KEY = "sourceNodeSets";
+
+    @Configuration.ConvertWith(method = "org.neo4j.gds.pagerank.PersonalizedPageRankBatchStreamConfig#parseSourceNodeSets")
+    List<List<Long>> sourceNodeSets();
+
+    @Configuration.DoubleRange(min = 0, max = 1, maxInclusive = false)
+    default double dampingFactor() {
+        return 0.85;
+    }
+
+    @Configuration.DoubleRange(min = 0, minInclusive = false)
+    default double tolerance() {
+        return 1E-6;
+    }
+
+    @Configuration.IntegerRange(min = 1)
+    default int topK() {
+        return 10;
+    }
+
+    static List<List<Long>> parseSourceNodeSets(Object input) {
+        if (!(input instanceof Iterable<?> sets)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Failed to parse `%s` as a list of node sets, but got `%s`.",
+                SOURCE_NODE_SETS_KEY,
+                input
+            ));
+        }
+        var sourceNodeSets = new ArrayList<List<Long>>();
+        for (var set : sets) {
+            if (!(set instanceof Iterable<?>)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Failed to parse `%s` as a list of node sets. Each set must be a list of nodes or node ids, but got `%s`.",
+                    SOURCE_NODE_SETS_KEY,
+                    set
+                ));
+            }
+            var sourceNodes = NodeIdParser.parseToListOfNodeIds(set, SOURCE_NODE_SETS_KEY);
+            if (sourceNodes.isEmpty()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Every set of `%s` must contain at least one node.",
+                    SOURCE_NODE_SETS_KEY
+                ));
+            }
+            sourceNodeSets.add(sourceNodes);
+        }
+        if (sourceNodeSets.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "`%s` must contain at least one set of source nodes.",
+                SOURCE_NODE_SETS_KEY
+            ));
+        }
+        return sourceNodeSets;
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateSourceNodeSets(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        var missingNodes = sourceNodeSets()
+            .stream()
+            .flatMap(List::stream)
+            .filter(nodeId -> nodeId < 0 || graphStore.nodes().safeToMappedNodeId(nodeId) == IdMap.NOT_FOUND)
+            .distinct()
+            .toList();
+        if (!missingNodes.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "%s nodes do not exist in the in-memory graph: %s",
+                SOURCE_NODE_SETS_KEY,
+                missingNodes
+            ));
+        }
+    }
+
+    static PersonalizedPageRankBatchStreamConfig of(CypherMapWrapper userInput) {
+        return new PersonalizedPageRankBatchStreamConfigImpl(userInput);
+    }
+}
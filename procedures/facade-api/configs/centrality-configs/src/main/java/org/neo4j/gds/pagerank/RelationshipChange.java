@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.pagerank;
+
+import org.neo4j.gds.config.NodeIdParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A relationship that has been added to or removed from a graph since a previous run of an algorithm.
+ * The node ids are original node ids.
+ */
+public record RelationshipChange(long sourceNode, long targetNode, double weight) {
+
+    public static final String ADDED_RELATIONSHIPS_KEY = "addedRelationships";
+    public static final String REMOVED_RELATIONSHIPS_KEY = "removedRelationships";
+
+    public static List<RelationshipChange> parseAdded(Object input) {
+        return parse(input, ADDED_RELATIONSHIPS_KEY);
+    }
+
+    public static List<RelationshipChange> parseRemoved(Object input) {
+        return parse(input, REMOVED_RELATIONSHIPS_KEY);
+    }
+
+    /**
+     * User input is a list of relationships, where each relationship is a list of
+     * {@code [source, target]} or {@code [source, target, weight]}. The weight defaults to 1.0.
+     */
+    static List<RelationshipChange> parse(Object input, String parameterName) {
+        if (!(input instanceof Iterable<?> relationships)) {
+            throw invalidInput(parameterName, input);
+        }
+
+        var changes = new ArrayList<RelationshipChange>();
+        for (var relationship : relationships) {
+            if (!(relationship instanceof List<?> values) || values.size() < 2 || values.size() > 3) {
+                throw invalidInput(parameterName, relationship);
+            }
+            long sourceNode = NodeIdParser.parseToSingleNodeId(values.get(0), parameterName);
+            long targetNode = NodeIdParser.parseToSingleNodeId(values.get(1), parameterName);
+            double weight = 1.0;
+            if (values.size() == 3) {
+                if (!(values.get(2) instanceof Number number)) {
+                    throw invalidInput(parameterName, relationship);
+                }
+                weight = number.doubleValue();
+            }
+            changes.add(new RelationshipChange(sourceNode, targetNode, weight));
+        }
+        return changes;
+    }
+
+    public static List<List<Object>> toMapValue(List<RelationshipChange> changes) {
+        return changes
+            .stream()
+            .map(change -> List.<Object>of(change.sourceNode(), change.targetNode(), change.weight()))
+            .toList();
+    }
+
+    private static IllegalArgumentException invalidInput(String parameterName, Object input) {
+        return new IllegalArgumentException(formatWithLocale(
+            "Failed to parse `%s` as a list of relationships. Each relationship must be a list of `[source, target]` or `[source, target, weight]`, but got `%s`.",
+            parameterName,
+            input
+        ));
+    }
+}
@@ -60,6 +60,11 @@ public interface KmeansBaseConfig extends AlgoBaseConfig, IterationsConfig, Rand
         return false;
     }
 
+    @Configuration.IntegerRange(min = 0)
+    default int batchSize() {
+        return 0;
+    }
+
     String nodeProperty();
 
     @Configuration.GraphStoreValidationCheck
@@ -109,7 +114,8 @@ public interface KmeansBaseConfig extends AlgoBaseConfig, IterationsConfig, Rand
             nodeProperty(),
             initialSampler(),
             seedCentroids(),
-            randomSeed()
+            randomSeed(),
+            batchSize()
         );
     }
 }
@@ -19,14 +19,22 @@
  */
 package org.neo4j.gds.leiden;
 
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.ConsecutiveIdsConfig;
+import org.neo4j.gds.config.ElementTypeValidator;
 import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.config.ToleranceConfig;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface LeidenBaseConfig extends
     AlgoBaseConfig,
     ConsecutiveIdsConfig,
@@ -51,6 +59,8 @@ public interface LeidenBaseConfig extends
         return false;
     }
 
+    Optional<String> changedRelationshipType();
+
     @Override
     @Configuration.DoubleRange(min = 0D)
     default double tolerance() {
@@ -63,6 +73,23 @@ public interface LeidenBaseConfig extends
             throw new IllegalArgumentException(
                 "`includeIntermediateResults` and the `consecutiveIds` option cannot be used at the same time.");
         }
+        if (changedRelationshipType().isPresent() && !isIncremental()) {
+            throw new IllegalArgumentException(
+                "`changedRelationshipType` requires the previous communities to be given as `seedProperty`.");
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateChangedRelationshipType(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        changedRelationshipType().ifPresent(type -> ElementTypeValidator.validateTypes(
+            graphStore,
+            List.of(RelationshipType.of(type)),
+            "`changedRelationshipType`"
+        ));
     }
 
     @Configuration.Ignore
@@ -19,8 +19,48 @@
  */
 package org.neo4j.gds.scc;
 
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public interface SccCommonBaseConfig extends AlgoBaseConfig {
 
+    default boolean parallel() {
+        return false;
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void requireInverseIndexForParallel(
+        GraphStore graphStore,
+        Collection<NodeLabel> ignored,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (!parallel()) {
+            return;
+        }
+        if (graphStore.schema().filterRelationshipTypes(Set.copyOf(selectedRelationshipTypes)).isUndirected()) {
+            return;
+        }
+        var inverseIndexedTypes = graphStore.inverseIndexedRelationshipTypes();
+        var missingTypes = selectedRelationshipTypes
+            .stream()
+            .filter(type -> !inverseIndexedTypes.contains(type))
+            .map(RelationshipType::name)
+            .collect(Collectors.toSet());
+        if (!missingTypes.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The parallel SCC algorithm requires relationship projections to be UNDIRECTED or inverse indexed. " +
+                    "Selected relationships %s are not inverse indexed.",
+                missingTypes
+            ));
+        }
+    }
 }
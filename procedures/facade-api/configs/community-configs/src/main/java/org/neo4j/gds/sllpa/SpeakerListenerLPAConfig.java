@@ -30,6 +30,41 @@ public interface SpeakerListenerLPAConfig extends PregelProcedureConfig {
             return 0.2;
         }
 
+        /**
+         * The number of labels each node keeps counts for. {@code 0} keeps the full label history of length {@link #maxIterations()}.
+         */
+        @Configuration.IntegerRange(min = 0)
+        default int labelMemoryCapacity() {
+            return 0;
+        }
+
+        @Configuration.Ignore
+        default boolean hasBoundedLabelMemory() {
+            return labelMemoryCapacity() > 0;
+        }
+
+        /**
+         * The probability with which a speaker sends a label to each of its neighbours in a bounded label memory run.
+         * A listener thereby hears a random sample of its speakers.
+         */
+        @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false)
+        default double speakerSamplingRatio() {
+            return 1.0;
+        }
+
+        @Configuration.Ignore
+        default boolean samplesSpeakers() {
+            return speakerSamplingRatio() < 1.0;
+        }
+
+        @Configuration.Check
+        default void validateSpeakerSamplingRatio() {
+            if (samplesSpeakers() && !hasBoundedLabelMemory()) {
+                throw new IllegalArgumentException(
+                    "The `speakerSamplingRatio` parameter requires a positive `labelMemoryCapacity`");
+            }
+        }
+
         static SpeakerListenerLPAConfig of(CypherMapWrapper userConfig) {
             return new SpeakerListenerLPAConfigImpl(userConfig);
         }
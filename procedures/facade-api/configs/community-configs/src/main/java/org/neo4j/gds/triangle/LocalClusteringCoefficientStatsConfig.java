@@ -20,10 +20,35 @@
 package org.neo4j.gds.triangle;
 
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Configuration
-public interface LocalClusteringCoefficientStatsConfig extends LocalClusteringCoefficientBaseConfig {
+public interface LocalClusteringCoefficientStatsConfig extends LocalClusteringCoefficientBaseConfig, RandomSeedConfig {
+
+    Optional<Long> wedgeSampleSize();
+
+    @Configuration.Check
+    default void validateWedgeSampleSize() {
+        wedgeSampleSize().ifPresent(wedgeSampleSize -> {
+            if (wedgeSampleSize < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'wedgeSampleSize' must be a positive number, got %d.",
+                    wedgeSampleSize
+                ));
+            }
+            if (seedProperty() != null) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The `wedgeSampleSize` parameter cannot be combined with `%s`",
+                    SEED_PROPERTY_KEY
+                ));
+            }
+        });
+    }
 
     static LocalClusteringCoefficientStatsConfig of(CypherMapWrapper userInput) {
         return new LocalClusteringCoefficientStatsConfigImpl(userInput);
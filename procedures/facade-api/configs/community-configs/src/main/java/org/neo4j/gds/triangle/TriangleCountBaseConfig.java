@@ -24,6 +24,7 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 import java.util.Collection;
@@ -33,12 +34,17 @@ import java.util.stream.Collectors;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @Configuration
-public interface TriangleCountBaseConfig extends AlgoBaseConfig {
+public interface TriangleCountBaseConfig extends AlgoBaseConfig, RandomSeedConfig {
 
     default long maxDegree() {
         return Long.MAX_VALUE;
     }
 
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false)
+    default double samplingRatio() {
+        return 1.0;
+    }
+
     @Configuration.Check
     default void validateMaxDegree() {
         if (maxDegree() < 2) {
@@ -67,6 +73,6 @@ public interface TriangleCountBaseConfig extends AlgoBaseConfig {
 
     @Configuration.Ignore
     default TriangleCountParameters toParameters() {
-        return new TriangleCountParameters(concurrency(), maxDegree());
+        return new TriangleCountParameters(concurrency(), maxDegree(), samplingRatio(), randomSeed());
     }
 }
@@ -22,9 +22,31 @@ package org.neo4j.gds.triangle;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.core.CypherMapWrapper;
 
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Configuration
 public interface TriangleCountStatsConfig extends TriangleCountBaseConfig {
 
+    Optional<Long> wedgeSampleSize();
+
+    @Configuration.Check
+    default void validateWedgeSampleSize() {
+        wedgeSampleSize().ifPresent(wedgeSampleSize -> {
+            if (wedgeSampleSize < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter 'wedgeSampleSize' must be a positive number, got %d.",
+                    wedgeSampleSize
+                ));
+            }
+            if (samplingRatio() < 1.0 || maxDegree() != Long.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                    "The `wedgeSampleSize` parameter cannot be combined with `samplingRatio` or `maxDegree`");
+            }
+        });
+    }
+
     static TriangleCountStatsConfig of(CypherMapWrapper userInput) {
         return new TriangleCountStatsConfigImpl(userInput);
     }
@@ -33,11 +33,18 @@ public interface WccBaseConfig extends AlgoBaseConfig, SeedConfig, ConsecutiveId
         return 0D;
     }
 
+    default boolean maintainComponents() {
+        return false;
+    }
+
     @Configuration.Check
     default void validate() {
         if (threshold() > 0 && relationshipWeightProperty().isEmpty()) {
             throw new IllegalArgumentException("Specifying a threshold requires `relationshipWeightProperty` to be set.");
         }
+        if (maintainComponents() && isIncremental()) {
+            throw new IllegalArgumentException("Maintained components cannot be combined with `seedProperty`.");
+        }
     }
 
     @Configuration.Ignore
@@ -29,6 +29,6 @@ public interface DijkstraBaseConfig extends AlgoBaseConfig, SourceNodeConfig, Re
 
     @Configuration.Ignore
     default DijkstraMemoryEstimateParameters toMemoryEstimateParameters() {
-        return new DijkstraMemoryEstimateParameters(false, false);
+        return new DijkstraMemoryEstimateParameters(false, false, false, false);
     }
 }
@@ -39,6 +39,14 @@ public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfi
         return targetNodes;
     }
 
+    default boolean useContractionHierarchy() {
+        return false;
+    }
+
+    default boolean bidirectional() {
+        return false;
+    }
+
     @Configuration.Check
     default void validate() {
         if (!targetNodes().isEmpty() && targetNode().isPresent()) {
@@ -55,6 +63,11 @@ public interface DijkstraSourceTargetsBaseConfig extends OptionalTargetNodeConfi
     @Override
     @Configuration.Ignore
     default DijkstraMemoryEstimateParameters toMemoryEstimateParameters() {
-        return new DijkstraMemoryEstimateParameters(false, targetsList().size() > 1);
+        return new DijkstraMemoryEstimateParameters(
+            false,
+            targetsList().size() > 1,
+            useContractionHierarchy(),
+            bidirectional() && targetsList().size() == 1
+        );
     }
 }
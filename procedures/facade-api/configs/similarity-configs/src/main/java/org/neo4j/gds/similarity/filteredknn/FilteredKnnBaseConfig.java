@@ -47,6 +47,13 @@ public interface FilteredKnnBaseConfig extends KnnBaseConfig {
         return false;
     }
 
+    @Configuration.Check
+    default void validateQuantization() {
+        if (quantization().isEnabled()) {
+            throw new IllegalArgumentException("Quantization is not supported for filtered KNN.");
+        }
+    }
+
     @Configuration.GraphStoreValidationCheck
     default void validateSourceNodeFilter(
         GraphStore graphStore,
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+@Configuration
+public interface HnswBuildConfig extends AlgoBaseConfig, RandomSeedConfig {
+
+    List<SimilarityMetric> SUPPORTED_METRICS = List.of(
+        SimilarityMetric.DEFAULT,
+        SimilarityMetric.COSINE,
+        SimilarityMetric.EUCLIDEAN,
+        SimilarityMetric.PEARSON
+    );
+
+    @Configuration.ConvertWith(method = "validateIndexName")
+    String indexName();
+
+    String nodeProperty();
+
+    @Configuration.ConvertWith(method = "parseSimilarityMetric")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.hnsw.HnswBuildConfig#renderSimilarityMetric")
+    default SimilarityMetric similarityMetric() {
+        return SimilarityMetric.DEFAULT;
+    }
+
+    @Configuration.IntegerRange(min = 2)
+    default int m() {
+        return HnswParameters.DEFAULT_M;
+    }
+
+    @Configuration.IntegerRange(min = 2)
+    default int efConstruction() {
+        return HnswParameters.DEFAULT_EF_CONSTRUCTION;
+    }
+
+    @Configuration.Check
+    default void validateEfConstruction() {
+        if (efConstruction() < m()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `efConstruction` must be at least the value of `m`, but got %d < %d.",
+                efConstruction(),
+                m()
+            ));
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateNodeProperty(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        if (!graphStore.hasNodeProperty(selectedLabels, nodeProperty())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has not been loaded for all of the labels %s.",
+                nodeProperty(),
+                selectedLabels.stream().map(NodeLabel::name).sorted().toList()
+            ));
+        }
+    }
+
+    @Configuration.Ignore
+    default HnswParameters toParameters() {
+        return new HnswParameters(
+            concurrency(),
+            nodeProperty(),
+            similarityMetric(),
+            m(),
+            efConstruction(),
+            randomSeed()
+        );
+    }
+
+    static String validateIndexName(String input) {
+        if (input == null || input.isBlank()) {
+            throw new IllegalArgumentException("`indexName` can not be null or blank.");
+        }
+        return input;
+    }
+
+    static SimilarityMetric parseSimilarityMetric(Object input) {
+        if (input instanceof SimilarityMetric) {
+            return (SimilarityMetric) input;
+        }
+        if (input instanceof String) {
+            var metricName = toUpperCaseWithLocale((String) input);
+            for (var metric : SUPPORTED_METRICS) {
+                if (metric.name().equals(metricName)) {
+                    return metric;
+                }
+            }
+            throw new IllegalArgumentException(formatWithLocale(
+                "Similarity metric `%s` is not supported. Must be one of: %s.",
+                input,
+                SUPPORTED_METRICS
+            ));
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected SimilarityMetric or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    static String renderSimilarityMetric(SimilarityMetric similarityMetric) {
+        return similarityMetric.name();
+    }
+
+    static HnswBuildConfig of(CypherMapWrapper config) {
+        return new HnswBuildConfigImpl(config);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.NodeIdParser;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@Configuration
+public interface HnswStreamConfig extends AlgoBaseConfig {
+
+    String indexName();
+
+    @Configuration.ConvertWith(method = "parseSourceNode")
+    Optional<Long> sourceNode();
+
+    default List<Double> queryVector() {
+        return List.of();
+    }
+
+    @Configuration.IntegerRange(min = 1)
+    default int topK() {
+        return 10;
+    }
+
+    @Configuration.IntegerRange(min = 1)
+    default int ef() {
+        return 50;
+    }
+
+    @Configuration.Check
+    default void validateQuery() {
+        if (sourceNode().isPresent() == !queryVector().isEmpty()) {
+            throw new IllegalArgumentException(
+                "Exactly one of `sourceNode` and `queryVector` must be specified."
+            );
+        }
+    }
+
+    @Configuration.Check
+    default void validateEf() {
+        if (ef() < topK()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `ef` must be at least the value of `topK`, but got %d < %d.",
+                ef(),
+                topK()
+            ));
+        }
+    }
+
+    @Configuration.Ignore
+    default double[] queryVectorAsArray() {
+        return queryVector().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    static Optional<Long> parseSourceNode(Object input) {
+        return Optional.of(NodeIdParser.parseToSingleNodeId(input, "sourceNode"));
+    }
+
+    static HnswStreamConfig of(CypherMapWrapper config) {
+        return new HnswStreamConfigImpl(config);
+    }
+}
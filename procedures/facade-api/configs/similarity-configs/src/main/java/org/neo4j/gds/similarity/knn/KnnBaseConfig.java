@@ -23,9 +23,13 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.IterationsConfig;
 import org.neo4j.gds.config.SingleThreadedRandomSeedConfig;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
 
 import java.util.List;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Configuration
 public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleThreadedRandomSeedConfig {
 
@@ -75,6 +79,38 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
         return KnnSampler.SamplerType.UNIFORM;
     }
 
+    @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.knn.metrics.Quantization#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.knn.metrics.Quantization#toString")
+    default Quantization quantization() {
+        return Quantization.NONE;
+    }
+
+    default boolean rerank() {
+        return true;
+    }
+
+    @Configuration.Check
+    default void validateQuantizedMetric() {
+        if (!quantization().isEnabled()) {
+            return;
+        }
+        for (var nodeProperty : nodeProperties()) {
+            var metric = nodeProperty.metric();
+            boolean supported = metric == SimilarityMetric.DEFAULT
+                                || metric == SimilarityMetric.COSINE
+                                || metric == SimilarityMetric.PEARSON
+                                || (metric == SimilarityMetric.EUCLIDEAN && quantization() == Quantization.INT8);
+            if (!supported) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Similarity metric [%s] of property `%s` is not supported with quantization [%s].",
+                    metric,
+                    nodeProperty.name(),
+                    quantization()
+                ));
+            }
+        }
+    }
+
     @Configuration.Ignore
     default K k(long nodeCount) {
         return K.create(topK(), nodeCount, sampleRate(), deltaThreshold());
@@ -94,12 +130,20 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
             1_000,
             initialSampler(),
             randomSeed(),
-            nodeProperties()
+            nodeProperties(),
+            quantization(),
+            rerank()
         );
     }
 
     @Configuration.Ignore
     default KnnMemoryEstimationParametersBuilder toMemoryEstimationParameters() {
-        return new KnnMemoryEstimationParametersBuilder(sampleRate(), topK(), initialSampler());
+        return new KnnMemoryEstimationParametersBuilder(
+            sampleRate(),
+            topK(),
+            initialSampler(),
+            quantization(),
+            nodeProperties().stream().map(KnnNodePropertySpec::name).toList()
+        );
     }
 }
@@ -99,6 +99,16 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return ComponentSpec.NO;
     }
 
+    @Configuration.IntegerRange(min = 0)
+    default int minHashBands() {
+        return 0;
+    }
+
+    @Configuration.IntegerRange(min = 1)
+    default int minHashRows() {
+        return 4;
+    }
+
     @Configuration.Ignore
     @Deprecated(forRemoval = true) // Don't use configs for internal parameters
     default boolean computeToStream() {
@@ -165,7 +175,9 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
             computeToStream(),
             hasRelationshipWeightProperty(),
             componentUsage.useComponents(),
-            componentUsage.componentProperty()
+            componentUsage.componentProperty(),
+            minHashBands(),
+            minHashRows()
         );
     }
 
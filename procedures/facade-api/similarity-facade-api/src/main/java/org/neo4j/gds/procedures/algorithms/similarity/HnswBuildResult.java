@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.procedures.algorithms.similarity;
+
+import org.neo4j.gds.applications.algorithms.machinery.AlgorithmProcessingTimings;
+import org.neo4j.gds.procedures.algorithms.results.StandardMutateResult;
+
+import java.util.Map;
+
+public final class HnswBuildResult extends StandardMutateResult {
+    public final String indexName;
+    public final long nodeCount;
+    public final long maxLevel;
+
+    public HnswBuildResult(
+        long preProcessingMillis,
+        long computeMillis,
+        long mutateMillis,
+        String indexName,
+        long nodeCount,
+        long maxLevel,
+        Map<String, Object> configuration
+    ) {
+        super(preProcessingMillis, computeMillis, 0L, mutateMillis, configuration);
+        this.indexName = indexName;
+        this.nodeCount = nodeCount;
+        this.maxLevel = maxLevel;
+    }
+
+    public static HnswBuildResult emptyFrom(
+        AlgorithmProcessingTimings timings,
+        String indexName,
+        Map<String, Object> configurationMap
+    ) {
+        return new HnswBuildResult(
+            timings.preProcessingMillis,
+            timings.computeMillis,
+            timings.sideEffectMillis,
+            indexName,
+            0,
+            -1,
+            configurationMap
+        );
+    }
+}
@@ -81,6 +81,15 @@ public interface SimilarityProcedureFacade {
         Map<String, Object> algorithmConfiguration
     );
 
+    Stream<HnswBuildResult> hnswBuild(String graphName, Map<String, Object> configuration);
+
+    Stream<MemoryEstimateResult> hnswBuildEstimate(
+        Object graphNameOrConfiguration,
+        Map<String, Object> algorithmConfiguration
+    );
+
+    Stream<HnswStreamResult> hnswStream(String graphName, Map<String, Object> configuration);
+
     KnnMutateStub knnMutateStub();
 
     Stream<KnnStatsResult> knnStats(